@@ -0,0 +1,11 @@
+package org.testchimp.sdk.benchmark;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * The application under load: a few representative endpoints (BenchmarkController), the TestChimp SDK (via its
+ * auto-configuration) and an OpenTelemetry SDK exporting to memory (TracingConfiguration).
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+}
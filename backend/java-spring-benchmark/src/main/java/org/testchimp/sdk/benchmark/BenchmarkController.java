@@ -0,0 +1,73 @@
+package org.testchimp.sdk.benchmark;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Representative endpoints. Form and multipart bodies are read raw (multipart resolution is disabled), so the
+ * application does the same work whether or not the SDK is enabled.
+ */
+@RestController
+public class BenchmarkController {
+
+    static final int LARGE_JSON_BYTES = 200 * 1024;
+    static final int STREAM_CHUNK_BYTES = 16 * 1024;
+    static final int STREAM_CHUNKS = 64;
+
+    private final byte[] largeJson = Workload.jsonBody(LARGE_JSON_BYTES).getBytes(StandardCharsets.UTF_8);
+    private final byte[] streamChunk = new byte[STREAM_CHUNK_BYTES];
+
+    public BenchmarkController() {
+        Arrays.fill(streamChunk, (byte) 'x');
+    }
+
+    @PostMapping(value = "/api/orders", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Object> smallJson(@RequestBody Map<String, Object> order) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("order_id", 42);
+        response.put("status", "CREATED");
+        response.put("items", order.get("items"));
+        return response;
+    }
+
+    @GetMapping(value = "/api/catalog", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> largeJson() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(largeJson);
+    }
+
+    @PostMapping(value = "/api/login", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE, produces = MediaType.TEXT_PLAIN_VALUE)
+    public String form(HttpServletRequest request) throws IOException {
+        return "ok " + StreamUtils.copyToByteArray(request.getInputStream()).length;
+    }
+
+    @PostMapping(value = "/api/uploads", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Object> multipart(HttpServletRequest request) throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("received_bytes", StreamUtils.copyToByteArray(request.getInputStream()).length);
+        return response;
+    }
+
+    @GetMapping("/api/export")
+    public void stream(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        ServletOutputStream outputStream = response.getOutputStream();
+        for (int i = 0; i < STREAM_CHUNKS; i++) {
+            outputStream.write(streamChunk);
+            outputStream.flush();
+        }
+    }
+}
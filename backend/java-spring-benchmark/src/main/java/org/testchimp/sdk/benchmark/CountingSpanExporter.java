@@ -0,0 +1,61 @@
+package org.testchimp.sdk.benchmark;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory exporter that only keeps counts: exported spans, attributes and the size of their (string) values. Keeping
+ * the spans themselves would make heap usage, and so GC, depend on the run length.
+ */
+public class CountingSpanExporter implements SpanExporter {
+
+    private final LongAdder spans = new LongAdder();
+    private final LongAdder attributes = new LongAdder();
+    private final LongAdder attributeBytes = new LongAdder();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spanData) {
+        for (SpanData span : spanData) {
+            spans.increment();
+            attributes.add(span.getAttributes().size());
+            span.getAttributes().forEach((AttributeKey<?> key, Object value) ->
+                    attributeBytes.add(key.getKey().length() + String.valueOf(value).length()));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(spans.sum(), attributes.sum(), attributeBytes.sum());
+    }
+
+    public static class Snapshot {
+        final long spans;
+        final long attributes;
+        final long attributeBytes;
+
+        Snapshot(long spans, long attributes, long attributeBytes) {
+            this.spans = spans;
+            this.attributes = attributes;
+            this.attributeBytes = attributeBytes;
+        }
+
+        Snapshot minus(Snapshot other) {
+            return new Snapshot(spans - other.spans, attributes - other.attributes, attributeBytes - other.attributeBytes);
+        }
+    }
+}
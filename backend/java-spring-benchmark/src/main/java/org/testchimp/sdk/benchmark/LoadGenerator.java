@@ -0,0 +1,106 @@
+package org.testchimp.sdk.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load: each thread sends the next request of the workload as soon as the previous one completed,
+ * over keep-alive connections (HttpURLConnection pools them as long as responses are fully read).
+ */
+public class LoadGenerator {
+
+    private final String baseUrl;
+    private final List<Workload.RequestSpec> workload;
+    private final int concurrency;
+
+    public LoadGenerator(int port, List<Workload.RequestSpec> workload, int concurrency) {
+        this.baseUrl = "http://localhost:" + port;
+        this.workload = workload;
+        this.concurrency = concurrency;
+    }
+
+    public static class Result {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+        long elapsedNanos;
+
+        double getThroughput() {
+            return latency.getCount() / (elapsedNanos / 1e9);
+        }
+    }
+
+    public Result run(long duration, TimeUnit unit) throws InterruptedException {
+        Result result = new Result();
+        long deadline = System.nanoTime() + unit.toNanos(duration);
+        CountDownLatch done = new CountDownLatch(concurrency);
+        List<LatencyHistogram> histograms = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < concurrency; t++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histograms.add(histogram);
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                byte[] buffer = new byte[16 * 1024];
+                int next = offset;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Workload.RequestSpec request = workload.get(next++ % workload.size());
+                        long requestStart = System.nanoTime();
+                        try {
+                            send(request, buffer);
+                            histogram.recordNanos(System.nanoTime() - requestStart);
+                        } catch (IOException e) {
+                            result.errors.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-generator-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        result.elapsedNanos = System.nanoTime() - start;
+        for (LatencyHistogram histogram : histograms) {
+            result.latency.merge(histogram);
+        }
+        return result;
+    }
+
+    private void send(Workload.RequestSpec request, byte[] buffer) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + request.path).openConnection();
+        connection.setRequestMethod(request.method);
+        connection.setRequestProperty("accept", "*/*");
+        connection.setRequestProperty("x-project-id", "benchmark");
+        connection.setRequestProperty("cookie", "JSESSIONID=8C3B0F2E4A6D1C9B7E5F3A1D2C4B6E8F; theme=dark");
+        if (request.body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("content-type", request.contentType);
+            connection.setFixedLengthStreamingMode(request.body.length);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(request.body);
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream inputStream = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        if (inputStream != null) {
+            try (InputStream responseBody = inputStream) {
+                while (responseBody.read(buffer) != -1) {
+                    // drain so that the connection is returned to the keep-alive pool
+                }
+            }
+        }
+        if (status >= 400) {
+            throw new IOException(request.name + " returned " + status);
+        }
+    }
+}
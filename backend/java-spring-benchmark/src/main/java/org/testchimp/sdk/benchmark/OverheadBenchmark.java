@@ -0,0 +1,178 @@
+package org.testchimp.sdk.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SDK overhead: after a warm-up pass over all SDK configurations, starts the benchmark application for
+ * each configuration, warms it up, drives it with the closed-loop load generator and reports throughput, latency
+ * percentiles and the CPU / allocation spent by the server threads per request, relative to the SDK being disabled.
+ * <p>
+ * Arguments (all optional, key=value): duration (seconds, default 30), warmup (seconds, default 15), concurrency
+ * (default 16), configs (comma separated subset of disabled,headers_only,request_only,full_capture).
+ */
+public class OverheadBenchmark {
+
+    private static final Map<String, Map<String, Object>> CONFIGURATIONS = new LinkedHashMap<>();
+
+    static {
+        CONFIGURATIONS.put("disabled", properties("testchimp.sdk.enabled", false));
+        // Tracking headers / session ids only, no body capture.
+        CONFIGURATIONS.put("headers_only", properties("testchimp.request_body_capture.enabled", false,
+                "testchimp.response_body_capture.enabled", false));
+        CONFIGURATIONS.put("request_only", properties("testchimp.request_body_capture.enabled", true,
+                "testchimp.response_body_capture.enabled", false));
+        CONFIGURATIONS.put("full_capture", properties("testchimp.request_body_capture.enabled", true,
+                "testchimp.response_body_capture.enabled", true));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "15"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        List<String> configs = Arrays.asList(options.getOrDefault("configs", String.join(",", CONFIGURATIONS.keySet())).split(","));
+
+        // The JDK keeps only 5 idle connections per host by default.
+        System.setProperty("http.maxConnections", String.valueOf(concurrency));
+
+        for (String config : configs) {
+            if (!CONFIGURATIONS.containsKey(config)) {
+                throw new IllegalArgumentException("Unknown configuration " + config + ", expected one of " + CONFIGURATIONS.keySet());
+            }
+        }
+
+        // All configurations share the JVM, so code common to all of them (Tomcat, Spring MVC, the load generator) is
+        // JIT compiled during whichever runs first. Warm every configuration up once before measuring any of them, so
+        // the first one is not penalized.
+        for (String config : configs) {
+            System.out.println("Warming up " + config + " (" + warmup + "s, concurrency " + concurrency + ")");
+            run(config, CONFIGURATIONS.get(config), warmup, 0, concurrency);
+        }
+        List<Run> runs = new ArrayList<>();
+        for (String config : configs) {
+            System.out.println("Running " + config + " (warmup " + warmup + "s, measurement " + duration + "s, concurrency " + concurrency + ")");
+            runs.add(run(config, CONFIGURATIONS.get(config), warmup, duration, concurrency));
+        }
+        report(runs);
+    }
+
+    private static Run run(String config, Map<String, Object> sdkProperties, int warmup, int duration, int concurrency) throws InterruptedException {
+        Map<String, Object> properties = new HashMap<>(sdkProperties);
+        properties.put("server.port", 0);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // Bodies are read raw by the endpoints.
+        properties.put("spring.servlet.multipart.enabled", false);
+        properties.put("testchimp.sdk.config.file.path", "classpath:benchmark_sdk_config.yml");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .properties(properties).run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator loadGenerator = new LoadGenerator(port, Workload.defaultMix(), concurrency);
+            CountingSpanExporter exporter = context.getBean(CountingSpanExporter.class);
+
+            loadGenerator.run(warmup, TimeUnit.SECONDS);
+            if (duration == 0) {
+                return null;
+            }
+            System.gc();
+
+            ServerThreadStats statsBefore = ServerThreadStats.snapshot();
+            CountingSpanExporter.Snapshot spansBefore = exporter.snapshot();
+            LoadGenerator.Result result = loadGenerator.run(duration, TimeUnit.SECONDS);
+            ServerThreadStats stats = ServerThreadStats.snapshot().minus(statsBefore);
+            // Let the batch span processor drain before reading the exporter counts.
+            Thread.sleep(6000);
+            CountingSpanExporter.Snapshot spans = exporter.snapshot().minus(spansBefore);
+            return new Run(config, result, stats, spans);
+        }
+    }
+
+    private static void report(List<Run> runs) {
+        System.out.println();
+        System.out.printf("%-14s %10s %8s %8s %8s %8s %8s %12s %12s %8s %10s %12s%n", "config", "req/s", "mean_us",
+                "p50_us", "p90_us", "p99_us", "max_us", "cpu_us/req", "alloc_kb/req", "gc_ms", "attrs/span", "attr_kb/span");
+        for (Run run : runs) {
+            LatencyHistogram latency = run.result.latency;
+            long requests = Math.max(1, latency.getCount());
+            long spans = Math.max(1, run.spans.spans);
+            System.out.printf("%-14s %10.0f %8.0f %8d %8d %8d %8d %12.1f %12.1f %8d %10.1f %12.2f%n", run.config,
+                    run.result.getThroughput(), latency.getMeanMicros(), latency.getPercentileMicros(50),
+                    latency.getPercentileMicros(90), latency.getPercentileMicros(99), latency.getMaxMicros(),
+                    run.stats.cpuNanos / 1000.0 / requests, run.stats.allocatedBytes / 1024.0 / requests,
+                    run.stats.gcMillis, (double) run.spans.attributes / spans, run.spans.attributeBytes / 1024.0 / spans);
+            if (run.result.errors.get() > 0) {
+                System.out.println("  " + run.result.errors.get() + " failed requests");
+            }
+        }
+
+        Run baseline = runs.stream().filter(run -> run.config.equals("disabled")).findFirst().orElse(null);
+        if (baseline == null) {
+            return;
+        }
+        System.out.println();
+        System.out.printf("%-14s %10s %10s %10s %14s %14s%n", "vs disabled", "req/s", "p50", "p99", "cpu_us/req", "alloc_kb/req");
+        double baselineCpu = baseline.stats.cpuNanos / 1000.0 / Math.max(1, baseline.result.latency.getCount());
+        double baselineAlloc = baseline.stats.allocatedBytes / 1024.0 / Math.max(1, baseline.result.latency.getCount());
+        for (Run run : runs) {
+            if (run == baseline) {
+                continue;
+            }
+            long requests = Math.max(1, run.result.latency.getCount());
+            System.out.printf("%-14s %+9.1f%% %+9.1f%% %+9.1f%% %+14.1f %+14.1f%n", run.config,
+                    percentChange(baseline.result.getThroughput(), run.result.getThroughput()),
+                    percentChange(baseline.result.latency.getPercentileMicros(50), run.result.latency.getPercentileMicros(50)),
+                    percentChange(baseline.result.latency.getPercentileMicros(99), run.result.latency.getPercentileMicros(99)),
+                    run.stats.cpuNanos / 1000.0 / requests - baselineCpu,
+                    run.stats.allocatedBytes / 1024.0 / requests - baselineAlloc);
+        }
+    }
+
+    private static double percentChange(double baseline, double value) {
+        return baseline == 0 ? 0 : (value - baseline) * 100.0 / baseline;
+    }
+
+    private static Map<String, Object> properties(Object... keyValues) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator == -1) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static class Run {
+        final String config;
+        final LoadGenerator.Result result;
+        final ServerThreadStats stats;
+        final CountingSpanExporter.Snapshot spans;
+
+        Run(String config, LoadGenerator.Result result, ServerThreadStats stats, CountingSpanExporter.Snapshot spans) {
+            this.config = config;
+            this.result = result;
+            this.stats = stats;
+            this.spans = spans;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.testchimp.sdk.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * CPU time and allocated bytes of the Tomcat request threads (http-nio-*), so the load generator running in the same
+ * JVM does not skew them, plus process wide GC time.
+ */
+public class ServerThreadStats {
+
+    private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+    final long cpuNanos;
+    final long allocatedBytes;
+    final long gcMillis;
+
+    private ServerThreadStats(long cpuNanos, long allocatedBytes, long gcMillis) {
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcMillis = gcMillis;
+    }
+
+    // Server threads live for the whole run of one configuration, so deltas between two snapshots are meaningful.
+    public static ServerThreadStats snapshot() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean hotspotThreads = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        long cpuNanos = 0;
+        long allocatedBytes = 0;
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (thread == null || !thread.getThreadName().startsWith(SERVER_THREAD_PREFIX)) {
+                continue;
+            }
+            cpuNanos += Math.max(0, threads.getThreadCpuTime(thread.getThreadId()));
+            if (hotspotThreads != null) {
+                allocatedBytes += Math.max(0, hotspotThreads.getThreadAllocatedBytes(thread.getThreadId()));
+            }
+        }
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        return new ServerThreadStats(cpuNanos, allocatedBytes, gcMillis);
+    }
+
+    public ServerThreadStats minus(ServerThreadStats other) {
+        return new ServerThreadStats(cpuNanos - other.cpuNanos, allocatedBytes - other.allocatedBytes, gcMillis - other.gcMillis);
+    }
+}
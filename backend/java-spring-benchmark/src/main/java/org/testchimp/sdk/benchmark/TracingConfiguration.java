@@ -0,0 +1,67 @@
+package org.testchimp.sdk.benchmark;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+/**
+ * OpenTelemetry SDK exporting to a CountingSpanExporter through a BatchSpanProcessor (as in production), and a Tomcat
+ * valve creating the SERVER span of each request ahead of all filters, standing in for the OTel java agent.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfiguration {
+
+    @Bean
+    public CountingSpanExporter countingSpanExporter() {
+        return new CountingSpanExporter();
+    }
+
+    @Bean(destroyMethod = "close")
+    public OpenTelemetrySdk openTelemetry(CountingSpanExporter exporter) {
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(BatchSpanProcessor.builder(exporter).setMaxQueueSize(65536).build())
+                .build();
+        return OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build();
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> serverSpanValveCustomizer(OpenTelemetry openTelemetry) {
+        Tracer tracer = openTelemetry.getTracer("testchimp-benchmark");
+        return factory -> factory.addContextValves(new ServerSpanValve(tracer));
+    }
+
+    static class ServerSpanValve extends ValveBase {
+        private final Tracer tracer;
+
+        ServerSpanValve(Tracer tracer) {
+            super(true);
+            this.tracer = tracer;
+        }
+
+        @Override
+        public void invoke(Request request, Response response) throws IOException, ServletException {
+            Span span = tracer.spanBuilder(request.getMethod() + " " + request.getRequestURI())
+                    .setSpanKind(SpanKind.SERVER).startSpan();
+            try (Scope ignored = span.makeCurrent()) {
+                getNext().invoke(request, response);
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
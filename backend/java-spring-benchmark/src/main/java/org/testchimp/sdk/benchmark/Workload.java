@@ -0,0 +1,87 @@
+package org.testchimp.sdk.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The request mix sent by the load generator. Entries are picked round robin, so the weights are the number of times a
+ * request appears in the list.
+ */
+public final class Workload {
+
+    private static final String BOUNDARY = "----BenchmarkBoundary7MA4YWxkTrZu0gW";
+
+    public static final class RequestSpec {
+        final String name;
+        final String method;
+        final String path;
+        final String contentType;
+        final byte[] body;
+
+        RequestSpec(String name, String method, String path, String contentType, byte[] body) {
+            this.name = name;
+            this.method = method;
+            this.path = path;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    private Workload() {
+    }
+
+    public static List<RequestSpec> defaultMix() {
+        RequestSpec smallJson = new RequestSpec("small_json", "POST", "/api/orders", "application/json",
+                utf8("{\"customer\":{\"id\":\"c-1234\",\"email\":\"jane@example.com\"},\"password\":\"hunter2\","
+                        + "\"items\":[{\"sku\":\"ABC-123\",\"qty\":2},{\"sku\":\"XYZ-789\",\"qty\":1}]}"));
+        RequestSpec largeJson = new RequestSpec("large_json", "GET", "/api/catalog", null, null);
+        RequestSpec form = new RequestSpec("form", "POST", "/api/login", "application/x-www-form-urlencoded",
+                utf8("username=jane%40example.com&password=hunter2&remember_me=true&redirect=%2Fhome"));
+        RequestSpec multipart = new RequestSpec("multipart", "POST", "/api/uploads", "multipart/form-data; boundary=" + BOUNDARY,
+                utf8(multipartBody()));
+        RequestSpec stream = new RequestSpec("streaming", "GET", "/api/export", null, null);
+
+        List<RequestSpec> mix = new ArrayList<>();
+        Collections.addAll(mix, smallJson, smallJson, smallJson, smallJson, form, form, largeJson, multipart, stream);
+        return mix;
+    }
+
+    // A JSON object of roughly targetBytes.
+    static String jsonBody(int targetBytes) {
+        StringBuilder json = new StringBuilder(targetBytes + 256);
+        json.append("{\"results\":[");
+        int item = 0;
+        while (json.length() < targetBytes) {
+            json.append(item == 0 ? "" : ",")
+                    .append("{\"id\":").append(item)
+                    .append(",\"item_type\":\"product\",\"name\":\"Product ").append(item)
+                    .append("\",\"price\":").append(item % 100).append(".99")
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"],\"in_stock\":").append(item % 2 == 0)
+                    .append('}');
+            item++;
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String multipartBody() {
+        StringBuilder body = new StringBuilder();
+        for (String field : new String[]{"title", "description", "owner"}) {
+            body.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(field).append("\"\r\n\r\n")
+                    .append("value of ").append(field).append("\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"report.csv\"\r\n")
+                .append("Content-Type: text/csv\r\n\r\n");
+        for (int i = 0; i < 500; i++) {
+            body.append(i).append(",product ").append(i).append(",").append(i % 100).append(".99\n");
+        }
+        return body.append("\r\n--").append(BOUNDARY).append("--\r\n").toString();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,183 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testchimp.model.PayloadList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Builds SDK components outside of a Spring context (fields are injected the way Spring would) and generates the
+ * request / response bodies used by the benchmarks.
+ */
+final class BenchmarkSupport {
+
+    // A typical config: one catch-all rule set with a few JSON rules, header rules and a user id field.
+    static final String DEFAULT_CONFIG = "global_config:\n"
+            + "  ignored_headers:\n"
+            + "    - \"authorization\"\n"
+            + "url_configs:\n"
+            + "  .*/api/.*:\n"
+            + "    request:\n"
+            + "      ignored_fields:\n"
+            + "        - \"$.password\"\n"
+            + "        - \"$.items[*].f3\"\n"
+            + "      extract_to_span_attributes:\n"
+            + "        - \"$.meta.k1\"\n"
+            + "      extract_headers_to_span_attributes:\n"
+            + "        - \"x-project-id\"\n"
+            + "      user_id_field: \"$.meta.k0\"\n"
+            + "    response:\n"
+            + "      ignored_fields:\n"
+            + "        - \"$.items[*].f3\"\n"
+            + "      extract_to_span_attributes:\n"
+            + "        - \"$.meta.k1\"\n";
+
+    private BenchmarkSupport() {
+    }
+
+    static DefaultRequestExtractor newExtractor(String configYaml) {
+        return newExtractor(configYaml, FileDescriptorSet.getDefaultInstance());
+    }
+
+    static DefaultRequestExtractor newExtractor(String configYaml, FileDescriptorSet protobufDescriptorSet) {
+        DefaultRequestExtractor extractor = new DefaultRequestExtractor();
+        ReflectionTestUtils.setField(extractor, "configFilePath", "file:" + writeTempFile(configYaml, ".yml"));
+        if (protobufDescriptorSet.getFileCount() > 0) {
+            ReflectionTestUtils.setField(extractor, "protobufDescriptorSetPath",
+                    "file:" + writeTempFile(protobufDescriptorSet.toByteArray(), ".desc"));
+        }
+        extractor.init();
+        return extractor;
+    }
+
+    static HttpRequestCaptureFilter newFilter(DefaultRequestExtractor extractor) {
+        CaptureInstrumentation captureInstrumentation = new CaptureInstrumentation();
+        ReflectionTestUtils.setField(captureInstrumentation, "modeProperty", "metrics");
+        ReflectionTestUtils.setField(captureInstrumentation, "openTelemetry", OpenTelemetry.noop());
+        captureInstrumentation.init();
+
+        DefaultRequestCaptureConfig config = new DefaultRequestCaptureConfig();
+        config.defaultRequestExtractor = extractor;
+
+        HttpRequestCaptureFilter filter = new HttpRequestCaptureFilter();
+        ReflectionTestUtils.setField(filter, "enableSdk", true);
+        ReflectionTestUtils.setField(filter, "enableRequestCapture", true);
+        ReflectionTestUtils.setField(filter, "enableResponseCapture", true);
+        ReflectionTestUtils.setField(filter, "maxDecodedBodyBytes", ContentEncodingDecoder.DEFAULT_MAX_DECODED_BODY_BYTES);
+        ReflectionTestUtils.setField(filter, "sessionCookieNames", new String[]{"sessionid", "JSESSIONID", "PHPSESSID"});
+        ReflectionTestUtils.setField(filter, "captureInstrumentation", captureInstrumentation);
+        filter.defaultRequestCaptureConfig = config;
+        filter.init();
+        return filter;
+    }
+
+    // A JSON object of roughly targetBytes: {"meta": {"k0": .., "k99": ..}, "password": .., "items": [{"f0": .., "f19": ..}, ..]}
+    static String jsonBody(int targetBytes) {
+        StringBuilder json = new StringBuilder(targetBytes + 512);
+        json.append("{\"meta\":{");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":\"value").append(i).append('"');
+        }
+        json.append("},\"password\":\"hunter2\",\"items\":[");
+        int item = 0;
+        while (json.length() < targetBytes) {
+            json.append(item == 0 ? "" : ",").append('{');
+            for (int field = 0; field < 20; field++) {
+                json.append(field == 0 ? "" : ",").append("\"f").append(field).append("\":");
+                if (field % 3 == 0) {
+                    json.append(item * 20 + field);
+                } else {
+                    json.append("\"item ").append(item).append(" field ").append(field).append('"');
+                }
+            }
+            json.append('}');
+            item++;
+        }
+        return json.append("]}").toString();
+    }
+
+    // A SOAP envelope of roughly targetBytes: a header with credentials, and a body with a list of items of 20 fields.
+    static String soapBody(int targetBytes) {
+        StringBuilder xml = new StringBuilder(targetBytes + 512);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" xmlns:c=\"urn:catalog\">")
+                .append("<soap:Header><c:Auth><c:User>user-42</c:User><c:Password>hunter2</c:Password></c:Auth></soap:Header>")
+                .append("<soap:Body><c:GetCatalogResponse><c:Items>");
+        int item = 0;
+        while (xml.length() < targetBytes) {
+            xml.append("<c:Item id=\"").append(item).append("\">");
+            for (int field = 0; field < 20; field++) {
+                xml.append("<c:F").append(field).append('>');
+                if (field % 3 == 0) {
+                    xml.append(item * 20 + field);
+                } else {
+                    xml.append("item ").append(item).append(" field ").append(field);
+                }
+                xml.append("</c:F").append(field).append('>');
+            }
+            xml.append("</c:Item>");
+            item++;
+        }
+        return xml.append("</c:Items></c:GetCatalogResponse></soap:Body></soap:Envelope>").toString();
+    }
+
+    static String formUrlEncodedBody(int fieldCount) {
+        StringBuilder form = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            form.append(i == 0 ? "" : "&").append("field").append(i).append("=value+").append(i).append("%21");
+        }
+        return form.toString();
+    }
+
+    static String multipartBody(String boundary, int fieldCount) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            body.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"field").append(i).append("\"\r\n\r\n")
+                    .append("value ").append(i).append("\r\n");
+        }
+        body.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"upload\"; filename=\"data.bin\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n");
+        for (int i = 0; i < 256; i++) {
+            body.append("0123456789abcdef");
+        }
+        return body.append("\r\n--").append(boundary).append("--\r\n").toString();
+    }
+
+    // A PayloadList of payloadCount http payloads with a few headers, query params and a short text body each.
+    static PayloadList protobufBody(int payloadCount) {
+        PayloadList.Builder payloads = PayloadList.newBuilder();
+        for (int i = 0; i < payloadCount; i++) {
+            payloads.addPayloadsBuilder().setSpanId("b7ad6b716920333" + (i % 10)).getHttpPayloadBuilder()
+                    .putHeaderMap("content-type", "text/plain")
+                    .putHeaderMap("accept", "*/*")
+                    .putHeaderMap("x-project-id", "project-42")
+                    .putQueryParamMap("page", String.valueOf(i))
+                    .setHttpMethod("POST")
+                    .setTextBody("The quick brown fox jumps over the lazy dog " + i);
+        }
+        return payloads.build();
+    }
+
+    static Path writeTempFile(String content, String suffix) {
+        return writeTempFile(content.getBytes(StandardCharsets.UTF_8), suffix);
+    }
+
+    static Path writeTempFile(byte[] content, String suffix) {
+        try {
+            Path file = Files.createTempFile("testchimp-benchmark", suffix);
+            file.toFile().deleteOnExit();
+            Files.write(file, content);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
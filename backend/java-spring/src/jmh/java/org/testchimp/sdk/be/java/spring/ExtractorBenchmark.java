@@ -0,0 +1,116 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testchimp.model.Model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultRequestExtractor.extractFromRequest / extractFromResponse per content type, including the cost of wrapping
+ * the request / response the way the filter does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExtractorBenchmark {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    @Param({"json", "text", "xml", "html", "form_urlencoded", "multipart", "binary", "protobuf"})
+    public String contentType;
+
+    private DefaultRequestExtractor extractor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private byte[] body;
+    private String contentTypeHeader;
+
+    @Setup
+    public void setup() {
+        extractor = BenchmarkSupport.newExtractor(BenchmarkSupport.DEFAULT_CONFIG,
+                FileDescriptorSet.newBuilder().addFile(Model.getDescriptor().toProto()).build());
+        String bodyString = null;
+        switch (contentType) {
+            case "json":
+                contentTypeHeader = "application/json";
+                bodyString = BenchmarkSupport.jsonBody(4096);
+                break;
+            case "text":
+                contentTypeHeader = "text/plain; charset=UTF-8";
+                bodyString = repeat("The quick brown fox jumps over the lazy dog.\n", 90);
+                break;
+            case "xml":
+                contentTypeHeader = "application/xml";
+                bodyString = "<order>" + repeat("<item><sku>ABC-123</sku><qty>2</qty></item>", 90) + "</order>";
+                break;
+            case "html":
+                contentTypeHeader = "text/html";
+                bodyString = "<html><body>" + repeat("<p>The quick brown fox jumps over the lazy dog.</p>", 80) + "</body></html>";
+                break;
+            case "form_urlencoded":
+                contentTypeHeader = "application/x-www-form-urlencoded";
+                bodyString = BenchmarkSupport.formUrlEncodedBody(150);
+                break;
+            case "multipart":
+                contentTypeHeader = "multipart/form-data; boundary=" + BOUNDARY;
+                bodyString = BenchmarkSupport.multipartBody(BOUNDARY, 40);
+                break;
+            case "binary":
+                contentTypeHeader = "application/octet-stream";
+                body = new byte[4096];
+                new Random(42).nextBytes(body);
+                break;
+            case "protobuf":
+                contentTypeHeader = "application/x-protobuf; messageType=org.testchimp.model.PayloadList";
+                body = BenchmarkSupport.protobufBody(40).toByteArray();
+                break;
+            default:
+                throw new IllegalArgumentException(contentType);
+        }
+        if (bodyString != null) {
+            body = bodyString.getBytes(StandardCharsets.UTF_8);
+        }
+
+        request = new MockHttpServletRequest("POST", "/api/orders");
+        request.setQueryString("page=2&size=50&sort=created%2Cdesc");
+        request.addHeader("content-type", contentTypeHeader);
+        request.addHeader("accept", "*/*");
+        request.addHeader("x-project-id", "project-42");
+        request.addHeader("authorization", "Bearer abc");
+        response = new MockHttpServletResponse();
+        // Keep the mock response uncommitted so that it can be reset between invocations.
+        response.setBufferSize(Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public ExtractResult extractFromRequest() throws IOException {
+        request.setContent(body);
+        return extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+    }
+
+    @Benchmark
+    public ExtractResult extractFromResponse() throws IOException {
+        response.reset();
+        CachedResponseHttpServletResponse cachedResponse = new CachedResponseHttpServletResponse(response);
+        cachedResponse.setContentType(contentTypeHeader);
+        cachedResponse.getOutputStream().write(body);
+        return extractor.extractFromResponse("/api/orders", cachedResponse);
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder(value.length() * count);
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
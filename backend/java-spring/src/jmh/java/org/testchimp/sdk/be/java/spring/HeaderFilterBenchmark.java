@@ -0,0 +1,51 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultRequestExtractor.extractFromRequest of a bodiless request with 40 headers, against the default config level
+ * ignored headers plus global and route ignored_headers names and x-auth-* / *-secret globs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeaderFilterBenchmark {
+
+    private static final String CONFIG = "global_config:\n"
+            + "  ignored_headers: [\"cookie\", \"x-api-key\", \"x-auth-*\", \"*-secret\"]\n"
+            + "url_configs:\n"
+            + "  .*/api/.*:\n"
+            + "    request:\n"
+            + "      ignored_headers: [\"x-forwarded-for\", \"x-real-ip\", \"x-internal-*\"]\n";
+
+    private DefaultRequestExtractor extractor;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        extractor = BenchmarkSupport.newExtractor(CONFIG);
+        extractor.setConfigIgnoredHeaders(Arrays.asList("authorization", "token", "security", "oauth", "auth", "content-length"));
+        request = new MockHttpServletRequest("GET", "/api/orders");
+        for (String name : Arrays.asList("Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cache-Control",
+                "Connection", "Cookie", "Host", "Origin", "Referer", "User-Agent", "X-Api-Key", "X-Auth-Token", "X-Auth-User",
+                "X-Client-Secret", "X-Forwarded-For", "X-Forwarded-Proto", "X-Real-IP", "X-Request-Id", "X-Internal-Route")) {
+            request.addHeader(name, "value-of-" + name);
+        }
+        for (int i = 0; i < 20; i++) {
+            request.addHeader("X-Custom-" + i, "value-" + i);
+        }
+    }
+
+    @Benchmark
+    public ExtractResult extractFromRequest() throws IOException {
+        return extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+    }
+}
@@ -0,0 +1,50 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultRequestExtractor.extractJsonBody capturing a few fields of 1 KB / 100 KB / 500 KB bodies with captured_fields,
+ * only their shape (capture_mode: shape) or their first 10 array elements (max_array_elements), against capturing the
+ * whole body with a few ignored_fields, and capturing it as is.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonProjectionBenchmark {
+
+    @Param({"whole", "ignored_fields", "captured_fields", "shape", "limits"})
+    public String rules;
+
+    @Param({"1024", "102400", "512000"})
+    public int bodyBytes;
+
+    private DefaultRequestExtractor extractor;
+    private CapturePlan plan;
+    private String body;
+
+    @Setup
+    public void setup() {
+        extractor = BenchmarkSupport.newExtractor("url_configs:\n");
+        plan = new CapturePlan(".*", false, Collections.emptyList(), HeaderFilter.NONE, Collections.emptyList(),
+                rules.equals("ignored_fields") ? Arrays.asList("$.password", "$.items[*].f1") : Collections.emptyList(),
+                rules.equals("captured_fields") ? new JsonFieldProjector(Arrays.asList("$.meta.k1", "$.items[*].f0", "$.items[*].f3")) : null,
+                rules.equals("limits") ? new JsonLimiter(10, 64, 8) : null, null, Collections.emptyList(), rules.equals("shape"), null);
+        body = BenchmarkSupport.jsonBody(bodyBytes);
+    }
+
+    @Benchmark
+    public ExtractResult extract() {
+        ExtractionContext context = new ExtractionContext(CaptureInstrumentation.RESPONSE_PHASE, plan, "/api/catalog", null,
+                "application/json", null, null);
+        context.httpPayload.setResponseCode(200);
+        extractor.extractJsonBody(context, body);
+        return context.toResult();
+    }
+}
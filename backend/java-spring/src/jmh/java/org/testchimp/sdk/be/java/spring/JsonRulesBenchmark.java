@@ -0,0 +1,57 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultRequestExtractor.extractJsonBody with 0 / 10 / 100 JSON path rules on 1 KB / 100 KB / 5 MB bodies.
+ * Rules alternate between ignored_fields (scrubbed in every item) and extract_to_span_attributes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonRulesBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int ruleCount;
+
+    @Param({"1024", "102400", "5242880"})
+    public int bodyBytes;
+
+    private DefaultRequestExtractor extractor;
+    private CapturePlan plan;
+    private String body;
+
+    @Setup
+    public void setup() {
+        extractor = BenchmarkSupport.newExtractor("url_configs:\n");
+        List<String> ignoredFields = new ArrayList<>();
+        List<String> spanAttribsToExtract = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            if (i % 2 == 0) {
+                ignoredFields.add("$.items[*].f" + (i % 20));
+            } else {
+                spanAttribsToExtract.add("$.meta.k" + i);
+            }
+        }
+        plan = new CapturePlan(".*", false, Collections.emptyList(), HeaderFilter.NONE, spanAttribsToExtract,
+                ignoredFields, null, null, null, Collections.emptyList(), false, null);
+        body = BenchmarkSupport.jsonBody(bodyBytes);
+    }
+
+    @Benchmark
+    public ExtractResult extract() {
+        ExtractionContext context = new ExtractionContext(CaptureInstrumentation.RESPONSE_PHASE, plan, "/api/orders", null,
+                "application/json", null, null);
+        context.httpPayload.setResponseCode(200);
+        extractor.extractJsonBody(context, body);
+        return context.toResult();
+    }
+}
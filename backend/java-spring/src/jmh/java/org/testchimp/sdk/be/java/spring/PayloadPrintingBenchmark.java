@@ -0,0 +1,69 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
+import org.openjdk.jmh.annotations.*;
+import org.testchimp.model.HttpPayload;
+import org.testchimp.model.Payload;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonFormat printing of a captured payload into the span attribute value, as done by HttpRequestCaptureFilter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadPrintingBenchmark {
+
+    @Param({"1024", "102400"})
+    public int bodyBytes;
+
+    private Payload jsonPayload;
+    private Payload encodedJsonPayload;
+    private Payload formPayload;
+
+    @Setup
+    public void setup() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("content-type", "application/json");
+        headers.put("accept", "application/json");
+        headers.put("user-agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/118.0");
+        headers.put("x-project-id", "project-42");
+        HttpPayload.Builder httpPayload = HttpPayload.newBuilder().putAllHeaderMap(headers).setHttpMethod("POST")
+                .putQueryParamMap("page", "2");
+        jsonPayload = PayloadUtils.getHttpJsonPayload(BenchmarkSupport.jsonBody(bodyBytes), httpPayload.clone())
+                .toBuilder().setSpanId("b7ad6b7169203331").build();
+        encodedJsonPayload = PayloadUtils.getHttpEncodedPayload("application/json", null,
+                ByteString.copyFromUtf8(BenchmarkSupport.jsonBody(bodyBytes)), httpPayload.clone())
+                .toBuilder().setSpanId("b7ad6b7169203331").build();
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; fields.size() * 24 < bodyBytes; i++) {
+            fields.put("field" + i, "value " + i);
+        }
+        formPayload = PayloadUtils.getHttpFormDataPayload(fields, httpPayload.clone())
+                .toBuilder().setSpanId("b7ad6b7169203331").build();
+    }
+
+    @Benchmark
+    public String printJsonPayload() throws InvalidProtocolBufferException {
+        return JsonFormat.printer().print(jsonPayload);
+    }
+
+    @Benchmark
+    public String printEncodedJsonPayload() throws InvalidProtocolBufferException {
+        return JsonFormat.printer().print(encodedJsonPayload);
+    }
+
+    @Benchmark
+    public String printFormPayload() throws InvalidProtocolBufferException {
+        return JsonFormat.printer().print(formPayload);
+    }
+}
@@ -0,0 +1,90 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.http.Cookie;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass TrackingHeaders extraction against the per-header getHeader / Cookie[] / split(";") code
+ * it replaced, on a browser-like request carrying the TestChimp tracking headers and cookies.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackingHeadersBenchmark {
+
+    private static final String[] SESSION_COOKIE_NAMES = {"sessionid", "JSESSIONID", "PHPSESSID"};
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setup() {
+        request = new MockHttpServletRequest("GET", "/api/orders/42");
+        request.addHeader("host", "shop.example.com");
+        request.addHeader("user-agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/118.0");
+        request.addHeader("accept", "application/json");
+        request.addHeader("accept-language", "en-US,en;q=0.9");
+        request.addHeader("accept-encoding", "gzip, deflate, br");
+        request.addHeader("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        request.addHeader(Constants.TC_SESSION_RECORDING_TRACKING_ID_HEADER_KEY, "3f1c2a9e-7d41-4a5b-9c1f-0e2d5b6a7c8d");
+        request.addHeader(Constants.TC_CURRENT_USER_ID_HEADER_KEY, "user-1234");
+        request.addHeader(Constants.TRACKED_TEST_NAME_HEADER_KEY, "checkout_happy_path");
+        String cookieHeader = "_ga=GA1.1.123456789.1697000000; theme=dark; "
+                + Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=3f1c2a9e-7d41-4a5b-9c1f-0e2d5b6a7c8d; "
+                + Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=9a8b7c6d-5e4f-3a2b-1c0d-e9f8a7b6c5d4; "
+                + "JSESSIONID=8C3B0F2E4A6D1C9B7E5F3A1D2C4B6E8F";
+        request.addHeader("cookie", cookieHeader);
+        request.setCookies(new Cookie("_ga", "GA1.1.123456789.1697000000"), new Cookie("theme", "dark"),
+                new Cookie(Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME, "3f1c2a9e-7d41-4a5b-9c1f-0e2d5b6a7c8d"),
+                new Cookie(Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME, "9a8b7c6d-5e4f-3a2b-1c0d-e9f8a7b6c5d4"),
+                new Cookie("JSESSIONID", "8C3B0F2E4A6D1C9B7E5F3A1D2C4B6E8F"));
+    }
+
+    @Benchmark
+    public TrackingHeaders singlePass() {
+        return TrackingHeaders.extract(request, SESSION_COOKIE_NAMES);
+    }
+
+    @Benchmark
+    public void perHeaderLookups(Blackhole blackhole) {
+        blackhole.consume(request.getHeader(Constants.TRACKED_TEST_SUITE_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TRACKED_TEST_NAME_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TRACKED_TEST_TYPE_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TRACKED_TEST_INVOCATION_ID_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TRACKED_TEST_STEP_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TC_SESSION_RECORDING_TRACKING_ID_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TC_PARENT_SESSION_RECORDING_TRACKING_ID_HEADER_KEY));
+        blackhole.consume(request.getHeader(Constants.TC_CURRENT_USER_ID_HEADER_KEY));
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals(Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME)) {
+                    blackhole.consume(cookie.getValue());
+                    break;
+                }
+                if (cookie.getName().equals(Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME)) {
+                    blackhole.consume(cookie.getValue());
+                    break;
+                }
+            }
+        }
+        String cookieHeader = request.getHeader("cookie");
+        for (String cookiePart : cookieHeader.split(";")) {
+            String trimmedCookiePart = cookiePart.trim();
+            if (trimmedCookiePart.contains("=")) {
+                String[] keyValue = trimmedCookiePart.split("=");
+                String key = keyValue[0].trim();
+                if (key.equalsIgnoreCase("sessionid") || key.equalsIgnoreCase("JSESSIONID") || key.equalsIgnoreCase("PHPSESSID")) {
+                    blackhole.consume(keyValue[1].trim());
+                    break;
+                }
+            }
+        }
+    }
+}
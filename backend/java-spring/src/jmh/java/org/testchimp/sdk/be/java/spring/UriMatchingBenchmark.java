@@ -0,0 +1,85 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Matching a request URI against 10 / 100 / 1000 url_configs patterns: String.matches per pattern (what a capture plan
+ * cache miss used to cost), precompiled patterns, and the same rules written as path templates in a PathTemplateTrie.
+ * The URIs cycle through early, late and unmatched patterns.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UriMatchingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int patternCount;
+
+    private List<String> patterns;
+    private List<Pattern> compiledPatterns;
+    private PathTemplateTrie pathTemplates;
+    private String[] uris;
+    private int next;
+
+    @Setup
+    public void setup() {
+        patterns = new ArrayList<>();
+        compiledPatterns = new ArrayList<>();
+        pathTemplates = new PathTemplateTrie();
+        for (int i = 0; i < patternCount; i++) {
+            String pattern = i % 2 == 0 ? ".*/api/v1/resource" + i + "/.*" : "/api/v1/resource" + i + "/[0-9]+/items";
+            patterns.add(pattern);
+            compiledPatterns.add(Pattern.compile(pattern));
+            pathTemplates.add(i % 2 == 0 ? "/**/api/v1/resource" + i + "/**" : "/api/v1/resource" + i + "/{id}/items", i);
+        }
+        uris = new String[]{
+                "/api/v1/resource0/42",
+                "/api/v1/resource" + (patternCount - 1) + "/42/items",
+                "/api/v1/resource" + (patternCount / 2) + "/42/items",
+                "/api/v2/unknown/42"
+        };
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        String uri = nextUri();
+        int matches = 0;
+        for (String pattern : patterns) {
+            if (uri.matches(pattern)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int precompiledPatterns() {
+        String uri = nextUri();
+        int matches = 0;
+        for (Pattern pattern : compiledPatterns) {
+            if (pattern.matcher(uri).matches()) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int pathTemplateTrie() {
+        return pathTemplates.match(nextUri()).cardinality();
+    }
+
+    private String nextUri() {
+        String uri = uris[next];
+        next = (next + 1) % uris.length;
+        return uri;
+    }
+}
@@ -0,0 +1,89 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.ByteString;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultRequestExtractor.extractXmlBody applying XPath rules to 1 KB / 100 KB / 500 KB SOAP envelopes: a few
+ * ignored_fields and an extracted span attribute, or captured_fields, against capturing the body as is.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class XmlRulesBenchmark {
+
+    @Param({"whole", "ignored_fields", "captured_fields"})
+    public String rules;
+
+    @Param({"1024", "102400", "512000"})
+    public int bodyBytes;
+
+    private DefaultRequestExtractor extractor;
+    private CapturePlan plan;
+    private ICapturedBody body;
+
+    @Setup
+    public void setup() {
+        extractor = BenchmarkSupport.newExtractor("url_configs:\n");
+        XmlBodyProcessor xmlProcessor = null;
+        if (rules.equals("ignored_fields")) {
+            xmlProcessor = XmlBodyProcessor.create(Arrays.asList("//Auth/Password", "/Envelope/Body//Item/F1"), null,
+                    Collections.singletonList("/Envelope/Header/Auth/User"), null);
+        } else if (rules.equals("captured_fields")) {
+            xmlProcessor = XmlBodyProcessor.create(null, Arrays.asList("//Item/@id", "//Item/F0", "//Item/F3"), null, null);
+        }
+        plan = new CapturePlan(".*", false, Collections.emptyList(), HeaderFilter.NONE, Collections.emptyList(),
+                Collections.emptyList(), null, null, xmlProcessor, Collections.emptyList(), false, null);
+        String xml = BenchmarkSupport.soapBody(bodyBytes);
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        body = new ICapturedBody() {
+            @Override
+            public byte[] getBodyBytes() {
+                return bytes;
+            }
+
+            @Override
+            public ByteString getBodyByteString() {
+                return ByteString.copyFrom(bytes);
+            }
+
+            @Override
+            public String getBodyString() {
+                return xml;
+            }
+
+            @Override
+            public String getBodyString(byte[] bodyBytes) {
+                return new String(bodyBytes, StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public Charset getBodyCharset() {
+                return StandardCharsets.UTF_8;
+            }
+
+            @Override
+            public boolean isBodyDropped() {
+                return false;
+            }
+        };
+    }
+
+    @Benchmark
+    public ExtractResult extract() {
+        ExtractionContext context = new ExtractionContext(CaptureInstrumentation.RESPONSE_PHASE, plan, "/ws/catalog", null,
+                "text/xml", body, null);
+        context.httpPayload.setResponseCode(200);
+        extractor.extractXmlBody(context);
+        return context.toResult();
+    }
+}
@@ -0,0 +1,843 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+/**
+ * <pre>
+ * A name / value pair. The name is a dictionary index; the value either a dictionary index or a literal.
+ * </pre>
+ *
+ * Protobuf type {@code org.testchimp.model.DictionaryEntry}
+ */
+public final class DictionaryEntry extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.testchimp.model.DictionaryEntry)
+    DictionaryEntryOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use DictionaryEntry.newBuilder() to construct.
+  private DictionaryEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private DictionaryEntry() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new DictionaryEntry();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_DictionaryEntry_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_DictionaryEntry_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.testchimp.model.DictionaryEntry.class, org.testchimp.model.DictionaryEntry.Builder.class);
+  }
+
+  private int bitField0_;
+  private int valueCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object value_;
+  public enum ValueCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    VALUE_INDEX(2),
+    VALUE_LITERAL(3),
+    VALUE_NOT_SET(0);
+    private final int value;
+    private ValueCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ValueCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static ValueCase forNumber(int value) {
+      switch (value) {
+        case 2: return VALUE_INDEX;
+        case 3: return VALUE_LITERAL;
+        case 0: return VALUE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public ValueCase
+  getValueCase() {
+    return ValueCase.forNumber(
+        valueCase_);
+  }
+
+  public static final int NAME_FIELD_NUMBER = 1;
+  private int name_ = 0;
+  /**
+   * <code>optional uint32 name = 1;</code>
+   * @return Whether the name field is set.
+   */
+  @java.lang.Override
+  public boolean hasName() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>optional uint32 name = 1;</code>
+   * @return The name.
+   */
+  @java.lang.Override
+  public int getName() {
+    return name_;
+  }
+
+  public static final int VALUE_INDEX_FIELD_NUMBER = 2;
+  /**
+   * <code>uint32 value_index = 2;</code>
+   * @return Whether the valueIndex field is set.
+   */
+  @java.lang.Override
+  public boolean hasValueIndex() {
+    return valueCase_ == 2;
+  }
+  /**
+   * <code>uint32 value_index = 2;</code>
+   * @return The valueIndex.
+   */
+  @java.lang.Override
+  public int getValueIndex() {
+    if (valueCase_ == 2) {
+      return (java.lang.Integer) value_;
+    }
+    return 0;
+  }
+
+  public static final int VALUE_LITERAL_FIELD_NUMBER = 3;
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return Whether the valueLiteral field is set.
+   */
+  public boolean hasValueLiteral() {
+    return valueCase_ == 3;
+  }
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return The valueLiteral.
+   */
+  public java.lang.String getValueLiteral() {
+    java.lang.Object ref = "";
+    if (valueCase_ == 3) {
+      ref = value_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (valueCase_ == 3) {
+        value_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return The bytes for valueLiteral.
+   */
+  public com.google.protobuf.ByteString
+      getValueLiteralBytes() {
+    java.lang.Object ref = "";
+    if (valueCase_ == 3) {
+      ref = value_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (valueCase_ == 3) {
+        value_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeUInt32(1, name_);
+    }
+    if (valueCase_ == 2) {
+      output.writeUInt32(
+          2, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 3) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, value_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(1, name_);
+    }
+    if (valueCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(
+            2, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 3) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, value_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.testchimp.model.DictionaryEntry)) {
+      return super.equals(obj);
+    }
+    org.testchimp.model.DictionaryEntry other = (org.testchimp.model.DictionaryEntry) obj;
+
+    if (hasName() != other.hasName()) return false;
+    if (hasName()) {
+      if (getName()
+          != other.getName()) return false;
+    }
+    if (!getValueCase().equals(other.getValueCase())) return false;
+    switch (valueCase_) {
+      case 2:
+        if (getValueIndex()
+            != other.getValueIndex()) return false;
+        break;
+      case 3:
+        if (!getValueLiteral()
+            .equals(other.getValueLiteral())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasName()) {
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName();
+    }
+    switch (valueCase_) {
+      case 2:
+        hash = (37 * hash) + VALUE_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getValueIndex();
+        break;
+      case 3:
+        hash = (37 * hash) + VALUE_LITERAL_FIELD_NUMBER;
+        hash = (53 * hash) + getValueLiteral().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static org.testchimp.model.DictionaryEntry parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static org.testchimp.model.DictionaryEntry parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.DictionaryEntry parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.testchimp.model.DictionaryEntry prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * A name / value pair. The name is a dictionary index; the value either a dictionary index or a literal.
+   * </pre>
+   *
+   * Protobuf type {@code org.testchimp.model.DictionaryEntry}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.testchimp.model.DictionaryEntry)
+      org.testchimp.model.DictionaryEntryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_DictionaryEntry_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_DictionaryEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.testchimp.model.DictionaryEntry.class, org.testchimp.model.DictionaryEntry.Builder.class);
+    }
+
+    // Construct using org.testchimp.model.DictionaryEntry.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      name_ = 0;
+      valueCase_ = 0;
+      value_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_DictionaryEntry_descriptor;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.DictionaryEntry getDefaultInstanceForType() {
+      return org.testchimp.model.DictionaryEntry.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.DictionaryEntry build() {
+      org.testchimp.model.DictionaryEntry result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.DictionaryEntry buildPartial() {
+      org.testchimp.model.DictionaryEntry result = new org.testchimp.model.DictionaryEntry(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.DictionaryEntry result) {
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.name_ = name_;
+        to_bitField0_ |= 0x00000001;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    private void buildPartialOneofs(org.testchimp.model.DictionaryEntry result) {
+      result.valueCase_ = valueCase_;
+      result.value_ = this.value_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.testchimp.model.DictionaryEntry) {
+        return mergeFrom((org.testchimp.model.DictionaryEntry)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.testchimp.model.DictionaryEntry other) {
+      if (other == org.testchimp.model.DictionaryEntry.getDefaultInstance()) return this;
+      if (other.hasName()) {
+        setName(other.getName());
+      }
+      switch (other.getValueCase()) {
+        case VALUE_INDEX: {
+          setValueIndex(other.getValueIndex());
+          break;
+        }
+        case VALUE_LITERAL: {
+          valueCase_ = 3;
+          value_ = other.value_;
+          onChanged();
+          break;
+        }
+        case VALUE_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              name_ = input.readUInt32();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              value_ = input.readUInt32();
+              valueCase_ = 2;
+              break;
+            } // case 16
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              valueCase_ = 3;
+              value_ = s;
+              break;
+            } // case 26
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int valueCase_ = 0;
+    private java.lang.Object value_;
+    public ValueCase
+        getValueCase() {
+      return ValueCase.forNumber(
+          valueCase_);
+    }
+
+    public Builder clearValue() {
+      valueCase_ = 0;
+      value_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private int name_ ;
+    /**
+     * <code>optional uint32 name = 1;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public int getName() {
+      return name_;
+    }
+    /**
+     * <code>optional uint32 name = 1;</code>
+     * @param value The name to set.
+     * @return This builder for chaining.
+     */
+    public Builder setName(int value) {
+
+      name_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional uint32 name = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearName() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      name_ = 0;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>uint32 value_index = 2;</code>
+     * @return Whether the valueIndex field is set.
+     */
+    public boolean hasValueIndex() {
+      return valueCase_ == 2;
+    }
+    /**
+     * <code>uint32 value_index = 2;</code>
+     * @return The valueIndex.
+     */
+    public int getValueIndex() {
+      if (valueCase_ == 2) {
+        return (java.lang.Integer) value_;
+      }
+      return 0;
+    }
+    /**
+     * <code>uint32 value_index = 2;</code>
+     * @param value The valueIndex to set.
+     * @return This builder for chaining.
+     */
+    public Builder setValueIndex(int value) {
+
+      valueCase_ = 2;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 value_index = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearValueIndex() {
+      if (valueCase_ == 2) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>string value_literal = 3;</code>
+     * @return Whether the valueLiteral field is set.
+     */
+    @java.lang.Override
+    public boolean hasValueLiteral() {
+      return valueCase_ == 3;
+    }
+    /**
+     * <code>string value_literal = 3;</code>
+     * @return The valueLiteral.
+     */
+    @java.lang.Override
+    public java.lang.String getValueLiteral() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 3) {
+        ref = value_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (valueCase_ == 3) {
+          value_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string value_literal = 3;</code>
+     * @return The bytes for valueLiteral.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getValueLiteralBytes() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 3) {
+        ref = value_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (valueCase_ == 3) {
+          value_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string value_literal = 3;</code>
+     * @param value The valueLiteral to set.
+     * @return This builder for chaining.
+     */
+    public Builder setValueLiteral(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      valueCase_ = 3;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string value_literal = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearValueLiteral() {
+      if (valueCase_ == 3) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string value_literal = 3;</code>
+     * @param value The bytes for valueLiteral to set.
+     * @return This builder for chaining.
+     */
+    public Builder setValueLiteralBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      valueCase_ = 3;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.testchimp.model.DictionaryEntry)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.testchimp.model.DictionaryEntry)
+  private static final org.testchimp.model.DictionaryEntry DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.testchimp.model.DictionaryEntry();
+  }
+
+  public static org.testchimp.model.DictionaryEntry getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<DictionaryEntry>
+      PARSER = new com.google.protobuf.AbstractParser<DictionaryEntry>() {
+    @java.lang.Override
+    public DictionaryEntry parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<DictionaryEntry> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<DictionaryEntry> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.testchimp.model.DictionaryEntry getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
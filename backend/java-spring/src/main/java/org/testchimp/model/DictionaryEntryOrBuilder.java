@@ -0,0 +1,50 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface DictionaryEntryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.DictionaryEntry)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional uint32 name = 1;</code>
+   * @return Whether the name field is set.
+   */
+  boolean hasName();
+  /**
+   * <code>optional uint32 name = 1;</code>
+   * @return The name.
+   */
+  int getName();
+
+  /**
+   * <code>uint32 value_index = 2;</code>
+   * @return Whether the valueIndex field is set.
+   */
+  boolean hasValueIndex();
+  /**
+   * <code>uint32 value_index = 2;</code>
+   * @return The valueIndex.
+   */
+  int getValueIndex();
+
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return Whether the valueLiteral field is set.
+   */
+  boolean hasValueLiteral();
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return The valueLiteral.
+   */
+  java.lang.String getValueLiteral();
+  /**
+   * <code>string value_literal = 3;</code>
+   * @return The bytes for valueLiteral.
+   */
+  com.google.protobuf.ByteString
+      getValueLiteralBytes();
+
+  org.testchimp.model.DictionaryEntry.ValueCase getValueCase();
+}
@@ -0,0 +1,78 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface EncodedBodyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.EncodedBody)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Media type of the body, without parameters (e.g. "application/json").
+   * </pre>
+   *
+   * <code>optional string content_type = 1;</code>
+   * @return Whether the contentType field is set.
+   */
+  boolean hasContentType();
+  /**
+   * <pre>
+   * Media type of the body, without parameters (e.g. "application/json").
+   * </pre>
+   *
+   * <code>optional string content_type = 1;</code>
+   * @return The contentType.
+   */
+  java.lang.String getContentType();
+  /**
+   * <pre>
+   * Media type of the body, without parameters (e.g. "application/json").
+   * </pre>
+   *
+   * <code>optional string content_type = 1;</code>
+   * @return The bytes for contentType.
+   */
+  com.google.protobuf.ByteString
+      getContentTypeBytes();
+
+  /**
+   * <pre>
+   * Charset of data. UTF-8 if not set.
+   * </pre>
+   *
+   * <code>optional string charset = 2;</code>
+   * @return Whether the charset field is set.
+   */
+  boolean hasCharset();
+  /**
+   * <pre>
+   * Charset of data. UTF-8 if not set.
+   * </pre>
+   *
+   * <code>optional string charset = 2;</code>
+   * @return The charset.
+   */
+  java.lang.String getCharset();
+  /**
+   * <pre>
+   * Charset of data. UTF-8 if not set.
+   * </pre>
+   *
+   * <code>optional string charset = 2;</code>
+   * @return The bytes for charset.
+   */
+  com.google.protobuf.ByteString
+      getCharsetBytes();
+
+  /**
+   * <code>optional bytes data = 3;</code>
+   * @return Whether the data field is set.
+   */
+  boolean hasData();
+  /**
+   * <code>optional bytes data = 3;</code>
+   * @return The data.
+   */
+  com.google.protobuf.ByteString getData();
+}
@@ -25,11 +25,6 @@ private static final long serialVersionUID = 0L;
     return new HttpFormDataBody();
   }
 
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
   public static final com.google.protobuf.Descriptors.Descriptor
       getDescriptor() {
     return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpFormDataBody_descriptor;
@@ -67,6 +62,7 @@ private static final long serialVersionUID = 0L;
                 com.google.protobuf.WireFormat.FieldType.STRING,
                 "");
   }
+  @SuppressWarnings("serial")
   private com.google.protobuf.MapField<
       java.lang.String, java.lang.String> keyValueMap_;
   private com.google.protobuf.MapField<java.lang.String, java.lang.String>
@@ -77,14 +73,12 @@ private static final long serialVersionUID = 0L;
     }
     return keyValueMap_;
   }
-
   public int getKeyValueMapCount() {
     return internalGetKeyValueMap().getMap().size();
   }
   /**
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
-
   @java.lang.Override
   public boolean containsKeyValueMap(
       java.lang.String key) {
@@ -103,7 +97,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
   @java.lang.Override
-
   public java.util.Map<java.lang.String, java.lang.String> getKeyValueMapMap() {
     return internalGetKeyValueMap().getMap();
   }
@@ -111,10 +104,11 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
   @java.lang.Override
-
-  public java.lang.String getKeyValueMapOrDefault(
+  public /* nullable */
+java.lang.String getKeyValueMapOrDefault(
       java.lang.String key,
-      java.lang.String defaultValue) {
+      /* nullable */
+java.lang.String defaultValue) {
     if (key == null) { throw new NullPointerException("map key"); }
     java.util.Map<java.lang.String, java.lang.String> map =
         internalGetKeyValueMap().getMap();
@@ -124,7 +118,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
   @java.lang.Override
-
   public java.lang.String getKeyValueMapOrThrow(
       java.lang.String key) {
     if (key == null) { throw new NullPointerException("map key"); }
@@ -256,11 +249,13 @@ private static final long serialVersionUID = 0L;
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
+
   public static org.testchimp.model.HttpFormDataBody parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
+
   public static org.testchimp.model.HttpFormDataBody parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -357,6 +352,7 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public Builder clear() {
       super.clear();
+      bitField0_ = 0;
       internalGetMutableKeyValueMap().clear();
       return this;
     }
@@ -384,13 +380,19 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public org.testchimp.model.HttpFormDataBody buildPartial() {
       org.testchimp.model.HttpFormDataBody result = new org.testchimp.model.HttpFormDataBody(this);
-      int from_bitField0_ = bitField0_;
-      result.keyValueMap_ = internalGetKeyValueMap();
-      result.keyValueMap_.makeImmutable();
+      if (bitField0_ != 0) { buildPartial0(result); }
       onBuilt();
       return result;
     }
 
+    private void buildPartial0(org.testchimp.model.HttpFormDataBody result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.keyValueMap_ = internalGetKeyValueMap();
+        result.keyValueMap_.makeImmutable();
+      }
+    }
+
     @java.lang.Override
     public Builder clone() {
       return super.clone();
@@ -437,6 +439,7 @@ private static final long serialVersionUID = 0L;
       if (other == org.testchimp.model.HttpFormDataBody.getDefaultInstance()) return this;
       internalGetMutableKeyValueMap().mergeFrom(
           other.internalGetKeyValueMap());
+      bitField0_ |= 0x00000001;
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -469,6 +472,7 @@ private static final long serialVersionUID = 0L;
                   KeyValueMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
               internalGetMutableKeyValueMap().getMutableMap().put(
                   keyValueMap__.getKey(), keyValueMap__.getValue());
+              bitField0_ |= 0x00000001;
               break;
             } // case 10
             default: {
@@ -491,7 +495,7 @@ private static final long serialVersionUID = 0L;
     private com.google.protobuf.MapField<
         java.lang.String, java.lang.String> keyValueMap_;
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetKeyValueMap() {
+        internalGetKeyValueMap() {
       if (keyValueMap_ == null) {
         return com.google.protobuf.MapField.emptyMapField(
             KeyValueMapDefaultEntryHolder.defaultEntry);
@@ -499,8 +503,7 @@ private static final long serialVersionUID = 0L;
       return keyValueMap_;
     }
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetMutableKeyValueMap() {
-      onChanged();;
+        internalGetMutableKeyValueMap() {
       if (keyValueMap_ == null) {
         keyValueMap_ = com.google.protobuf.MapField.newMapField(
             KeyValueMapDefaultEntryHolder.defaultEntry);
@@ -508,16 +511,16 @@ private static final long serialVersionUID = 0L;
       if (!keyValueMap_.isMutable()) {
         keyValueMap_ = keyValueMap_.copy();
       }
+      bitField0_ |= 0x00000001;
+      onChanged();
       return keyValueMap_;
     }
-
     public int getKeyValueMapCount() {
       return internalGetKeyValueMap().getMap().size();
     }
     /**
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
-
     @java.lang.Override
     public boolean containsKeyValueMap(
         java.lang.String key) {
@@ -536,7 +539,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
     @java.lang.Override
-
     public java.util.Map<java.lang.String, java.lang.String> getKeyValueMapMap() {
       return internalGetKeyValueMap().getMap();
     }
@@ -544,10 +546,11 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
     @java.lang.Override
-
-    public java.lang.String getKeyValueMapOrDefault(
+    public /* nullable */
+java.lang.String getKeyValueMapOrDefault(
         java.lang.String key,
-        java.lang.String defaultValue) {
+        /* nullable */
+java.lang.String defaultValue) {
       if (key == null) { throw new NullPointerException("map key"); }
       java.util.Map<java.lang.String, java.lang.String> map =
           internalGetKeyValueMap().getMap();
@@ -557,7 +560,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
     @java.lang.Override
-
     public java.lang.String getKeyValueMapOrThrow(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -568,8 +570,8 @@ private static final long serialVersionUID = 0L;
       }
       return map.get(key);
     }
-
     public Builder clearKeyValueMap() {
+      bitField0_ = (bitField0_ & ~0x00000001);
       internalGetMutableKeyValueMap().getMutableMap()
           .clear();
       return this;
@@ -577,7 +579,6 @@ private static final long serialVersionUID = 0L;
     /**
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
-
     public Builder removeKeyValueMap(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -590,7 +591,8 @@ private static final long serialVersionUID = 0L;
      */
     @java.lang.Deprecated
     public java.util.Map<java.lang.String, java.lang.String>
-    getMutableKeyValueMap() {
+        getMutableKeyValueMap() {
+      bitField0_ |= 0x00000001;
       return internalGetMutableKeyValueMap().getMutableMap();
     }
     /**
@@ -600,22 +602,20 @@ private static final long serialVersionUID = 0L;
         java.lang.String key,
         java.lang.String value) {
       if (key == null) { throw new NullPointerException("map key"); }
-      if (value == null) {
-  throw new NullPointerException("map value");
-}
-
+      if (value == null) { throw new NullPointerException("map value"); }
       internalGetMutableKeyValueMap().getMutableMap()
           .put(key, value);
+      bitField0_ |= 0x00000001;
       return this;
     }
     /**
      * <code>map&lt;string, string&gt; key_value_map = 1;</code>
      */
-
     public Builder putAllKeyValueMap(
         java.util.Map<java.lang.String, java.lang.String> values) {
       internalGetMutableKeyValueMap().getMutableMap()
           .putAll(values);
+      bitField0_ |= 0x00000001;
       return this;
     }
     @java.lang.Override
@@ -30,7 +30,6 @@ public interface HttpGetBodyOrBuilder extends
   /**
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
-
   /* nullable */
 java.lang.String getKeyValueMapOrDefault(
       java.lang.String key,
@@ -39,7 +38,6 @@ java.lang.String defaultValue);
   /**
    * <code>map&lt;string, string&gt; key_value_map = 1;</code>
    */
-
   java.lang.String getKeyValueMapOrThrow(
       java.lang.String key);
 }
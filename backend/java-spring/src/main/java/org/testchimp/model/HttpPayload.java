@@ -30,11 +30,6 @@ private static final long serialVersionUID = 0L;
     return new HttpPayload();
   }
 
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
   public static final com.google.protobuf.Descriptors.Descriptor
       getDescriptor() {
     return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayload_descriptor;
@@ -64,6 +59,7 @@ private static final long serialVersionUID = 0L;
 
   private int bitField0_;
   private int bodyCase_ = 0;
+  @SuppressWarnings("serial")
   private java.lang.Object body_;
   public enum BodyCase
       implements com.google.protobuf.Internal.EnumLite,
@@ -76,6 +72,8 @@ private static final long serialVersionUID = 0L;
     HTTP_FORM_DATA_BODY(8),
     HTTP_FORM_URLENCODED_BODY(11),
     BINARY_DATA_BODY(9),
+    ENCODED_BODY(14),
+    SHAPE_BODY(15),
     BODY_NOT_SET(0);
     private final int value;
     private BodyCase(int value) {
@@ -101,6 +99,8 @@ private static final long serialVersionUID = 0L;
         case 8: return HTTP_FORM_DATA_BODY;
         case 11: return HTTP_FORM_URLENCODED_BODY;
         case 9: return BINARY_DATA_BODY;
+        case 14: return ENCODED_BODY;
+        case 15: return SHAPE_BODY;
         case 0: return BODY_NOT_SET;
         default: return null;
       }
@@ -128,6 +128,7 @@ private static final long serialVersionUID = 0L;
                 com.google.protobuf.WireFormat.FieldType.STRING,
                 "");
   }
+  @SuppressWarnings("serial")
   private com.google.protobuf.MapField<
       java.lang.String, java.lang.String> headerMap_;
   private com.google.protobuf.MapField<java.lang.String, java.lang.String>
@@ -138,14 +139,12 @@ private static final long serialVersionUID = 0L;
     }
     return headerMap_;
   }
-
   public int getHeaderMapCount() {
     return internalGetHeaderMap().getMap().size();
   }
   /**
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
-
   @java.lang.Override
   public boolean containsHeaderMap(
       java.lang.String key) {
@@ -164,7 +163,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
   @java.lang.Override
-
   public java.util.Map<java.lang.String, java.lang.String> getHeaderMapMap() {
     return internalGetHeaderMap().getMap();
   }
@@ -172,10 +170,11 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
   @java.lang.Override
-
-  public java.lang.String getHeaderMapOrDefault(
+  public /* nullable */
+java.lang.String getHeaderMapOrDefault(
       java.lang.String key,
-      java.lang.String defaultValue) {
+      /* nullable */
+java.lang.String defaultValue) {
     if (key == null) { throw new NullPointerException("map key"); }
     java.util.Map<java.lang.String, java.lang.String> map =
         internalGetHeaderMap().getMap();
@@ -185,7 +184,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
   @java.lang.Override
-
   public java.lang.String getHeaderMapOrThrow(
       java.lang.String key) {
     if (key == null) { throw new NullPointerException("map key"); }
@@ -209,6 +207,7 @@ private static final long serialVersionUID = 0L;
                 com.google.protobuf.WireFormat.FieldType.STRING,
                 "");
   }
+  @SuppressWarnings("serial")
   private com.google.protobuf.MapField<
       java.lang.String, java.lang.String> queryParamMap_;
   private com.google.protobuf.MapField<java.lang.String, java.lang.String>
@@ -219,14 +218,12 @@ private static final long serialVersionUID = 0L;
     }
     return queryParamMap_;
   }
-
   public int getQueryParamMapCount() {
     return internalGetQueryParamMap().getMap().size();
   }
   /**
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
-
   @java.lang.Override
   public boolean containsQueryParamMap(
       java.lang.String key) {
@@ -245,7 +242,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
   @java.lang.Override
-
   public java.util.Map<java.lang.String, java.lang.String> getQueryParamMapMap() {
     return internalGetQueryParamMap().getMap();
   }
@@ -253,10 +249,11 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
   @java.lang.Override
-
-  public java.lang.String getQueryParamMapOrDefault(
+  public /* nullable */
+java.lang.String getQueryParamMapOrDefault(
       java.lang.String key,
-      java.lang.String defaultValue) {
+      /* nullable */
+java.lang.String defaultValue) {
     if (key == null) { throw new NullPointerException("map key"); }
     java.util.Map<java.lang.String, java.lang.String> map =
         internalGetQueryParamMap().getMap();
@@ -266,7 +263,6 @@ private static final long serialVersionUID = 0L;
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
   @java.lang.Override
-
   public java.lang.String getQueryParamMapOrThrow(
       java.lang.String key) {
     if (key == null) { throw new NullPointerException("map key"); }
@@ -279,7 +275,8 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int HTTP_METHOD_FIELD_NUMBER = 3;
-  private volatile java.lang.Object httpMethod_;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object httpMethod_ = "";
   /**
    * <pre>
    * Only applicable for request payloads.
@@ -337,7 +334,7 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int RESPONSE_CODE_FIELD_NUMBER = 12;
-  private int responseCode_;
+  private int responseCode_ = 0;
   /**
    * <pre>
    * Only applicable for response payloads.
@@ -711,6 +708,68 @@ private static final long serialVersionUID = 0L;
     return org.testchimp.model.BinaryDataBody.getDefaultInstance();
   }
 
+  public static final int ENCODED_BODY_FIELD_NUMBER = 14;
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   * @return Whether the encodedBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasEncodedBody() {
+    return bodyCase_ == 14;
+  }
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   * @return The encodedBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.EncodedBody getEncodedBody() {
+    if (bodyCase_ == 14) {
+       return (org.testchimp.model.EncodedBody) body_;
+    }
+    return org.testchimp.model.EncodedBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder() {
+    if (bodyCase_ == 14) {
+       return (org.testchimp.model.EncodedBody) body_;
+    }
+    return org.testchimp.model.EncodedBody.getDefaultInstance();
+  }
+
+  public static final int SHAPE_BODY_FIELD_NUMBER = 15;
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   * @return Whether the shapeBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasShapeBody() {
+    return bodyCase_ == 15;
+  }
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   * @return The shapeBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.ShapeBody getShapeBody() {
+    if (bodyCase_ == 15) {
+       return (org.testchimp.model.ShapeBody) body_;
+    }
+    return org.testchimp.model.ShapeBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder() {
+    if (bodyCase_ == 15) {
+       return (org.testchimp.model.ShapeBody) body_;
+    }
+    return org.testchimp.model.ShapeBody.getDefaultInstance();
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -767,6 +826,12 @@ private static final long serialVersionUID = 0L;
         internalGetQueryParamMap(),
         QueryParamMapDefaultEntryHolder.defaultEntry,
         13);
+    if (bodyCase_ == 14) {
+      output.writeMessage(14, (org.testchimp.model.EncodedBody) body_);
+    }
+    if (bodyCase_ == 15) {
+      output.writeMessage(15, (org.testchimp.model.ShapeBody) body_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -831,6 +896,14 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(13, queryParamMap__);
     }
+    if (bodyCase_ == 14) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, (org.testchimp.model.EncodedBody) body_);
+    }
+    if (bodyCase_ == 15) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(15, (org.testchimp.model.ShapeBody) body_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -894,6 +967,14 @@ private static final long serialVersionUID = 0L;
         if (!getBinaryDataBody()
             .equals(other.getBinaryDataBody())) return false;
         break;
+      case 14:
+        if (!getEncodedBody()
+            .equals(other.getEncodedBody())) return false;
+        break;
+      case 15:
+        if (!getShapeBody()
+            .equals(other.getShapeBody())) return false;
+        break;
       case 0:
       default:
     }
@@ -957,6 +1038,14 @@ private static final long serialVersionUID = 0L;
         hash = (37 * hash) + BINARY_DATA_BODY_FIELD_NUMBER;
         hash = (53 * hash) + getBinaryDataBody().hashCode();
         break;
+      case 14:
+        hash = (37 * hash) + ENCODED_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getEncodedBody().hashCode();
+        break;
+      case 15:
+        hash = (37 * hash) + SHAPE_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getShapeBody().hashCode();
+        break;
       case 0:
       default:
     }
@@ -1009,11 +1098,13 @@ private static final long serialVersionUID = 0L;
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
+
   public static org.testchimp.model.HttpPayload parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
+
   public static org.testchimp.model.HttpPayload parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -1118,12 +1209,11 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public Builder clear() {
       super.clear();
+      bitField0_ = 0;
       internalGetMutableHeaderMap().clear();
       internalGetMutableQueryParamMap().clear();
       httpMethod_ = "";
-      bitField0_ = (bitField0_ & ~0x00000004);
       responseCode_ = 0;
-      bitField0_ = (bitField0_ & ~0x00000008);
       if (httpGetBodyBuilder_ != null) {
         httpGetBodyBuilder_.clear();
       }
@@ -1136,6 +1226,12 @@ private static final long serialVersionUID = 0L;
       if (binaryDataBodyBuilder_ != null) {
         binaryDataBodyBuilder_.clear();
       }
+      if (encodedBodyBuilder_ != null) {
+        encodedBodyBuilder_.clear();
+      }
+      if (shapeBodyBuilder_ != null) {
+        shapeBodyBuilder_.clear();
+      }
       bodyCase_ = 0;
       body_ = null;
       return this;
@@ -1164,64 +1260,61 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public org.testchimp.model.HttpPayload buildPartial() {
       org.testchimp.model.HttpPayload result = new org.testchimp.model.HttpPayload(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.HttpPayload result) {
       int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.headerMap_ = internalGetHeaderMap();
+        result.headerMap_.makeImmutable();
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.queryParamMap_ = internalGetQueryParamMap();
+        result.queryParamMap_.makeImmutable();
+      }
       int to_bitField0_ = 0;
-      result.headerMap_ = internalGetHeaderMap();
-      result.headerMap_.makeImmutable();
-      result.queryParamMap_ = internalGetQueryParamMap();
-      result.queryParamMap_.makeImmutable();
       if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.httpMethod_ = httpMethod_;
         to_bitField0_ |= 0x00000001;
       }
-      result.httpMethod_ = httpMethod_;
       if (((from_bitField0_ & 0x00000008) != 0)) {
         result.responseCode_ = responseCode_;
         to_bitField0_ |= 0x00000002;
       }
-      if (bodyCase_ == 2) {
-        result.body_ = body_;
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    private void buildPartialOneofs(org.testchimp.model.HttpPayload result) {
+      result.bodyCase_ = bodyCase_;
+      result.body_ = this.body_;
+      if (bodyCase_ == 4 &&
+          httpGetBodyBuilder_ != null) {
+        result.body_ = httpGetBodyBuilder_.build();
       }
-      if (bodyCase_ == 4) {
-        if (httpGetBodyBuilder_ == null) {
-          result.body_ = body_;
-        } else {
-          result.body_ = httpGetBodyBuilder_.build();
-        }
+      if (bodyCase_ == 8 &&
+          httpFormDataBodyBuilder_ != null) {
+        result.body_ = httpFormDataBodyBuilder_.build();
       }
-      if (bodyCase_ == 5) {
-        result.body_ = body_;
+      if (bodyCase_ == 11 &&
+          httpFormUrlencodedBodyBuilder_ != null) {
+        result.body_ = httpFormUrlencodedBodyBuilder_.build();
       }
-      if (bodyCase_ == 6) {
-        result.body_ = body_;
+      if (bodyCase_ == 9 &&
+          binaryDataBodyBuilder_ != null) {
+        result.body_ = binaryDataBodyBuilder_.build();
       }
-      if (bodyCase_ == 7) {
-        result.body_ = body_;
+      if (bodyCase_ == 14 &&
+          encodedBodyBuilder_ != null) {
+        result.body_ = encodedBodyBuilder_.build();
       }
-      if (bodyCase_ == 8) {
-        if (httpFormDataBodyBuilder_ == null) {
-          result.body_ = body_;
-        } else {
-          result.body_ = httpFormDataBodyBuilder_.build();
-        }
+      if (bodyCase_ == 15 &&
+          shapeBodyBuilder_ != null) {
+        result.body_ = shapeBodyBuilder_.build();
       }
-      if (bodyCase_ == 11) {
-        if (httpFormUrlencodedBodyBuilder_ == null) {
-          result.body_ = body_;
-        } else {
-          result.body_ = httpFormUrlencodedBodyBuilder_.build();
-        }
-      }
-      if (bodyCase_ == 9) {
-        if (binaryDataBodyBuilder_ == null) {
-          result.body_ = body_;
-        } else {
-          result.body_ = binaryDataBodyBuilder_.build();
-        }
-      }
-      result.bitField0_ = to_bitField0_;
-      result.bodyCase_ = bodyCase_;
-      onBuilt();
-      return result;
     }
 
     @java.lang.Override
@@ -1270,11 +1363,13 @@ private static final long serialVersionUID = 0L;
       if (other == org.testchimp.model.HttpPayload.getDefaultInstance()) return this;
       internalGetMutableHeaderMap().mergeFrom(
           other.internalGetHeaderMap());
+      bitField0_ |= 0x00000001;
       internalGetMutableQueryParamMap().mergeFrom(
           other.internalGetQueryParamMap());
+      bitField0_ |= 0x00000002;
       if (other.hasHttpMethod()) {
-        bitField0_ |= 0x00000004;
         httpMethod_ = other.httpMethod_;
+        bitField0_ |= 0x00000004;
         onChanged();
       }
       if (other.hasResponseCode()) {
@@ -1321,6 +1416,14 @@ private static final long serialVersionUID = 0L;
           mergeBinaryDataBody(other.getBinaryDataBody());
           break;
         }
+        case ENCODED_BODY: {
+          mergeEncodedBody(other.getEncodedBody());
+          break;
+        }
+        case SHAPE_BODY: {
+          mergeShapeBody(other.getShapeBody());
+          break;
+        }
         case BODY_NOT_SET: {
           break;
         }
@@ -1357,6 +1460,7 @@ private static final long serialVersionUID = 0L;
                   HeaderMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
               internalGetMutableHeaderMap().getMutableMap().put(
                   headerMap__.getKey(), headerMap__.getValue());
+              bitField0_ |= 0x00000001;
               break;
             } // case 10
             case 18: {
@@ -1427,8 +1531,23 @@ private static final long serialVersionUID = 0L;
                   QueryParamMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
               internalGetMutableQueryParamMap().getMutableMap().put(
                   queryParamMap__.getKey(), queryParamMap__.getValue());
+              bitField0_ |= 0x00000002;
               break;
             } // case 106
+            case 114: {
+              input.readMessage(
+                  getEncodedBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 14;
+              break;
+            } // case 114
+            case 122: {
+              input.readMessage(
+                  getShapeBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 15;
+              break;
+            } // case 122
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -1464,7 +1583,7 @@ private static final long serialVersionUID = 0L;
     private com.google.protobuf.MapField<
         java.lang.String, java.lang.String> headerMap_;
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetHeaderMap() {
+        internalGetHeaderMap() {
       if (headerMap_ == null) {
         return com.google.protobuf.MapField.emptyMapField(
             HeaderMapDefaultEntryHolder.defaultEntry);
@@ -1472,8 +1591,7 @@ private static final long serialVersionUID = 0L;
       return headerMap_;
     }
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetMutableHeaderMap() {
-      onChanged();;
+        internalGetMutableHeaderMap() {
       if (headerMap_ == null) {
         headerMap_ = com.google.protobuf.MapField.newMapField(
             HeaderMapDefaultEntryHolder.defaultEntry);
@@ -1481,16 +1599,16 @@ private static final long serialVersionUID = 0L;
       if (!headerMap_.isMutable()) {
         headerMap_ = headerMap_.copy();
       }
+      bitField0_ |= 0x00000001;
+      onChanged();
       return headerMap_;
     }
-
     public int getHeaderMapCount() {
       return internalGetHeaderMap().getMap().size();
     }
     /**
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
-
     @java.lang.Override
     public boolean containsHeaderMap(
         java.lang.String key) {
@@ -1509,7 +1627,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
     @java.lang.Override
-
     public java.util.Map<java.lang.String, java.lang.String> getHeaderMapMap() {
       return internalGetHeaderMap().getMap();
     }
@@ -1517,10 +1634,11 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
     @java.lang.Override
-
-    public java.lang.String getHeaderMapOrDefault(
+    public /* nullable */
+java.lang.String getHeaderMapOrDefault(
         java.lang.String key,
-        java.lang.String defaultValue) {
+        /* nullable */
+java.lang.String defaultValue) {
       if (key == null) { throw new NullPointerException("map key"); }
       java.util.Map<java.lang.String, java.lang.String> map =
           internalGetHeaderMap().getMap();
@@ -1530,7 +1648,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
     @java.lang.Override
-
     public java.lang.String getHeaderMapOrThrow(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -1541,8 +1658,8 @@ private static final long serialVersionUID = 0L;
       }
       return map.get(key);
     }
-
     public Builder clearHeaderMap() {
+      bitField0_ = (bitField0_ & ~0x00000001);
       internalGetMutableHeaderMap().getMutableMap()
           .clear();
       return this;
@@ -1550,7 +1667,6 @@ private static final long serialVersionUID = 0L;
     /**
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
-
     public Builder removeHeaderMap(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -1563,7 +1679,8 @@ private static final long serialVersionUID = 0L;
      */
     @java.lang.Deprecated
     public java.util.Map<java.lang.String, java.lang.String>
-    getMutableHeaderMap() {
+        getMutableHeaderMap() {
+      bitField0_ |= 0x00000001;
       return internalGetMutableHeaderMap().getMutableMap();
     }
     /**
@@ -1573,29 +1690,27 @@ private static final long serialVersionUID = 0L;
         java.lang.String key,
         java.lang.String value) {
       if (key == null) { throw new NullPointerException("map key"); }
-      if (value == null) {
-  throw new NullPointerException("map value");
-}
-
+      if (value == null) { throw new NullPointerException("map value"); }
       internalGetMutableHeaderMap().getMutableMap()
           .put(key, value);
+      bitField0_ |= 0x00000001;
       return this;
     }
     /**
      * <code>map&lt;string, string&gt; header_map = 1;</code>
      */
-
     public Builder putAllHeaderMap(
         java.util.Map<java.lang.String, java.lang.String> values) {
       internalGetMutableHeaderMap().getMutableMap()
           .putAll(values);
+      bitField0_ |= 0x00000001;
       return this;
     }
 
     private com.google.protobuf.MapField<
         java.lang.String, java.lang.String> queryParamMap_;
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetQueryParamMap() {
+        internalGetQueryParamMap() {
       if (queryParamMap_ == null) {
         return com.google.protobuf.MapField.emptyMapField(
             QueryParamMapDefaultEntryHolder.defaultEntry);
@@ -1603,8 +1718,7 @@ private static final long serialVersionUID = 0L;
       return queryParamMap_;
     }
     private com.google.protobuf.MapField<java.lang.String, java.lang.String>
-    internalGetMutableQueryParamMap() {
-      onChanged();;
+        internalGetMutableQueryParamMap() {
       if (queryParamMap_ == null) {
         queryParamMap_ = com.google.protobuf.MapField.newMapField(
             QueryParamMapDefaultEntryHolder.defaultEntry);
@@ -1612,16 +1726,16 @@ private static final long serialVersionUID = 0L;
       if (!queryParamMap_.isMutable()) {
         queryParamMap_ = queryParamMap_.copy();
       }
+      bitField0_ |= 0x00000002;
+      onChanged();
       return queryParamMap_;
     }
-
     public int getQueryParamMapCount() {
       return internalGetQueryParamMap().getMap().size();
     }
     /**
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
-
     @java.lang.Override
     public boolean containsQueryParamMap(
         java.lang.String key) {
@@ -1640,7 +1754,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
     @java.lang.Override
-
     public java.util.Map<java.lang.String, java.lang.String> getQueryParamMapMap() {
       return internalGetQueryParamMap().getMap();
     }
@@ -1648,10 +1761,11 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
     @java.lang.Override
-
-    public java.lang.String getQueryParamMapOrDefault(
+    public /* nullable */
+java.lang.String getQueryParamMapOrDefault(
         java.lang.String key,
-        java.lang.String defaultValue) {
+        /* nullable */
+java.lang.String defaultValue) {
       if (key == null) { throw new NullPointerException("map key"); }
       java.util.Map<java.lang.String, java.lang.String> map =
           internalGetQueryParamMap().getMap();
@@ -1661,7 +1775,6 @@ private static final long serialVersionUID = 0L;
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
     @java.lang.Override
-
     public java.lang.String getQueryParamMapOrThrow(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -1672,8 +1785,8 @@ private static final long serialVersionUID = 0L;
       }
       return map.get(key);
     }
-
     public Builder clearQueryParamMap() {
+      bitField0_ = (bitField0_ & ~0x00000002);
       internalGetMutableQueryParamMap().getMutableMap()
           .clear();
       return this;
@@ -1681,7 +1794,6 @@ private static final long serialVersionUID = 0L;
     /**
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
-
     public Builder removeQueryParamMap(
         java.lang.String key) {
       if (key == null) { throw new NullPointerException("map key"); }
@@ -1694,7 +1806,8 @@ private static final long serialVersionUID = 0L;
      */
     @java.lang.Deprecated
     public java.util.Map<java.lang.String, java.lang.String>
-    getMutableQueryParamMap() {
+        getMutableQueryParamMap() {
+      bitField0_ |= 0x00000002;
       return internalGetMutableQueryParamMap().getMutableMap();
     }
     /**
@@ -1704,22 +1817,20 @@ private static final long serialVersionUID = 0L;
         java.lang.String key,
         java.lang.String value) {
       if (key == null) { throw new NullPointerException("map key"); }
-      if (value == null) {
-  throw new NullPointerException("map value");
-}
-
+      if (value == null) { throw new NullPointerException("map value"); }
       internalGetMutableQueryParamMap().getMutableMap()
           .put(key, value);
+      bitField0_ |= 0x00000002;
       return this;
     }
     /**
      * <code>map&lt;string, string&gt; query_param_map = 13;</code>
      */
-
     public Builder putAllQueryParamMap(
         java.util.Map<java.lang.String, java.lang.String> values) {
       internalGetMutableQueryParamMap().getMutableMap()
           .putAll(values);
+      bitField0_ |= 0x00000002;
       return this;
     }
 
@@ -1787,11 +1898,9 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setHttpMethod(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+      if (value == null) { throw new NullPointerException(); }
       httpMethod_ = value;
+      bitField0_ |= 0x00000004;
       onChanged();
       return this;
     }
@@ -1804,8 +1913,8 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearHttpMethod() {
-      bitField0_ = (bitField0_ & ~0x00000004);
       httpMethod_ = getDefaultInstance().getHttpMethod();
+      bitField0_ = (bitField0_ & ~0x00000004);
       onChanged();
       return this;
     }
@@ -1820,12 +1929,10 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setHttpMethodBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      bitField0_ |= 0x00000004;
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       httpMethod_ = value;
+      bitField0_ |= 0x00000004;
       onChanged();
       return this;
     }
@@ -1865,8 +1972,9 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder setResponseCode(int value) {
-      bitField0_ |= 0x00000008;
+
       responseCode_ = value;
+      bitField0_ |= 0x00000008;
       onChanged();
       return this;
     }
@@ -1945,10 +2053,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setJsonBody(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bodyCase_ = 2;
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 2;
       body_ = value;
       onChanged();
       return this;
@@ -1972,10 +2078,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setJsonBodyBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       bodyCase_ = 2;
       body_ = value;
       onChanged();
@@ -2160,7 +2264,7 @@ private static final long serialVersionUID = 0L;
         body_ = null;
       }
       bodyCase_ = 4;
-      onChanged();;
+      onChanged();
       return httpGetBodyBuilder_;
     }
 
@@ -2224,10 +2328,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setTextBody(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bodyCase_ = 5;
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 5;
       body_ = value;
       onChanged();
       return this;
@@ -2251,10 +2353,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setTextBodyBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       bodyCase_ = 5;
       body_ = value;
       onChanged();
@@ -2321,10 +2421,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setHtmlBody(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bodyCase_ = 6;
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 6;
       body_ = value;
       onChanged();
       return this;
@@ -2348,10 +2446,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setHtmlBodyBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       bodyCase_ = 6;
       body_ = value;
       onChanged();
@@ -2418,10 +2514,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setXmlBody(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bodyCase_ = 7;
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 7;
       body_ = value;
       onChanged();
       return this;
@@ -2445,10 +2539,8 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setXmlBodyBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       bodyCase_ = 7;
       body_ = value;
       onChanged();
@@ -2593,7 +2685,7 @@ private static final long serialVersionUID = 0L;
         body_ = null;
       }
       bodyCase_ = 8;
-      onChanged();;
+      onChanged();
       return httpFormDataBodyBuilder_;
     }
 
@@ -2735,7 +2827,7 @@ private static final long serialVersionUID = 0L;
         body_ = null;
       }
       bodyCase_ = 11;
-      onChanged();;
+      onChanged();
       return httpFormUrlencodedBodyBuilder_;
     }
 
@@ -2877,9 +2969,293 @@ private static final long serialVersionUID = 0L;
         body_ = null;
       }
       bodyCase_ = 9;
-      onChanged();;
+      onChanged();
       return binaryDataBodyBuilder_;
     }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder> encodedBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     * @return Whether the encodedBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasEncodedBody() {
+      return bodyCase_ == 14;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     * @return The encodedBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.EncodedBody getEncodedBody() {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 14) {
+          return (org.testchimp.model.EncodedBody) body_;
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 14) {
+          return encodedBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    public Builder setEncodedBody(org.testchimp.model.EncodedBody value) {
+      if (encodedBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        encodedBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    public Builder setEncodedBody(
+        org.testchimp.model.EncodedBody.Builder builderForValue) {
+      if (encodedBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        encodedBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    public Builder mergeEncodedBody(org.testchimp.model.EncodedBody value) {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 14 &&
+            body_ != org.testchimp.model.EncodedBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.EncodedBody.newBuilder((org.testchimp.model.EncodedBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 14) {
+          encodedBodyBuilder_.mergeFrom(value);
+        } else {
+          encodedBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    public Builder clearEncodedBody() {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 14) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 14) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        encodedBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    public org.testchimp.model.EncodedBody.Builder getEncodedBodyBuilder() {
+      return getEncodedBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder() {
+      if ((bodyCase_ == 14) && (encodedBodyBuilder_ != null)) {
+        return encodedBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 14) {
+          return (org.testchimp.model.EncodedBody) body_;
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder> 
+        getEncodedBodyFieldBuilder() {
+      if (encodedBodyBuilder_ == null) {
+        if (!(bodyCase_ == 14)) {
+          body_ = org.testchimp.model.EncodedBody.getDefaultInstance();
+        }
+        encodedBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder>(
+                (org.testchimp.model.EncodedBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 14;
+      onChanged();
+      return encodedBodyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder> shapeBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     * @return Whether the shapeBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasShapeBody() {
+      return bodyCase_ == 15;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     * @return The shapeBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.ShapeBody getShapeBody() {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 15) {
+          return (org.testchimp.model.ShapeBody) body_;
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 15) {
+          return shapeBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    public Builder setShapeBody(org.testchimp.model.ShapeBody value) {
+      if (shapeBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        shapeBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    public Builder setShapeBody(
+        org.testchimp.model.ShapeBody.Builder builderForValue) {
+      if (shapeBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        shapeBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    public Builder mergeShapeBody(org.testchimp.model.ShapeBody value) {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 15 &&
+            body_ != org.testchimp.model.ShapeBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.ShapeBody.newBuilder((org.testchimp.model.ShapeBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 15) {
+          shapeBodyBuilder_.mergeFrom(value);
+        } else {
+          shapeBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    public Builder clearShapeBody() {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 15) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 15) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        shapeBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    public org.testchimp.model.ShapeBody.Builder getShapeBodyBuilder() {
+      return getShapeBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder() {
+      if ((bodyCase_ == 15) && (shapeBodyBuilder_ != null)) {
+        return shapeBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 15) {
+          return (org.testchimp.model.ShapeBody) body_;
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder> 
+        getShapeBodyFieldBuilder() {
+      if (shapeBodyBuilder_ == null) {
+        if (!(bodyCase_ == 15)) {
+          body_ = org.testchimp.model.ShapeBody.getDefaultInstance();
+        }
+        shapeBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder>(
+                (org.testchimp.model.ShapeBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 15;
+      onChanged();
+      return shapeBodyBuilder_;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
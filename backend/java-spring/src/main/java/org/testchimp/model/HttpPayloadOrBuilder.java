@@ -30,7 +30,6 @@ public interface HttpPayloadOrBuilder extends
   /**
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
-
   /* nullable */
 java.lang.String getHeaderMapOrDefault(
       java.lang.String key,
@@ -39,7 +38,6 @@ java.lang.String defaultValue);
   /**
    * <code>map&lt;string, string&gt; header_map = 1;</code>
    */
-
   java.lang.String getHeaderMapOrThrow(
       java.lang.String key);
 
@@ -66,7 +64,6 @@ java.lang.String defaultValue);
   /**
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
-
   /* nullable */
 java.lang.String getQueryParamMapOrDefault(
       java.lang.String key,
@@ -75,7 +72,6 @@ java.lang.String defaultValue);
   /**
    * <code>map&lt;string, string&gt; query_param_map = 13;</code>
    */
-
   java.lang.String getQueryParamMapOrThrow(
       java.lang.String key);
 
@@ -271,5 +267,35 @@ java.lang.String defaultValue);
    */
   org.testchimp.model.BinaryDataBodyOrBuilder getBinaryDataBodyOrBuilder();
 
-  public org.testchimp.model.HttpPayload.BodyCase getBodyCase();
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   * @return Whether the encodedBody field is set.
+   */
+  boolean hasEncodedBody();
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   * @return The encodedBody.
+   */
+  org.testchimp.model.EncodedBody getEncodedBody();
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 14;</code>
+   */
+  org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder();
+
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   * @return Whether the shapeBody field is set.
+   */
+  boolean hasShapeBody();
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   * @return The shapeBody.
+   */
+  org.testchimp.model.ShapeBody getShapeBody();
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 15;</code>
+   */
+  org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder();
+
+  org.testchimp.model.HttpPayload.BodyCase getBodyCase();
 }
@@ -0,0 +1,3614 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+/**
+ * <pre>
+ * v2 counterpart of HttpPayload, with the header / query param maps replaced by dictionary encoded entries.
+ * </pre>
+ *
+ * Protobuf type {@code org.testchimp.model.HttpPayloadV2}
+ */
+public final class HttpPayloadV2 extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.testchimp.model.HttpPayloadV2)
+    HttpPayloadV2OrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use HttpPayloadV2.newBuilder() to construct.
+  private HttpPayloadV2(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private HttpPayloadV2() {
+    headers_ = java.util.Collections.emptyList();
+    queryParams_ = java.util.Collections.emptyList();
+    httpMethod_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new HttpPayloadV2();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayloadV2_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayloadV2_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.testchimp.model.HttpPayloadV2.class, org.testchimp.model.HttpPayloadV2.Builder.class);
+  }
+
+  private int bitField0_;
+  private int bodyCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object body_;
+  public enum BodyCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    JSON_BODY(7),
+    @java.lang.Deprecated HTTP_GET_BODY(8),
+    TEXT_BODY(9),
+    HTML_BODY(10),
+    XML_BODY(11),
+    HTTP_FORM_DATA_BODY(12),
+    HTTP_FORM_URLENCODED_BODY(13),
+    BINARY_DATA_BODY(14),
+    ENCODED_BODY(15),
+    SHAPE_BODY(16),
+    BODY_NOT_SET(0);
+    private final int value;
+    private BodyCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static BodyCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static BodyCase forNumber(int value) {
+      switch (value) {
+        case 7: return JSON_BODY;
+        case 8: return HTTP_GET_BODY;
+        case 9: return TEXT_BODY;
+        case 10: return HTML_BODY;
+        case 11: return XML_BODY;
+        case 12: return HTTP_FORM_DATA_BODY;
+        case 13: return HTTP_FORM_URLENCODED_BODY;
+        case 14: return BINARY_DATA_BODY;
+        case 15: return ENCODED_BODY;
+        case 16: return SHAPE_BODY;
+        case 0: return BODY_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public BodyCase
+  getBodyCase() {
+    return BodyCase.forNumber(
+        bodyCase_);
+  }
+
+  public static final int HEADERS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<org.testchimp.model.DictionaryEntry> headers_;
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.testchimp.model.DictionaryEntry> getHeadersList() {
+    return headers_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+      getHeadersOrBuilderList() {
+    return headers_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  @java.lang.Override
+  public int getHeadersCount() {
+    return headers_.size();
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.DictionaryEntry getHeaders(int index) {
+    return headers_.get(index);
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.DictionaryEntryOrBuilder getHeadersOrBuilder(
+      int index) {
+    return headers_.get(index);
+  }
+
+  public static final int QUERY_PARAMS_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private java.util.List<org.testchimp.model.DictionaryEntry> queryParams_;
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.testchimp.model.DictionaryEntry> getQueryParamsList() {
+    return queryParams_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+      getQueryParamsOrBuilderList() {
+    return queryParams_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  @java.lang.Override
+  public int getQueryParamsCount() {
+    return queryParams_.size();
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.DictionaryEntry getQueryParams(int index) {
+    return queryParams_.get(index);
+  }
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.DictionaryEntryOrBuilder getQueryParamsOrBuilder(
+      int index) {
+    return queryParams_.get(index);
+  }
+
+  public static final int HTTP_METHOD_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object httpMethod_ = "";
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return Whether the httpMethod field is set.
+   */
+  @java.lang.Override
+  public boolean hasHttpMethod() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return The httpMethod.
+   */
+  @java.lang.Override
+  public java.lang.String getHttpMethod() {
+    java.lang.Object ref = httpMethod_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      httpMethod_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return The bytes for httpMethod.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getHttpMethodBytes() {
+    java.lang.Object ref = httpMethod_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      httpMethod_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int RESPONSE_CODE_FIELD_NUMBER = 4;
+  private int responseCode_ = 0;
+  /**
+   * <code>optional int32 response_code = 4;</code>
+   * @return Whether the responseCode field is set.
+   */
+  @java.lang.Override
+  public boolean hasResponseCode() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <code>optional int32 response_code = 4;</code>
+   * @return The responseCode.
+   */
+  @java.lang.Override
+  public int getResponseCode() {
+    return responseCode_;
+  }
+
+  public static final int BODY_SIZE_FIELD_NUMBER = 5;
+  private long bodySize_ = 0L;
+  /**
+   * <pre>
+   * Size in bytes of the body as captured (before any redaction), if known.
+   * </pre>
+   *
+   * <code>optional uint64 body_size = 5;</code>
+   * @return Whether the bodySize field is set.
+   */
+  @java.lang.Override
+  public boolean hasBodySize() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <pre>
+   * Size in bytes of the body as captured (before any redaction), if known.
+   * </pre>
+   *
+   * <code>optional uint64 body_size = 5;</code>
+   * @return The bodySize.
+   */
+  @java.lang.Override
+  public long getBodySize() {
+    return bodySize_;
+  }
+
+  public static final int BODY_TRUNCATED_FIELD_NUMBER = 6;
+  private boolean bodyTruncated_ = false;
+  /**
+   * <pre>
+   * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+   * </pre>
+   *
+   * <code>optional bool body_truncated = 6;</code>
+   * @return Whether the bodyTruncated field is set.
+   */
+  @java.lang.Override
+  public boolean hasBodyTruncated() {
+    return ((bitField0_ & 0x00000008) != 0);
+  }
+  /**
+   * <pre>
+   * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+   * </pre>
+   *
+   * <code>optional bool body_truncated = 6;</code>
+   * @return The bodyTruncated.
+   */
+  @java.lang.Override
+  public boolean getBodyTruncated() {
+    return bodyTruncated_;
+  }
+
+  public static final int JSON_BODY_FIELD_NUMBER = 7;
+  /**
+   * <code>string json_body = 7;</code>
+   * @return Whether the jsonBody field is set.
+   */
+  public boolean hasJsonBody() {
+    return bodyCase_ == 7;
+  }
+  /**
+   * <code>string json_body = 7;</code>
+   * @return The jsonBody.
+   */
+  public java.lang.String getJsonBody() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 7) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bodyCase_ == 7) {
+        body_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string json_body = 7;</code>
+   * @return The bytes for jsonBody.
+   */
+  public com.google.protobuf.ByteString
+      getJsonBodyBytes() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 7) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (bodyCase_ == 7) {
+        body_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int HTTP_GET_BODY_FIELD_NUMBER = 8;
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+   *     See model.proto;l=114
+   * @return Whether the httpGetBody field is set.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated public boolean hasHttpGetBody() {
+    return bodyCase_ == 8;
+  }
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+   *     See model.proto;l=114
+   * @return The httpGetBody.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated public org.testchimp.model.HttpGetBody getHttpGetBody() {
+    if (bodyCase_ == 8) {
+       return (org.testchimp.model.HttpGetBody) body_;
+    }
+    return org.testchimp.model.HttpGetBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   */
+  @java.lang.Override
+  @java.lang.Deprecated public org.testchimp.model.HttpGetBodyOrBuilder getHttpGetBodyOrBuilder() {
+    if (bodyCase_ == 8) {
+       return (org.testchimp.model.HttpGetBody) body_;
+    }
+    return org.testchimp.model.HttpGetBody.getDefaultInstance();
+  }
+
+  public static final int TEXT_BODY_FIELD_NUMBER = 9;
+  /**
+   * <code>string text_body = 9;</code>
+   * @return Whether the textBody field is set.
+   */
+  public boolean hasTextBody() {
+    return bodyCase_ == 9;
+  }
+  /**
+   * <code>string text_body = 9;</code>
+   * @return The textBody.
+   */
+  public java.lang.String getTextBody() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 9) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bodyCase_ == 9) {
+        body_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string text_body = 9;</code>
+   * @return The bytes for textBody.
+   */
+  public com.google.protobuf.ByteString
+      getTextBodyBytes() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 9) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (bodyCase_ == 9) {
+        body_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int HTML_BODY_FIELD_NUMBER = 10;
+  /**
+   * <code>string html_body = 10;</code>
+   * @return Whether the htmlBody field is set.
+   */
+  public boolean hasHtmlBody() {
+    return bodyCase_ == 10;
+  }
+  /**
+   * <code>string html_body = 10;</code>
+   * @return The htmlBody.
+   */
+  public java.lang.String getHtmlBody() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 10) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bodyCase_ == 10) {
+        body_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string html_body = 10;</code>
+   * @return The bytes for htmlBody.
+   */
+  public com.google.protobuf.ByteString
+      getHtmlBodyBytes() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 10) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (bodyCase_ == 10) {
+        body_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int XML_BODY_FIELD_NUMBER = 11;
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return Whether the xmlBody field is set.
+   */
+  public boolean hasXmlBody() {
+    return bodyCase_ == 11;
+  }
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return The xmlBody.
+   */
+  public java.lang.String getXmlBody() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 11) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bodyCase_ == 11) {
+        body_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return The bytes for xmlBody.
+   */
+  public com.google.protobuf.ByteString
+      getXmlBodyBytes() {
+    java.lang.Object ref = "";
+    if (bodyCase_ == 11) {
+      ref = body_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (bodyCase_ == 11) {
+        body_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int HTTP_FORM_DATA_BODY_FIELD_NUMBER = 12;
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   * @return Whether the httpFormDataBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasHttpFormDataBody() {
+    return bodyCase_ == 12;
+  }
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   * @return The httpFormDataBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpFormDataBody getHttpFormDataBody() {
+    if (bodyCase_ == 12) {
+       return (org.testchimp.model.HttpFormDataBody) body_;
+    }
+    return org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpFormDataBodyOrBuilder getHttpFormDataBodyOrBuilder() {
+    if (bodyCase_ == 12) {
+       return (org.testchimp.model.HttpFormDataBody) body_;
+    }
+    return org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+  }
+
+  public static final int HTTP_FORM_URLENCODED_BODY_FIELD_NUMBER = 13;
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   * @return Whether the httpFormUrlencodedBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasHttpFormUrlencodedBody() {
+    return bodyCase_ == 13;
+  }
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   * @return The httpFormUrlencodedBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpFormUrlencodedBody getHttpFormUrlencodedBody() {
+    if (bodyCase_ == 13) {
+       return (org.testchimp.model.HttpFormUrlencodedBody) body_;
+    }
+    return org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpFormUrlencodedBodyOrBuilder getHttpFormUrlencodedBodyOrBuilder() {
+    if (bodyCase_ == 13) {
+       return (org.testchimp.model.HttpFormUrlencodedBody) body_;
+    }
+    return org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+  }
+
+  public static final int BINARY_DATA_BODY_FIELD_NUMBER = 14;
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   * @return Whether the binaryDataBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasBinaryDataBody() {
+    return bodyCase_ == 14;
+  }
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   * @return The binaryDataBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.BinaryDataBody getBinaryDataBody() {
+    if (bodyCase_ == 14) {
+       return (org.testchimp.model.BinaryDataBody) body_;
+    }
+    return org.testchimp.model.BinaryDataBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.BinaryDataBodyOrBuilder getBinaryDataBodyOrBuilder() {
+    if (bodyCase_ == 14) {
+       return (org.testchimp.model.BinaryDataBody) body_;
+    }
+    return org.testchimp.model.BinaryDataBody.getDefaultInstance();
+  }
+
+  public static final int ENCODED_BODY_FIELD_NUMBER = 15;
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   * @return Whether the encodedBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasEncodedBody() {
+    return bodyCase_ == 15;
+  }
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   * @return The encodedBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.EncodedBody getEncodedBody() {
+    if (bodyCase_ == 15) {
+       return (org.testchimp.model.EncodedBody) body_;
+    }
+    return org.testchimp.model.EncodedBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder() {
+    if (bodyCase_ == 15) {
+       return (org.testchimp.model.EncodedBody) body_;
+    }
+    return org.testchimp.model.EncodedBody.getDefaultInstance();
+  }
+
+  public static final int SHAPE_BODY_FIELD_NUMBER = 16;
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   * @return Whether the shapeBody field is set.
+   */
+  @java.lang.Override
+  public boolean hasShapeBody() {
+    return bodyCase_ == 16;
+  }
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   * @return The shapeBody.
+   */
+  @java.lang.Override
+  public org.testchimp.model.ShapeBody getShapeBody() {
+    if (bodyCase_ == 16) {
+       return (org.testchimp.model.ShapeBody) body_;
+    }
+    return org.testchimp.model.ShapeBody.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder() {
+    if (bodyCase_ == 16) {
+       return (org.testchimp.model.ShapeBody) body_;
+    }
+    return org.testchimp.model.ShapeBody.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < headers_.size(); i++) {
+      output.writeMessage(1, headers_.get(i));
+    }
+    for (int i = 0; i < queryParams_.size(); i++) {
+      output.writeMessage(2, queryParams_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, httpMethod_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeInt32(4, responseCode_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      output.writeUInt64(5, bodySize_);
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      output.writeBool(6, bodyTruncated_);
+    }
+    if (bodyCase_ == 7) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 7, body_);
+    }
+    if (bodyCase_ == 8) {
+      output.writeMessage(8, (org.testchimp.model.HttpGetBody) body_);
+    }
+    if (bodyCase_ == 9) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 9, body_);
+    }
+    if (bodyCase_ == 10) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 10, body_);
+    }
+    if (bodyCase_ == 11) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 11, body_);
+    }
+    if (bodyCase_ == 12) {
+      output.writeMessage(12, (org.testchimp.model.HttpFormDataBody) body_);
+    }
+    if (bodyCase_ == 13) {
+      output.writeMessage(13, (org.testchimp.model.HttpFormUrlencodedBody) body_);
+    }
+    if (bodyCase_ == 14) {
+      output.writeMessage(14, (org.testchimp.model.BinaryDataBody) body_);
+    }
+    if (bodyCase_ == 15) {
+      output.writeMessage(15, (org.testchimp.model.EncodedBody) body_);
+    }
+    if (bodyCase_ == 16) {
+      output.writeMessage(16, (org.testchimp.model.ShapeBody) body_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < headers_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, headers_.get(i));
+    }
+    for (int i = 0; i < queryParams_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, queryParams_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, httpMethod_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(4, responseCode_);
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, bodySize_);
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, bodyTruncated_);
+    }
+    if (bodyCase_ == 7) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, body_);
+    }
+    if (bodyCase_ == 8) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, (org.testchimp.model.HttpGetBody) body_);
+    }
+    if (bodyCase_ == 9) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, body_);
+    }
+    if (bodyCase_ == 10) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, body_);
+    }
+    if (bodyCase_ == 11) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(11, body_);
+    }
+    if (bodyCase_ == 12) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(12, (org.testchimp.model.HttpFormDataBody) body_);
+    }
+    if (bodyCase_ == 13) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(13, (org.testchimp.model.HttpFormUrlencodedBody) body_);
+    }
+    if (bodyCase_ == 14) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, (org.testchimp.model.BinaryDataBody) body_);
+    }
+    if (bodyCase_ == 15) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(15, (org.testchimp.model.EncodedBody) body_);
+    }
+    if (bodyCase_ == 16) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(16, (org.testchimp.model.ShapeBody) body_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.testchimp.model.HttpPayloadV2)) {
+      return super.equals(obj);
+    }
+    org.testchimp.model.HttpPayloadV2 other = (org.testchimp.model.HttpPayloadV2) obj;
+
+    if (!getHeadersList()
+        .equals(other.getHeadersList())) return false;
+    if (!getQueryParamsList()
+        .equals(other.getQueryParamsList())) return false;
+    if (hasHttpMethod() != other.hasHttpMethod()) return false;
+    if (hasHttpMethod()) {
+      if (!getHttpMethod()
+          .equals(other.getHttpMethod())) return false;
+    }
+    if (hasResponseCode() != other.hasResponseCode()) return false;
+    if (hasResponseCode()) {
+      if (getResponseCode()
+          != other.getResponseCode()) return false;
+    }
+    if (hasBodySize() != other.hasBodySize()) return false;
+    if (hasBodySize()) {
+      if (getBodySize()
+          != other.getBodySize()) return false;
+    }
+    if (hasBodyTruncated() != other.hasBodyTruncated()) return false;
+    if (hasBodyTruncated()) {
+      if (getBodyTruncated()
+          != other.getBodyTruncated()) return false;
+    }
+    if (!getBodyCase().equals(other.getBodyCase())) return false;
+    switch (bodyCase_) {
+      case 7:
+        if (!getJsonBody()
+            .equals(other.getJsonBody())) return false;
+        break;
+      case 8:
+        if (!getHttpGetBody()
+            .equals(other.getHttpGetBody())) return false;
+        break;
+      case 9:
+        if (!getTextBody()
+            .equals(other.getTextBody())) return false;
+        break;
+      case 10:
+        if (!getHtmlBody()
+            .equals(other.getHtmlBody())) return false;
+        break;
+      case 11:
+        if (!getXmlBody()
+            .equals(other.getXmlBody())) return false;
+        break;
+      case 12:
+        if (!getHttpFormDataBody()
+            .equals(other.getHttpFormDataBody())) return false;
+        break;
+      case 13:
+        if (!getHttpFormUrlencodedBody()
+            .equals(other.getHttpFormUrlencodedBody())) return false;
+        break;
+      case 14:
+        if (!getBinaryDataBody()
+            .equals(other.getBinaryDataBody())) return false;
+        break;
+      case 15:
+        if (!getEncodedBody()
+            .equals(other.getEncodedBody())) return false;
+        break;
+      case 16:
+        if (!getShapeBody()
+            .equals(other.getShapeBody())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getHeadersCount() > 0) {
+      hash = (37 * hash) + HEADERS_FIELD_NUMBER;
+      hash = (53 * hash) + getHeadersList().hashCode();
+    }
+    if (getQueryParamsCount() > 0) {
+      hash = (37 * hash) + QUERY_PARAMS_FIELD_NUMBER;
+      hash = (53 * hash) + getQueryParamsList().hashCode();
+    }
+    if (hasHttpMethod()) {
+      hash = (37 * hash) + HTTP_METHOD_FIELD_NUMBER;
+      hash = (53 * hash) + getHttpMethod().hashCode();
+    }
+    if (hasResponseCode()) {
+      hash = (37 * hash) + RESPONSE_CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getResponseCode();
+    }
+    if (hasBodySize()) {
+      hash = (37 * hash) + BODY_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBodySize());
+    }
+    if (hasBodyTruncated()) {
+      hash = (37 * hash) + BODY_TRUNCATED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBodyTruncated());
+    }
+    switch (bodyCase_) {
+      case 7:
+        hash = (37 * hash) + JSON_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getJsonBody().hashCode();
+        break;
+      case 8:
+        hash = (37 * hash) + HTTP_GET_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getHttpGetBody().hashCode();
+        break;
+      case 9:
+        hash = (37 * hash) + TEXT_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getTextBody().hashCode();
+        break;
+      case 10:
+        hash = (37 * hash) + HTML_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getHtmlBody().hashCode();
+        break;
+      case 11:
+        hash = (37 * hash) + XML_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getXmlBody().hashCode();
+        break;
+      case 12:
+        hash = (37 * hash) + HTTP_FORM_DATA_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getHttpFormDataBody().hashCode();
+        break;
+      case 13:
+        hash = (37 * hash) + HTTP_FORM_URLENCODED_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getHttpFormUrlencodedBody().hashCode();
+        break;
+      case 14:
+        hash = (37 * hash) + BINARY_DATA_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getBinaryDataBody().hashCode();
+        break;
+      case 15:
+        hash = (37 * hash) + ENCODED_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getEncodedBody().hashCode();
+        break;
+      case 16:
+        hash = (37 * hash) + SHAPE_BODY_FIELD_NUMBER;
+        hash = (53 * hash) + getShapeBody().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static org.testchimp.model.HttpPayloadV2 parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static org.testchimp.model.HttpPayloadV2 parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.HttpPayloadV2 parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.testchimp.model.HttpPayloadV2 prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * v2 counterpart of HttpPayload, with the header / query param maps replaced by dictionary encoded entries.
+   * </pre>
+   *
+   * Protobuf type {@code org.testchimp.model.HttpPayloadV2}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.testchimp.model.HttpPayloadV2)
+      org.testchimp.model.HttpPayloadV2OrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayloadV2_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayloadV2_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.testchimp.model.HttpPayloadV2.class, org.testchimp.model.HttpPayloadV2.Builder.class);
+    }
+
+    // Construct using org.testchimp.model.HttpPayloadV2.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (headersBuilder_ == null) {
+        headers_ = java.util.Collections.emptyList();
+      } else {
+        headers_ = null;
+        headersBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      if (queryParamsBuilder_ == null) {
+        queryParams_ = java.util.Collections.emptyList();
+      } else {
+        queryParams_ = null;
+        queryParamsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000002);
+      httpMethod_ = "";
+      responseCode_ = 0;
+      bodySize_ = 0L;
+      bodyTruncated_ = false;
+      if (httpGetBodyBuilder_ != null) {
+        httpGetBodyBuilder_.clear();
+      }
+      if (httpFormDataBodyBuilder_ != null) {
+        httpFormDataBodyBuilder_.clear();
+      }
+      if (httpFormUrlencodedBodyBuilder_ != null) {
+        httpFormUrlencodedBodyBuilder_.clear();
+      }
+      if (binaryDataBodyBuilder_ != null) {
+        binaryDataBodyBuilder_.clear();
+      }
+      if (encodedBodyBuilder_ != null) {
+        encodedBodyBuilder_.clear();
+      }
+      if (shapeBodyBuilder_ != null) {
+        shapeBodyBuilder_.clear();
+      }
+      bodyCase_ = 0;
+      body_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_HttpPayloadV2_descriptor;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.HttpPayloadV2 getDefaultInstanceForType() {
+      return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.HttpPayloadV2 build() {
+      org.testchimp.model.HttpPayloadV2 result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.HttpPayloadV2 buildPartial() {
+      org.testchimp.model.HttpPayloadV2 result = new org.testchimp.model.HttpPayloadV2(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(org.testchimp.model.HttpPayloadV2 result) {
+      if (headersBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          headers_ = java.util.Collections.unmodifiableList(headers_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.headers_ = headers_;
+      } else {
+        result.headers_ = headersBuilder_.build();
+      }
+      if (queryParamsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) != 0)) {
+          queryParams_ = java.util.Collections.unmodifiableList(queryParams_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.queryParams_ = queryParams_;
+      } else {
+        result.queryParams_ = queryParamsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(org.testchimp.model.HttpPayloadV2 result) {
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.httpMethod_ = httpMethod_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.responseCode_ = responseCode_;
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.bodySize_ = bodySize_;
+        to_bitField0_ |= 0x00000004;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.bodyTruncated_ = bodyTruncated_;
+        to_bitField0_ |= 0x00000008;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    private void buildPartialOneofs(org.testchimp.model.HttpPayloadV2 result) {
+      result.bodyCase_ = bodyCase_;
+      result.body_ = this.body_;
+      if (bodyCase_ == 8 &&
+          httpGetBodyBuilder_ != null) {
+        result.body_ = httpGetBodyBuilder_.build();
+      }
+      if (bodyCase_ == 12 &&
+          httpFormDataBodyBuilder_ != null) {
+        result.body_ = httpFormDataBodyBuilder_.build();
+      }
+      if (bodyCase_ == 13 &&
+          httpFormUrlencodedBodyBuilder_ != null) {
+        result.body_ = httpFormUrlencodedBodyBuilder_.build();
+      }
+      if (bodyCase_ == 14 &&
+          binaryDataBodyBuilder_ != null) {
+        result.body_ = binaryDataBodyBuilder_.build();
+      }
+      if (bodyCase_ == 15 &&
+          encodedBodyBuilder_ != null) {
+        result.body_ = encodedBodyBuilder_.build();
+      }
+      if (bodyCase_ == 16 &&
+          shapeBodyBuilder_ != null) {
+        result.body_ = shapeBodyBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.testchimp.model.HttpPayloadV2) {
+        return mergeFrom((org.testchimp.model.HttpPayloadV2)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.testchimp.model.HttpPayloadV2 other) {
+      if (other == org.testchimp.model.HttpPayloadV2.getDefaultInstance()) return this;
+      if (headersBuilder_ == null) {
+        if (!other.headers_.isEmpty()) {
+          if (headers_.isEmpty()) {
+            headers_ = other.headers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureHeadersIsMutable();
+            headers_.addAll(other.headers_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.headers_.isEmpty()) {
+          if (headersBuilder_.isEmpty()) {
+            headersBuilder_.dispose();
+            headersBuilder_ = null;
+            headers_ = other.headers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            headersBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getHeadersFieldBuilder() : null;
+          } else {
+            headersBuilder_.addAllMessages(other.headers_);
+          }
+        }
+      }
+      if (queryParamsBuilder_ == null) {
+        if (!other.queryParams_.isEmpty()) {
+          if (queryParams_.isEmpty()) {
+            queryParams_ = other.queryParams_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureQueryParamsIsMutable();
+            queryParams_.addAll(other.queryParams_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.queryParams_.isEmpty()) {
+          if (queryParamsBuilder_.isEmpty()) {
+            queryParamsBuilder_.dispose();
+            queryParamsBuilder_ = null;
+            queryParams_ = other.queryParams_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            queryParamsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getQueryParamsFieldBuilder() : null;
+          } else {
+            queryParamsBuilder_.addAllMessages(other.queryParams_);
+          }
+        }
+      }
+      if (other.hasHttpMethod()) {
+        httpMethod_ = other.httpMethod_;
+        bitField0_ |= 0x00000004;
+        onChanged();
+      }
+      if (other.hasResponseCode()) {
+        setResponseCode(other.getResponseCode());
+      }
+      if (other.hasBodySize()) {
+        setBodySize(other.getBodySize());
+      }
+      if (other.hasBodyTruncated()) {
+        setBodyTruncated(other.getBodyTruncated());
+      }
+      switch (other.getBodyCase()) {
+        case JSON_BODY: {
+          bodyCase_ = 7;
+          body_ = other.body_;
+          onChanged();
+          break;
+        }
+        case HTTP_GET_BODY: {
+          mergeHttpGetBody(other.getHttpGetBody());
+          break;
+        }
+        case TEXT_BODY: {
+          bodyCase_ = 9;
+          body_ = other.body_;
+          onChanged();
+          break;
+        }
+        case HTML_BODY: {
+          bodyCase_ = 10;
+          body_ = other.body_;
+          onChanged();
+          break;
+        }
+        case XML_BODY: {
+          bodyCase_ = 11;
+          body_ = other.body_;
+          onChanged();
+          break;
+        }
+        case HTTP_FORM_DATA_BODY: {
+          mergeHttpFormDataBody(other.getHttpFormDataBody());
+          break;
+        }
+        case HTTP_FORM_URLENCODED_BODY: {
+          mergeHttpFormUrlencodedBody(other.getHttpFormUrlencodedBody());
+          break;
+        }
+        case BINARY_DATA_BODY: {
+          mergeBinaryDataBody(other.getBinaryDataBody());
+          break;
+        }
+        case ENCODED_BODY: {
+          mergeEncodedBody(other.getEncodedBody());
+          break;
+        }
+        case SHAPE_BODY: {
+          mergeShapeBody(other.getShapeBody());
+          break;
+        }
+        case BODY_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              org.testchimp.model.DictionaryEntry m =
+                  input.readMessage(
+                      org.testchimp.model.DictionaryEntry.parser(),
+                      extensionRegistry);
+              if (headersBuilder_ == null) {
+                ensureHeadersIsMutable();
+                headers_.add(m);
+              } else {
+                headersBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            case 18: {
+              org.testchimp.model.DictionaryEntry m =
+                  input.readMessage(
+                      org.testchimp.model.DictionaryEntry.parser(),
+                      extensionRegistry);
+              if (queryParamsBuilder_ == null) {
+                ensureQueryParamsIsMutable();
+                queryParams_.add(m);
+              } else {
+                queryParamsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 18
+            case 26: {
+              httpMethod_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 26
+            case 32: {
+              responseCode_ = input.readInt32();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              bodySize_ = input.readUInt64();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              bodyTruncated_ = input.readBool();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 58: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bodyCase_ = 7;
+              body_ = s;
+              break;
+            } // case 58
+            case 66: {
+              input.readMessage(
+                  getHttpGetBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 8;
+              break;
+            } // case 66
+            case 74: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bodyCase_ = 9;
+              body_ = s;
+              break;
+            } // case 74
+            case 82: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bodyCase_ = 10;
+              body_ = s;
+              break;
+            } // case 82
+            case 90: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bodyCase_ = 11;
+              body_ = s;
+              break;
+            } // case 90
+            case 98: {
+              input.readMessage(
+                  getHttpFormDataBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 12;
+              break;
+            } // case 98
+            case 106: {
+              input.readMessage(
+                  getHttpFormUrlencodedBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 13;
+              break;
+            } // case 106
+            case 114: {
+              input.readMessage(
+                  getBinaryDataBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 14;
+              break;
+            } // case 114
+            case 122: {
+              input.readMessage(
+                  getEncodedBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 15;
+              break;
+            } // case 122
+            case 130: {
+              input.readMessage(
+                  getShapeBodyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bodyCase_ = 16;
+              break;
+            } // case 130
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bodyCase_ = 0;
+    private java.lang.Object body_;
+    public BodyCase
+        getBodyCase() {
+      return BodyCase.forNumber(
+          bodyCase_);
+    }
+
+    public Builder clearBody() {
+      bodyCase_ = 0;
+      body_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private java.util.List<org.testchimp.model.DictionaryEntry> headers_ =
+      java.util.Collections.emptyList();
+    private void ensureHeadersIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        headers_ = new java.util.ArrayList<org.testchimp.model.DictionaryEntry>(headers_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder> headersBuilder_;
+
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public java.util.List<org.testchimp.model.DictionaryEntry> getHeadersList() {
+      if (headersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(headers_);
+      } else {
+        return headersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public int getHeadersCount() {
+      if (headersBuilder_ == null) {
+        return headers_.size();
+      } else {
+        return headersBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public org.testchimp.model.DictionaryEntry getHeaders(int index) {
+      if (headersBuilder_ == null) {
+        return headers_.get(index);
+      } else {
+        return headersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder setHeaders(
+        int index, org.testchimp.model.DictionaryEntry value) {
+      if (headersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureHeadersIsMutable();
+        headers_.set(index, value);
+        onChanged();
+      } else {
+        headersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder setHeaders(
+        int index, org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (headersBuilder_ == null) {
+        ensureHeadersIsMutable();
+        headers_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        headersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder addHeaders(org.testchimp.model.DictionaryEntry value) {
+      if (headersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureHeadersIsMutable();
+        headers_.add(value);
+        onChanged();
+      } else {
+        headersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder addHeaders(
+        int index, org.testchimp.model.DictionaryEntry value) {
+      if (headersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureHeadersIsMutable();
+        headers_.add(index, value);
+        onChanged();
+      } else {
+        headersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder addHeaders(
+        org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (headersBuilder_ == null) {
+        ensureHeadersIsMutable();
+        headers_.add(builderForValue.build());
+        onChanged();
+      } else {
+        headersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder addHeaders(
+        int index, org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (headersBuilder_ == null) {
+        ensureHeadersIsMutable();
+        headers_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        headersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder addAllHeaders(
+        java.lang.Iterable<? extends org.testchimp.model.DictionaryEntry> values) {
+      if (headersBuilder_ == null) {
+        ensureHeadersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, headers_);
+        onChanged();
+      } else {
+        headersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder clearHeaders() {
+      if (headersBuilder_ == null) {
+        headers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        headersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public Builder removeHeaders(int index) {
+      if (headersBuilder_ == null) {
+        ensureHeadersIsMutable();
+        headers_.remove(index);
+        onChanged();
+      } else {
+        headersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder getHeadersBuilder(
+        int index) {
+      return getHeadersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public org.testchimp.model.DictionaryEntryOrBuilder getHeadersOrBuilder(
+        int index) {
+      if (headersBuilder_ == null) {
+        return headers_.get(index);  } else {
+        return headersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+         getHeadersOrBuilderList() {
+      if (headersBuilder_ != null) {
+        return headersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(headers_);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder addHeadersBuilder() {
+      return getHeadersFieldBuilder().addBuilder(
+          org.testchimp.model.DictionaryEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder addHeadersBuilder(
+        int index) {
+      return getHeadersFieldBuilder().addBuilder(
+          index, org.testchimp.model.DictionaryEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+     */
+    public java.util.List<org.testchimp.model.DictionaryEntry.Builder> 
+         getHeadersBuilderList() {
+      return getHeadersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder> 
+        getHeadersFieldBuilder() {
+      if (headersBuilder_ == null) {
+        headersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder>(
+                headers_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        headers_ = null;
+      }
+      return headersBuilder_;
+    }
+
+    private java.util.List<org.testchimp.model.DictionaryEntry> queryParams_ =
+      java.util.Collections.emptyList();
+    private void ensureQueryParamsIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        queryParams_ = new java.util.ArrayList<org.testchimp.model.DictionaryEntry>(queryParams_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder> queryParamsBuilder_;
+
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public java.util.List<org.testchimp.model.DictionaryEntry> getQueryParamsList() {
+      if (queryParamsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(queryParams_);
+      } else {
+        return queryParamsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public int getQueryParamsCount() {
+      if (queryParamsBuilder_ == null) {
+        return queryParams_.size();
+      } else {
+        return queryParamsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public org.testchimp.model.DictionaryEntry getQueryParams(int index) {
+      if (queryParamsBuilder_ == null) {
+        return queryParams_.get(index);
+      } else {
+        return queryParamsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder setQueryParams(
+        int index, org.testchimp.model.DictionaryEntry value) {
+      if (queryParamsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureQueryParamsIsMutable();
+        queryParams_.set(index, value);
+        onChanged();
+      } else {
+        queryParamsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder setQueryParams(
+        int index, org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (queryParamsBuilder_ == null) {
+        ensureQueryParamsIsMutable();
+        queryParams_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        queryParamsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder addQueryParams(org.testchimp.model.DictionaryEntry value) {
+      if (queryParamsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureQueryParamsIsMutable();
+        queryParams_.add(value);
+        onChanged();
+      } else {
+        queryParamsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder addQueryParams(
+        int index, org.testchimp.model.DictionaryEntry value) {
+      if (queryParamsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureQueryParamsIsMutable();
+        queryParams_.add(index, value);
+        onChanged();
+      } else {
+        queryParamsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder addQueryParams(
+        org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (queryParamsBuilder_ == null) {
+        ensureQueryParamsIsMutable();
+        queryParams_.add(builderForValue.build());
+        onChanged();
+      } else {
+        queryParamsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder addQueryParams(
+        int index, org.testchimp.model.DictionaryEntry.Builder builderForValue) {
+      if (queryParamsBuilder_ == null) {
+        ensureQueryParamsIsMutable();
+        queryParams_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        queryParamsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder addAllQueryParams(
+        java.lang.Iterable<? extends org.testchimp.model.DictionaryEntry> values) {
+      if (queryParamsBuilder_ == null) {
+        ensureQueryParamsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, queryParams_);
+        onChanged();
+      } else {
+        queryParamsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder clearQueryParams() {
+      if (queryParamsBuilder_ == null) {
+        queryParams_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        queryParamsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public Builder removeQueryParams(int index) {
+      if (queryParamsBuilder_ == null) {
+        ensureQueryParamsIsMutable();
+        queryParams_.remove(index);
+        onChanged();
+      } else {
+        queryParamsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder getQueryParamsBuilder(
+        int index) {
+      return getQueryParamsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public org.testchimp.model.DictionaryEntryOrBuilder getQueryParamsOrBuilder(
+        int index) {
+      if (queryParamsBuilder_ == null) {
+        return queryParams_.get(index);  } else {
+        return queryParamsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+         getQueryParamsOrBuilderList() {
+      if (queryParamsBuilder_ != null) {
+        return queryParamsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(queryParams_);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder addQueryParamsBuilder() {
+      return getQueryParamsFieldBuilder().addBuilder(
+          org.testchimp.model.DictionaryEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public org.testchimp.model.DictionaryEntry.Builder addQueryParamsBuilder(
+        int index) {
+      return getQueryParamsFieldBuilder().addBuilder(
+          index, org.testchimp.model.DictionaryEntry.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+     */
+    public java.util.List<org.testchimp.model.DictionaryEntry.Builder> 
+         getQueryParamsBuilderList() {
+      return getQueryParamsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder> 
+        getQueryParamsFieldBuilder() {
+      if (queryParamsBuilder_ == null) {
+        queryParamsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.testchimp.model.DictionaryEntry, org.testchimp.model.DictionaryEntry.Builder, org.testchimp.model.DictionaryEntryOrBuilder>(
+                queryParams_,
+                ((bitField0_ & 0x00000002) != 0),
+                getParentForChildren(),
+                isClean());
+        queryParams_ = null;
+      }
+      return queryParamsBuilder_;
+    }
+
+    private java.lang.Object httpMethod_ = "";
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @return Whether the httpMethod field is set.
+     */
+    public boolean hasHttpMethod() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @return The httpMethod.
+     */
+    public java.lang.String getHttpMethod() {
+      java.lang.Object ref = httpMethod_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        httpMethod_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @return The bytes for httpMethod.
+     */
+    public com.google.protobuf.ByteString
+        getHttpMethodBytes() {
+      java.lang.Object ref = httpMethod_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        httpMethod_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @param value The httpMethod to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHttpMethod(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      httpMethod_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHttpMethod() {
+      httpMethod_ = getDefaultInstance().getHttpMethod();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string http_method = 3;</code>
+     * @param value The bytes for httpMethod to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHttpMethodBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      httpMethod_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+
+    private int responseCode_ ;
+    /**
+     * <code>optional int32 response_code = 4;</code>
+     * @return Whether the responseCode field is set.
+     */
+    @java.lang.Override
+    public boolean hasResponseCode() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 response_code = 4;</code>
+     * @return The responseCode.
+     */
+    @java.lang.Override
+    public int getResponseCode() {
+      return responseCode_;
+    }
+    /**
+     * <code>optional int32 response_code = 4;</code>
+     * @param value The responseCode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseCode(int value) {
+
+      responseCode_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional int32 response_code = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseCode() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      responseCode_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long bodySize_ ;
+    /**
+     * <pre>
+     * Size in bytes of the body as captured (before any redaction), if known.
+     * </pre>
+     *
+     * <code>optional uint64 body_size = 5;</code>
+     * @return Whether the bodySize field is set.
+     */
+    @java.lang.Override
+    public boolean hasBodySize() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * Size in bytes of the body as captured (before any redaction), if known.
+     * </pre>
+     *
+     * <code>optional uint64 body_size = 5;</code>
+     * @return The bodySize.
+     */
+    @java.lang.Override
+    public long getBodySize() {
+      return bodySize_;
+    }
+    /**
+     * <pre>
+     * Size in bytes of the body as captured (before any redaction), if known.
+     * </pre>
+     *
+     * <code>optional uint64 body_size = 5;</code>
+     * @param value The bodySize to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBodySize(long value) {
+
+      bodySize_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Size in bytes of the body as captured (before any redaction), if known.
+     * </pre>
+     *
+     * <code>optional uint64 body_size = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBodySize() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      bodySize_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private boolean bodyTruncated_ ;
+    /**
+     * <pre>
+     * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+     * </pre>
+     *
+     * <code>optional bool body_truncated = 6;</code>
+     * @return Whether the bodyTruncated field is set.
+     */
+    @java.lang.Override
+    public boolean hasBodyTruncated() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <pre>
+     * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+     * </pre>
+     *
+     * <code>optional bool body_truncated = 6;</code>
+     * @return The bodyTruncated.
+     */
+    @java.lang.Override
+    public boolean getBodyTruncated() {
+      return bodyTruncated_;
+    }
+    /**
+     * <pre>
+     * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+     * </pre>
+     *
+     * <code>optional bool body_truncated = 6;</code>
+     * @param value The bodyTruncated to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBodyTruncated(boolean value) {
+
+      bodyTruncated_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+     * </pre>
+     *
+     * <code>optional bool body_truncated = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBodyTruncated() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      bodyTruncated_ = false;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>string json_body = 7;</code>
+     * @return Whether the jsonBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasJsonBody() {
+      return bodyCase_ == 7;
+    }
+    /**
+     * <code>string json_body = 7;</code>
+     * @return The jsonBody.
+     */
+    @java.lang.Override
+    public java.lang.String getJsonBody() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 7) {
+        ref = body_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bodyCase_ == 7) {
+          body_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string json_body = 7;</code>
+     * @return The bytes for jsonBody.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getJsonBodyBytes() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 7) {
+        ref = body_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (bodyCase_ == 7) {
+          body_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string json_body = 7;</code>
+     * @param value The jsonBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setJsonBody(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 7;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string json_body = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearJsonBody() {
+      if (bodyCase_ == 7) {
+        bodyCase_ = 0;
+        body_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string json_body = 7;</code>
+     * @param value The bytes for jsonBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setJsonBodyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      bodyCase_ = 7;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpGetBody, org.testchimp.model.HttpGetBody.Builder, org.testchimp.model.HttpGetBodyOrBuilder> httpGetBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+     *     See model.proto;l=114
+     * @return Whether the httpGetBody field is set.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated public boolean hasHttpGetBody() {
+      return bodyCase_ == 8;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+     *     See model.proto;l=114
+     * @return The httpGetBody.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated public org.testchimp.model.HttpGetBody getHttpGetBody() {
+      if (httpGetBodyBuilder_ == null) {
+        if (bodyCase_ == 8) {
+          return (org.testchimp.model.HttpGetBody) body_;
+        }
+        return org.testchimp.model.HttpGetBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 8) {
+          return httpGetBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.HttpGetBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public Builder setHttpGetBody(org.testchimp.model.HttpGetBody value) {
+      if (httpGetBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        httpGetBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 8;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public Builder setHttpGetBody(
+        org.testchimp.model.HttpGetBody.Builder builderForValue) {
+      if (httpGetBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        httpGetBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 8;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public Builder mergeHttpGetBody(org.testchimp.model.HttpGetBody value) {
+      if (httpGetBodyBuilder_ == null) {
+        if (bodyCase_ == 8 &&
+            body_ != org.testchimp.model.HttpGetBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.HttpGetBody.newBuilder((org.testchimp.model.HttpGetBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 8) {
+          httpGetBodyBuilder_.mergeFrom(value);
+        } else {
+          httpGetBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 8;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public Builder clearHttpGetBody() {
+      if (httpGetBodyBuilder_ == null) {
+        if (bodyCase_ == 8) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 8) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        httpGetBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Deprecated public org.testchimp.model.HttpGetBody.Builder getHttpGetBodyBuilder() {
+      return getHttpGetBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    @java.lang.Override
+    @java.lang.Deprecated public org.testchimp.model.HttpGetBodyOrBuilder getHttpGetBodyOrBuilder() {
+      if ((bodyCase_ == 8) && (httpGetBodyBuilder_ != null)) {
+        return httpGetBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 8) {
+          return (org.testchimp.model.HttpGetBody) body_;
+        }
+        return org.testchimp.model.HttpGetBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpGetBody, org.testchimp.model.HttpGetBody.Builder, org.testchimp.model.HttpGetBodyOrBuilder> 
+        getHttpGetBodyFieldBuilder() {
+      if (httpGetBodyBuilder_ == null) {
+        if (!(bodyCase_ == 8)) {
+          body_ = org.testchimp.model.HttpGetBody.getDefaultInstance();
+        }
+        httpGetBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.HttpGetBody, org.testchimp.model.HttpGetBody.Builder, org.testchimp.model.HttpGetBodyOrBuilder>(
+                (org.testchimp.model.HttpGetBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 8;
+      onChanged();
+      return httpGetBodyBuilder_;
+    }
+
+    /**
+     * <code>string text_body = 9;</code>
+     * @return Whether the textBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasTextBody() {
+      return bodyCase_ == 9;
+    }
+    /**
+     * <code>string text_body = 9;</code>
+     * @return The textBody.
+     */
+    @java.lang.Override
+    public java.lang.String getTextBody() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 9) {
+        ref = body_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bodyCase_ == 9) {
+          body_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string text_body = 9;</code>
+     * @return The bytes for textBody.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTextBodyBytes() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 9) {
+        ref = body_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (bodyCase_ == 9) {
+          body_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string text_body = 9;</code>
+     * @param value The textBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTextBody(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 9;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string text_body = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTextBody() {
+      if (bodyCase_ == 9) {
+        bodyCase_ = 0;
+        body_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string text_body = 9;</code>
+     * @param value The bytes for textBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTextBodyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      bodyCase_ = 9;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>string html_body = 10;</code>
+     * @return Whether the htmlBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasHtmlBody() {
+      return bodyCase_ == 10;
+    }
+    /**
+     * <code>string html_body = 10;</code>
+     * @return The htmlBody.
+     */
+    @java.lang.Override
+    public java.lang.String getHtmlBody() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 10) {
+        ref = body_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bodyCase_ == 10) {
+          body_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string html_body = 10;</code>
+     * @return The bytes for htmlBody.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHtmlBodyBytes() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 10) {
+        ref = body_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (bodyCase_ == 10) {
+          body_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string html_body = 10;</code>
+     * @param value The htmlBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHtmlBody(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 10;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string html_body = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHtmlBody() {
+      if (bodyCase_ == 10) {
+        bodyCase_ = 0;
+        body_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string html_body = 10;</code>
+     * @param value The bytes for htmlBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHtmlBodyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      bodyCase_ = 10;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>string xml_body = 11;</code>
+     * @return Whether the xmlBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasXmlBody() {
+      return bodyCase_ == 11;
+    }
+    /**
+     * <code>string xml_body = 11;</code>
+     * @return The xmlBody.
+     */
+    @java.lang.Override
+    public java.lang.String getXmlBody() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 11) {
+        ref = body_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bodyCase_ == 11) {
+          body_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string xml_body = 11;</code>
+     * @return The bytes for xmlBody.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getXmlBodyBytes() {
+      java.lang.Object ref = "";
+      if (bodyCase_ == 11) {
+        ref = body_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (bodyCase_ == 11) {
+          body_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string xml_body = 11;</code>
+     * @param value The xmlBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setXmlBody(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      bodyCase_ = 11;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string xml_body = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearXmlBody() {
+      if (bodyCase_ == 11) {
+        bodyCase_ = 0;
+        body_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string xml_body = 11;</code>
+     * @param value The bytes for xmlBody to set.
+     * @return This builder for chaining.
+     */
+    public Builder setXmlBodyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      bodyCase_ = 11;
+      body_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpFormDataBody, org.testchimp.model.HttpFormDataBody.Builder, org.testchimp.model.HttpFormDataBodyOrBuilder> httpFormDataBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     * @return Whether the httpFormDataBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasHttpFormDataBody() {
+      return bodyCase_ == 12;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     * @return The httpFormDataBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpFormDataBody getHttpFormDataBody() {
+      if (httpFormDataBodyBuilder_ == null) {
+        if (bodyCase_ == 12) {
+          return (org.testchimp.model.HttpFormDataBody) body_;
+        }
+        return org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 12) {
+          return httpFormDataBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    public Builder setHttpFormDataBody(org.testchimp.model.HttpFormDataBody value) {
+      if (httpFormDataBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        httpFormDataBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    public Builder setHttpFormDataBody(
+        org.testchimp.model.HttpFormDataBody.Builder builderForValue) {
+      if (httpFormDataBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        httpFormDataBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    public Builder mergeHttpFormDataBody(org.testchimp.model.HttpFormDataBody value) {
+      if (httpFormDataBodyBuilder_ == null) {
+        if (bodyCase_ == 12 &&
+            body_ != org.testchimp.model.HttpFormDataBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.HttpFormDataBody.newBuilder((org.testchimp.model.HttpFormDataBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 12) {
+          httpFormDataBodyBuilder_.mergeFrom(value);
+        } else {
+          httpFormDataBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    public Builder clearHttpFormDataBody() {
+      if (httpFormDataBodyBuilder_ == null) {
+        if (bodyCase_ == 12) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 12) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        httpFormDataBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    public org.testchimp.model.HttpFormDataBody.Builder getHttpFormDataBodyBuilder() {
+      return getHttpFormDataBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpFormDataBodyOrBuilder getHttpFormDataBodyOrBuilder() {
+      if ((bodyCase_ == 12) && (httpFormDataBodyBuilder_ != null)) {
+        return httpFormDataBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 12) {
+          return (org.testchimp.model.HttpFormDataBody) body_;
+        }
+        return org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpFormDataBody, org.testchimp.model.HttpFormDataBody.Builder, org.testchimp.model.HttpFormDataBodyOrBuilder> 
+        getHttpFormDataBodyFieldBuilder() {
+      if (httpFormDataBodyBuilder_ == null) {
+        if (!(bodyCase_ == 12)) {
+          body_ = org.testchimp.model.HttpFormDataBody.getDefaultInstance();
+        }
+        httpFormDataBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.HttpFormDataBody, org.testchimp.model.HttpFormDataBody.Builder, org.testchimp.model.HttpFormDataBodyOrBuilder>(
+                (org.testchimp.model.HttpFormDataBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 12;
+      onChanged();
+      return httpFormDataBodyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpFormUrlencodedBody, org.testchimp.model.HttpFormUrlencodedBody.Builder, org.testchimp.model.HttpFormUrlencodedBodyOrBuilder> httpFormUrlencodedBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     * @return Whether the httpFormUrlencodedBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasHttpFormUrlencodedBody() {
+      return bodyCase_ == 13;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     * @return The httpFormUrlencodedBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpFormUrlencodedBody getHttpFormUrlencodedBody() {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        if (bodyCase_ == 13) {
+          return (org.testchimp.model.HttpFormUrlencodedBody) body_;
+        }
+        return org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 13) {
+          return httpFormUrlencodedBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    public Builder setHttpFormUrlencodedBody(org.testchimp.model.HttpFormUrlencodedBody value) {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        httpFormUrlencodedBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    public Builder setHttpFormUrlencodedBody(
+        org.testchimp.model.HttpFormUrlencodedBody.Builder builderForValue) {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        httpFormUrlencodedBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    public Builder mergeHttpFormUrlencodedBody(org.testchimp.model.HttpFormUrlencodedBody value) {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        if (bodyCase_ == 13 &&
+            body_ != org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.HttpFormUrlencodedBody.newBuilder((org.testchimp.model.HttpFormUrlencodedBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 13) {
+          httpFormUrlencodedBodyBuilder_.mergeFrom(value);
+        } else {
+          httpFormUrlencodedBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    public Builder clearHttpFormUrlencodedBody() {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        if (bodyCase_ == 13) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 13) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        httpFormUrlencodedBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    public org.testchimp.model.HttpFormUrlencodedBody.Builder getHttpFormUrlencodedBodyBuilder() {
+      return getHttpFormUrlencodedBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpFormUrlencodedBodyOrBuilder getHttpFormUrlencodedBodyOrBuilder() {
+      if ((bodyCase_ == 13) && (httpFormUrlencodedBodyBuilder_ != null)) {
+        return httpFormUrlencodedBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 13) {
+          return (org.testchimp.model.HttpFormUrlencodedBody) body_;
+        }
+        return org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpFormUrlencodedBody, org.testchimp.model.HttpFormUrlencodedBody.Builder, org.testchimp.model.HttpFormUrlencodedBodyOrBuilder> 
+        getHttpFormUrlencodedBodyFieldBuilder() {
+      if (httpFormUrlencodedBodyBuilder_ == null) {
+        if (!(bodyCase_ == 13)) {
+          body_ = org.testchimp.model.HttpFormUrlencodedBody.getDefaultInstance();
+        }
+        httpFormUrlencodedBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.HttpFormUrlencodedBody, org.testchimp.model.HttpFormUrlencodedBody.Builder, org.testchimp.model.HttpFormUrlencodedBodyOrBuilder>(
+                (org.testchimp.model.HttpFormUrlencodedBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 13;
+      onChanged();
+      return httpFormUrlencodedBodyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.BinaryDataBody, org.testchimp.model.BinaryDataBody.Builder, org.testchimp.model.BinaryDataBodyOrBuilder> binaryDataBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     * @return Whether the binaryDataBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasBinaryDataBody() {
+      return bodyCase_ == 14;
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     * @return The binaryDataBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.BinaryDataBody getBinaryDataBody() {
+      if (binaryDataBodyBuilder_ == null) {
+        if (bodyCase_ == 14) {
+          return (org.testchimp.model.BinaryDataBody) body_;
+        }
+        return org.testchimp.model.BinaryDataBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 14) {
+          return binaryDataBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.BinaryDataBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    public Builder setBinaryDataBody(org.testchimp.model.BinaryDataBody value) {
+      if (binaryDataBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        binaryDataBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    public Builder setBinaryDataBody(
+        org.testchimp.model.BinaryDataBody.Builder builderForValue) {
+      if (binaryDataBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        binaryDataBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    public Builder mergeBinaryDataBody(org.testchimp.model.BinaryDataBody value) {
+      if (binaryDataBodyBuilder_ == null) {
+        if (bodyCase_ == 14 &&
+            body_ != org.testchimp.model.BinaryDataBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.BinaryDataBody.newBuilder((org.testchimp.model.BinaryDataBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 14) {
+          binaryDataBodyBuilder_.mergeFrom(value);
+        } else {
+          binaryDataBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    public Builder clearBinaryDataBody() {
+      if (binaryDataBodyBuilder_ == null) {
+        if (bodyCase_ == 14) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 14) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        binaryDataBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    public org.testchimp.model.BinaryDataBody.Builder getBinaryDataBodyBuilder() {
+      return getBinaryDataBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.BinaryDataBodyOrBuilder getBinaryDataBodyOrBuilder() {
+      if ((bodyCase_ == 14) && (binaryDataBodyBuilder_ != null)) {
+        return binaryDataBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 14) {
+          return (org.testchimp.model.BinaryDataBody) body_;
+        }
+        return org.testchimp.model.BinaryDataBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.BinaryDataBody, org.testchimp.model.BinaryDataBody.Builder, org.testchimp.model.BinaryDataBodyOrBuilder> 
+        getBinaryDataBodyFieldBuilder() {
+      if (binaryDataBodyBuilder_ == null) {
+        if (!(bodyCase_ == 14)) {
+          body_ = org.testchimp.model.BinaryDataBody.getDefaultInstance();
+        }
+        binaryDataBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.BinaryDataBody, org.testchimp.model.BinaryDataBody.Builder, org.testchimp.model.BinaryDataBodyOrBuilder>(
+                (org.testchimp.model.BinaryDataBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 14;
+      onChanged();
+      return binaryDataBodyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder> encodedBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     * @return Whether the encodedBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasEncodedBody() {
+      return bodyCase_ == 15;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     * @return The encodedBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.EncodedBody getEncodedBody() {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 15) {
+          return (org.testchimp.model.EncodedBody) body_;
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 15) {
+          return encodedBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    public Builder setEncodedBody(org.testchimp.model.EncodedBody value) {
+      if (encodedBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        encodedBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    public Builder setEncodedBody(
+        org.testchimp.model.EncodedBody.Builder builderForValue) {
+      if (encodedBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        encodedBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    public Builder mergeEncodedBody(org.testchimp.model.EncodedBody value) {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 15 &&
+            body_ != org.testchimp.model.EncodedBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.EncodedBody.newBuilder((org.testchimp.model.EncodedBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 15) {
+          encodedBodyBuilder_.mergeFrom(value);
+        } else {
+          encodedBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    public Builder clearEncodedBody() {
+      if (encodedBodyBuilder_ == null) {
+        if (bodyCase_ == 15) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 15) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        encodedBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    public org.testchimp.model.EncodedBody.Builder getEncodedBodyBuilder() {
+      return getEncodedBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder() {
+      if ((bodyCase_ == 15) && (encodedBodyBuilder_ != null)) {
+        return encodedBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 15) {
+          return (org.testchimp.model.EncodedBody) body_;
+        }
+        return org.testchimp.model.EncodedBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder> 
+        getEncodedBodyFieldBuilder() {
+      if (encodedBodyBuilder_ == null) {
+        if (!(bodyCase_ == 15)) {
+          body_ = org.testchimp.model.EncodedBody.getDefaultInstance();
+        }
+        encodedBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.EncodedBody, org.testchimp.model.EncodedBody.Builder, org.testchimp.model.EncodedBodyOrBuilder>(
+                (org.testchimp.model.EncodedBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 15;
+      onChanged();
+      return encodedBodyBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder> shapeBodyBuilder_;
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     * @return Whether the shapeBody field is set.
+     */
+    @java.lang.Override
+    public boolean hasShapeBody() {
+      return bodyCase_ == 16;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     * @return The shapeBody.
+     */
+    @java.lang.Override
+    public org.testchimp.model.ShapeBody getShapeBody() {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 16) {
+          return (org.testchimp.model.ShapeBody) body_;
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      } else {
+        if (bodyCase_ == 16) {
+          return shapeBodyBuilder_.getMessage();
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    public Builder setShapeBody(org.testchimp.model.ShapeBody value) {
+      if (shapeBodyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        body_ = value;
+        onChanged();
+      } else {
+        shapeBodyBuilder_.setMessage(value);
+      }
+      bodyCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    public Builder setShapeBody(
+        org.testchimp.model.ShapeBody.Builder builderForValue) {
+      if (shapeBodyBuilder_ == null) {
+        body_ = builderForValue.build();
+        onChanged();
+      } else {
+        shapeBodyBuilder_.setMessage(builderForValue.build());
+      }
+      bodyCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    public Builder mergeShapeBody(org.testchimp.model.ShapeBody value) {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 16 &&
+            body_ != org.testchimp.model.ShapeBody.getDefaultInstance()) {
+          body_ = org.testchimp.model.ShapeBody.newBuilder((org.testchimp.model.ShapeBody) body_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          body_ = value;
+        }
+        onChanged();
+      } else {
+        if (bodyCase_ == 16) {
+          shapeBodyBuilder_.mergeFrom(value);
+        } else {
+          shapeBodyBuilder_.setMessage(value);
+        }
+      }
+      bodyCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    public Builder clearShapeBody() {
+      if (shapeBodyBuilder_ == null) {
+        if (bodyCase_ == 16) {
+          bodyCase_ = 0;
+          body_ = null;
+          onChanged();
+        }
+      } else {
+        if (bodyCase_ == 16) {
+          bodyCase_ = 0;
+          body_ = null;
+        }
+        shapeBodyBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    public org.testchimp.model.ShapeBody.Builder getShapeBodyBuilder() {
+      return getShapeBodyFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder() {
+      if ((bodyCase_ == 16) && (shapeBodyBuilder_ != null)) {
+        return shapeBodyBuilder_.getMessageOrBuilder();
+      } else {
+        if (bodyCase_ == 16) {
+          return (org.testchimp.model.ShapeBody) body_;
+        }
+        return org.testchimp.model.ShapeBody.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder> 
+        getShapeBodyFieldBuilder() {
+      if (shapeBodyBuilder_ == null) {
+        if (!(bodyCase_ == 16)) {
+          body_ = org.testchimp.model.ShapeBody.getDefaultInstance();
+        }
+        shapeBodyBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.ShapeBody, org.testchimp.model.ShapeBody.Builder, org.testchimp.model.ShapeBodyOrBuilder>(
+                (org.testchimp.model.ShapeBody) body_,
+                getParentForChildren(),
+                isClean());
+        body_ = null;
+      }
+      bodyCase_ = 16;
+      onChanged();
+      return shapeBodyBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.testchimp.model.HttpPayloadV2)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.testchimp.model.HttpPayloadV2)
+  private static final org.testchimp.model.HttpPayloadV2 DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.testchimp.model.HttpPayloadV2();
+  }
+
+  public static org.testchimp.model.HttpPayloadV2 getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<HttpPayloadV2>
+      PARSER = new com.google.protobuf.AbstractParser<HttpPayloadV2>() {
+    @java.lang.Override
+    public HttpPayloadV2 parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<HttpPayloadV2> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<HttpPayloadV2> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.testchimp.model.HttpPayloadV2 getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
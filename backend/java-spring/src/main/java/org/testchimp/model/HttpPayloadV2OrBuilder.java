@@ -0,0 +1,287 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface HttpPayloadV2OrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.HttpPayloadV2)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  java.util.List<org.testchimp.model.DictionaryEntry> 
+      getHeadersList();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  org.testchimp.model.DictionaryEntry getHeaders(int index);
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  int getHeadersCount();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+      getHeadersOrBuilderList();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry headers = 1;</code>
+   */
+  org.testchimp.model.DictionaryEntryOrBuilder getHeadersOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  java.util.List<org.testchimp.model.DictionaryEntry> 
+      getQueryParamsList();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  org.testchimp.model.DictionaryEntry getQueryParams(int index);
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  int getQueryParamsCount();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  java.util.List<? extends org.testchimp.model.DictionaryEntryOrBuilder> 
+      getQueryParamsOrBuilderList();
+  /**
+   * <code>repeated .org.testchimp.model.DictionaryEntry query_params = 2;</code>
+   */
+  org.testchimp.model.DictionaryEntryOrBuilder getQueryParamsOrBuilder(
+      int index);
+
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return Whether the httpMethod field is set.
+   */
+  boolean hasHttpMethod();
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return The httpMethod.
+   */
+  java.lang.String getHttpMethod();
+  /**
+   * <code>optional string http_method = 3;</code>
+   * @return The bytes for httpMethod.
+   */
+  com.google.protobuf.ByteString
+      getHttpMethodBytes();
+
+  /**
+   * <code>optional int32 response_code = 4;</code>
+   * @return Whether the responseCode field is set.
+   */
+  boolean hasResponseCode();
+  /**
+   * <code>optional int32 response_code = 4;</code>
+   * @return The responseCode.
+   */
+  int getResponseCode();
+
+  /**
+   * <pre>
+   * Size in bytes of the body as captured (before any redaction), if known.
+   * </pre>
+   *
+   * <code>optional uint64 body_size = 5;</code>
+   * @return Whether the bodySize field is set.
+   */
+  boolean hasBodySize();
+  /**
+   * <pre>
+   * Size in bytes of the body as captured (before any redaction), if known.
+   * </pre>
+   *
+   * <code>optional uint64 body_size = 5;</code>
+   * @return The bodySize.
+   */
+  long getBodySize();
+
+  /**
+   * <pre>
+   * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+   * </pre>
+   *
+   * <code>optional bool body_truncated = 6;</code>
+   * @return Whether the bodyTruncated field is set.
+   */
+  boolean hasBodyTruncated();
+  /**
+   * <pre>
+   * True if the body is incomplete: it could not be decoded, or some of its values were truncated.
+   * </pre>
+   *
+   * <code>optional bool body_truncated = 6;</code>
+   * @return The bodyTruncated.
+   */
+  boolean getBodyTruncated();
+
+  /**
+   * <code>string json_body = 7;</code>
+   * @return Whether the jsonBody field is set.
+   */
+  boolean hasJsonBody();
+  /**
+   * <code>string json_body = 7;</code>
+   * @return The jsonBody.
+   */
+  java.lang.String getJsonBody();
+  /**
+   * <code>string json_body = 7;</code>
+   * @return The bytes for jsonBody.
+   */
+  com.google.protobuf.ByteString
+      getJsonBodyBytes();
+
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+   *     See model.proto;l=114
+   * @return Whether the httpGetBody field is set.
+   */
+  @java.lang.Deprecated boolean hasHttpGetBody();
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   * @deprecated org.testchimp.model.HttpPayloadV2.http_get_body is deprecated.
+   *     See model.proto;l=114
+   * @return The httpGetBody.
+   */
+  @java.lang.Deprecated org.testchimp.model.HttpGetBody getHttpGetBody();
+  /**
+   * <code>.org.testchimp.model.HttpGetBody http_get_body = 8 [deprecated = true];</code>
+   */
+  @java.lang.Deprecated org.testchimp.model.HttpGetBodyOrBuilder getHttpGetBodyOrBuilder();
+
+  /**
+   * <code>string text_body = 9;</code>
+   * @return Whether the textBody field is set.
+   */
+  boolean hasTextBody();
+  /**
+   * <code>string text_body = 9;</code>
+   * @return The textBody.
+   */
+  java.lang.String getTextBody();
+  /**
+   * <code>string text_body = 9;</code>
+   * @return The bytes for textBody.
+   */
+  com.google.protobuf.ByteString
+      getTextBodyBytes();
+
+  /**
+   * <code>string html_body = 10;</code>
+   * @return Whether the htmlBody field is set.
+   */
+  boolean hasHtmlBody();
+  /**
+   * <code>string html_body = 10;</code>
+   * @return The htmlBody.
+   */
+  java.lang.String getHtmlBody();
+  /**
+   * <code>string html_body = 10;</code>
+   * @return The bytes for htmlBody.
+   */
+  com.google.protobuf.ByteString
+      getHtmlBodyBytes();
+
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return Whether the xmlBody field is set.
+   */
+  boolean hasXmlBody();
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return The xmlBody.
+   */
+  java.lang.String getXmlBody();
+  /**
+   * <code>string xml_body = 11;</code>
+   * @return The bytes for xmlBody.
+   */
+  com.google.protobuf.ByteString
+      getXmlBodyBytes();
+
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   * @return Whether the httpFormDataBody field is set.
+   */
+  boolean hasHttpFormDataBody();
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   * @return The httpFormDataBody.
+   */
+  org.testchimp.model.HttpFormDataBody getHttpFormDataBody();
+  /**
+   * <code>.org.testchimp.model.HttpFormDataBody http_form_data_body = 12;</code>
+   */
+  org.testchimp.model.HttpFormDataBodyOrBuilder getHttpFormDataBodyOrBuilder();
+
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   * @return Whether the httpFormUrlencodedBody field is set.
+   */
+  boolean hasHttpFormUrlencodedBody();
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   * @return The httpFormUrlencodedBody.
+   */
+  org.testchimp.model.HttpFormUrlencodedBody getHttpFormUrlencodedBody();
+  /**
+   * <code>.org.testchimp.model.HttpFormUrlencodedBody http_form_urlencoded_body = 13;</code>
+   */
+  org.testchimp.model.HttpFormUrlencodedBodyOrBuilder getHttpFormUrlencodedBodyOrBuilder();
+
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   * @return Whether the binaryDataBody field is set.
+   */
+  boolean hasBinaryDataBody();
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   * @return The binaryDataBody.
+   */
+  org.testchimp.model.BinaryDataBody getBinaryDataBody();
+  /**
+   * <code>.org.testchimp.model.BinaryDataBody binary_data_body = 14;</code>
+   */
+  org.testchimp.model.BinaryDataBodyOrBuilder getBinaryDataBodyOrBuilder();
+
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   * @return Whether the encodedBody field is set.
+   */
+  boolean hasEncodedBody();
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   * @return The encodedBody.
+   */
+  org.testchimp.model.EncodedBody getEncodedBody();
+  /**
+   * <code>.org.testchimp.model.EncodedBody encoded_body = 15;</code>
+   */
+  org.testchimp.model.EncodedBodyOrBuilder getEncodedBodyOrBuilder();
+
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   * @return Whether the shapeBody field is set.
+   */
+  boolean hasShapeBody();
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   * @return The shapeBody.
+   */
+  org.testchimp.model.ShapeBody getShapeBody();
+  /**
+   * <code>.org.testchimp.model.ShapeBody shape_body = 16;</code>
+   */
+  org.testchimp.model.ShapeBodyOrBuilder getShapeBodyOrBuilder();
+
+  org.testchimp.model.HttpPayloadV2.BodyCase getBodyCase();
+}
@@ -28,11 +28,6 @@ private static final long serialVersionUID = 0L;
     return new InsertClientRecordedPayloadRequest();
   }
 
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
   public static final com.google.protobuf.Descriptors.Descriptor
       getDescriptor() {
     return org.testchimp.model.Model.internal_static_org_testchimp_model_InsertClientRecordedPayloadRequest_descriptor;
@@ -100,7 +95,8 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int URL_FIELD_NUMBER = 3;
-  private volatile java.lang.Object url_;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object url_ = "";
   /**
    * <code>optional string url = 3;</code>
    * @return Whether the url field is set.
@@ -146,7 +142,8 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int SESSION_RECORDING_TRACKING_ID_FIELD_NUMBER = 4;
-  private volatile java.lang.Object sessionRecordingTrackingId_;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object sessionRecordingTrackingId_ = "";
   /**
    * <code>optional string session_recording_tracking_id = 4;</code>
    * @return Whether the sessionRecordingTrackingId field is set.
@@ -192,7 +189,8 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int CURRENT_USER_ID_FIELD_NUMBER = 5;
-  private volatile java.lang.Object currentUserId_;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object currentUserId_ = "";
   /**
    * <code>optional string current_user_id = 5;</code>
    * @return Whether the currentUserId field is set.
@@ -412,11 +410,13 @@ private static final long serialVersionUID = 0L;
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
+
   public static org.testchimp.model.InsertClientRecordedPayloadRequest parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
+
   public static org.testchimp.model.InsertClientRecordedPayloadRequest parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -498,24 +498,20 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public Builder clear() {
       super.clear();
-      if (requestPayloadBuilder_ == null) {
-        requestPayload_ = null;
-      } else {
-        requestPayloadBuilder_.clear();
+      bitField0_ = 0;
+      requestPayload_ = null;
+      if (requestPayloadBuilder_ != null) {
+        requestPayloadBuilder_.dispose();
+        requestPayloadBuilder_ = null;
       }
-      bitField0_ = (bitField0_ & ~0x00000001);
-      if (responsePayloadBuilder_ == null) {
-        responsePayload_ = null;
-      } else {
-        responsePayloadBuilder_.clear();
+      responsePayload_ = null;
+      if (responsePayloadBuilder_ != null) {
+        responsePayloadBuilder_.dispose();
+        responsePayloadBuilder_ = null;
       }
-      bitField0_ = (bitField0_ & ~0x00000002);
       url_ = "";
-      bitField0_ = (bitField0_ & ~0x00000004);
       sessionRecordingTrackingId_ = "";
-      bitField0_ = (bitField0_ & ~0x00000008);
       currentUserId_ = "";
-      bitField0_ = (bitField0_ & ~0x00000010);
       return this;
     }
 
@@ -542,39 +538,39 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public org.testchimp.model.InsertClientRecordedPayloadRequest buildPartial() {
       org.testchimp.model.InsertClientRecordedPayloadRequest result = new org.testchimp.model.InsertClientRecordedPayloadRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.InsertClientRecordedPayloadRequest result) {
       int from_bitField0_ = bitField0_;
       int to_bitField0_ = 0;
       if (((from_bitField0_ & 0x00000001) != 0)) {
-        if (requestPayloadBuilder_ == null) {
-          result.requestPayload_ = requestPayload_;
-        } else {
-          result.requestPayload_ = requestPayloadBuilder_.build();
-        }
+        result.requestPayload_ = requestPayloadBuilder_ == null
+            ? requestPayload_
+            : requestPayloadBuilder_.build();
         to_bitField0_ |= 0x00000001;
       }
       if (((from_bitField0_ & 0x00000002) != 0)) {
-        if (responsePayloadBuilder_ == null) {
-          result.responsePayload_ = responsePayload_;
-        } else {
-          result.responsePayload_ = responsePayloadBuilder_.build();
-        }
+        result.responsePayload_ = responsePayloadBuilder_ == null
+            ? responsePayload_
+            : responsePayloadBuilder_.build();
         to_bitField0_ |= 0x00000002;
       }
       if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.url_ = url_;
         to_bitField0_ |= 0x00000004;
       }
-      result.url_ = url_;
       if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.sessionRecordingTrackingId_ = sessionRecordingTrackingId_;
         to_bitField0_ |= 0x00000008;
       }
-      result.sessionRecordingTrackingId_ = sessionRecordingTrackingId_;
       if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.currentUserId_ = currentUserId_;
         to_bitField0_ |= 0x00000010;
       }
-      result.currentUserId_ = currentUserId_;
-      result.bitField0_ = to_bitField0_;
-      onBuilt();
-      return result;
+      result.bitField0_ |= to_bitField0_;
     }
 
     @java.lang.Override
@@ -628,18 +624,18 @@ private static final long serialVersionUID = 0L;
         mergeResponsePayload(other.getResponsePayload());
       }
       if (other.hasUrl()) {
-        bitField0_ |= 0x00000004;
         url_ = other.url_;
+        bitField0_ |= 0x00000004;
         onChanged();
       }
       if (other.hasSessionRecordingTrackingId()) {
-        bitField0_ |= 0x00000008;
         sessionRecordingTrackingId_ = other.sessionRecordingTrackingId_;
+        bitField0_ |= 0x00000008;
         onChanged();
       }
       if (other.hasCurrentUserId()) {
-        bitField0_ |= 0x00000010;
         currentUserId_ = other.currentUserId_;
+        bitField0_ |= 0x00000010;
         onChanged();
       }
       this.mergeUnknownFields(other.getUnknownFields());
@@ -744,11 +740,11 @@ private static final long serialVersionUID = 0L;
           throw new NullPointerException();
         }
         requestPayload_ = value;
-        onChanged();
       } else {
         requestPayloadBuilder_.setMessage(value);
       }
       bitField0_ |= 0x00000001;
+      onChanged();
       return this;
     }
     /**
@@ -758,11 +754,11 @@ private static final long serialVersionUID = 0L;
         org.testchimp.model.Payload.Builder builderForValue) {
       if (requestPayloadBuilder_ == null) {
         requestPayload_ = builderForValue.build();
-        onChanged();
       } else {
         requestPayloadBuilder_.setMessage(builderForValue.build());
       }
       bitField0_ |= 0x00000001;
+      onChanged();
       return this;
     }
     /**
@@ -771,31 +767,32 @@ private static final long serialVersionUID = 0L;
     public Builder mergeRequestPayload(org.testchimp.model.Payload value) {
       if (requestPayloadBuilder_ == null) {
         if (((bitField0_ & 0x00000001) != 0) &&
-            requestPayload_ != null &&
-            requestPayload_ != org.testchimp.model.Payload.getDefaultInstance()) {
-          requestPayload_ =
-            org.testchimp.model.Payload.newBuilder(requestPayload_).mergeFrom(value).buildPartial();
+          requestPayload_ != null &&
+          requestPayload_ != org.testchimp.model.Payload.getDefaultInstance()) {
+          getRequestPayloadBuilder().mergeFrom(value);
         } else {
           requestPayload_ = value;
         }
-        onChanged();
       } else {
         requestPayloadBuilder_.mergeFrom(value);
       }
-      bitField0_ |= 0x00000001;
+      if (requestPayload_ != null) {
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
       return this;
     }
     /**
      * <code>optional .org.testchimp.model.Payload request_payload = 1;</code>
      */
     public Builder clearRequestPayload() {
-      if (requestPayloadBuilder_ == null) {
-        requestPayload_ = null;
-        onChanged();
-      } else {
-        requestPayloadBuilder_.clear();
-      }
       bitField0_ = (bitField0_ & ~0x00000001);
+      requestPayload_ = null;
+      if (requestPayloadBuilder_ != null) {
+        requestPayloadBuilder_.dispose();
+        requestPayloadBuilder_ = null;
+      }
+      onChanged();
       return this;
     }
     /**
@@ -864,11 +861,11 @@ private static final long serialVersionUID = 0L;
           throw new NullPointerException();
         }
         responsePayload_ = value;
-        onChanged();
       } else {
         responsePayloadBuilder_.setMessage(value);
       }
       bitField0_ |= 0x00000002;
+      onChanged();
       return this;
     }
     /**
@@ -878,11 +875,11 @@ private static final long serialVersionUID = 0L;
         org.testchimp.model.Payload.Builder builderForValue) {
       if (responsePayloadBuilder_ == null) {
         responsePayload_ = builderForValue.build();
-        onChanged();
       } else {
         responsePayloadBuilder_.setMessage(builderForValue.build());
       }
       bitField0_ |= 0x00000002;
+      onChanged();
       return this;
     }
     /**
@@ -891,31 +888,32 @@ private static final long serialVersionUID = 0L;
     public Builder mergeResponsePayload(org.testchimp.model.Payload value) {
       if (responsePayloadBuilder_ == null) {
         if (((bitField0_ & 0x00000002) != 0) &&
-            responsePayload_ != null &&
-            responsePayload_ != org.testchimp.model.Payload.getDefaultInstance()) {
-          responsePayload_ =
-            org.testchimp.model.Payload.newBuilder(responsePayload_).mergeFrom(value).buildPartial();
+          responsePayload_ != null &&
+          responsePayload_ != org.testchimp.model.Payload.getDefaultInstance()) {
+          getResponsePayloadBuilder().mergeFrom(value);
         } else {
           responsePayload_ = value;
         }
-        onChanged();
       } else {
         responsePayloadBuilder_.mergeFrom(value);
       }
-      bitField0_ |= 0x00000002;
+      if (responsePayload_ != null) {
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
       return this;
     }
     /**
      * <code>optional .org.testchimp.model.Payload response_payload = 2;</code>
      */
     public Builder clearResponsePayload() {
-      if (responsePayloadBuilder_ == null) {
-        responsePayload_ = null;
-        onChanged();
-      } else {
-        responsePayloadBuilder_.clear();
-      }
       bitField0_ = (bitField0_ & ~0x00000002);
+      responsePayload_ = null;
+      if (responsePayloadBuilder_ != null) {
+        responsePayloadBuilder_.dispose();
+        responsePayloadBuilder_ = null;
+      }
+      onChanged();
       return this;
     }
     /**
@@ -1002,11 +1000,9 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setUrl(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
+      if (value == null) { throw new NullPointerException(); }
       url_ = value;
+      bitField0_ |= 0x00000004;
       onChanged();
       return this;
     }
@@ -1015,8 +1011,8 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearUrl() {
-      bitField0_ = (bitField0_ & ~0x00000004);
       url_ = getDefaultInstance().getUrl();
+      bitField0_ = (bitField0_ & ~0x00000004);
       onChanged();
       return this;
     }
@@ -1027,12 +1023,10 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setUrlBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      bitField0_ |= 0x00000004;
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       url_ = value;
+      bitField0_ |= 0x00000004;
       onChanged();
       return this;
     }
@@ -1085,11 +1079,9 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setSessionRecordingTrackingId(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
+      if (value == null) { throw new NullPointerException(); }
       sessionRecordingTrackingId_ = value;
+      bitField0_ |= 0x00000008;
       onChanged();
       return this;
     }
@@ -1098,8 +1090,8 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearSessionRecordingTrackingId() {
-      bitField0_ = (bitField0_ & ~0x00000008);
       sessionRecordingTrackingId_ = getDefaultInstance().getSessionRecordingTrackingId();
+      bitField0_ = (bitField0_ & ~0x00000008);
       onChanged();
       return this;
     }
@@ -1110,12 +1102,10 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setSessionRecordingTrackingIdBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      bitField0_ |= 0x00000008;
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       sessionRecordingTrackingId_ = value;
+      bitField0_ |= 0x00000008;
       onChanged();
       return this;
     }
@@ -1168,11 +1158,9 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setCurrentUserId(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
+      if (value == null) { throw new NullPointerException(); }
       currentUserId_ = value;
+      bitField0_ |= 0x00000010;
       onChanged();
       return this;
     }
@@ -1181,8 +1169,8 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearCurrentUserId() {
-      bitField0_ = (bitField0_ & ~0x00000010);
       currentUserId_ = getDefaultInstance().getCurrentUserId();
+      bitField0_ = (bitField0_ & ~0x00000010);
       onChanged();
       return this;
     }
@@ -1193,12 +1181,10 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setCurrentUserIdBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      bitField0_ |= 0x00000010;
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       currentUserId_ = value;
+      bitField0_ |= 0x00000010;
       onChanged();
       return this;
     }
@@ -64,6 +64,16 @@ public final class Model {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_testchimp_model_BinaryDataBody_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_EncodedBody_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_EncodedBody_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_ShapeBody_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_ShapeBody_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_testchimp_model_Payload_descriptor;
   static final 
@@ -74,6 +84,26 @@ public final class Model {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_testchimp_model_PayloadList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_PayloadBatchV2_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_PayloadBatchV2_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_PayloadV2_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_PayloadV2_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_HttpPayloadV2_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_HttpPayloadV2_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_testchimp_model_DictionaryEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_testchimp_model_DictionaryEntry_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_testchimp_model_InsertClientRecordedPayloadRequest_descriptor;
   static final 
@@ -88,7 +118,7 @@ public final class Model {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\013model.proto\022\023org.testchimp.model\"\323\005\n\013H" +
+      "\n\013model.proto\022\023org.testchimp.model\"\303\006\n\013H" +
       "ttpPayload\022C\n\nheader_map\030\001 \003(\0132/.org.tes" +
       "tchimp.model.HttpPayload.HeaderMapEntry\022" +
       "L\n\017query_param_map\030\r \003(\01323.org.testchimp" +
@@ -103,37 +133,75 @@ public final class Model {
       "_urlencoded_body\030\013 \001(\0132+.org.testchimp.m" +
       "odel.HttpFormUrlencodedBodyH\000\022?\n\020binary_" +
       "data_body\030\t \001(\0132#.org.testchimp.model.Bi" +
-      "naryDataBodyH\000\0320\n\016HeaderMapEntry\022\013\n\003key\030" +
-      "\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\0324\n\022QueryParamMa" +
-      "pEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001B\006" +
-      "\n\004bodyB\016\n\014_http_methodB\020\n\016_response_code" +
-      "\"\213\001\n\013HttpGetBody\022H\n\rkey_value_map\030\001 \003(\0132" +
-      "1.org.testchimp.model.HttpGetBody.KeyVal" +
-      "ueMapEntry\0322\n\020KeyValueMapEntry\022\013\n\003key\030\001 " +
-      "\001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\225\001\n\020HttpFormDataB" +
-      "ody\022M\n\rkey_value_map\030\001 \003(\01326.org.testchi" +
-      "mp.model.HttpFormDataBody.KeyValueMapEnt" +
+      "naryDataBodyH\000\0228\n\014encoded_body\030\016 \001(\0132 .o" +
+      "rg.testchimp.model.EncodedBodyH\000\0224\n\nshap" +
+      "e_body\030\017 \001(\0132\036.org.testchimp.model.Shape" +
+      "BodyH\000\0320\n\016HeaderMapEntry\022\013\n\003key\030\001 \001(\t\022\r\n" +
+      "\005value\030\002 \001(\t:\0028\001\0324\n\022QueryParamMapEntry\022\013" +
+      "\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001B\006\n\004bodyB\016" +
+      "\n\014_http_methodB\020\n\016_response_code\"\213\001\n\013Htt" +
+      "pGetBody\022H\n\rkey_value_map\030\001 \003(\01321.org.te" +
+      "stchimp.model.HttpGetBody.KeyValueMapEnt" +
       "ry\0322\n\020KeyValueMapEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005v" +
-      "alue\030\002 \001(\t:\0028\001\"\241\001\n\026HttpFormUrlencodedBod" +
-      "y\022S\n\rkey_value_map\030\001 \003(\0132<.org.testchimp" +
-      ".model.HttpFormUrlencodedBody.KeyValueMa" +
-      "pEntry\0322\n\020KeyValueMapEntry\022\013\n\003key\030\001 \001(\t\022" +
-      "\r\n\005value\030\002 \001(\t:\0028\001\",\n\016BinaryDataBody\022\021\n\004" +
-      "data\030\001 \001(\014H\000\210\001\001B\007\n\005_data\"p\n\007Payload\022\024\n\007s" +
-      "pan_id\030\001 \001(\tH\001\210\001\001\0228\n\014http_payload\030\002 \001(\0132" +
-      " .org.testchimp.model.HttpPayloadH\000B\t\n\007p" +
-      "ayloadB\n\n\010_span_id\"=\n\013PayloadList\022.\n\010pay" +
-      "loads\030\001 \003(\0132\034.org.testchimp.model.Payloa" +
-      "d\"\340\002\n\"InsertClientRecordedPayloadRequest" +
-      "\022:\n\017request_payload\030\001 \001(\0132\034.org.testchim" +
-      "p.model.PayloadH\000\210\001\001\022;\n\020response_payload" +
-      "\030\002 \001(\0132\034.org.testchimp.model.PayloadH\001\210\001" +
-      "\001\022\020\n\003url\030\003 \001(\tH\002\210\001\001\022*\n\035session_recording" +
-      "_tracking_id\030\004 \001(\tH\003\210\001\001\022\034\n\017current_user_" +
-      "id\030\005 \001(\tH\004\210\001\001B\022\n\020_request_payloadB\023\n\021_re" +
-      "sponse_payloadB\006\n\004_urlB \n\036_session_recor" +
-      "ding_tracking_idB\022\n\020_current_user_idB\036\n\023" +
-      "org.testchimp.modelB\005ModelP\001b\006proto3"
+      "alue\030\002 \001(\t:\0028\001\"\225\001\n\020HttpFormDataBody\022M\n\rk" +
+      "ey_value_map\030\001 \003(\01326.org.testchimp.model" +
+      ".HttpFormDataBody.KeyValueMapEntry\0322\n\020Ke" +
+      "yValueMapEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001" +
+      "(\t:\0028\001\"\241\001\n\026HttpFormUrlencodedBody\022S\n\rkey" +
+      "_value_map\030\001 \003(\0132<.org.testchimp.model.H" +
+      "ttpFormUrlencodedBody.KeyValueMapEntry\0322" +
+      "\n\020KeyValueMapEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
+      "\030\002 \001(\t:\0028\001\",\n\016BinaryDataBody\022\021\n\004data\030\001 \001" +
+      "(\014H\000\210\001\001B\007\n\005_data\"w\n\013EncodedBody\022\031\n\014conte" +
+      "nt_type\030\001 \001(\tH\000\210\001\001\022\024\n\007charset\030\002 \001(\tH\001\210\001\001" +
+      "\022\021\n\004data\030\003 \001(\014H\002\210\001\001B\017\n\r_content_typeB\n\n\010" +
+      "_charsetB\007\n\005_data\"h\n\tShapeBody\022\027\n\nshape_" +
+      "hash\030\001 \001(\tH\000\210\001\001\022\022\n\005shape\030\002 \001(\tH\001\210\001\001\022\025\n\ra" +
+      "rray_lengths\030\003 \003(\rB\r\n\013_shape_hashB\010\n\006_sh" +
+      "ape\"p\n\007Payload\022\024\n\007span_id\030\001 \001(\tH\001\210\001\001\0228\n\014" +
+      "http_payload\030\002 \001(\0132 .org.testchimp.model" +
+      ".HttpPayloadH\000B\t\n\007payloadB\n\n\010_span_id\"=\n" +
+      "\013PayloadList\022.\n\010payloads\030\001 \003(\0132\034.org.tes" +
+      "tchimp.model.Payload\"\234\001\n\016PayloadBatchV2\022" +
+      "\022\n\ndictionary\030\001 \003(\t\0220\n\010payloads\030\002 \003(\0132\036." +
+      "org.testchimp.model.PayloadV2\022&\n\031static_" +
+      "dictionary_version\030\003 \001(\rH\000\210\001\001B\034\n\032_static" +
+      "_dictionary_version\"t\n\tPayloadV2\022\024\n\007span" +
+      "_id\030\001 \001(\tH\001\210\001\001\022:\n\014http_payload\030\002 \001(\0132\".o" +
+      "rg.testchimp.model.HttpPayloadV2H\000B\t\n\007pa" +
+      "yloadB\n\n\010_span_id\"\223\006\n\rHttpPayloadV2\0225\n\007h" +
+      "eaders\030\001 \003(\0132$.org.testchimp.model.Dicti" +
+      "onaryEntry\022:\n\014query_params\030\002 \003(\0132$.org.t" +
+      "estchimp.model.DictionaryEntry\022\030\n\013http_m" +
+      "ethod\030\003 \001(\tH\001\210\001\001\022\032\n\rresponse_code\030\004 \001(\005H" +
+      "\002\210\001\001\022\026\n\tbody_size\030\005 \001(\004H\003\210\001\001\022\033\n\016body_tru" +
+      "ncated\030\006 \001(\010H\004\210\001\001\022\023\n\tjson_body\030\007 \001(\tH\000\022=" +
+      "\n\rhttp_get_body\030\010 \001(\0132 .org.testchimp.mo" +
+      "del.HttpGetBodyB\002\030\001H\000\022\023\n\ttext_body\030\t \001(\t" +
+      "H\000\022\023\n\thtml_body\030\n \001(\tH\000\022\022\n\010xml_body\030\013 \001(" +
+      "\tH\000\022D\n\023http_form_data_body\030\014 \001(\0132%.org.t" +
+      "estchimp.model.HttpFormDataBodyH\000\022P\n\031htt" +
+      "p_form_urlencoded_body\030\r \001(\0132+.org.testc" +
+      "himp.model.HttpFormUrlencodedBodyH\000\022?\n\020b" +
+      "inary_data_body\030\016 \001(\0132#.org.testchimp.mo" +
+      "del.BinaryDataBodyH\000\0228\n\014encoded_body\030\017 \001" +
+      "(\0132 .org.testchimp.model.EncodedBodyH\000\0224" +
+      "\n\nshape_body\030\020 \001(\0132\036.org.testchimp.model" +
+      ".ShapeBodyH\000B\006\n\004bodyB\016\n\014_http_methodB\020\n\016" +
+      "_response_codeB\014\n\n_body_sizeB\021\n\017_body_tr" +
+      "uncated\"f\n\017DictionaryEntry\022\021\n\004name\030\001 \001(\r" +
+      "H\001\210\001\001\022\025\n\013value_index\030\002 \001(\rH\000\022\027\n\rvalue_li" +
+      "teral\030\003 \001(\tH\000B\007\n\005valueB\007\n\005_name\"\340\002\n\"Inse" +
+      "rtClientRecordedPayloadRequest\022:\n\017reques" +
+      "t_payload\030\001 \001(\0132\034.org.testchimp.model.Pa" +
+      "yloadH\000\210\001\001\022;\n\020response_payload\030\002 \001(\0132\034.o" +
+      "rg.testchimp.model.PayloadH\001\210\001\001\022\020\n\003url\030\003" +
+      " \001(\tH\002\210\001\001\022*\n\035session_recording_tracking_" +
+      "id\030\004 \001(\tH\003\210\001\001\022\034\n\017current_user_id\030\005 \001(\tH\004" +
+      "\210\001\001B\022\n\020_request_payloadB\023\n\021_response_pay" +
+      "loadB\006\n\004_urlB \n\036_session_recording_track" +
+      "ing_idB\022\n\020_current_user_idB\036\n\023org.testch" +
+      "imp.modelB\005ModelP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -144,7 +212,7 @@ public final class Model {
     internal_static_org_testchimp_model_HttpPayload_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_testchimp_model_HttpPayload_descriptor,
-        new java.lang.String[] { "HeaderMap", "QueryParamMap", "HttpMethod", "ResponseCode", "JsonBody", "HttpGetBody", "TextBody", "HtmlBody", "XmlBody", "HttpFormDataBody", "HttpFormUrlencodedBody", "BinaryDataBody", "Body", "HttpMethod", "ResponseCode", });
+        new java.lang.String[] { "HeaderMap", "QueryParamMap", "HttpMethod", "ResponseCode", "JsonBody", "HttpGetBody", "TextBody", "HtmlBody", "XmlBody", "HttpFormDataBody", "HttpFormUrlencodedBody", "BinaryDataBody", "EncodedBody", "ShapeBody", "Body", "HttpMethod", "ResponseCode", });
     internal_static_org_testchimp_model_HttpPayload_HeaderMapEntry_descriptor =
       internal_static_org_testchimp_model_HttpPayload_descriptor.getNestedTypes().get(0);
     internal_static_org_testchimp_model_HttpPayload_HeaderMapEntry_fieldAccessorTable = new
@@ -199,20 +267,56 @@ public final class Model {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_testchimp_model_BinaryDataBody_descriptor,
         new java.lang.String[] { "Data", "Data", });
-    internal_static_org_testchimp_model_Payload_descriptor =
+    internal_static_org_testchimp_model_EncodedBody_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_org_testchimp_model_EncodedBody_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_EncodedBody_descriptor,
+        new java.lang.String[] { "ContentType", "Charset", "Data", "ContentType", "Charset", "Data", });
+    internal_static_org_testchimp_model_ShapeBody_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_org_testchimp_model_ShapeBody_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_ShapeBody_descriptor,
+        new java.lang.String[] { "ShapeHash", "Shape", "ArrayLengths", "ShapeHash", "Shape", });
+    internal_static_org_testchimp_model_Payload_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_org_testchimp_model_Payload_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_testchimp_model_Payload_descriptor,
         new java.lang.String[] { "SpanId", "HttpPayload", "Payload", "SpanId", });
     internal_static_org_testchimp_model_PayloadList_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_org_testchimp_model_PayloadList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_testchimp_model_PayloadList_descriptor,
         new java.lang.String[] { "Payloads", });
+    internal_static_org_testchimp_model_PayloadBatchV2_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_org_testchimp_model_PayloadBatchV2_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_PayloadBatchV2_descriptor,
+        new java.lang.String[] { "Dictionary", "Payloads", "StaticDictionaryVersion", "StaticDictionaryVersion", });
+    internal_static_org_testchimp_model_PayloadV2_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_org_testchimp_model_PayloadV2_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_PayloadV2_descriptor,
+        new java.lang.String[] { "SpanId", "HttpPayload", "Payload", "SpanId", });
+    internal_static_org_testchimp_model_HttpPayloadV2_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_org_testchimp_model_HttpPayloadV2_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_HttpPayloadV2_descriptor,
+        new java.lang.String[] { "Headers", "QueryParams", "HttpMethod", "ResponseCode", "BodySize", "BodyTruncated", "JsonBody", "HttpGetBody", "TextBody", "HtmlBody", "XmlBody", "HttpFormDataBody", "HttpFormUrlencodedBody", "BinaryDataBody", "EncodedBody", "ShapeBody", "Body", "HttpMethod", "ResponseCode", "BodySize", "BodyTruncated", });
+    internal_static_org_testchimp_model_DictionaryEntry_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_org_testchimp_model_DictionaryEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_testchimp_model_DictionaryEntry_descriptor,
+        new java.lang.String[] { "Name", "ValueIndex", "ValueLiteral", "Value", "Name", });
     internal_static_org_testchimp_model_InsertClientRecordedPayloadRequest_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_org_testchimp_model_InsertClientRecordedPayloadRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_testchimp_model_InsertClientRecordedPayloadRequest_descriptor,
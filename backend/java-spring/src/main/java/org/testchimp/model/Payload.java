@@ -30,11 +30,6 @@ private static final long serialVersionUID = 0L;
     return new Payload();
   }
 
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
   public static final com.google.protobuf.Descriptors.Descriptor
       getDescriptor() {
     return org.testchimp.model.Model.internal_static_org_testchimp_model_Payload_descriptor;
@@ -50,6 +45,7 @@ private static final long serialVersionUID = 0L;
 
   private int bitField0_;
   private int payloadCase_ = 0;
+  @SuppressWarnings("serial")
   private java.lang.Object payload_;
   public enum PayloadCase
       implements com.google.protobuf.Internal.EnumLite,
@@ -89,7 +85,8 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int SPAN_ID_FIELD_NUMBER = 1;
-  private volatile java.lang.Object spanId_;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object spanId_ = "";
   /**
    * <pre>
    * Span ID corresponding to the payload. This is used for correlating requests with corresponding responses.
@@ -314,11 +311,13 @@ private static final long serialVersionUID = 0L;
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
+
   public static org.testchimp.model.Payload parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
+
   public static org.testchimp.model.Payload parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -397,8 +396,8 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public Builder clear() {
       super.clear();
+      bitField0_ = 0;
       spanId_ = "";
-      bitField0_ = (bitField0_ & ~0x00000001);
       if (httpPayloadBuilder_ != null) {
         httpPayloadBuilder_.clear();
       }
@@ -430,23 +429,29 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public org.testchimp.model.Payload buildPartial() {
       org.testchimp.model.Payload result = new org.testchimp.model.Payload(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.Payload result) {
       int from_bitField0_ = bitField0_;
       int to_bitField0_ = 0;
       if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.spanId_ = spanId_;
         to_bitField0_ |= 0x00000001;
       }
-      result.spanId_ = spanId_;
-      if (payloadCase_ == 2) {
-        if (httpPayloadBuilder_ == null) {
-          result.payload_ = payload_;
-        } else {
-          result.payload_ = httpPayloadBuilder_.build();
-        }
-      }
-      result.bitField0_ = to_bitField0_;
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    private void buildPartialOneofs(org.testchimp.model.Payload result) {
       result.payloadCase_ = payloadCase_;
-      onBuilt();
-      return result;
+      result.payload_ = this.payload_;
+      if (payloadCase_ == 2 &&
+          httpPayloadBuilder_ != null) {
+        result.payload_ = httpPayloadBuilder_.build();
+      }
     }
 
     @java.lang.Override
@@ -494,8 +499,8 @@ private static final long serialVersionUID = 0L;
     public Builder mergeFrom(org.testchimp.model.Payload other) {
       if (other == org.testchimp.model.Payload.getDefaultInstance()) return this;
       if (other.hasSpanId()) {
-        bitField0_ |= 0x00000001;
         spanId_ = other.spanId_;
+        bitField0_ |= 0x00000001;
         onChanged();
       }
       switch (other.getPayloadCase()) {
@@ -641,11 +646,9 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setSpanId(
         java.lang.String value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
+      if (value == null) { throw new NullPointerException(); }
       spanId_ = value;
+      bitField0_ |= 0x00000001;
       onChanged();
       return this;
     }
@@ -658,8 +661,8 @@ private static final long serialVersionUID = 0L;
      * @return This builder for chaining.
      */
     public Builder clearSpanId() {
-      bitField0_ = (bitField0_ & ~0x00000001);
       spanId_ = getDefaultInstance().getSpanId();
+      bitField0_ = (bitField0_ & ~0x00000001);
       onChanged();
       return this;
     }
@@ -674,12 +677,10 @@ private static final long serialVersionUID = 0L;
      */
     public Builder setSpanIdBytes(
         com.google.protobuf.ByteString value) {
-      if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-      bitField0_ |= 0x00000001;
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
       spanId_ = value;
+      bitField0_ |= 0x00000001;
       onChanged();
       return this;
     }
@@ -822,7 +823,7 @@ private static final long serialVersionUID = 0L;
         payload_ = null;
       }
       payloadCase_ = 2;
-      onChanged();;
+      onChanged();
       return httpPayloadBuilder_;
     }
     @java.lang.Override
@@ -0,0 +1,1075 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+/**
+ * <pre>
+ * Compact (v2) encoding of a batch of payloads. Header / query param names, and values that are common or occur more
+ * than once in the batch, are referenced by their index in the static dictionary shared by all batches (common header
+ * names and values, see PayloadV2Converter of the Java SDK) followed by the dictionary of the batch.
+ * </pre>
+ *
+ * Protobuf type {@code org.testchimp.model.PayloadBatchV2}
+ */
+public final class PayloadBatchV2 extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.testchimp.model.PayloadBatchV2)
+    PayloadBatchV2OrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use PayloadBatchV2.newBuilder() to construct.
+  private PayloadBatchV2(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PayloadBatchV2() {
+    dictionary_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    payloads_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new PayloadBatchV2();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadBatchV2_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadBatchV2_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.testchimp.model.PayloadBatchV2.class, org.testchimp.model.PayloadBatchV2.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int DICTIONARY_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.LazyStringArrayList dictionary_ =
+      com.google.protobuf.LazyStringArrayList.emptyList();
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @return A list containing the dictionary.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getDictionaryList() {
+    return dictionary_;
+  }
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @return The count of dictionary.
+   */
+  public int getDictionaryCount() {
+    return dictionary_.size();
+  }
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @param index The index of the element to return.
+   * @return The dictionary at the given index.
+   */
+  public java.lang.String getDictionary(int index) {
+    return dictionary_.get(index);
+  }
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the dictionary at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getDictionaryBytes(int index) {
+    return dictionary_.getByteString(index);
+  }
+
+  public static final int PAYLOADS_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private java.util.List<org.testchimp.model.PayloadV2> payloads_;
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.testchimp.model.PayloadV2> getPayloadsList() {
+    return payloads_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.testchimp.model.PayloadV2OrBuilder> 
+      getPayloadsOrBuilderList() {
+    return payloads_;
+  }
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  @java.lang.Override
+  public int getPayloadsCount() {
+    return payloads_.size();
+  }
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.PayloadV2 getPayloads(int index) {
+    return payloads_.get(index);
+  }
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.PayloadV2OrBuilder getPayloadsOrBuilder(
+      int index) {
+    return payloads_.get(index);
+  }
+
+  public static final int STATIC_DICTIONARY_VERSION_FIELD_NUMBER = 3;
+  private int staticDictionaryVersion_ = 0;
+  /**
+   * <pre>
+   * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+   * </pre>
+   *
+   * <code>optional uint32 static_dictionary_version = 3;</code>
+   * @return Whether the staticDictionaryVersion field is set.
+   */
+  @java.lang.Override
+  public boolean hasStaticDictionaryVersion() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+   * </pre>
+   *
+   * <code>optional uint32 static_dictionary_version = 3;</code>
+   * @return The staticDictionaryVersion.
+   */
+  @java.lang.Override
+  public int getStaticDictionaryVersion() {
+    return staticDictionaryVersion_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < dictionary_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dictionary_.getRaw(i));
+    }
+    for (int i = 0; i < payloads_.size(); i++) {
+      output.writeMessage(2, payloads_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeUInt32(3, staticDictionaryVersion_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < dictionary_.size(); i++) {
+        dataSize += computeStringSizeNoTag(dictionary_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getDictionaryList().size();
+    }
+    for (int i = 0; i < payloads_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, payloads_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(3, staticDictionaryVersion_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.testchimp.model.PayloadBatchV2)) {
+      return super.equals(obj);
+    }
+    org.testchimp.model.PayloadBatchV2 other = (org.testchimp.model.PayloadBatchV2) obj;
+
+    if (!getDictionaryList()
+        .equals(other.getDictionaryList())) return false;
+    if (!getPayloadsList()
+        .equals(other.getPayloadsList())) return false;
+    if (hasStaticDictionaryVersion() != other.hasStaticDictionaryVersion()) return false;
+    if (hasStaticDictionaryVersion()) {
+      if (getStaticDictionaryVersion()
+          != other.getStaticDictionaryVersion()) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getDictionaryCount() > 0) {
+      hash = (37 * hash) + DICTIONARY_FIELD_NUMBER;
+      hash = (53 * hash) + getDictionaryList().hashCode();
+    }
+    if (getPayloadsCount() > 0) {
+      hash = (37 * hash) + PAYLOADS_FIELD_NUMBER;
+      hash = (53 * hash) + getPayloadsList().hashCode();
+    }
+    if (hasStaticDictionaryVersion()) {
+      hash = (37 * hash) + STATIC_DICTIONARY_VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getStaticDictionaryVersion();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static org.testchimp.model.PayloadBatchV2 parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static org.testchimp.model.PayloadBatchV2 parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.PayloadBatchV2 parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.testchimp.model.PayloadBatchV2 prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Compact (v2) encoding of a batch of payloads. Header / query param names, and values that are common or occur more
+   * than once in the batch, are referenced by their index in the static dictionary shared by all batches (common header
+   * names and values, see PayloadV2Converter of the Java SDK) followed by the dictionary of the batch.
+   * </pre>
+   *
+   * Protobuf type {@code org.testchimp.model.PayloadBatchV2}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.testchimp.model.PayloadBatchV2)
+      org.testchimp.model.PayloadBatchV2OrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadBatchV2_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadBatchV2_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.testchimp.model.PayloadBatchV2.class, org.testchimp.model.PayloadBatchV2.Builder.class);
+    }
+
+    // Construct using org.testchimp.model.PayloadBatchV2.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      dictionary_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      if (payloadsBuilder_ == null) {
+        payloads_ = java.util.Collections.emptyList();
+      } else {
+        payloads_ = null;
+        payloadsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000002);
+      staticDictionaryVersion_ = 0;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadBatchV2_descriptor;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadBatchV2 getDefaultInstanceForType() {
+      return org.testchimp.model.PayloadBatchV2.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadBatchV2 build() {
+      org.testchimp.model.PayloadBatchV2 result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadBatchV2 buildPartial() {
+      org.testchimp.model.PayloadBatchV2 result = new org.testchimp.model.PayloadBatchV2(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(org.testchimp.model.PayloadBatchV2 result) {
+      if (payloadsBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) != 0)) {
+          payloads_ = java.util.Collections.unmodifiableList(payloads_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.payloads_ = payloads_;
+      } else {
+        result.payloads_ = payloadsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(org.testchimp.model.PayloadBatchV2 result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        dictionary_.makeImmutable();
+        result.dictionary_ = dictionary_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.staticDictionaryVersion_ = staticDictionaryVersion_;
+        to_bitField0_ |= 0x00000001;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.testchimp.model.PayloadBatchV2) {
+        return mergeFrom((org.testchimp.model.PayloadBatchV2)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.testchimp.model.PayloadBatchV2 other) {
+      if (other == org.testchimp.model.PayloadBatchV2.getDefaultInstance()) return this;
+      if (!other.dictionary_.isEmpty()) {
+        if (dictionary_.isEmpty()) {
+          dictionary_ = other.dictionary_;
+          bitField0_ |= 0x00000001;
+        } else {
+          ensureDictionaryIsMutable();
+          dictionary_.addAll(other.dictionary_);
+        }
+        onChanged();
+      }
+      if (payloadsBuilder_ == null) {
+        if (!other.payloads_.isEmpty()) {
+          if (payloads_.isEmpty()) {
+            payloads_ = other.payloads_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePayloadsIsMutable();
+            payloads_.addAll(other.payloads_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.payloads_.isEmpty()) {
+          if (payloadsBuilder_.isEmpty()) {
+            payloadsBuilder_.dispose();
+            payloadsBuilder_ = null;
+            payloads_ = other.payloads_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            payloadsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPayloadsFieldBuilder() : null;
+          } else {
+            payloadsBuilder_.addAllMessages(other.payloads_);
+          }
+        }
+      }
+      if (other.hasStaticDictionaryVersion()) {
+        setStaticDictionaryVersion(other.getStaticDictionaryVersion());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              ensureDictionaryIsMutable();
+              dictionary_.add(s);
+              break;
+            } // case 10
+            case 18: {
+              org.testchimp.model.PayloadV2 m =
+                  input.readMessage(
+                      org.testchimp.model.PayloadV2.parser(),
+                      extensionRegistry);
+              if (payloadsBuilder_ == null) {
+                ensurePayloadsIsMutable();
+                payloads_.add(m);
+              } else {
+                payloadsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 18
+            case 24: {
+              staticDictionaryVersion_ = input.readUInt32();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.LazyStringArrayList dictionary_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    private void ensureDictionaryIsMutable() {
+      if (!dictionary_.isModifiable()) {
+        dictionary_ = new com.google.protobuf.LazyStringArrayList(dictionary_);
+      }
+      bitField0_ |= 0x00000001;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @return A list containing the dictionary.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDictionaryList() {
+      dictionary_.makeImmutable();
+      return dictionary_;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @return The count of dictionary.
+     */
+    public int getDictionaryCount() {
+      return dictionary_.size();
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param index The index of the element to return.
+     * @return The dictionary at the given index.
+     */
+    public java.lang.String getDictionary(int index) {
+      return dictionary_.get(index);
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the dictionary at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDictionaryBytes(int index) {
+      return dictionary_.getByteString(index);
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The dictionary to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDictionary(
+        int index, java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureDictionaryIsMutable();
+      dictionary_.set(index, value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param value The dictionary to add.
+     * @return This builder for chaining.
+     */
+    public Builder addDictionary(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureDictionaryIsMutable();
+      dictionary_.add(value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param values The dictionary to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllDictionary(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureDictionaryIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, dictionary_);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDictionary() {
+      dictionary_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000001);;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string dictionary = 1;</code>
+     * @param value The bytes of the dictionary to add.
+     * @return This builder for chaining.
+     */
+    public Builder addDictionaryBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      ensureDictionaryIsMutable();
+      dictionary_.add(value);
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<org.testchimp.model.PayloadV2> payloads_ =
+      java.util.Collections.emptyList();
+    private void ensurePayloadsIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        payloads_ = new java.util.ArrayList<org.testchimp.model.PayloadV2>(payloads_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.PayloadV2, org.testchimp.model.PayloadV2.Builder, org.testchimp.model.PayloadV2OrBuilder> payloadsBuilder_;
+
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public java.util.List<org.testchimp.model.PayloadV2> getPayloadsList() {
+      if (payloadsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(payloads_);
+      } else {
+        return payloadsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public int getPayloadsCount() {
+      if (payloadsBuilder_ == null) {
+        return payloads_.size();
+      } else {
+        return payloadsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public org.testchimp.model.PayloadV2 getPayloads(int index) {
+      if (payloadsBuilder_ == null) {
+        return payloads_.get(index);
+      } else {
+        return payloadsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder setPayloads(
+        int index, org.testchimp.model.PayloadV2 value) {
+      if (payloadsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePayloadsIsMutable();
+        payloads_.set(index, value);
+        onChanged();
+      } else {
+        payloadsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder setPayloads(
+        int index, org.testchimp.model.PayloadV2.Builder builderForValue) {
+      if (payloadsBuilder_ == null) {
+        ensurePayloadsIsMutable();
+        payloads_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        payloadsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder addPayloads(org.testchimp.model.PayloadV2 value) {
+      if (payloadsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePayloadsIsMutable();
+        payloads_.add(value);
+        onChanged();
+      } else {
+        payloadsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder addPayloads(
+        int index, org.testchimp.model.PayloadV2 value) {
+      if (payloadsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePayloadsIsMutable();
+        payloads_.add(index, value);
+        onChanged();
+      } else {
+        payloadsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder addPayloads(
+        org.testchimp.model.PayloadV2.Builder builderForValue) {
+      if (payloadsBuilder_ == null) {
+        ensurePayloadsIsMutable();
+        payloads_.add(builderForValue.build());
+        onChanged();
+      } else {
+        payloadsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder addPayloads(
+        int index, org.testchimp.model.PayloadV2.Builder builderForValue) {
+      if (payloadsBuilder_ == null) {
+        ensurePayloadsIsMutable();
+        payloads_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        payloadsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder addAllPayloads(
+        java.lang.Iterable<? extends org.testchimp.model.PayloadV2> values) {
+      if (payloadsBuilder_ == null) {
+        ensurePayloadsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, payloads_);
+        onChanged();
+      } else {
+        payloadsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder clearPayloads() {
+      if (payloadsBuilder_ == null) {
+        payloads_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        payloadsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public Builder removePayloads(int index) {
+      if (payloadsBuilder_ == null) {
+        ensurePayloadsIsMutable();
+        payloads_.remove(index);
+        onChanged();
+      } else {
+        payloadsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public org.testchimp.model.PayloadV2.Builder getPayloadsBuilder(
+        int index) {
+      return getPayloadsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public org.testchimp.model.PayloadV2OrBuilder getPayloadsOrBuilder(
+        int index) {
+      if (payloadsBuilder_ == null) {
+        return payloads_.get(index);  } else {
+        return payloadsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public java.util.List<? extends org.testchimp.model.PayloadV2OrBuilder> 
+         getPayloadsOrBuilderList() {
+      if (payloadsBuilder_ != null) {
+        return payloadsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(payloads_);
+      }
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public org.testchimp.model.PayloadV2.Builder addPayloadsBuilder() {
+      return getPayloadsFieldBuilder().addBuilder(
+          org.testchimp.model.PayloadV2.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public org.testchimp.model.PayloadV2.Builder addPayloadsBuilder(
+        int index) {
+      return getPayloadsFieldBuilder().addBuilder(
+          index, org.testchimp.model.PayloadV2.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+     */
+    public java.util.List<org.testchimp.model.PayloadV2.Builder> 
+         getPayloadsBuilderList() {
+      return getPayloadsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.testchimp.model.PayloadV2, org.testchimp.model.PayloadV2.Builder, org.testchimp.model.PayloadV2OrBuilder> 
+        getPayloadsFieldBuilder() {
+      if (payloadsBuilder_ == null) {
+        payloadsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.testchimp.model.PayloadV2, org.testchimp.model.PayloadV2.Builder, org.testchimp.model.PayloadV2OrBuilder>(
+                payloads_,
+                ((bitField0_ & 0x00000002) != 0),
+                getParentForChildren(),
+                isClean());
+        payloads_ = null;
+      }
+      return payloadsBuilder_;
+    }
+
+    private int staticDictionaryVersion_ ;
+    /**
+     * <pre>
+     * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+     * </pre>
+     *
+     * <code>optional uint32 static_dictionary_version = 3;</code>
+     * @return Whether the staticDictionaryVersion field is set.
+     */
+    @java.lang.Override
+    public boolean hasStaticDictionaryVersion() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+     * </pre>
+     *
+     * <code>optional uint32 static_dictionary_version = 3;</code>
+     * @return The staticDictionaryVersion.
+     */
+    @java.lang.Override
+    public int getStaticDictionaryVersion() {
+      return staticDictionaryVersion_;
+    }
+    /**
+     * <pre>
+     * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+     * </pre>
+     *
+     * <code>optional uint32 static_dictionary_version = 3;</code>
+     * @param value The staticDictionaryVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStaticDictionaryVersion(int value) {
+
+      staticDictionaryVersion_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+     * </pre>
+     *
+     * <code>optional uint32 static_dictionary_version = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStaticDictionaryVersion() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      staticDictionaryVersion_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.testchimp.model.PayloadBatchV2)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.testchimp.model.PayloadBatchV2)
+  private static final org.testchimp.model.PayloadBatchV2 DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.testchimp.model.PayloadBatchV2();
+  }
+
+  public static org.testchimp.model.PayloadBatchV2 getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PayloadBatchV2>
+      PARSER = new com.google.protobuf.AbstractParser<PayloadBatchV2>() {
+    @java.lang.Override
+    public PayloadBatchV2 parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<PayloadBatchV2> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PayloadBatchV2> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.testchimp.model.PayloadBatchV2 getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,77 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface PayloadBatchV2OrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.PayloadBatchV2)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @return A list containing the dictionary.
+   */
+  java.util.List<java.lang.String>
+      getDictionaryList();
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @return The count of dictionary.
+   */
+  int getDictionaryCount();
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @param index The index of the element to return.
+   * @return The dictionary at the given index.
+   */
+  java.lang.String getDictionary(int index);
+  /**
+   * <code>repeated string dictionary = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the dictionary at the given index.
+   */
+  com.google.protobuf.ByteString
+      getDictionaryBytes(int index);
+
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  java.util.List<org.testchimp.model.PayloadV2> 
+      getPayloadsList();
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  org.testchimp.model.PayloadV2 getPayloads(int index);
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  int getPayloadsCount();
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  java.util.List<? extends org.testchimp.model.PayloadV2OrBuilder> 
+      getPayloadsOrBuilderList();
+  /**
+   * <code>repeated .org.testchimp.model.PayloadV2 payloads = 2;</code>
+   */
+  org.testchimp.model.PayloadV2OrBuilder getPayloadsOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+   * </pre>
+   *
+   * <code>optional uint32 static_dictionary_version = 3;</code>
+   * @return Whether the staticDictionaryVersion field is set.
+   */
+  boolean hasStaticDictionaryVersion();
+  /**
+   * <pre>
+   * Version of the static dictionary the indices start with. 0 for none: indices only refer to the batch dictionary.
+   * </pre>
+   *
+   * <code>optional uint32 static_dictionary_version = 3;</code>
+   * @return The staticDictionaryVersion.
+   */
+  int getStaticDictionaryVersion();
+}
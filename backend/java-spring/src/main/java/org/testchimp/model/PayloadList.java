@@ -26,11 +26,6 @@ private static final long serialVersionUID = 0L;
     return new PayloadList();
   }
 
-  @java.lang.Override
-  public final com.google.protobuf.UnknownFieldSet
-  getUnknownFields() {
-    return this.unknownFields;
-  }
   public static final com.google.protobuf.Descriptors.Descriptor
       getDescriptor() {
     return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadList_descriptor;
@@ -45,6 +40,7 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int PAYLOADS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
   private java.util.List<org.testchimp.model.Payload> payloads_;
   /**
    * <code>repeated .org.testchimp.model.Payload payloads = 1;</code>
@@ -195,11 +191,13 @@ private static final long serialVersionUID = 0L;
     return com.google.protobuf.GeneratedMessageV3
         .parseWithIOException(PARSER, input, extensionRegistry);
   }
+
   public static org.testchimp.model.PayloadList parseDelimitedFrom(java.io.InputStream input)
       throws java.io.IOException {
     return com.google.protobuf.GeneratedMessageV3
         .parseDelimitedWithIOException(PARSER, input);
   }
+
   public static org.testchimp.model.PayloadList parseDelimitedFrom(
       java.io.InputStream input,
       com.google.protobuf.ExtensionRegistryLite extensionRegistry)
@@ -274,6 +272,7 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public Builder clear() {
       super.clear();
+      bitField0_ = 0;
       if (payloadsBuilder_ == null) {
         payloads_ = java.util.Collections.emptyList();
       } else {
@@ -307,7 +306,13 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public org.testchimp.model.PayloadList buildPartial() {
       org.testchimp.model.PayloadList result = new org.testchimp.model.PayloadList(this);
-      int from_bitField0_ = bitField0_;
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(org.testchimp.model.PayloadList result) {
       if (payloadsBuilder_ == null) {
         if (((bitField0_ & 0x00000001) != 0)) {
           payloads_ = java.util.Collections.unmodifiableList(payloads_);
@@ -317,8 +322,10 @@ private static final long serialVersionUID = 0L;
       } else {
         result.payloads_ = payloadsBuilder_.build();
       }
-      onBuilt();
-      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.PayloadList result) {
+      int from_bitField0_ = bitField0_;
     }
 
     @java.lang.Override
@@ -51,5 +51,5 @@ public interface PayloadOrBuilder extends
    */
   org.testchimp.model.HttpPayloadOrBuilder getHttpPayloadOrBuilder();
 
-  public org.testchimp.model.Payload.PayloadCase getPayloadCase();
+  org.testchimp.model.Payload.PayloadCase getPayloadCase();
 }
@@ -0,0 +1,856 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+/**
+ * <pre>
+ * v2 counterpart of Payload.
+ * </pre>
+ *
+ * Protobuf type {@code org.testchimp.model.PayloadV2}
+ */
+public final class PayloadV2 extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.testchimp.model.PayloadV2)
+    PayloadV2OrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use PayloadV2.newBuilder() to construct.
+  private PayloadV2(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private PayloadV2() {
+    spanId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new PayloadV2();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadV2_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadV2_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.testchimp.model.PayloadV2.class, org.testchimp.model.PayloadV2.Builder.class);
+  }
+
+  private int bitField0_;
+  private int payloadCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object payload_;
+  public enum PayloadCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    HTTP_PAYLOAD(2),
+    PAYLOAD_NOT_SET(0);
+    private final int value;
+    private PayloadCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static PayloadCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static PayloadCase forNumber(int value) {
+      switch (value) {
+        case 2: return HTTP_PAYLOAD;
+        case 0: return PAYLOAD_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public PayloadCase
+  getPayloadCase() {
+    return PayloadCase.forNumber(
+        payloadCase_);
+  }
+
+  public static final int SPAN_ID_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object spanId_ = "";
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return Whether the spanId field is set.
+   */
+  @java.lang.Override
+  public boolean hasSpanId() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return The spanId.
+   */
+  @java.lang.Override
+  public java.lang.String getSpanId() {
+    java.lang.Object ref = spanId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      spanId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return The bytes for spanId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSpanIdBytes() {
+    java.lang.Object ref = spanId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      spanId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int HTTP_PAYLOAD_FIELD_NUMBER = 2;
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   * @return Whether the httpPayload field is set.
+   */
+  @java.lang.Override
+  public boolean hasHttpPayload() {
+    return payloadCase_ == 2;
+  }
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   * @return The httpPayload.
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpPayloadV2 getHttpPayload() {
+    if (payloadCase_ == 2) {
+       return (org.testchimp.model.HttpPayloadV2) payload_;
+    }
+    return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+  }
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   */
+  @java.lang.Override
+  public org.testchimp.model.HttpPayloadV2OrBuilder getHttpPayloadOrBuilder() {
+    if (payloadCase_ == 2) {
+       return (org.testchimp.model.HttpPayloadV2) payload_;
+    }
+    return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, spanId_);
+    }
+    if (payloadCase_ == 2) {
+      output.writeMessage(2, (org.testchimp.model.HttpPayloadV2) payload_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, spanId_);
+    }
+    if (payloadCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (org.testchimp.model.HttpPayloadV2) payload_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.testchimp.model.PayloadV2)) {
+      return super.equals(obj);
+    }
+    org.testchimp.model.PayloadV2 other = (org.testchimp.model.PayloadV2) obj;
+
+    if (hasSpanId() != other.hasSpanId()) return false;
+    if (hasSpanId()) {
+      if (!getSpanId()
+          .equals(other.getSpanId())) return false;
+    }
+    if (!getPayloadCase().equals(other.getPayloadCase())) return false;
+    switch (payloadCase_) {
+      case 2:
+        if (!getHttpPayload()
+            .equals(other.getHttpPayload())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasSpanId()) {
+      hash = (37 * hash) + SPAN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getSpanId().hashCode();
+    }
+    switch (payloadCase_) {
+      case 2:
+        hash = (37 * hash) + HTTP_PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getHttpPayload().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static org.testchimp.model.PayloadV2 parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static org.testchimp.model.PayloadV2 parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.PayloadV2 parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.testchimp.model.PayloadV2 prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * v2 counterpart of Payload.
+   * </pre>
+   *
+   * Protobuf type {@code org.testchimp.model.PayloadV2}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.testchimp.model.PayloadV2)
+      org.testchimp.model.PayloadV2OrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadV2_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadV2_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.testchimp.model.PayloadV2.class, org.testchimp.model.PayloadV2.Builder.class);
+    }
+
+    // Construct using org.testchimp.model.PayloadV2.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      spanId_ = "";
+      if (httpPayloadBuilder_ != null) {
+        httpPayloadBuilder_.clear();
+      }
+      payloadCase_ = 0;
+      payload_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_PayloadV2_descriptor;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadV2 getDefaultInstanceForType() {
+      return org.testchimp.model.PayloadV2.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadV2 build() {
+      org.testchimp.model.PayloadV2 result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.PayloadV2 buildPartial() {
+      org.testchimp.model.PayloadV2 result = new org.testchimp.model.PayloadV2(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.PayloadV2 result) {
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.spanId_ = spanId_;
+        to_bitField0_ |= 0x00000001;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    private void buildPartialOneofs(org.testchimp.model.PayloadV2 result) {
+      result.payloadCase_ = payloadCase_;
+      result.payload_ = this.payload_;
+      if (payloadCase_ == 2 &&
+          httpPayloadBuilder_ != null) {
+        result.payload_ = httpPayloadBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.testchimp.model.PayloadV2) {
+        return mergeFrom((org.testchimp.model.PayloadV2)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.testchimp.model.PayloadV2 other) {
+      if (other == org.testchimp.model.PayloadV2.getDefaultInstance()) return this;
+      if (other.hasSpanId()) {
+        spanId_ = other.spanId_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      switch (other.getPayloadCase()) {
+        case HTTP_PAYLOAD: {
+          mergeHttpPayload(other.getHttpPayload());
+          break;
+        }
+        case PAYLOAD_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              spanId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              input.readMessage(
+                  getHttpPayloadFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 2;
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int payloadCase_ = 0;
+    private java.lang.Object payload_;
+    public PayloadCase
+        getPayloadCase() {
+      return PayloadCase.forNumber(
+          payloadCase_);
+    }
+
+    public Builder clearPayload() {
+      payloadCase_ = 0;
+      payload_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private java.lang.Object spanId_ = "";
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @return Whether the spanId field is set.
+     */
+    public boolean hasSpanId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @return The spanId.
+     */
+    public java.lang.String getSpanId() {
+      java.lang.Object ref = spanId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        spanId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @return The bytes for spanId.
+     */
+    public com.google.protobuf.ByteString
+        getSpanIdBytes() {
+      java.lang.Object ref = spanId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        spanId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @param value The spanId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSpanId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      spanId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSpanId() {
+      spanId_ = getDefaultInstance().getSpanId();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>optional string span_id = 1;</code>
+     * @param value The bytes for spanId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSpanIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      spanId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpPayloadV2, org.testchimp.model.HttpPayloadV2.Builder, org.testchimp.model.HttpPayloadV2OrBuilder> httpPayloadBuilder_;
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     * @return Whether the httpPayload field is set.
+     */
+    @java.lang.Override
+    public boolean hasHttpPayload() {
+      return payloadCase_ == 2;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     * @return The httpPayload.
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpPayloadV2 getHttpPayload() {
+      if (httpPayloadBuilder_ == null) {
+        if (payloadCase_ == 2) {
+          return (org.testchimp.model.HttpPayloadV2) payload_;
+        }
+        return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 2) {
+          return httpPayloadBuilder_.getMessage();
+        }
+        return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    public Builder setHttpPayload(org.testchimp.model.HttpPayloadV2 value) {
+      if (httpPayloadBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        httpPayloadBuilder_.setMessage(value);
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    public Builder setHttpPayload(
+        org.testchimp.model.HttpPayloadV2.Builder builderForValue) {
+      if (httpPayloadBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        httpPayloadBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    public Builder mergeHttpPayload(org.testchimp.model.HttpPayloadV2 value) {
+      if (httpPayloadBuilder_ == null) {
+        if (payloadCase_ == 2 &&
+            payload_ != org.testchimp.model.HttpPayloadV2.getDefaultInstance()) {
+          payload_ = org.testchimp.model.HttpPayloadV2.newBuilder((org.testchimp.model.HttpPayloadV2) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 2) {
+          httpPayloadBuilder_.mergeFrom(value);
+        } else {
+          httpPayloadBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    public Builder clearHttpPayload() {
+      if (httpPayloadBuilder_ == null) {
+        if (payloadCase_ == 2) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 2) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        httpPayloadBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    public org.testchimp.model.HttpPayloadV2.Builder getHttpPayloadBuilder() {
+      return getHttpPayloadFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    @java.lang.Override
+    public org.testchimp.model.HttpPayloadV2OrBuilder getHttpPayloadOrBuilder() {
+      if ((payloadCase_ == 2) && (httpPayloadBuilder_ != null)) {
+        return httpPayloadBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 2) {
+          return (org.testchimp.model.HttpPayloadV2) payload_;
+        }
+        return org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.testchimp.model.HttpPayloadV2, org.testchimp.model.HttpPayloadV2.Builder, org.testchimp.model.HttpPayloadV2OrBuilder> 
+        getHttpPayloadFieldBuilder() {
+      if (httpPayloadBuilder_ == null) {
+        if (!(payloadCase_ == 2)) {
+          payload_ = org.testchimp.model.HttpPayloadV2.getDefaultInstance();
+        }
+        httpPayloadBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.testchimp.model.HttpPayloadV2, org.testchimp.model.HttpPayloadV2.Builder, org.testchimp.model.HttpPayloadV2OrBuilder>(
+                (org.testchimp.model.HttpPayloadV2) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 2;
+      onChanged();
+      return httpPayloadBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.testchimp.model.PayloadV2)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.testchimp.model.PayloadV2)
+  private static final org.testchimp.model.PayloadV2 DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.testchimp.model.PayloadV2();
+  }
+
+  public static org.testchimp.model.PayloadV2 getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<PayloadV2>
+      PARSER = new com.google.protobuf.AbstractParser<PayloadV2>() {
+    @java.lang.Override
+    public PayloadV2 parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<PayloadV2> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<PayloadV2> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.testchimp.model.PayloadV2 getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
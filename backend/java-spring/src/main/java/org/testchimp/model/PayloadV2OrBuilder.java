@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface PayloadV2OrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.PayloadV2)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return Whether the spanId field is set.
+   */
+  boolean hasSpanId();
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return The spanId.
+   */
+  java.lang.String getSpanId();
+  /**
+   * <code>optional string span_id = 1;</code>
+   * @return The bytes for spanId.
+   */
+  com.google.protobuf.ByteString
+      getSpanIdBytes();
+
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   * @return Whether the httpPayload field is set.
+   */
+  boolean hasHttpPayload();
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   * @return The httpPayload.
+   */
+  org.testchimp.model.HttpPayloadV2 getHttpPayload();
+  /**
+   * <code>.org.testchimp.model.HttpPayloadV2 http_payload = 2;</code>
+   */
+  org.testchimp.model.HttpPayloadV2OrBuilder getHttpPayloadOrBuilder();
+
+  org.testchimp.model.PayloadV2.PayloadCase getPayloadCase();
+}
@@ -0,0 +1,1047 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+/**
+ * <pre>
+ * The structure of a json body (keys, value types, array lengths and nullability) instead of its values. A shape is sent
+ * with its hash the first time, and afterwards (for a while) only the hash, referencing the shape sent before.
+ * </pre>
+ *
+ * Protobuf type {@code org.testchimp.model.ShapeBody}
+ */
+public final class ShapeBody extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.testchimp.model.ShapeBody)
+    ShapeBodyOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ShapeBody.newBuilder() to construct.
+  private ShapeBody(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ShapeBody() {
+    shapeHash_ = "";
+    shape_ = "";
+    arrayLengths_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ShapeBody();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_ShapeBody_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.testchimp.model.Model.internal_static_org_testchimp_model_ShapeBody_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.testchimp.model.ShapeBody.class, org.testchimp.model.ShapeBody.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int SHAPE_HASH_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object shapeHash_ = "";
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return Whether the shapeHash field is set.
+   */
+  @java.lang.Override
+  public boolean hasShapeHash() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return The shapeHash.
+   */
+  @java.lang.Override
+  public java.lang.String getShapeHash() {
+    java.lang.Object ref = shapeHash_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      shapeHash_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return The bytes for shapeHash.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getShapeHashBytes() {
+    java.lang.Object ref = shapeHash_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      shapeHash_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SHAPE_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object shape_ = "";
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return Whether the shape field is set.
+   */
+  @java.lang.Override
+  public boolean hasShape() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return The shape.
+   */
+  @java.lang.Override
+  public java.lang.String getShape() {
+    java.lang.Object ref = shape_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      shape_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return The bytes for shape.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getShapeBytes() {
+    java.lang.Object ref = shape_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      shape_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ARRAY_LENGTHS_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.IntList arrayLengths_ =
+      emptyIntList();
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @return A list containing the arrayLengths.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getArrayLengthsList() {
+    return arrayLengths_;
+  }
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @return The count of arrayLengths.
+   */
+  public int getArrayLengthsCount() {
+    return arrayLengths_.size();
+  }
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @param index The index of the element to return.
+   * @return The arrayLengths at the given index.
+   */
+  public int getArrayLengths(int index) {
+    return arrayLengths_.getInt(index);
+  }
+  private int arrayLengthsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (((bitField0_ & 0x00000001) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, shapeHash_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, shape_);
+    }
+    if (getArrayLengthsList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(arrayLengthsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < arrayLengths_.size(); i++) {
+      output.writeUInt32NoTag(arrayLengths_.getInt(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, shapeHash_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, shape_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < arrayLengths_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(arrayLengths_.getInt(i));
+      }
+      size += dataSize;
+      if (!getArrayLengthsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      arrayLengthsMemoizedSerializedSize = dataSize;
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.testchimp.model.ShapeBody)) {
+      return super.equals(obj);
+    }
+    org.testchimp.model.ShapeBody other = (org.testchimp.model.ShapeBody) obj;
+
+    if (hasShapeHash() != other.hasShapeHash()) return false;
+    if (hasShapeHash()) {
+      if (!getShapeHash()
+          .equals(other.getShapeHash())) return false;
+    }
+    if (hasShape() != other.hasShape()) return false;
+    if (hasShape()) {
+      if (!getShape()
+          .equals(other.getShape())) return false;
+    }
+    if (!getArrayLengthsList()
+        .equals(other.getArrayLengthsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasShapeHash()) {
+      hash = (37 * hash) + SHAPE_HASH_FIELD_NUMBER;
+      hash = (53 * hash) + getShapeHash().hashCode();
+    }
+    if (hasShape()) {
+      hash = (37 * hash) + SHAPE_FIELD_NUMBER;
+      hash = (53 * hash) + getShape().hashCode();
+    }
+    if (getArrayLengthsCount() > 0) {
+      hash = (37 * hash) + ARRAY_LENGTHS_FIELD_NUMBER;
+      hash = (53 * hash) + getArrayLengthsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.testchimp.model.ShapeBody parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static org.testchimp.model.ShapeBody parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static org.testchimp.model.ShapeBody parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.testchimp.model.ShapeBody parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.testchimp.model.ShapeBody prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * The structure of a json body (keys, value types, array lengths and nullability) instead of its values. A shape is sent
+   * with its hash the first time, and afterwards (for a while) only the hash, referencing the shape sent before.
+   * </pre>
+   *
+   * Protobuf type {@code org.testchimp.model.ShapeBody}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.testchimp.model.ShapeBody)
+      org.testchimp.model.ShapeBodyOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_ShapeBody_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_ShapeBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.testchimp.model.ShapeBody.class, org.testchimp.model.ShapeBody.Builder.class);
+    }
+
+    // Construct using org.testchimp.model.ShapeBody.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      shapeHash_ = "";
+      shape_ = "";
+      arrayLengths_ = emptyIntList();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.testchimp.model.Model.internal_static_org_testchimp_model_ShapeBody_descriptor;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.ShapeBody getDefaultInstanceForType() {
+      return org.testchimp.model.ShapeBody.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.ShapeBody build() {
+      org.testchimp.model.ShapeBody result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.testchimp.model.ShapeBody buildPartial() {
+      org.testchimp.model.ShapeBody result = new org.testchimp.model.ShapeBody(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(org.testchimp.model.ShapeBody result) {
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.shapeHash_ = shapeHash_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.shape_ = shape_;
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        arrayLengths_.makeImmutable();
+        result.arrayLengths_ = arrayLengths_;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.testchimp.model.ShapeBody) {
+        return mergeFrom((org.testchimp.model.ShapeBody)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.testchimp.model.ShapeBody other) {
+      if (other == org.testchimp.model.ShapeBody.getDefaultInstance()) return this;
+      if (other.hasShapeHash()) {
+        shapeHash_ = other.shapeHash_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (other.hasShape()) {
+        shape_ = other.shape_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      if (!other.arrayLengths_.isEmpty()) {
+        if (arrayLengths_.isEmpty()) {
+          arrayLengths_ = other.arrayLengths_;
+          arrayLengths_.makeImmutable();
+          bitField0_ |= 0x00000004;
+        } else {
+          ensureArrayLengthsIsMutable();
+          arrayLengths_.addAll(other.arrayLengths_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              shapeHash_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              shape_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 24: {
+              int v = input.readUInt32();
+              ensureArrayLengthsIsMutable();
+              arrayLengths_.addInt(v);
+              break;
+            } // case 24
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              ensureArrayLengthsIsMutable();
+              while (input.getBytesUntilLimit() > 0) {
+                arrayLengths_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            } // case 26
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object shapeHash_ = "";
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @return Whether the shapeHash field is set.
+     */
+    public boolean hasShapeHash() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @return The shapeHash.
+     */
+    public java.lang.String getShapeHash() {
+      java.lang.Object ref = shapeHash_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        shapeHash_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @return The bytes for shapeHash.
+     */
+    public com.google.protobuf.ByteString
+        getShapeHashBytes() {
+      java.lang.Object ref = shapeHash_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        shapeHash_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @param value The shapeHash to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShapeHash(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      shapeHash_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearShapeHash() {
+      shapeHash_ = getDefaultInstance().getShapeHash();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Hex encoded hash of shape.
+     * </pre>
+     *
+     * <code>optional string shape_hash = 1;</code>
+     * @param value The bytes for shapeHash to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShapeHashBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      shapeHash_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object shape_ = "";
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @return Whether the shape field is set.
+     */
+    public boolean hasShape() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @return The shape.
+     */
+    public java.lang.String getShape() {
+      java.lang.Object ref = shape_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        shape_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @return The bytes for shape.
+     */
+    public com.google.protobuf.ByteString
+        getShapeBytes() {
+      java.lang.Object ref = shape_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        shape_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @param value The shape to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShape(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      shape_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearShape() {
+      shape_ = getDefaultInstance().getShape();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+     * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+     * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+     * </pre>
+     *
+     * <code>optional string shape = 2;</code>
+     * @param value The bytes for shape to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShapeBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      shape_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList arrayLengths_ = emptyIntList();
+    private void ensureArrayLengthsIsMutable() {
+      if (!arrayLengths_.isModifiable()) {
+        arrayLengths_ = makeMutableCopy(arrayLengths_);
+      }
+      bitField0_ |= 0x00000004;
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @return A list containing the arrayLengths.
+     */
+    public java.util.List<java.lang.Integer>
+        getArrayLengthsList() {
+      arrayLengths_.makeImmutable();
+      return arrayLengths_;
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @return The count of arrayLengths.
+     */
+    public int getArrayLengthsCount() {
+      return arrayLengths_.size();
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @param index The index of the element to return.
+     * @return The arrayLengths at the given index.
+     */
+    public int getArrayLengths(int index) {
+      return arrayLengths_.getInt(index);
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The arrayLengths to set.
+     * @return This builder for chaining.
+     */
+    public Builder setArrayLengths(
+        int index, int value) {
+
+      ensureArrayLengthsIsMutable();
+      arrayLengths_.setInt(index, value);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @param value The arrayLengths to add.
+     * @return This builder for chaining.
+     */
+    public Builder addArrayLengths(int value) {
+
+      ensureArrayLengthsIsMutable();
+      arrayLengths_.addInt(value);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @param values The arrayLengths to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllArrayLengths(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureArrayLengthsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, arrayLengths_);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+     * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+     * </pre>
+     *
+     * <code>repeated uint32 array_lengths = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearArrayLengths() {
+      arrayLengths_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.testchimp.model.ShapeBody)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.testchimp.model.ShapeBody)
+  private static final org.testchimp.model.ShapeBody DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.testchimp.model.ShapeBody();
+  }
+
+  public static org.testchimp.model.ShapeBody getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ShapeBody>
+      PARSER = new com.google.protobuf.AbstractParser<ShapeBody>() {
+    @java.lang.Override
+    public ShapeBody parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ShapeBody> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ShapeBody> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.testchimp.model.ShapeBody getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
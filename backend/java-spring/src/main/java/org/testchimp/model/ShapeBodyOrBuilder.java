@@ -0,0 +1,105 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: model.proto
+
+package org.testchimp.model;
+
+public interface ShapeBodyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.testchimp.model.ShapeBody)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return Whether the shapeHash field is set.
+   */
+  boolean hasShapeHash();
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return The shapeHash.
+   */
+  java.lang.String getShapeHash();
+  /**
+   * <pre>
+   * Hex encoded hash of shape.
+   * </pre>
+   *
+   * <code>optional string shape_hash = 1;</code>
+   * @return The bytes for shapeHash.
+   */
+  com.google.protobuf.ByteString
+      getShapeHashBytes();
+
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return Whether the shape field is set.
+   */
+  boolean hasShape();
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return The shape.
+   */
+  java.lang.String getShape();
+  /**
+   * <pre>
+   * The shape, as json: "string" / "number" / "boolean" / "null" (unions joined with "|") for values, {"field": shape}
+   * for objects (fields missing from some of the objects merged into the shape end with "?"), ["array", element shape]
+   * for arrays (["array"] if always empty), and ["union", shape, ...] for other unions. Not set for a reference.
+   * </pre>
+   *
+   * <code>optional string shape = 2;</code>
+   * @return The bytes for shape.
+   */
+  com.google.protobuf.ByteString
+      getShapeBytes();
+
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @return A list containing the arrayLengths.
+   */
+  java.util.List<java.lang.Integer> getArrayLengthsList();
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @return The count of arrayLengths.
+   */
+  int getArrayLengthsCount();
+  /**
+   * <pre>
+   * The min and max length of each array of the shape, in the order the arrays appear in it. Sent with every payload:
+   * lengths are not part of the shape, so that bodies differing only by array lengths share it.
+   * </pre>
+   *
+   * <code>repeated uint32 array_lengths = 3;</code>
+   * @param index The index of the element to return.
+   * @return The arrayLengths at the given index.
+   */
+  int getArrayLengths(int index);
+}
@@ -0,0 +1,39 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.testchimp.model.BinaryDataBody;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Captures bodies as binary_data_body bytes, wrapping the captured body instead of decoding it to a string. Registered
+ * by default for octet-stream, MessagePack and CBOR bodies; register another instance as a bean for other binary types.
+ */
+public class BinaryBodyCodec implements IBodyCodec {
+    static final List<String> DEFAULT_MEDIA_TYPES = Collections.unmodifiableList(Arrays.asList(
+            "application/octet-stream", "application/msgpack", "application/x-msgpack", "application/vnd.msgpack",
+            "application/cbor"));
+
+    private final List<String> mediaTypes;
+
+    public BinaryBodyCodec() {
+        this(DEFAULT_MEDIA_TYPES);
+    }
+
+    public BinaryBodyCodec(List<String> mediaTypes) {
+        this.mediaTypes = Collections.unmodifiableList(mediaTypes);
+    }
+
+    @Override
+    public List<String> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    @Override
+    public void extract(ExtractionContext context) {
+        if (!context.isIgnorePayload()) {
+            context.getHttpPayload().setBinaryDataBody(BinaryDataBody.newBuilder().setData(context.getBody().getBodyByteString()));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Immutable map from media type to the codec capturing it, built once by DefaultRequestExtractor.
+ */
+class BodyCodecRegistry {
+    private static final Logger logger = Logger.getLogger(BodyCodecRegistry.class.getName());
+
+    private final Map<String, IBodyCodec> codecs;
+    // Media types whose codec records the body as it is (as opposed to parsing / transforming it).
+    private final Set<String> verbatimMediaTypes;
+
+    private BodyCodecRegistry(Map<String, IBodyCodec> codecs, Set<String> verbatimMediaTypes) {
+        this.codecs = codecs;
+        this.verbatimMediaTypes = verbatimMediaTypes;
+    }
+
+    // Returns the codec of the media type, or null.
+    IBodyCodec get(String mediaType) {
+        return codecs.get(mediaType);
+    }
+
+    // True if bodies of the media type are recorded as they are: no codec, or a verbatim built-in one.
+    boolean isVerbatim(String mediaType) {
+        return !codecs.containsKey(mediaType) || verbatimMediaTypes.contains(mediaType);
+    }
+
+    // Media type of a Content-Type header value: without parameters, trimmed and lower case. Null for a null or empty value.
+    static String getMediaType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mediaType = (parametersIndex == -1 ? contentType : contentType.substring(0, parametersIndex)).trim().toLowerCase();
+        return mediaType.isEmpty() ? null : mediaType;
+    }
+
+    static IBodyCodec codec(Consumer<ExtractionContext> extract, String... mediaTypes) {
+        List<String> mediaTypeList = Collections.unmodifiableList(Arrays.asList(mediaTypes));
+        return new IBodyCodec() {
+            @Override
+            public List<String> getMediaTypes() {
+                return mediaTypeList;
+            }
+
+            @Override
+            public void extract(ExtractionContext context) {
+                extract.accept(context);
+            }
+        };
+    }
+
+    static class Builder {
+        private final Map<String, IBodyCodec> codecs = new HashMap<>();
+        private final Set<String> verbatimMediaTypes = new HashSet<>();
+
+        Builder register(IBodyCodec codec) {
+            for (String mediaType : codec.getMediaTypes()) {
+                String normalizedMediaType = getMediaType(mediaType);
+                if (codecs.put(normalizedMediaType, codec) != null) {
+                    logger.fine("Replacing the body codec of " + normalizedMediaType + " with " + codec.getClass().getName());
+                }
+                verbatimMediaTypes.remove(normalizedMediaType);
+            }
+            return this;
+        }
+
+        Builder registerVerbatim(IBodyCodec codec) {
+            register(codec);
+            for (String mediaType : codec.getMediaTypes()) {
+                verbatimMediaTypes.add(getMediaType(mediaType));
+            }
+            return this;
+        }
+
+        BodyCodecRegistry build() {
+            return new BodyCodecRegistry(Collections.unmodifiableMap(new HashMap<>(codecs)),
+                    Collections.unmodifiableSet(new HashSet<>(verbatimMediaTypes)));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.testchimp.sdk.be.java.spring;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import lombok.SneakyThrows;
 import org.springframework.util.StreamUtils;
 
@@ -10,16 +12,26 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.Enumeration;
+import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-public class CachedRequestHttpServletRequest extends HttpServletRequestWrapper {
+public class CachedRequestHttpServletRequest extends HttpServletRequestWrapper implements ICapturedBody {
     private byte[] cachedBody;
+    private final int maxDecodedBodyBytes;
+    private byte[] decodedBody;
+    private boolean bodyDropped;
+    private HttpHeaderView headerView;
 
     public CachedRequestHttpServletRequest(HttpServletRequest request) throws IOException {
+        this(request, ContentEncodingDecoder.DEFAULT_MAX_DECODED_BODY_BYTES);
+    }
+
+    public CachedRequestHttpServletRequest(HttpServletRequest request, int maxDecodedBodyBytes) throws IOException {
         super(request);
         this.cachedBody = StreamUtils.copyToByteArray(request.getInputStream());
+        this.maxDecodedBodyBytes = maxDecodedBodyBytes;
     }
 
 
@@ -33,24 +45,62 @@ public class CachedRequestHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(this.cachedBody)));
     }
 
+    // Lazily evaluated, case-insensitive view over the request headers (cached for the lifetime of the request).
+    public HttpHeaderView getHeaderView() {
+        if (headerView == null) {
+            headerView = HttpHeaderView.of(this);
+        }
+        return headerView;
+    }
+
+    // Returns a copy of the request headers with lower-cased names. Multiple values of a header are joined with ",".
     public Map<String, String> getRequestHeaders() {
         Map<String, String> headersMap = new HashMap<>();
-        Enumeration<String> headerEnumeration = this.getHeaderNames();
-        while (headerEnumeration.hasMoreElements()) {
-            String header = headerEnumeration.nextElement();
-            headersMap.put(header.toLowerCase(), this.getHeader(header));
+        for (Map.Entry<String, List<String>> header : getHeaderView().asMap().entrySet()) {
+            headersMap.put(header.getKey().toLowerCase(), String.join(",", header.getValue()));
         }
         return headersMap;
     }
 
-    @SneakyThrows
+    // Returns the cached body with any Content-Encoding undone (decoded lazily, once). The application still reads the
+    // original bytes via getInputStream(). Undecodable bodies yield an empty array.
+    public byte[] getBodyBytes() {
+        if (decodedBody == null) {
+            byte[] decoded = ContentEncodingDecoder.decode(cachedBody, getHeader("Content-Encoding"), maxDecodedBodyBytes);
+            decodedBody = decoded != null ? decoded : new byte[0];
+            bodyDropped = decoded == null && cachedBody.length > 0;
+        }
+        return decodedBody;
+    }
+
+    // The decoded body as a ByteString wrapping getBodyBytes() without copying.
+    public ByteString getBodyByteString() {
+        return UnsafeByteOperations.unsafeWrap(getBodyBytes());
+    }
+
+    // True if the body could not be decoded (unsupported / corrupt encoding or over the decoded size cap).
+    public boolean isBodyDropped() {
+        getBodyBytes();
+        return bodyDropped;
+    }
+
     public String getBodyString() {
+        return getBodyString(getBodyBytes());
+    }
+
+    @SneakyThrows
+    public String getBodyString(byte[] bodyBytes) {
         StringBuilder body = new StringBuilder();
         String line;
-        BufferedReader reader = this.getReader();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bodyBytes)));
         while ((line = reader.readLine()) != null) {
             body.append(line);
         }
         return body.toString();
     }
+
+    // The body is read with the platform's default charset.
+    public Charset getBodyCharset() {
+        return Charset.defaultCharset();
+    }
 }
@@ -40,4 +40,15 @@ public class CachedRequestServletInputStream extends ServletInputStream {
     public int read() throws IOException {
         return cachedBodyInputStream.read();
     }
+
+    // Bulk reads (used by message converters) would otherwise go through read() one byte at a time.
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return cachedBodyInputStream.read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return cachedBodyInputStream.available();
+    }
 }
\ No newline at end of file
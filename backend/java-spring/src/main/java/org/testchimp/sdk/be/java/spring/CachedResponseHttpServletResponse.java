@@ -1,49 +1,237 @@
 package org.testchimp.sdk.be.java.spring;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
-import java.util.Collection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-public class CachedResponseHttpServletResponse extends HttpServletResponseWrapper {
-    private ByteArrayOutputStream cachedResponse = new ByteArrayOutputStream();
-    private PrintWriter cachedWriter = new PrintWriter(cachedResponse, true);
+public class CachedResponseHttpServletResponse extends HttpServletResponseWrapper implements ICapturedBody {
+    private final CaptureBuffer cachedResponse = new CaptureBuffer();
+    private FilterServletOutputStream outputStream;
+    private PrintWriter writer;
+    private Charset writerCharset;
+    private final int maxDecodedBodyBytes;
+    private byte[] decodedBody;
+    private boolean bodyDropped;
+    private final HttpHeaderView headerView;
 
     public CachedResponseHttpServletResponse(HttpServletResponse response) {
+        this(response, ContentEncodingDecoder.DEFAULT_MAX_DECODED_BODY_BYTES);
+    }
+
+    public CachedResponseHttpServletResponse(HttpServletResponse response, int maxDecodedBodyBytes) {
         super(response);
+        this.maxDecodedBodyBytes = maxDecodedBodyBytes;
+        this.headerView = HttpHeaderView.of(this);
     }
 
     @Override
     public ServletOutputStream getOutputStream() throws IOException {
-        return new FilterServletOutputStream(super.getOutputStream(), cachedResponse);
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response.");
+        }
+        return getTeeOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called on this response.");
+            }
+            // Encode once with the response charset: the same bytes go to the client and to the capture buffer.
+            writerCharset = getResponseCharset();
+            writer = new PrintWriter(new OutputStreamWriter(getTeeOutputStream(), writerCharset), false);
+        }
+        return writer;
     }
 
     @Override
-    public PrintWriter getWriter() {
-        return cachedWriter;
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
     }
 
     public String getBodyString() {
-        return cachedResponse.toString();
+        return getBodyString(getBodyBytes());
+    }
+
+    public String getBodyString(byte[] bodyBytes) {
+        return new String(bodyBytes, getBodyCharset());
+    }
+
+    // Returns the captured body with any Content-Encoding undone. The capture buffer keeps the (smaller) encoded bytes;
+    // decoding happens here, once, and only when extraction asks for the body. Undecodable bodies yield an empty array.
+    public byte[] getBodyBytes() {
+        flushWriter();
+        if (decodedBody == null) {
+            byte[] decoded = ContentEncodingDecoder.decode(cachedResponse.toByteArray(), getHeader("Content-Encoding"), maxDecodedBodyBytes);
+            decodedBody = decoded != null ? decoded : new byte[0];
+            bodyDropped = decoded == null && cachedResponse.size() > 0;
+        }
+        return decodedBody;
+    }
+
+    // The captured body as a ByteString. An unencoded body wraps the capture buffer, and an encoded one the decoded
+    // body, without copying either. The response must not be written to afterwards.
+    public ByteString getBodyByteString() {
+        flushWriter();
+        if (decodedBody == null && ContentEncodingDecoder.isIdentity(getHeader("Content-Encoding"))) {
+            return cachedResponse.toByteString();
+        }
+        return UnsafeByteOperations.unsafeWrap(getBodyBytes());
+    }
+
+    // Name of the charset getBodyString() decodes the body with.
+    public String getBodyCharsetName() {
+        return getBodyCharset().name();
+    }
+
+    // True if the body could not be decoded (unsupported / corrupt encoding or over the decoded size cap).
+    public boolean isBodyDropped() {
+        getBodyBytes();
+        return bodyDropped;
     }
 
     public ByteArrayOutputStream getRawResponse() {
+        flushWriter();
         return cachedResponse;
     }
 
+    // Lazily evaluated, case-insensitive view over the response headers. The cached map is dropped whenever a header
+    // is modified through this wrapper.
+    public HttpHeaderView getHeaderView() {
+        return headerView;
+    }
+
+    // Returns a copy of the response headers with lower-cased names. Multiple values of a header are joined with ",".
     public Map<String, String> getResponseHeaders() {
         Map<String, String> headersMap = new HashMap<>();
-        Collection<String> headerNames = getHeaderNames();
-        for (String headerName : headerNames) {
-            headersMap.put(headerName.toLowerCase(), getHeader(headerName));
+        for (Map.Entry<String, List<String>> header : headerView.asMap().entrySet()) {
+            headersMap.put(header.getKey().toLowerCase(), String.join(",", header.getValue()));
         }
         return headersMap;
     }
 
+    @Override
+    public void setHeader(String name, String value) {
+        super.setHeader(name, value);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        super.addHeader(name, value);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        super.setIntHeader(name, value);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        super.addIntHeader(name, value);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        super.setDateHeader(name, date);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        super.addDateHeader(name, date);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void setContentType(String type) {
+        super.setContentType(type);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        super.setContentLength(len);
+        headerView.invalidate();
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        super.setContentLengthLong(len);
+        headerView.invalidate();
+    }
+
+    private FilterServletOutputStream getTeeOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new FilterServletOutputStream(super.getOutputStream(), cachedResponse);
+        }
+        return outputStream;
+    }
+
+    // Writer output only reaches the client and the capture buffer once the encoder is flushed.
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    // Bytes written via getWriter() were encoded with the writer charset. Raw stream bytes are decoded with the charset
+    // declared in the content type, defaulting to UTF-8 which covers JSON and most text payloads.
+    public Charset getBodyCharset() {
+        if (writerCharset != null) {
+            return writerCharset;
+        }
+        String contentType = getContentType();
+        if (contentType != null) {
+            int charsetIndex = contentType.toLowerCase().indexOf("charset=");
+            if (charsetIndex != -1) {
+                String charset = contentType.substring(charsetIndex + "charset=".length()).split(";")[0].trim()
+                        .replace("\"", "");
+                try {
+                    return Charset.forName(charset);
+                } catch (IllegalArgumentException e) {
+                    // Fall through to the default.
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private Charset getResponseCharset() {
+        String encoding = getCharacterEncoding();
+        if (encoding != null) {
+            try {
+                return Charset.forName(encoding);
+            } catch (IllegalArgumentException e) {
+                // Unknown charset set by the application; fall back to the servlet default below.
+            }
+        }
+        return StandardCharsets.ISO_8859_1;
+    }
 
-}
\ No newline at end of file
+    // Capture buffer whose content can be wrapped as a ByteString without copying.
+    private static class CaptureBuffer extends ByteArrayOutputStream {
+        synchronized ByteString toByteString() {
+            return UnsafeByteOperations.unsafeWrap(buf, 0, count);
+        }
+    }
+}
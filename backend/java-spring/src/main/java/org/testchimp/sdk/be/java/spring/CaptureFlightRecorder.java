@@ -0,0 +1,97 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Emits JDK Flight Recorder events (testchimp.CaptureDecision, BodyExtraction, JsonRedaction, PayloadSerialization)
+ * describing the cost of capturing a request / response.
+ * <p>
+ * On Java 11+ the events are recorded by JfrCaptureEventRecorder (compiled from src/main/java11); on Java 8 nothing
+ * is recorded. Each beginX method returns a token to pass to the matching endX method; the token is null (and nothing
+ * is allocated) unless a recording has the event enabled.
+ */
+public final class CaptureFlightRecorder {
+    private static final Logger logger = Logger.getLogger(CaptureFlightRecorder.class.getName());
+
+    private static final String JFR_RECORDER_CLASS = "org.testchimp.sdk.be.java.spring.JfrCaptureEventRecorder";
+
+    private static final EventRecorder RECORDER = loadRecorder();
+
+    private CaptureFlightRecorder() {
+    }
+
+    public static Object beginCaptureDecision() {
+        return RECORDER.beginCaptureDecision();
+    }
+
+    public static void endCaptureDecision(Object event, String phase, String route, String outcome) {
+        RECORDER.endCaptureDecision(event, phase, route, outcome);
+    }
+
+    public static Object beginBodyExtraction() {
+        return RECORDER.beginBodyExtraction();
+    }
+
+    public static void endBodyExtraction(Object event, String phase, String route, String contentType, long capturedBytes) {
+        RECORDER.endBodyExtraction(event, phase, route, contentType, capturedBytes);
+    }
+
+    public static Object beginJsonRedaction() {
+        return RECORDER.beginJsonRedaction();
+    }
+
+    public static void endJsonRedaction(Object event, String phase, String route, int ignoredFieldCount, long redactedBytes) {
+        RECORDER.endJsonRedaction(event, phase, route, ignoredFieldCount, redactedBytes);
+    }
+
+    public static Object beginPayloadSerialization() {
+        return RECORDER.beginPayloadSerialization();
+    }
+
+    public static void endPayloadSerialization(Object event, String phase, String route, long serializedBytes) {
+        RECORDER.endPayloadSerialization(event, phase, route, serializedBytes);
+    }
+
+    // The JFR recorder is a Java 11 class file: on Java 8 (or a runtime without the jdk.jfr module) loading it fails
+    // and the no-op recorder is used.
+    private static EventRecorder loadRecorder() {
+        try {
+            return (EventRecorder) Class.forName(JFR_RECORDER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.log(Level.FINE, "JDK Flight Recorder events are not available", e);
+            return new EventRecorder() {
+            };
+        }
+    }
+
+    interface EventRecorder {
+        default Object beginCaptureDecision() {
+            return null;
+        }
+
+        default void endCaptureDecision(Object event, String phase, String route, String outcome) {
+        }
+
+        default Object beginBodyExtraction() {
+            return null;
+        }
+
+        default void endBodyExtraction(Object event, String phase, String route, String contentType, long capturedBytes) {
+        }
+
+        default Object beginJsonRedaction() {
+            return null;
+        }
+
+        default void endJsonRedaction(Object event, String phase, String route, int ignoredFieldCount, long redactedBytes) {
+        }
+
+        default Object beginPayloadSerialization() {
+            return null;
+        }
+
+        default void endPayloadSerialization(Object event, String phase, String route, long serializedBytes) {
+        }
+    }
+}
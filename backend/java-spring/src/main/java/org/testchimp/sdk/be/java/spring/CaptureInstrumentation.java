@@ -0,0 +1,119 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.logging.Logger;
+
+/**
+ * Records how long the SDK spends capturing requests / responses. Controlled by testchimp.sdk.instrumentation.mode:
+ * <ul>
+ * <li>metrics (default): a testchimp.sdk.capture.duration histogram, no extra spans.</li>
+ * <li>span_events: a testchimp.capture_request_body / testchimp.capture_response_body event on the server span.</li>
+ * <li>child_spans: capture_request_body / capture_response_body child spans (debug mode, doubles span volume).</li>
+ * </ul>
+ */
+@Component
+public class CaptureInstrumentation {
+    private static final Logger logger = Logger.getLogger(CaptureInstrumentation.class.getName());
+
+    public static final String REQUEST_PHASE = "request";
+    public static final String RESPONSE_PHASE = "response";
+
+    private static final String INSTRUMENTATION_NAME = "testchimp-sdk";
+    private static final AttributeKey<String> PHASE_KEY = AttributeKey.stringKey("phase");
+    private static final AttributeKey<Double> DURATION_MS_KEY = AttributeKey.doubleKey("duration_ms");
+    private static final Attributes REQUEST_PHASE_ATTRIBUTES = Attributes.of(PHASE_KEY, REQUEST_PHASE);
+    private static final Attributes RESPONSE_PHASE_ATTRIBUTES = Attributes.of(PHASE_KEY, RESPONSE_PHASE);
+    private static final String REQUEST_EVENT_NAME = "testchimp.capture_request_body";
+    private static final String RESPONSE_EVENT_NAME = "testchimp.capture_response_body";
+
+    public enum Mode {
+        METRICS, SPAN_EVENTS, CHILD_SPANS
+    }
+
+    @Value("${testchimp.sdk.instrumentation.mode:metrics}")
+    private String modeProperty;
+
+    @Autowired
+    private OpenTelemetry openTelemetry;
+
+    private Mode mode = Mode.METRICS;
+    private DoubleHistogram captureDurationHistogram;
+
+    @PostConstruct
+    public void init() {
+        try {
+            mode = Mode.valueOf(modeProperty.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown testchimp.sdk.instrumentation.mode " + modeProperty + ". Falling back to metrics.");
+            mode = Mode.METRICS;
+        }
+        captureDurationHistogram = openTelemetry.getMeter(INSTRUMENTATION_NAME)
+                .histogramBuilder("testchimp.sdk.capture.duration")
+                .setDescription("Time spent by the TestChimp SDK capturing request / response payloads")
+                .setUnit("ms")
+                .build();
+        logger.info("SDK instrumentation mode: " + mode);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    // Starts timing the given capture phase of the request whose server span is given. Close the returned phase when
+    // the phase is done (it can be closed more than once).
+    public Phase start(String phase, Span serverSpan) {
+        if (mode == Mode.CHILD_SPANS) {
+            Span childSpan = openTelemetry.getTracer(INSTRUMENTATION_NAME).spanBuilder("capture_" + phase + "_body")
+                    .setParent(Context.current()).startSpan();
+            return new Phase(phase, serverSpan, childSpan, childSpan.makeCurrent());
+        }
+        return new Phase(phase, serverSpan, null, null);
+    }
+
+    public class Phase implements AutoCloseable {
+        private final String phase;
+        private final Span serverSpan;
+        private final Span childSpan;
+        private final Scope scope;
+        private final long startNanos;
+        private boolean closed;
+
+        private Phase(String phase, Span serverSpan, Span childSpan, Scope scope) {
+            this.phase = phase;
+            this.serverSpan = serverSpan;
+            this.childSpan = childSpan;
+            this.scope = scope;
+            this.startNanos = childSpan == null ? System.nanoTime() : 0;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (childSpan != null) {
+                scope.close();
+                childSpan.end();
+                return;
+            }
+            double durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+            if (mode == Mode.SPAN_EVENTS) {
+                serverSpan.addEvent(REQUEST_PHASE.equals(phase) ? REQUEST_EVENT_NAME : RESPONSE_EVENT_NAME, Attributes.of(DURATION_MS_KEY, durationMs));
+            } else {
+                captureDurationHistogram.record(durationMs, REQUEST_PHASE.equals(phase) ? REQUEST_PHASE_ATTRIBUTES : RESPONSE_PHASE_ATTRIBUTES);
+            }
+        }
+    }
+}
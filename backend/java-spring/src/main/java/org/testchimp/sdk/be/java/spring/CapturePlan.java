@@ -0,0 +1,64 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The capture rules of all url_configs matching a URI, for one phase (request or response). DefaultRequestExtractor
+ * resolves a plan once per distinct URI and caches it, instead of evaluating every url_configs regex several times
+ * per request.
+ */
+public class CapturePlan {
+
+    // Route reported for URIs that match no url_configs pattern.
+    public static final String UNMATCHED_ROUTE = "unmatched";
+
+    // First url_configs pattern matching the URI, or UNMATCHED_ROUTE.
+    final String route;
+    final boolean matched;
+    final boolean ignorePayload;
+    final List<String> headerAttribsToExtract;
+    // Global, config level and route ignored_headers.
+    final HeaderFilter headerFilter;
+    final List<String> spanAttribsToExtract;
+    final List<String> ignoredFields;
+    // Projects json bodies onto the captured_fields paths. null to capture whole bodies.
+    final JsonFieldProjector capturedFieldsProjector;
+    // Bounds the arrays, strings and depth of captured json bodies. null if unbounded.
+    final JsonLimiter jsonLimiter;
+    // Applies the XPath ignored_fields, captured_fields, extract_to_span_attributes and user_id_field to xml bodies.
+    // null if there are none.
+    final XmlBodyProcessor xmlProcessor;
+    final List<String> userIdBodyFields;
+    // Capture the shape of json bodies instead of their values, and no other bodies (capture_mode: shape).
+    final boolean captureShape;
+    // Masks sensitive values found in captured bodies, whatever their path. null if not configured.
+    final PiiScanner piiScanner;
+
+    CapturePlan(String route, boolean ignorePayload, List<String> headerAttribsToExtract, HeaderFilter headerFilter,
+                List<String> spanAttribsToExtract, List<String> ignoredFields, JsonFieldProjector capturedFieldsProjector,
+                JsonLimiter jsonLimiter, XmlBodyProcessor xmlProcessor, List<String> userIdBodyFields, boolean captureShape,
+                PiiScanner piiScanner) {
+        this.route = route == null ? UNMATCHED_ROUTE : route;
+        this.matched = route != null;
+        this.ignorePayload = ignorePayload;
+        this.headerAttribsToExtract = Collections.unmodifiableList(headerAttribsToExtract);
+        this.headerFilter = headerFilter;
+        this.spanAttribsToExtract = Collections.unmodifiableList(spanAttribsToExtract);
+        this.ignoredFields = Collections.unmodifiableList(ignoredFields);
+        this.capturedFieldsProjector = capturedFieldsProjector;
+        this.jsonLimiter = jsonLimiter;
+        this.xmlProcessor = xmlProcessor;
+        this.userIdBodyFields = Collections.unmodifiableList(userIdBodyFields);
+        this.captureShape = captureShape;
+        this.piiScanner = piiScanner;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public boolean isIgnorePayload() {
+        return ignorePayload;
+    }
+}
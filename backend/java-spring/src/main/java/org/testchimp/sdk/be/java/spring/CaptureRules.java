@@ -0,0 +1,337 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static org.testchimp.sdk.be.java.spring.DefaultRequestExtractor.*;
+
+/**
+ * Immutable snapshot of the capture rules parsed from the SDK config yml, with the url_configs patterns precompiled.
+ * DefaultRequestExtractor swaps in a new snapshot when the file is reloaded. A request reads the snapshot once, so it
+ * sees a consistent set of rules even if a reload happens while it is being captured.
+ */
+class CaptureRules {
+    private static final Logger logger = Logger.getLogger(CaptureRules.class.getName());
+    private static final String GLOBAL_CONFIG_YML_FIELD = "global_config";
+    private static final String URL_CONFIGS_YML_FIELD = "url_configs";
+    private static final String ENABLE_OPTIONS_CALL_TRACKING_FIELD = "enable_options_call_tracking";
+
+    private static final String IGNORE_URLS_YML_FIELD = "ignored_urls";
+    private static final String IGNORE_HEADERS_YML_FIELD = "ignored_headers";
+    private static final String USER_ID_HEADER_YML_FIELD = "user_id_header";
+    private static final String SESSION_RECORD_TRACKING_ID_YML_FIELD = "session_record_tracking_id_header";
+    private static final String USER_ID_BODY_FIELD_YML_FIELD = "user_id_field";
+    private static final String IGNORE_PAYLOAD_YML_FIELD = "ignore_payload";
+    private static final String CAPTURE_MODE_YML_FIELD = "capture_mode";
+    private static final String SHAPE_CAPTURE_MODE = "shape";
+    private static final String FULL_CAPTURE_MODE = "full";
+    private static final String MAX_ARRAY_ELEMENTS_YML_FIELD = "max_array_elements";
+    private static final String MAX_STRING_LENGTH_YML_FIELD = "max_string_length";
+    private static final String MAX_DEPTH_YML_FIELD = "max_depth";
+    private static final String PII_SCAN_YML_FIELD = "pii_scan";
+    private static final String PII_DETECTORS_YML_FIELD = "detectors";
+    private static final String PII_LITERALS_YML_FIELD = "literals";
+    // url_configs keys starting with this prefix are path templates (see PathTemplateTrie) rather than regexes.
+    static final String PATH_TEMPLATE_PREFIX = "path:";
+
+    static final CaptureRules EMPTY = new CaptureRules(null, Collections.emptyList());
+
+    final String userIdHeader;
+    final String sessionRecordTrackingIdHeader;
+    final boolean enableOptionsCallTracking;
+    // Masks sensitive values in captured bodies (global_config.pii_scan). null if not configured.
+    private final PiiScanner piiScanner;
+
+    // url_configs keys, in config order. uriPatterns holds the compiled regex of each key, or null for path templates,
+    // which are in pathTemplates under their index in uris.
+    private final List<String> uris = new ArrayList<>();
+    private final List<Pattern> uriPatterns = new ArrayList<>();
+    private final PathTemplateTrie pathTemplates = new PathTemplateTrie();
+    // IRequestCaptureConfig.getIgnoredHeaders and global_config.ignored_headers, ignored for every matched URI in both
+    // phases.
+    private final List<String> globalIgnoredHeaders = new ArrayList<>();
+    private final PhaseRules requestRules = new PhaseRules();
+    private final PhaseRules responseRules = new PhaseRules();
+
+    // Capture plans resolved from these rules, per URI. They are dropped together with the snapshot on reload.
+    final Map<String, CapturePlan> requestCapturePlans = new ConcurrentHashMap<>();
+    final Map<String, CapturePlan> responseCapturePlans = new ConcurrentHashMap<>();
+    // Response capture plans keyed by Spring MVC handler pattern (see DefaultRequestExtractor.keyResponsePlansByHandlerPattern).
+    final Map<String, CapturePlan> responseCapturePlansByHandlerPattern = new ConcurrentHashMap<>();
+
+    // Parses the root node of the config yml (null for no rules), adding the ignored headers of the capture config.
+    CaptureRules(JsonNode rootNode, Collection<String> configIgnoredHeaders) {
+        globalIgnoredHeaders.addAll(configIgnoredHeaders);
+        JsonNode globalConfigNode = rootNode == null ? null : rootNode.get(GLOBAL_CONFIG_YML_FIELD);
+        String userIdHeader = null;
+        String sessionRecordTrackingIdHeader = null;
+        boolean enableOptionsCallTracking = false;
+        PiiScanner piiScanner = null;
+        if (globalConfigNode != null) {
+            if (globalConfigNode.has(IGNORE_URLS_YML_FIELD)) {
+                for (JsonNode ignoreUrlNode : globalConfigNode.get(IGNORE_URLS_YML_FIELD)) {
+                    String ignoreUrl = ignoreUrlNode.asText();
+                    requestRules.ignoreUris.add(ignoreUrl);
+                    responseRules.ignoreUris.add(ignoreUrl);
+                    logger.info("Rule: ignore all payload capture for URLs matching: " + ignoreUrl);
+                }
+            }
+            if (globalConfigNode.has(IGNORE_HEADERS_YML_FIELD)) {
+                for (JsonNode ignoreHeaderNode : globalConfigNode.get(IGNORE_HEADERS_YML_FIELD)) {
+                    String ignoreHeader = ignoreHeaderNode.asText();
+                    globalIgnoredHeaders.add(ignoreHeader);
+                    logger.info("Rule: For all requests / responses, ignore header " + ignoreHeader);
+                }
+            }
+            if (globalConfigNode.has(USER_ID_HEADER_YML_FIELD)) {
+                userIdHeader = globalConfigNode.get(USER_ID_HEADER_YML_FIELD).asText().toLowerCase();
+            }
+            if (globalConfigNode.has(SESSION_RECORD_TRACKING_ID_YML_FIELD)) {
+                sessionRecordTrackingIdHeader = globalConfigNode.get(SESSION_RECORD_TRACKING_ID_YML_FIELD).asText()
+                        .toLowerCase();
+            }
+            if (globalConfigNode.has(ENABLE_OPTIONS_CALL_TRACKING_FIELD)) {
+                enableOptionsCallTracking = globalConfigNode.get(ENABLE_OPTIONS_CALL_TRACKING_FIELD).asBoolean();
+                logger.info("Configuration: enableOptionsCallTracking set to " + enableOptionsCallTracking);
+            }
+            JsonNode piiScanNode = globalConfigNode.get(PII_SCAN_YML_FIELD);
+            if (piiScanNode != null) {
+                List<String> detectors = getTextList(piiScanNode.get(PII_DETECTORS_YML_FIELD));
+                List<String> literals = getTextList(piiScanNode.get(PII_LITERALS_YML_FIELD));
+                piiScanner = PiiScanner.create(detectors, literals);
+                logger.info("Rule: scan captured bodies for " + String.join(",", detectors) + " and " + literals.size() + " literals");
+            }
+        }
+        this.userIdHeader = userIdHeader;
+        this.sessionRecordTrackingIdHeader = sessionRecordTrackingIdHeader;
+        this.enableOptionsCallTracking = enableOptionsCallTracking;
+        this.piiScanner = piiScanner;
+
+        if (rootNode != null && rootNode.has(URL_CONFIGS_YML_FIELD)) {
+            JsonNode urlConfigsNode = rootNode.get(URL_CONFIGS_YML_FIELD);
+            Iterator<String> fieldNames = urlConfigsNode.fieldNames();
+            while (fieldNames.hasNext()) {
+                String uriPattern = fieldNames.next();
+                logger.info("uri pattern " + uriPattern + " will be intercepted");
+                if (uriPattern.startsWith(PATH_TEMPLATE_PREFIX)) {
+                    pathTemplates.add(uriPattern.substring(PATH_TEMPLATE_PREFIX.length()), uris.size());
+                    uriPatterns.add(null);
+                } else {
+                    uriPatterns.add(Pattern.compile(uriPattern));
+                }
+                uris.add(uriPattern);
+                JsonNode uriNode = urlConfigsNode.get(uriPattern);
+                requestRules.parseSection(uriPattern, uriNode.get(REQUEST_YML_FIELD));
+                responseRules.parseSection(uriPattern, uriNode.get(RESPONSE_YML_FIELD));
+            }
+        }
+        requestRules.compileIgnoreUris();
+        responseRules.compileIgnoreUris();
+        logger.info("Request ignore uris: " + String.join(",", requestRules.ignoreUris));
+    }
+
+    CapturePlan resolveCapturePlan(String uri, String phase) {
+        PhaseRules phaseRules = CaptureInstrumentation.REQUEST_PHASE.equals(phase) ? requestRules : responseRules;
+        // Path templates are looked up first. Regexes are only evaluated when no template matches.
+        BitSet matches = pathTemplates.match(uri);
+        if (matches.isEmpty()) {
+            for (int i = 0; i < uriPatterns.size(); i++) {
+                Pattern uriPattern = uriPatterns.get(i);
+                if (uriPattern != null && uriPattern.matcher(uri).matches()) {
+                    matches.set(i);
+                }
+            }
+        }
+
+        String route = null;
+        boolean ignorePayload = matches.isEmpty();
+        List<String> headerAttribsToExtract = new ArrayList<>();
+        List<String> ignoredHeaders = new ArrayList<>(globalIgnoredHeaders);
+        List<String> spanAttribsToExtract = new ArrayList<>();
+        List<String> ignoredFields = new ArrayList<>();
+        // null unless a matched url_config has captured_fields.
+        List<String> capturedFields = null;
+        List<String> userIdBodyFields = new ArrayList<>();
+        boolean captureShape = false;
+        JsonLimiter jsonLimiter = null;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            String uriPattern = uris.get(i);
+            if (route == null) {
+                route = uriPattern;
+            }
+            headerAttribsToExtract.addAll(phaseRules.headerExtractToSpanAttributesMap.getOrDefault(uriPattern, Collections.emptyList()));
+            ignoredHeaders.addAll(phaseRules.ignoredHeadersMap.getOrDefault(uriPattern, Collections.emptyList()));
+            spanAttribsToExtract.addAll(phaseRules.extractToSpanAttributesMap.getOrDefault(uriPattern, Collections.emptyList()));
+            ignoredFields.addAll(phaseRules.ignoredFieldsMap.getOrDefault(uriPattern, Collections.emptyList()));
+            List<String> uriCapturedFields = phaseRules.capturedFieldsMap.get(uriPattern);
+            if (uriCapturedFields != null) {
+                if (capturedFields == null) {
+                    capturedFields = new ArrayList<>();
+                }
+                capturedFields.addAll(uriCapturedFields);
+            }
+            captureShape |= phaseRules.shapeCaptureUris.contains(uriPattern);
+            jsonLimiter = JsonLimiter.merge(jsonLimiter, phaseRules.jsonLimitersMap.get(uriPattern));
+            String userIdField = phaseRules.extractToUserIdMap.get(uriPattern);
+            if (userIdField != null && !userIdField.isEmpty()) {
+                userIdBodyFields.add(userIdField);
+            }
+            if (uriPatterns.get(i) == null && phaseRules.ignoreUris.contains(uriPattern)) {
+                ignorePayload = true;
+            }
+        }
+        // XPaths apply to xml bodies, the other paths to json bodies.
+        List<String> xmlCapturedFields = XmlBodyProcessor.removeXPaths(capturedFields);
+        if (capturedFields != null && capturedFields.isEmpty()) {
+            capturedFields = null;
+        }
+        XmlBodyProcessor xmlProcessor = XmlBodyProcessor.create(XmlBodyProcessor.removeXPaths(ignoredFields),
+                xmlCapturedFields.isEmpty() ? null : xmlCapturedFields, XmlBodyProcessor.removeXPaths(spanAttribsToExtract),
+                XmlBodyProcessor.removeXPaths(userIdBodyFields));
+        if (!ignorePayload) {
+            for (Pattern ignoreUriPattern : phaseRules.ignoreUriPatterns) {
+                if (ignoreUriPattern.matcher(uri).matches()) {
+                    ignorePayload = true;
+                    break;
+                }
+            }
+        }
+        return new CapturePlan(route, ignorePayload, headerAttribsToExtract, HeaderFilter.compile(ignoredHeaders), spanAttribsToExtract, ignoredFields,
+                capturedFields == null ? null : new JsonFieldProjector(capturedFields), jsonLimiter, xmlProcessor, userIdBodyFields, captureShape, ignorePayload ? null : piiScanner);
+    }
+
+    private static List<String> getTextList(JsonNode listNode) {
+        List<String> values = new ArrayList<>();
+        if (listNode != null) {
+            for (JsonNode valueNode : listNode) {
+                values.add(valueNode.asText());
+            }
+        }
+        return values;
+    }
+
+    // The url_configs rules of one phase (request or response), keyed by uri pattern.
+    private static class PhaseRules {
+        private final Map<String, List<String>> extractToSpanAttributesMap = new HashMap<>();
+        private final Map<String, String> extractToUserIdMap = new HashMap<>();
+        private final Map<String, List<String>> headerExtractToSpanAttributesMap = new HashMap<>();
+        private final Map<String, List<String>> ignoredFieldsMap = new HashMap<>();
+        private final Map<String, List<String>> capturedFieldsMap = new HashMap<>();
+        private final Map<String, List<String>> ignoredHeadersMap = new HashMap<>();
+        // uris whose json bodies are captured as their shape.
+        private final Set<String> shapeCaptureUris = new HashSet<>();
+        private final Map<String, JsonLimiter> jsonLimitersMap = new HashMap<>();
+        // for uris in this set, all bodies of this phase will be ignored.
+        private final Set<String> ignoreUris = new LinkedHashSet<>();
+        // The regexes of ignoreUris. Path templates in ignoreUris apply when they are among the matched url_configs.
+        private final List<Pattern> ignoreUriPatterns = new ArrayList<>();
+
+        private void parseSection(String uriPattern, JsonNode sectionNode) {
+            if (sectionNode == null) {
+                ignoreUris.add(uriPattern);
+                return;
+            }
+            if (sectionNode.has(EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
+                List<String> extractAttributes = new ArrayList<>();
+                for (JsonNode attributeNode : sectionNode.get(EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
+                    String attribute = attributeNode.asText();
+                    extractAttributes.add(attribute);
+                    logger.info("Rule: extract " + attribute + " for " + uriPattern);
+                }
+                XmlBodyProcessor.logUnsupported(uriPattern, EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD, extractAttributes);
+                extractToSpanAttributesMap.put(uriPattern, extractAttributes);
+            }
+            if (sectionNode.has(EXTRACT_HEADERS_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
+                List<String> extractHeaderAttributes = new ArrayList<>();
+                for (JsonNode attributeNode : sectionNode.get(EXTRACT_HEADERS_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
+                    String attribute = attributeNode.asText();
+                    extractHeaderAttributes.add(attribute);
+                    logger.info("Rule: extract header " + attribute + " for " + uriPattern);
+                }
+                headerExtractToSpanAttributesMap.put(uriPattern, extractHeaderAttributes);
+            }
+            if (sectionNode.has(USER_ID_BODY_FIELD_YML_FIELD)) {
+                String userIdField = sectionNode.get(USER_ID_BODY_FIELD_YML_FIELD).asText();
+                logger.info("Rule: user id field: " + userIdField + " captured for uris: " + uriPattern);
+                XmlBodyProcessor.logUnsupported(uriPattern, USER_ID_BODY_FIELD_YML_FIELD, Collections.singletonList(userIdField));
+                extractToUserIdMap.put(uriPattern, userIdField);
+            }
+            if (sectionNode.has(IGNORE_PAYLOAD_YML_FIELD)) {
+                logger.info("Rule: ignore payload for " + uriPattern);
+                ignoreUris.add(uriPattern);
+            }
+            if (sectionNode.has(CAPTURE_MODE_YML_FIELD)) {
+                String captureMode = sectionNode.get(CAPTURE_MODE_YML_FIELD).asText();
+                if (SHAPE_CAPTURE_MODE.equalsIgnoreCase(captureMode)) {
+                    logger.info("Rule: capture the shape of bodies for " + uriPattern);
+                    shapeCaptureUris.add(uriPattern);
+                } else if (!FULL_CAPTURE_MODE.equalsIgnoreCase(captureMode)) {
+                    logger.warning("Unknown capture_mode " + captureMode + " for " + uriPattern + ", capturing full bodies");
+                }
+            }
+            int maxArrayElements = getLimit(uriPattern, sectionNode, MAX_ARRAY_ELEMENTS_YML_FIELD);
+            int maxStringLength = getLimit(uriPattern, sectionNode, MAX_STRING_LENGTH_YML_FIELD);
+            int maxDepth = getLimit(uriPattern, sectionNode, MAX_DEPTH_YML_FIELD);
+            if (maxArrayElements != JsonLimiter.UNLIMITED || maxStringLength != JsonLimiter.UNLIMITED || maxDepth != JsonLimiter.UNLIMITED) {
+                jsonLimitersMap.put(uriPattern, new JsonLimiter(maxArrayElements, maxStringLength, maxDepth));
+            }
+            if (sectionNode.has(IGNORED_FIELDS_YML_FIELD)) {
+                List<String> ignoredFields = new ArrayList<>();
+                for (JsonNode ignoredFieldNode : sectionNode.get(IGNORED_FIELDS_YML_FIELD)) {
+                    String ignoredField = ignoredFieldNode.asText();
+                    ignoredFields.add(ignoredField);
+                    logger.info("Rule: ignore field " + ignoredField + " for " + uriPattern);
+                }
+                XmlBodyProcessor.logUnsupported(uriPattern, IGNORED_FIELDS_YML_FIELD, ignoredFields);
+                ignoredFieldsMap.put(uriPattern, ignoredFields);
+            }
+            if (sectionNode.has(CAPTURED_FIELDS_YML_FIELD)) {
+                List<String> capturedFields = new ArrayList<>();
+                for (JsonNode capturedFieldNode : sectionNode.get(CAPTURED_FIELDS_YML_FIELD)) {
+                    String capturedField = capturedFieldNode.asText();
+                    capturedFields.add(capturedField);
+                    logger.info("Rule: capture only field " + capturedField + " for " + uriPattern);
+                }
+                JsonFieldProjector.logUnsupported(uriPattern, capturedFields);
+                XmlBodyProcessor.logUnsupported(uriPattern, CAPTURED_FIELDS_YML_FIELD, capturedFields);
+                capturedFieldsMap.put(uriPattern, capturedFields);
+            }
+            if (sectionNode.has(IGNORED_HEADERS_YML_FIELD)) {
+                List<String> ignoredHeaders = new ArrayList<>();
+                for (JsonNode ignoredHeadersNode : sectionNode.get(IGNORED_HEADERS_YML_FIELD)) {
+                    String ignoredHeader = ignoredHeadersNode.asText();
+                    ignoredHeaders.add(ignoredHeader);
+                    logger.info("Rule: ignore header " + ignoredHeader + " for " + uriPattern);
+                }
+                ignoredHeadersMap.put(uriPattern, ignoredHeaders);
+            }
+        }
+
+        // Returns the positive limit set by the given field, or JsonLimiter.UNLIMITED.
+        private static int getLimit(String uriPattern, JsonNode sectionNode, String field) {
+            if (!sectionNode.has(field)) {
+                return JsonLimiter.UNLIMITED;
+            }
+            int limit = sectionNode.get(field).asInt();
+            // max_depth 0 would leave nothing of the body.
+            if (limit < 0 || (limit == 0 && field.equals(MAX_DEPTH_YML_FIELD))) {
+                logger.warning("Ignoring " + field + " " + sectionNode.get(field).asText() + " for " + uriPattern);
+                return JsonLimiter.UNLIMITED;
+            }
+            logger.info("Rule: " + field + " " + limit + " for " + uriPattern);
+            return limit;
+        }
+
+        private void compileIgnoreUris() {
+            for (String ignoreUri : ignoreUris) {
+                if (!ignoreUri.startsWith(PATH_TEMPLATE_PREFIX)) {
+                    ignoreUriPatterns.add(Pattern.compile(ignoreUri));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a file from a daemon thread and runs a callback when its content may have changed (used to reload the SDK
+ * config yml). The parent directory is watched, and a change is detected by the file's last modified time, size or real path.
+ * This also catches the file being replaced, e.g. when a Kubernetes config map swaps its symlinks. Events arriving
+ * within a short quiet period are coalesced, so an editor saving the file in several steps triggers one callback.
+ */
+class ConfigFileWatcher implements Closeable {
+    private static final Logger logger = Logger.getLogger(ConfigFileWatcher.class.getName());
+    private static final long QUIET_PERIOD_MILLIS = 250;
+
+    private final Path file;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private Object lastStamp;
+
+    ConfigFileWatcher(Path file, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath().normalize();
+        this.onChange = onChange;
+        this.lastStamp = getStamp();
+        this.watchService = this.file.getFileSystem().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        Thread thread = new Thread(this::watch, "testchimp-sdk-config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                do {
+                    key.pollEvents();
+                    key.reset();
+                } while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null);
+                Object stamp = getStamp();
+                if (stamp != null && !stamp.equals(lastStamp)) {
+                    lastStamp = stamp;
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        logger.log(Level.SEVERE, "Error handling a change of " + file, e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed.
+        }
+    }
+
+    // Identifies the current version of the file, or null while it does not exist.
+    private Object getStamp() {
+        try {
+            FileTime lastModified = Files.getLastModifiedTime(file);
+            return Arrays.asList(file.toRealPath().toString(), lastModified, Files.size(file));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error closing the watcher of " + file, e);
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class Constants {
 
     public static final String REQUEST_PAYLOAD_SPAN_ATTRIBUTE = "testchimp.derived.request.payload";
     public static final String RESPONSE_PAYLOAD_SPAN_ATTRIBUTE = "testchimp.derived.response.payload";
+    public static final String PAYLOAD_BATCH_V2_SPAN_ATTRIBUTE = "testchimp.derived.payload_batch.v2";
     public static final String SELF_HTTP_URL_SPAN_ATTRIBUTE = "testchimp.derived.url.path.self";
     public static final String USER_ID_SPAN_ATTRIBUTE = "testchimp.derived.user.id";
 
@@ -0,0 +1,107 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes bodies captured with a Content-Encoding applied (gzip, deflate and - when org.brotli:dec is on the classpath -
+ * br). Captured bytes are kept compressed and only inflated when extraction actually needs the body.
+ */
+public class ContentEncodingDecoder {
+    private static final Logger logger = Logger.getLogger(ContentEncodingDecoder.class.getName());
+
+    public static final int DEFAULT_MAX_DECODED_BODY_BYTES = 5 * 1024 * 1024;
+
+    private static final String BROTLI_INPUT_STREAM_CLASS = "org.brotli.dec.BrotliInputStream";
+    private static final boolean BROTLI_PRESENT = ClassUtils.isPresent(BROTLI_INPUT_STREAM_CLASS,
+            ContentEncodingDecoder.class.getClassLoader());
+
+    private ContentEncodingDecoder() {
+    }
+
+    // Returns true if the body needs no decoding (no encoding or identity).
+    public static boolean isIdentity(String contentEncoding) {
+        return contentEncoding == null || contentEncoding.isEmpty() || contentEncoding.trim()
+                .equalsIgnoreCase("identity");
+    }
+
+    /**
+     * Returns the decoded body, or null if the encoding is not supported, the body is corrupt or the decoded size
+     * exceeds maxDecodedBytes. Stacked encodings (e.g. "deflate, gzip") are undone in reverse order.
+     */
+    public static byte[] decode(byte[] body, String contentEncoding, int maxDecodedBytes) {
+        if (isIdentity(contentEncoding)) {
+            return body;
+        }
+        String[] encodings = contentEncoding.split(",");
+        byte[] decoded = body;
+        for (int i = encodings.length - 1; i >= 0 && decoded != null; i--) {
+            decoded = decodeSingle(decoded, encodings[i].trim().toLowerCase(), maxDecodedBytes);
+        }
+        return decoded;
+    }
+
+    private static byte[] decodeSingle(byte[] body, String encoding, int maxDecodedBytes) {
+        if (body.length == 0 || encoding.isEmpty() || encoding.equals("identity")) {
+            return body;
+        }
+        try {
+            switch (encoding) {
+                case "gzip":
+                case "x-gzip":
+                    return readCapped(new GZIPInputStream(new ByteArrayInputStream(body)), maxDecodedBytes);
+                case "deflate":
+                    // Servers disagree on whether "deflate" is zlib wrapped or raw; the zlib header tells them apart.
+                    boolean zlibWrapped = body.length > 1 && (body[0] & 0x0F) == 8 && ((body[0] & 0xFF) << 8 | (body[1] & 0xFF)) % 31 == 0;
+                    Inflater inflater = new Inflater(!zlibWrapped);
+                    try {
+                        return readCapped(new InflaterInputStream(new ByteArrayInputStream(body), inflater), maxDecodedBytes);
+                    } finally {
+                        // InflaterInputStream only ends the inflaters it creates itself.
+                        inflater.end();
+                    }
+                case "br":
+                    if (BROTLI_PRESENT) {
+                        InputStream brotli = (InputStream) ClassUtils.forName(BROTLI_INPUT_STREAM_CLASS, ContentEncodingDecoder.class.getClassLoader())
+                                .getConstructor(InputStream.class).newInstance(new ByteArrayInputStream(body));
+                        return readCapped(brotli, maxDecodedBytes);
+                    }
+                    logger.fine("Skipping br encoded body since org.brotli:dec is not on the classpath");
+                    return null;
+                default:
+                    logger.fine("Skipping body with unsupported content encoding: " + encoding);
+                    return null;
+            }
+        } catch (Exception e) {
+            logger.log(Level.FINE, "Error decoding " + encoding + " encoded body", e);
+            return null;
+        }
+    }
+
+    private static byte[] readCapped(InputStream in, int maxDecodedBytes) throws IOException {
+        try (InputStream is = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int total = 0;
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                total += read;
+                if (total > maxDecodedBytes) {
+                    logger.fine("Decoded body exceeds " + maxDecodedBytes + " bytes. Skipping capture.");
+                    return null;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -39,6 +39,9 @@ public class DefaultRequestCaptureConfig implements IRequestCaptureConfig {
 
     public void setHeadersToSkip(List<String> headersToSkip) {
         HEADERS_TO_SKIP = headersToSkip;
+        if (defaultRequestExtractor != null) {
+            defaultRequestExtractor.setConfigIgnoredHeaders(headersToSkip);
+        }
     }
 
     public void setUriPatternsToSkip(List<String> uriPatternsToSkip) {
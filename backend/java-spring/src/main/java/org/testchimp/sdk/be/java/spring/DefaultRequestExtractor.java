@@ -6,9 +6,14 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.MapFunction;
 import com.jayway.jsonpath.Option;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import io.opentelemetry.api.common.AttributesBuilder;
 import lombok.SneakyThrows;
 import org.testchimp.model.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
@@ -16,12 +21,12 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import javax.servlet.ServletException;
-import javax.servlet.http.Part;
+import javax.annotation.PreDestroy;
+import javax.xml.stream.XMLStreamException;
 import java.io.*;
-import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,485 +34,592 @@ import java.util.stream.Collectors;
 @Component
 public class DefaultRequestExtractor implements IExtractor {
     private static final Logger logger = Logger.getLogger(DefaultRequestExtractor.class.getName());
-    private static final String GLOBAL_CONFIG_YML_FIELD = "global_config";
-    private static final String URL_CONFIGS_YML_FIELD = "url_configs";
-    private static final String ENABLE_OPTIONS_CALL_TRACKING_FIELD = "enable_options_call_tracking";
-
-    private static final String IGNORE_URLS_YML_FIELD = "ignored_urls";
-    private static final String IGNORE_HEADERS_YML_FIELD = "ignored_headers";
-    private static final String USER_ID_HEADER_YML_FIELD = "user_id_header";
-    private static final String SESSION_RECORD_TRACKING_ID_YML_FIELD = "session_record_tracking_id_header";
-    private static final String USER_ID_BODY_FIELD_YML_FIELD = "user_id_field";
-
     public static final String REQUEST_YML_FIELD = "request";
     public static final String RESPONSE_YML_FIELD = "response";
 
     public static final String EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD = "extract_to_span_attributes";
     public static final String EXTRACT_HEADERS_TO_SPAN_ATTRIBUTES_YML_FIELD = "extract_headers_to_span_attributes";
     public static final String IGNORED_FIELDS_YML_FIELD = "ignored_fields";
+    public static final String CAPTURED_FIELDS_YML_FIELD = "captured_fields";
     public static final String IGNORED_HEADERS_YML_FIELD = "ignored_headers";
-    private static final String IGNORE_PAYLOAD_YML_FIELD = "ignore_payload";
 
     @Value("${testchimp.sdk.config.file.path:classpath:testchimp_sdk_config.yml}")
     private String configFilePath;
 
-    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    // Reload the config file when it changes (only for config files on the file system).
+    @Value("${testchimp.sdk.config.reload.enabled:false}")
+    private boolean reloadEnabled;
+
+    // Values of multipart and url encoded form fields longer than this are truncated when captured.
+    @Value("${testchimp.sdk.capture.max_form_field_bytes:65536}")
+    private int maxFormFieldBytes = 65536;
+
+    // Number of distinct URIs (per phase) whose resolved capture rules are cached.
+    @Value("${testchimp.sdk.capture.rule_cache_size:1024}")
+    private int ruleCacheSize = 1024;
 
-    // for uris in this set, all request bodies will be ignored.
-    private Set<String> requestIgnoreUris = new HashSet<>();
-    // for uris in this set, all response bodies will be ignored.
-    private Set<String> responseIgnoreUris = new HashSet<>();
+    // Key response capture plans on the Spring MVC handler pattern (e.g. /orders/{id}) rather than the URI: the plan
+    // resolved for the first URI of a handler is reused for all of them, without evaluating the url_configs patterns.
+    // Only suitable when the rules do not tell apart URIs served by the same handler.
+    @Value("${testchimp.sdk.capture.key_response_plans_by_handler_pattern:false}")
+    private boolean keyResponsePlansByHandlerPattern;
 
-    private String userIdHeader;
-    private String sessionRecordTrackingIdHeader;
-    private Map<String, List<String>> requestExtractToSpanAttributesMap = new HashMap<>();
-    private Map<String, String> requestExtractToUserIdMap = new HashMap<>();
-    private Map<String, List<String>> requestHeaderExtractToSpanAttributesMap = new HashMap<>();
-    private Map<String, List<String>> requestIgnoredFieldsMap = new HashMap<>();
-    private Map<String, List<String>> requestIgnoredHeadersMap = new HashMap<>();
+    // Capture bodies that are recorded verbatim (json without rules, text, html, xml, ...) as EncodedBody bytes wrapping
+    // the capture buffer, instead of decoding them to a string. The TestChimp backend must support encoded_body.
+    @Value("${testchimp.sdk.capture.encoded_bodies:false}")
+    private boolean captureEncodedBodies;
 
+    // FileDescriptorSet (protoc --include_imports --descriptor_set_out) used to decode protobuf / gRPC bodies to json.
+    @Value("${testchimp.sdk.capture.protobuf_descriptor_set:}")
+    private String protobufDescriptorSetPath = "";
 
-    private Map<String, List<String>> responseExtractToSpanAttributesMap = new HashMap<>();
-    private Map<String, String> responseExtractToUserIdMap = new HashMap<>();
-    private Map<String, List<String>> responseHeaderExtractToSpanAttributesMap = new HashMap<>();
-    private Map<String, List<String>> responseIgnoredFieldsMap = new HashMap<>();
-    private Map<String, List<String>> responseIgnoredHeadersMap = new HashMap<>();
+    // With capture_mode: shape, a shape is sent in full at most once per interval; other payloads reference its hash.
+    @Value("${testchimp.sdk.capture.shape_resend_interval_seconds:600}")
+    private long shapeResendIntervalSeconds = 600;
 
-    private List<String> uris = new ArrayList<>();
-    private boolean enableOptionsCallTracking;
+    @Autowired(required = false)
+    private ICaptureMetrics captureMetrics = ICaptureMetrics.NOOP;
+
+    // Application codecs, replacing the built-in codecs of the media types they declare.
+    @Autowired(required = false)
+    private List<IBodyCodec> applicationBodyCodecs = Collections.emptyList();
+
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    // Swapped as a whole on reload. Each extraction reads it once, so it applies a consistent set of rules.
+    private volatile CaptureRules rules = CaptureRules.EMPTY;
+    // Root node of the last config yml read, and IRequestCaptureConfig.getIgnoredHeaders, the rules are built from.
+    private JsonNode rulesRoot;
+    private List<String> configIgnoredHeaders = Collections.emptyList();
+    private ConfigFileWatcher configFileWatcher;
+    private final IBodyCodec jsonBodyCodec = BodyCodecRegistry.codec(context -> extractJsonBody(context, context.body.getBodyString()),
+            "application/json");
+    private final IBodyCodec xmlBodyCodec = BodyCodecRegistry.codec(this::extractXmlBody, "text/xml", "application/xml",
+            "application/soap+xml");
+    private BodyCodecRegistry bodyCodecs;
+    private JsonShapeSummarizer shapeSummarizer;
 
     @PostConstruct
     public void init() {
         logger.info("Initializing DefaultRequestExtractor...");
-        try {
-            ResourceLoader resourceLoader = new DefaultResourceLoader();
-            Resource resource = resourceLoader.getResource(configFilePath);
-            if (resource.exists()) {
-                logger.info("Found tracked tests request capture config yml @ " + configFilePath);
-                InputStream inputStream = resource.getInputStream();
-                JsonNode rootNode = YAML_MAPPER.readTree(inputStream);
-
-                // Parse global config
-                parseGlobalConfig(rootNode.get(GLOBAL_CONFIG_YML_FIELD));
-
-                // Parse URL configs
-                if (rootNode.has(URL_CONFIGS_YML_FIELD)) {
-                    JsonNode urlConfigsNode = rootNode.get(URL_CONFIGS_YML_FIELD);
-                    Iterator<String> fieldNames = urlConfigsNode.fieldNames();
-                    while (fieldNames.hasNext()) {
-                        String uriPattern = fieldNames.next();
-                        logger.info("uri pattern " + uriPattern + " will be intercepted");
-                        uris.add(uriPattern);
-                        JsonNode uriNode = urlConfigsNode.get(uriPattern);
-
-                        // Parse request section
-                        parseSection(uriPattern, uriNode.get(REQUEST_YML_FIELD), requestExtractToSpanAttributesMap, requestHeaderExtractToSpanAttributesMap,
-                                requestIgnoredFieldsMap, requestIgnoredHeadersMap, requestExtractToUserIdMap, requestIgnoreUris);
-
-                        // Parse response section
-                        parseSection(uriPattern, uriNode.get(RESPONSE_YML_FIELD), responseExtractToSpanAttributesMap, responseHeaderExtractToSpanAttributesMap,
-                                responseIgnoredFieldsMap, responseIgnoredHeadersMap, responseExtractToUserIdMap, responseIgnoreUris);
-                    }
-                }
-            } else {
-                logger.warning("request capture config file not found at: " + configFilePath);
+        bodyCodecs = createBodyCodecs();
+        shapeSummarizer = new JsonShapeSummarizer(shapeResendIntervalSeconds);
+        reload();
+        if (reloadEnabled) {
+            try {
+                configFileWatcher = new ConfigFileWatcher(getConfigResource().getFile().toPath(), this::reload);
+                logger.info("Watching " + configFilePath + " for capture config changes");
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Capture config reload disabled: " + configFilePath + " is not a file on the file system", e);
             }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error reading request_body_capture_config.yml", e);
         }
-        logger.info("Request ignore uris: " + String.join(",", requestIgnoreUris));
     }
 
-    private void parseGlobalConfig(JsonNode globalConfigNode) {
-        if (globalConfigNode != null) {
-            if (globalConfigNode.has(IGNORE_URLS_YML_FIELD)) {
-                for (JsonNode ignoreUrlNode : globalConfigNode.get(IGNORE_URLS_YML_FIELD)) {
-                    String ignoreUrl = ignoreUrlNode.asText();
-                    requestIgnoreUris.add(ignoreUrl);
-                    responseIgnoreUris.add(ignoreUrl);
-                    logger.info("Rule: ignore all payload capture for URLs matching: " + ignoreUrl);
-                }
-            }
-            if (globalConfigNode.has(IGNORE_HEADERS_YML_FIELD)) {
-                for (JsonNode ignoreHeaderNode : globalConfigNode.get(IGNORE_HEADERS_YML_FIELD)) {
-                    String ignoreHeader = ignoreHeaderNode.asText();
-                    requestIgnoredHeadersMap.put(".*", Arrays.asList(ignoreHeader));
-                    responseIgnoredHeadersMap.put(".*", Arrays.asList(ignoreHeader));
-                    logger.info("Rule: For all requests / responses, ignore header " + ignoreHeader);
-                }
-            }
-            if (globalConfigNode.has(USER_ID_HEADER_YML_FIELD)) {
-                userIdHeader = globalConfigNode.get(USER_ID_HEADER_YML_FIELD).asText().toLowerCase();
-            }
-            if (globalConfigNode.has(SESSION_RECORD_TRACKING_ID_YML_FIELD)) {
-                sessionRecordTrackingIdHeader = globalConfigNode.get(SESSION_RECORD_TRACKING_ID_YML_FIELD).asText()
-                        .toLowerCase();
-            }
-            // Read the enableOptionsCallTracking field
-            enableOptionsCallTracking = false;
-            if (globalConfigNode.has(ENABLE_OPTIONS_CALL_TRACKING_FIELD)) {
-                enableOptionsCallTracking = globalConfigNode.get(ENABLE_OPTIONS_CALL_TRACKING_FIELD).asBoolean();
-                logger.info("Configuration: enableOptionsCallTracking set to " + enableOptionsCallTracking);
-            }
+    @PreDestroy
+    public void destroy() {
+        if (configFileWatcher != null) {
+            configFileWatcher.close();
         }
     }
 
-    private void parseSection(String uriPattern, JsonNode sectionNode,
-                              Map<String, List<String>> extractToSpanAttributesMap, Map<String, List<String>> extractHeadersToSpanAttributesMap,
-                              Map<String, List<String>> ignoredFieldsMap,
-                              Map<String, List<String>> ignoredHeadersMap, Map<String, String> userIdFieldMap,
-                              Set<String> ignoreUris) {
-        if (sectionNode != null) {
-            if (sectionNode.has(EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
-                List<String> extractAttributes = new ArrayList<>();
-                for (JsonNode attributeNode : sectionNode.get(EXTRACT_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
-                    String attribute = attributeNode.asText();
-                    extractAttributes.add(attribute);
-                    logger.info("Rule: extract " + attribute + " for " + uriPattern);
-                }
-                extractToSpanAttributesMap.put(uriPattern, extractAttributes);
-            }
-            if (sectionNode.has(EXTRACT_HEADERS_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
-                List<String> extractHeaderAttributes = new ArrayList<>();
-                for (JsonNode attributeNode : sectionNode.get(EXTRACT_HEADERS_TO_SPAN_ATTRIBUTES_YML_FIELD)) {
-                    String attribute = attributeNode.asText();
-                    extractHeaderAttributes.add(attribute);
-                    logger.info("Rule: extract header " + attribute + " for " + uriPattern);
-                }
-                extractHeadersToSpanAttributesMap.put(uriPattern, extractHeaderAttributes);
-            }
-            if (sectionNode.has(USER_ID_BODY_FIELD_YML_FIELD)) {
-                String userIdField = sectionNode.get(USER_ID_BODY_FIELD_YML_FIELD).asText();
-                logger.info("Rule: user id field: " + userIdField + " captured for uris: " + uriPattern);
-                userIdFieldMap.put(uriPattern, userIdField);
-            }
-            if (sectionNode.has(IGNORE_PAYLOAD_YML_FIELD)) {
-                logger.info("Rule: ignore payload for " + uriPattern);
-                ignoreUris.add(uriPattern);
-            }
-            if (sectionNode.has(IGNORED_FIELDS_YML_FIELD)) {
-                List<String> ignoredFields = new ArrayList<>();
-                for (JsonNode ignoredFieldNode : sectionNode.get(IGNORED_FIELDS_YML_FIELD)) {
-                    String ignoredField = ignoredFieldNode.asText();
-                    ignoredFields.add(ignoredField);
-                    logger.info("Rule: ignore field " + ignoredField + " for " + uriPattern);
-                }
-                ignoredFieldsMap.put(uriPattern, ignoredFields);
-            }
-            if (sectionNode.has(IGNORED_HEADERS_YML_FIELD)) {
-                List<String> ignoredHeaders = new ArrayList<>();
-                for (JsonNode ignoredHeadersNode : sectionNode.get(IGNORED_HEADERS_YML_FIELD)) {
-                    String ignoredHeader = ignoredHeadersNode.asText();
-                    ignoredHeaders.add(ignoredHeader);
-                    logger.info("Rule: ignore header " + ignoredHeader + " for " + uriPattern);
-                }
-                ignoredHeadersMap.put(uriPattern, ignoredHeaders);
+    /**
+     * Re-reads the config yml and swaps in the rules it defines. Requests being captured keep the rules they started
+     * with. If the file cannot be read or parsed, the current rules are kept and false is returned.
+     */
+    public synchronized boolean reload() {
+        Resource resource = getConfigResource();
+        if (!resource.exists()) {
+            logger.warning("request capture config file not found at: " + configFilePath);
+            return false;
+        }
+        logger.info("Found tracked tests request capture config yml @ " + configFilePath);
+        try (InputStream inputStream = resource.getInputStream()) {
+            JsonNode rootNode = YAML_MAPPER.readTree(inputStream);
+            rules = new CaptureRules(rootNode, configIgnoredHeaders);
+            rulesRoot = rootNode;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Error reading " + configFilePath + ", keeping the current capture rules", e);
+            return false;
+        }
+    }
+
+    /**
+     * Sets the headers ignored on every captured route in addition to the ignored_headers of the config yml (see
+     * IRequestCaptureConfig.getIgnoredHeaders), rebuilding the rules.
+     */
+    public synchronized void setConfigIgnoredHeaders(List<String> ignoredHeaders) {
+        configIgnoredHeaders = ignoredHeaders == null ? Collections.emptyList() : new ArrayList<>(ignoredHeaders);
+        rules = new CaptureRules(rulesRoot, configIgnoredHeaders);
+    }
+
+    private BodyCodecRegistry createBodyCodecs() {
+        BodyCodecRegistry.Builder codecs = new BodyCodecRegistry.Builder()
+                .register(jsonBodyCodec)
+                .register(BodyCodecRegistry.codec(this::handleUrlEncodedFormData, "application/x-www-form-urlencoded"))
+                .register(BodyCodecRegistry.codec(this::handleMultipartFormData, "multipart/form-data"))
+                .registerVerbatim(BodyCodecRegistry.codec(context -> setStringBody(context, HttpPayload.Builder::setTextBody), "text/plain"))
+                .registerVerbatim(BodyCodecRegistry.codec(context -> setStringBody(context, HttpPayload.Builder::setHtmlBody), "text/html"))
+                .registerVerbatim(xmlBodyCodec)
+                .registerVerbatim(new BinaryBodyCodec());
+        FileDescriptorSet descriptorSet = FileDescriptorSet.getDefaultInstance();
+        if (!protobufDescriptorSetPath.isEmpty()) {
+            try (InputStream inputStream = new DefaultResourceLoader().getResource(protobufDescriptorSetPath).getInputStream()) {
+                descriptorSet = FileDescriptorSet.parseFrom(inputStream);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Error reading the protobuf descriptor set " + protobufDescriptorSetPath, e);
             }
-        } else {
-            ignoreUris.add(uriPattern);
         }
+        try {
+            codecs.register(new ProtobufBodyCodec(descriptorSet, this::extractJsonBody));
+        } catch (DescriptorValidationException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Invalid protobuf descriptor set " + protobufDescriptorSetPath + ", capturing protobuf bodies as bytes", e);
+            codecs.register(new BinaryBodyCodec(ProtobufBodyCodec.MEDIA_TYPES)).register(new BinaryBodyCodec(ProtobufBodyCodec.GRPC_MEDIA_TYPES));
+        }
+        for (IBodyCodec codec : applicationBodyCodecs) {
+            codecs.register(codec);
+        }
+        return codecs.build();
+    }
+
+    private static void setStringBody(ExtractionContext context, BiConsumer<HttpPayload.Builder, String> setter) {
+        if (!context.ignorePayload) {
+            setter.accept(context.httpPayload, context.body.getBodyString());
+        }
+    }
+
+    private Resource getConfigResource() {
+        ResourceLoader resourceLoader = new DefaultResourceLoader();
+        return resourceLoader.getResource(configFilePath);
     }
 
     @Override
     public ExtractResult extractFromRequest(CachedRequestHttpServletRequest request) {
+        return extractFromRequest(request, null);
+    }
+
+    @Override
+    public ExtractResult extractFromRequest(CachedRequestHttpServletRequest request, String spanId) {
+        long startNanos = System.nanoTime();
+        Object extractionEvent = CaptureFlightRecorder.beginBodyExtraction();
+        Object decisionEvent = CaptureFlightRecorder.beginCaptureDecision();
+        CaptureRules rules = this.rules;
+        if (!rules.enableOptionsCallTracking && request.getMethod().equals("OPTIONS")) {
+            captureMetrics.recordCaptureDecision(CaptureInstrumentation.REQUEST_PHASE, CapturePlan.UNMATCHED_ROUTE,
+                    ICaptureMetrics.OUTCOME_OPTIONS_SKIPPED, System.nanoTime() - startNanos);
+            CaptureFlightRecorder.endCaptureDecision(decisionEvent, CaptureInstrumentation.REQUEST_PHASE, CapturePlan.UNMATCHED_ROUTE, ICaptureMetrics.OUTCOME_OPTIONS_SKIPPED);
+            return new ExtractionContext(CaptureInstrumentation.REQUEST_PHASE, null, request.getRequestURI(), request.getHeaderView(),
+                    null, request, spanId).toResult();
+        }
+
         String originalUri = request.getRequestURI();
+        CapturePlan plan = getCapturePlan(rules, originalUri, CaptureInstrumentation.REQUEST_PHASE);
+        String outcome = getDecisionOutcome(plan);
+        captureMetrics.recordCaptureDecision(CaptureInstrumentation.REQUEST_PHASE, plan.route, outcome, System.nanoTime() - startNanos);
+        CaptureFlightRecorder.endCaptureDecision(decisionEvent, CaptureInstrumentation.REQUEST_PHASE, plan.route, outcome);
+        logger.fine("Extracting request details for " + originalUri + " ignorePayload: " + plan.ignorePayload + " hasMatchedUri  " + plan.matched);
+
+        HttpHeaderView headers = request.getHeaderView();
+        String originalContentType = headers.getFirst("content-type");
+        ExtractionContext context = new ExtractionContext(CaptureInstrumentation.REQUEST_PHASE, plan, originalUri, headers,
+                originalContentType, request, spanId);
+        extractFromRequest(request, rules, plan, headers, context);
+        ExtractResult result = context.toResult();
+        recordExtraction(CaptureInstrumentation.REQUEST_PHASE, plan, originalContentType, result, startNanos, extractionEvent,
+                plan.ignorePayload ? 0 : request.getBodyBytes().length, !plan.ignorePayload && request.isBodyDropped());
+        return result;
+    }
 
-        if (!enableOptionsCallTracking && request.getMethod().equals("OPTIONS")) {
-            return new ExtractResult();
+    private void extractFromRequest(CachedRequestHttpServletRequest request, CaptureRules rules, CapturePlan plan, HttpHeaderView headers, ExtractionContext context) {
+        // Parse the header section, query params and method into the payload.
+        extractHeaders(rules, headers, plan.headerAttribsToExtract, plan.headerFilter, /*response code not applicalbe for request payloads*/null, context);
+        if (!plan.ignorePayload) {
+            context.httpPayload.setHttpMethod(request.getMethod());
+            populateQueryParams(context.httpPayload, request);
         }
+        extractBody(context, request.getCharacterEncoding());
+    }
 
-        List<String> headerAttribsToExtract = new ArrayList<>();
-        List<String> ignoredHeaders = new ArrayList<>();
-        boolean ignorePayload = false;
-        boolean hasMatchedUri = false;
-        for (String uri : uris) {
-            if (originalUri.matches(uri)) {
-                hasMatchedUri = true;
-                headerAttribsToExtract.addAll(requestHeaderExtractToSpanAttributesMap.getOrDefault(uri, new ArrayList<>()));
-                ignoredHeaders.addAll(requestIgnoredHeadersMap.getOrDefault(uri, new ArrayList<>()));
-            }
+    @Override
+    public ExtractResult extractFromResponse(String originalUri, CachedResponseHttpServletResponse response) {
+        return extractFromResponse(originalUri, null, response);
+    }
+
+    @Override
+    public ExtractResult extractFromResponse(String originalUri, String handlerPattern, CachedResponseHttpServletResponse response) {
+        return extractFromResponse(originalUri, handlerPattern, response, null);
+    }
+
+    @Override
+    public ExtractResult extractFromResponse(String originalUri, String handlerPattern, CachedResponseHttpServletResponse response, String spanId) {
+        long startNanos = System.nanoTime();
+        Object extractionEvent = CaptureFlightRecorder.beginBodyExtraction();
+        Object decisionEvent = CaptureFlightRecorder.beginCaptureDecision();
+        CaptureRules rules = this.rules;
+        CapturePlan plan;
+        // Catch-all patterns (e.g. the /** of static resources) cover URIs that the rules may well tell apart.
+        if (keyResponsePlansByHandlerPattern && handlerPattern != null && !handlerPattern.contains("**")) {
+            plan = getCapturePlan(rules, rules.responseCapturePlansByHandlerPattern, handlerPattern, originalUri, CaptureInstrumentation.RESPONSE_PHASE);
+        } else {
+            plan = getCapturePlan(rules, originalUri, CaptureInstrumentation.RESPONSE_PHASE);
         }
-        for (String uri : requestIgnoreUris) {
-            if (originalUri.matches(uri)) {
-                ignorePayload = true;
-                break;
-            }
+        String outcome = getDecisionOutcome(plan);
+        captureMetrics.recordCaptureDecision(CaptureInstrumentation.RESPONSE_PHASE, plan.route, outcome, System.nanoTime() - startNanos);
+        CaptureFlightRecorder.endCaptureDecision(decisionEvent, CaptureInstrumentation.RESPONSE_PHASE, plan.route, outcome);
+
+        HttpHeaderView headers = response.getHeaderView();
+        String originalContentType = headers.getFirst("content-type");
+        ExtractionContext context = new ExtractionContext(CaptureInstrumentation.RESPONSE_PHASE, plan, originalUri, headers,
+                originalContentType, response, spanId);
+        extractHeaders(rules, headers, plan.headerAttribsToExtract, plan.headerFilter, response.getStatus(), context);
+        extractBody(context, response.getBodyCharsetName());
+        ExtractResult result = context.toResult();
+        recordExtraction(CaptureInstrumentation.RESPONSE_PHASE, plan, originalContentType, result, startNanos, extractionEvent,
+                plan.ignorePayload ? 0 : response.getBodyByteString().size(), !plan.ignorePayload && response.isBodyDropped());
+        return result;
+    }
+
+    // Parses the body portion into the payload with the codec of its media type, as text if there is none.
+    private void extractBody(ExtractionContext context, String charset) {
+        if (!context.ignorePayload && context.plan.captureShape) {
+            extractBodyShape(context);
+            return;
         }
-        if (!hasMatchedUri) {
-            ignorePayload = true;
+        boolean verbatim = !context.ignorePayload && isVerbatimBody(context.mediaType, context.plan);
+        // Binary bodies are not scanned.
+        PiiScanner piiScanner = context.ignorePayload || isBinaryBody(context.mediaType) ? null : context.plan.piiScanner;
+        if (piiScanner != null && verbatim && PiiScanner.isAsciiCompatible(context.body.getBodyCharset())) {
+            maskPiiBytes(context, piiScanner);
+            piiScanner = null;
         }
+        if (captureEncodedBodies && verbatim && piiScanner == null) {
+            PayloadUtils.setEncodedBody(context.httpPayload, context.contentType, charset, context.body.getBodyByteString());
+            return;
+        }
+        IBodyCodec codec = context.mediaType == null ? null : bodyCodecs.get(context.mediaType);
+        if (codec != null) {
+            codec.extract(context);
+        } else if (!context.ignorePayload) {
+            context.httpPayload.setTextBody(context.body.getBodyString());
+        }
+        if (piiScanner != null) {
+            maskPii(context, piiScanner);
+        }
+    }
 
-        logger.fine("Extracting request details for " + originalUri + " ignorePayload: " + ignorePayload + " hasMatchedUri  " + hasMatchedUri);
-
-        // Parse the header section and build a partial ExtractResult.
-        ExtractResult result = getPartialExtractionResultFromHeader(ignorePayload, request.getRequestHeaders(), headerAttribsToExtract, ignoredHeaders, /*response code not applicalbe for request payloads*/null);
-        result = populateQueryParamsAndMethod(result, request);
-        HttpPayload.Builder existingHttpPayload = result.sanitizedPayload.getHttpPayload().toBuilder();
+    // Masks the sensitive values of a body captured as it is in its bytes, before they are decoded (if at all).
+    private void maskPiiBytes(ExtractionContext context, PiiScanner piiScanner) {
+        long[] maskedBytes = new long[1];
+        byte[] bodyBytes = context.body.getBodyBytes();
+        byte[] maskedBody = piiScanner.mask(bodyBytes, bodyCodecs.get(context.mediaType) == jsonBodyCodec, maskedBytes);
+        if (maskedBody != bodyBytes) {
+            context.body = new MaskedCapturedBody(context.body, maskedBody);
+            context.redactedBytes += maskedBytes[0];
+        }
+    }
 
+    // Masks the sensitive values found in the captured text body (once decoded / transformed) or form fields.
+    private static void maskPii(ExtractionContext context, PiiScanner piiScanner) {
+        HttpPayload.Builder payload = context.httpPayload;
+        long[] maskedChars = new long[1];
+        switch (payload.getBodyCase()) {
+            case JSON_BODY:
+                payload.setJsonBody(piiScanner.maskJson(payload.getJsonBody(), maskedChars));
+                break;
+            case TEXT_BODY:
+                payload.setTextBody(piiScanner.mask(payload.getTextBody(), maskedChars));
+                break;
+            case XML_BODY:
+                payload.setXmlBody(piiScanner.mask(payload.getXmlBody(), maskedChars));
+                break;
+            case HTML_BODY:
+                payload.setHtmlBody(piiScanner.mask(payload.getHtmlBody(), maskedChars));
+                break;
+            case HTTP_FORM_URLENCODED_BODY:
+                payload.setHttpFormUrlencodedBody(HttpFormUrlencodedBody.newBuilder()
+                        .putAllKeyValueMap(maskValues(piiScanner, payload.getHttpFormUrlencodedBody().getKeyValueMapMap(), maskedChars)));
+                break;
+            case HTTP_FORM_DATA_BODY:
+                payload.setHttpFormDataBody(HttpFormDataBody.newBuilder()
+                        .putAllKeyValueMap(maskValues(piiScanner, payload.getHttpFormDataBody().getKeyValueMapMap(), maskedChars)));
+                break;
+            default:
+        }
+        context.redactedBytes += maskedChars[0];
+    }
 
-        String originalContentType = request.getRequestHeaders().getOrDefault("content-type", "");
-        if (originalContentType == null) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(request.getBodyString(), existingHttpPayload);
-            return result;
+    private static Map<String, String> maskValues(PiiScanner piiScanner, Map<String, String> values, long[] maskedChars) {
+        Map<String, String> maskedValues = new HashMap<>(values.size() * 2);
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            maskedValues.put(value.getKey(), piiScanner.mask(value.getValue(), maskedChars));
         }
+        return maskedValues;
+    }
 
-        // Parse the body portion and build on the partial extract result to construct the final extract result.
-        List<String> spanAttribsToExtract = new ArrayList<>();
-        List<String> ignoredFields = new ArrayList<>();
-        List<String> userIdBodyFields = new ArrayList<>();
-        for (String uri : uris) {
-            if (originalUri.matches(uri)) {
-                spanAttribsToExtract.addAll(requestExtractToSpanAttributesMap.getOrDefault(uri, new ArrayList<>()));
-                ignoredFields.addAll(requestIgnoredFieldsMap.getOrDefault(uri, new ArrayList<>()));
-                userIdBodyFields.add(requestExtractToUserIdMap.getOrDefault(uri, ""));
-            }
+    // Only json bodies are captured in shape mode, as their shape, including bodies decoded to json (e.g. protobuf).
+    private void extractBodyShape(ExtractionContext context) {
+        IBodyCodec codec = context.mediaType == null ? null : bodyCodecs.get(context.mediaType);
+        if (codec == null || bodyCodecs.isVerbatim(context.mediaType)) {
+            return;
+        }
+        codec.extract(context);
+        if (context.httpPayload.getBodyCase() != HttpPayload.BodyCase.SHAPE_BODY) {
+            context.httpPayload.clearBody();
         }
+    }
 
-        String contentType = originalContentType.toLowerCase();
-        if (contentType.contains("application/json")) {
-            return getJsonBodyExtractResult(ignorePayload, request.getBodyString(), result.spanAttributes, spanAttribsToExtract, ignoredFields, userIdBodyFields.stream()
-                    .filter(field -> !field.isEmpty()).collect(Collectors.toList()), existingHttpPayload);
-        } else if (contentType.contains("text/plain")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(request.getBodyString(), existingHttpPayload);
-            return result;
-        } else if (contentType.contains("text/html")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpHtmlPayload(request.getBodyString(), existingHttpPayload);
-            return result;
-        } else if (contentType.contains("text/xml") || contentType
-                .contains("application/xml")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpXmlPayload(request.getBodyString(), existingHttpPayload);
-            return result;
-        } else if (contentType.contains("application/x-www-form-urlencoded")) {
-            return handleUrlEncodedFormData(request, ignorePayload, result.spanAttributes, spanAttribsToExtract, ignoredFields, userIdBodyFields, existingHttpPayload);
-        } else if (contentType.contains("multipart/form-data")) {
-            return handleMultipartFormData(request, ignorePayload, result.spanAttributes, spanAttribsToExtract, ignoredFields, userIdBodyFields, existingHttpPayload);
-        }
-        result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(request.getBodyString(), existingHttpPayload);
-        return result;
+    // Returns the cached capture plan of the given URI, resolving (and caching) it on a miss.
+    private CapturePlan getCapturePlan(CaptureRules rules, String uri, String phase) {
+        Map<String, CapturePlan> capturePlans = CaptureInstrumentation.REQUEST_PHASE.equals(phase) ? rules.requestCapturePlans : rules.responseCapturePlans;
+        return getCapturePlan(rules, capturePlans, uri, uri, phase);
     }
 
-    private ExtractResult populateQueryParamsAndMethod(ExtractResult result, CachedRequestHttpServletRequest request) {
-        HttpPayload.Builder httpPayloadBuilder = result.sanitizedPayload.getHttpPayload().toBuilder();
-        httpPayloadBuilder.setHttpMethod(request.getMethod());
-        populateQueryParams(httpPayloadBuilder, request);
-        result.sanitizedPayload = result.sanitizedPayload.toBuilder().setHttpPayload(httpPayloadBuilder.build())
-                .build();
-        return result;
+    // Returns the capture plan cached under the given key, resolving it for the URI (and caching it) on a miss.
+    private CapturePlan getCapturePlan(CaptureRules rules, Map<String, CapturePlan> capturePlans, String key, String uri, String phase) {
+        CapturePlan plan = capturePlans.get(key);
+        captureMetrics.recordRuleCacheLookup(phase, plan != null);
+        if (plan != null) {
+            return plan;
+        }
+        plan = rules.resolveCapturePlan(uri, phase);
+        if (capturePlans.size() >= ruleCacheSize) {
+            // URIs embedding ids make the set of distinct URIs unbounded. Start over instead of growing without limit.
+            capturePlans.clear();
+        }
+        capturePlans.put(key, plan);
+        return plan;
     }
 
-    @SneakyThrows
-    @Override
-    public ExtractResult extractFromResponse(String originalUri, CachedResponseHttpServletResponse response) {
-        // Check if the content type passed in the header is JSON
-        List<String> headerAttribsToExtract = new ArrayList<>();
-        List<String> ignoredHeaders = new ArrayList<>();
-        boolean ignorePayload = false;
-        boolean hasMatchedUri = false;
-        for (String uri : uris) {
-            if (originalUri.matches(uri)) {
-                hasMatchedUri = true;
-                headerAttribsToExtract.addAll(responseHeaderExtractToSpanAttributesMap.getOrDefault(uri, new ArrayList<>()));
-                ignoredHeaders.addAll(responseIgnoredHeadersMap.getOrDefault(uri, new ArrayList<>()));
-            }
+    // Bodies recorded as they are: text, binary or unknown types, and json / xml bodies without rules to apply.
+    private boolean isVerbatimBody(String mediaType, CapturePlan plan) {
+        if (mediaType == null) {
+            return true;
         }
-        for (String uri : requestIgnoreUris) {
-            if (originalUri.matches(uri)) {
-                ignorePayload = true;
-                break;
-            }
+        if (bodyCodecs.get(mediaType) == xmlBodyCodec) {
+            return plan.xmlProcessor == null;
         }
-        if (!hasMatchedUri) {
-            ignorePayload = true;
-        }
-
-        ExtractResult result = getPartialExtractionResultFromHeader(ignorePayload, response.getResponseHeaders(), headerAttribsToExtract, ignoredHeaders, response.getStatus());
-        HttpPayload.Builder existingHttpPayload = result.sanitizedPayload.getHttpPayload().toBuilder();
-        Map<String, String> sanitizedHeaderMap = result.sanitizedPayload.getHttpPayload()
-                .getHeaderMapMap();
-        String originalContentType = sanitizedHeaderMap.getOrDefault("content-type", "");
-        if (originalContentType == null || originalContentType.isEmpty()) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(response.getBodyString(), existingHttpPayload);
-            return result;
-        }
-        String contentType = originalContentType.toLowerCase();
-        if (contentType.contains("application/json")) {
-            List<String> spanAttribsToExtract = new ArrayList<>();
-            List<String> ignoredFields = new ArrayList<>();
-            List<String> userIdBodyFields = new ArrayList<>();
-            for (String uri : uris) {
-                if (originalUri.matches(uri)) {
-                    spanAttribsToExtract.addAll(responseExtractToSpanAttributesMap.getOrDefault(uri, new ArrayList<>()));
-                    ignoredFields.addAll(responseIgnoredFieldsMap.getOrDefault(uri, new ArrayList<>()));
-                    userIdBodyFields.add(responseExtractToUserIdMap.getOrDefault(uri, ""));
-                }
-            }
+        if (bodyCodecs.isVerbatim(mediaType)) {
+            return true;
+        }
+        return bodyCodecs.get(mediaType) == jsonBodyCodec
+                && plan.spanAttribsToExtract.isEmpty() && plan.ignoredFields.isEmpty() && plan.capturedFieldsProjector == null
+                && plan.jsonLimiter == null && plan.userIdBodyFields.isEmpty();
+    }
 
-            String originalResponseBody = response.getBodyString();
-            return getJsonBodyExtractResult(ignorePayload, originalResponseBody, result.spanAttributes, spanAttribsToExtract, ignoredFields, userIdBodyFields.stream()
-                    .filter(field -> !field.isEmpty()).collect(Collectors.toList()), existingHttpPayload);
-        } else if (contentType.contains("text/plain")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(response.getBodyString(), existingHttpPayload);
-            return result;
-        } else if (contentType.contains("text/html")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpHtmlPayload(response.getBodyString(), existingHttpPayload);
-            return result;
-
-        } else if (contentType.contains("text/xml") || contentType
-                .contains("application/xml")) {
-            result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpXmlPayload(response.getBodyString(), existingHttpPayload);
-            return result;
-        }
-        result.sanitizedPayload = ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpTextPayload(response.getBodyString(), existingHttpPayload);
-        return result;
+    private boolean isBinaryBody(String mediaType) {
+        return mediaType != null && bodyCodecs.get(mediaType) instanceof BinaryBodyCodec;
+    }
+
+    private static String getDecisionOutcome(CapturePlan plan) {
+        if (!plan.matched) {
+            return ICaptureMetrics.OUTCOME_UNMATCHED;
+        }
+        return plan.ignorePayload ? ICaptureMetrics.OUTCOME_PAYLOAD_IGNORED : ICaptureMetrics.OUTCOME_CAPTURED;
     }
 
-    private ExtractResult getPartialExtractionResultFromHeader(boolean ignorePayload, Map<String, String> originalHeaderMap, List<String> headerAttribsToExtract, List<String> ignoredHeaders, Integer responseCode) {
-        if (ignorePayload) {
-            return new ExtractResult();
+    private void recordExtraction(String phase, CapturePlan plan, String contentType, ExtractResult result, long startNanos, Object extractionEvent, long capturedBytes, boolean bodyDropped) {
+        result.route = plan.route;
+        result.contentType = contentType;
+        result.bodyBytes = capturedBytes;
+        result.bodyTruncated = bodyDropped || result.truncatedValues > 0;
+        captureMetrics.recordExtraction(phase, plan.route, contentType, System.nanoTime() - startNanos, capturedBytes);
+        CaptureFlightRecorder.endBodyExtraction(extractionEvent, phase, plan.route, contentType, capturedBytes);
+        if (result.redactedBytes > 0) {
+            captureMetrics.recordRedaction(phase, plan.route, contentType, result.redactedBytes);
+        }
+        if (result.truncatedValues > 0) {
+            captureMetrics.recordTruncation(phase, plan.route, contentType, result.truncatedValues);
+        }
+        if (bodyDropped) {
+            captureMetrics.recordDrop(phase, plan.route, ICaptureMetrics.DROP_UNDECODABLE_BODY);
         }
-        Map<String, String> spanAttributes = new HashMap<>();
-        if (userIdHeader != null && !userIdHeader.isEmpty() && originalHeaderMap.containsKey(userIdHeader)) {
-            spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, originalHeaderMap.get(userIdHeader));
+    }
+
+    private void extractHeaders(CaptureRules rules, HttpHeaderView headers, List<String> headerAttribsToExtract, HeaderFilter headerFilter, Integer responseCode, ExtractionContext context) {
+        if (context.ignorePayload) {
+            return;
         }
-        if (sessionRecordTrackingIdHeader != null && !sessionRecordTrackingIdHeader.isEmpty() && originalHeaderMap.containsKey(sessionRecordTrackingIdHeader)) {
-            spanAttributes.put(Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, originalHeaderMap.get(sessionRecordTrackingIdHeader));
+        AttributesBuilder spanAttributes = context.spanAttributes;
+        String userIdHeader = rules.userIdHeader;
+        if (userIdHeader != null && !userIdHeader.isEmpty() && headers.contains(userIdHeader)) {
+            spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, headers.getJoined(userIdHeader));
+        }
+        String sessionRecordTrackingIdHeader = rules.sessionRecordTrackingIdHeader;
+        if (sessionRecordTrackingIdHeader != null && !sessionRecordTrackingIdHeader.isEmpty() && headers.contains(sessionRecordTrackingIdHeader)) {
+            String sessionRecordTrackingId = headers.getJoined(sessionRecordTrackingIdHeader);
+            spanAttributes.put(Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, sessionRecordTrackingId);
             // The session is managed by client specified header. Therefore, no chunking.
-            spanAttributes.put(Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, originalHeaderMap.get(sessionRecordTrackingIdHeader));
+            spanAttributes.put(Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, sessionRecordTrackingId);
         }
         for (String headerAttrib : headerAttribsToExtract) {
-            if (originalHeaderMap.containsKey(headerAttrib)) {
-                spanAttributes.put(headerAttrib, originalHeaderMap.get(headerAttrib));
+            String value = headers.getJoined(headerAttrib);
+            if (value != null) {
+                spanAttributes.put(headerAttrib, value);
             }
         }
-        for (String ignoredHeader : ignoredHeaders) {
-            originalHeaderMap.remove(ignoredHeader);
+        HttpPayload.Builder builder = context.httpPayload;
+        // Ignored headers are skipped by name, before their values are read.
+        for (String name : headers.names()) {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!headerFilter.isIgnored(lowerCaseName)) {
+                String value = headers.getJoined(name);
+                if (value != null) {
+                    builder.putHeaderMap(lowerCaseName, value);
+                }
+            }
         }
-        HttpPayload.Builder builder = HttpPayload.newBuilder().putAllHeaderMap(originalHeaderMap);
         if (responseCode != null) {
             builder.setResponseCode(responseCode);
         }
-        return new ExtractResult(Payload.newBuilder()
-                .setHttpPayload(builder).build(), spanAttributes);
     }
 
     private void populateQueryParams(HttpPayload.Builder payload, CachedRequestHttpServletRequest request) {
         String queryString = request.getQueryString();
         if (queryString != null && !queryString.isEmpty()) {
-            // Split the query string into key-value pairs
-            String[] params = queryString.split("&");
-            for (String param : params) {
-                String[] keyValue = param.split("=");
-                if (keyValue.length == 2) {
-                    // Add key-value pair to the HttpGetBody builder
-                    String key = keyValue[0];
-                    String value = keyValue[1];
-                    payload.putQueryParamMap(key, value);
-                }
-            }
+            payload.putAllQueryParamMap(new FormUrlEncodedParser(Collections.emptySet()).parse(queryString));
         }
     }
 
-    private ExtractResult handleMultipartFormData(CachedRequestHttpServletRequest request, boolean ignorePayload, Map<String, String> spanAttributes, List<String> spanAttribsToExtract, List<String> ignoredFields, List<String> userIdBodyFields, HttpPayload.Builder existingPayload) {
+    private void handleMultipartFormData(ExtractionContext context) {
+        boolean ignorePayload = context.ignorePayload;
+        String contentType = context.contentType;
+        List<String> spanAttribsToExtract = context.plan.spanAttribsToExtract;
+        List<String> ignoredFields = context.plan.ignoredFields;
+        List<String> userIdBodyFields = context.plan.userIdBodyFields;
+        AttributesBuilder spanAttributes = context.spanAttributes;
         Map<String, String> keyValueMap = new HashMap<>();
-        try {
-            Collection<Part> parts = request.getParts();
-            for (Part part : parts) {
-                if (part.getSubmittedFileName() == null) { // Ignore file uploads
-                    String key = part.getName();
-                    if (!ignoredFields.contains(key)) {
-                        String value = convertStreamToString(part.getInputStream());
-                        if (spanAttribsToExtract.contains(key)) {
-                            spanAttributes.put(key, value);
-                        }
-                        if (userIdBodyFields.contains(key)) {
-                            spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, value);
-                        }
-                        keyValueMap.put(key, value);
+        String boundary = MultipartFormDataParser.getBoundary(contentType);
+        if (boundary == null) {
+            logger.severe("Error handling multipart/form-data: no boundary in content type " + contentType);
+        } else {
+            // When the payload itself is not captured, only the fields feeding span attributes need to be read.
+            Set<String> wantedFields = null;
+            if (ignorePayload) {
+                wantedFields = new HashSet<>(spanAttribsToExtract);
+                for (String userIdBodyField : userIdBodyFields) {
+                    if (!userIdBodyField.isEmpty()) {
+                        wantedFields.add(userIdBodyField);
                     }
                 }
             }
-        } catch (IOException | ServletException e) {
-            logger.severe("Error handling multipart/form-data: " + e.getMessage());
+            MultipartFormDataParser parser = new MultipartFormDataParser(context.body.getBodyBytes(), boundary);
+            keyValueMap = parser.parse(new HashSet<>(ignoredFields), wantedFields, maxFormFieldBytes);
+            context.truncatedValues = parser.getTruncatedFieldCount();
+            for (Map.Entry<String, String> field : keyValueMap.entrySet()) {
+                if (spanAttribsToExtract.contains(field.getKey())) {
+                    spanAttributes.put(field.getKey(), field.getValue());
+                }
+                if (userIdBodyFields.contains(field.getKey())) {
+                    spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, field.getValue());
+                }
+            }
         }
 
-        if (ignorePayload) {
-            return new ExtractResult(Payload.getDefaultInstance(), spanAttributes);
-        } else {
-            Payload payload = PayloadUtils.getHttpFormDataPayload(keyValueMap, existingPayload);
-            return new ExtractResult(payload, spanAttributes);
+        if (!ignorePayload) {
+            context.httpPayload.setHttpFormDataBody(HttpFormDataBody.newBuilder().putAllKeyValueMap(keyValueMap));
         }
     }
 
-    private String convertStreamToString(InputStream is) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
-        char[] buffer = new char[1024];
-        int length;
-        while ((length = reader.read(buffer)) != -1) {
-            sb.append(buffer, 0, length);
+    private void handleUrlEncodedFormData(ExtractionContext context) {
+        if (context.ignorePayload) {
+            return;
         }
-        return sb.toString();
-    }
-
-    private ExtractResult handleUrlEncodedFormData(CachedRequestHttpServletRequest request, boolean ignorePayload, Map<String, String> spanAttributes, List<String> spanAttributesToExtract, List<String> ignoredFields, List<String> userIdFields, HttpPayload.Builder existingHttpPayload) {
-        if (ignorePayload) {
-            return new ExtractResult();
+        List<String> spanAttributesToExtract = context.plan.spanAttribsToExtract;
+        List<String> ignoredFields = context.plan.ignoredFields;
+        List<String> userIdFields = context.plan.userIdBodyFields;
+        AttributesBuilder spanAttributes = context.spanAttributes;
+
+        // Ignored fields are skipped by the parser, unless they still need to be extracted to span attributes.
+        Set<String> skippedFields = new HashSet<>(ignoredFields);
+        skippedFields.removeAll(spanAttributesToExtract);
+        skippedFields.removeAll(userIdFields);
+        byte[] requestBody = context.body.getBodyBytes();
+        FormUrlEncodedParser parser = new FormUrlEncodedParser(skippedFields, maxFormFieldBytes);
+        Map<String, String> keyValueMap = parser.parse(requestBody, 0, requestBody.length, StandardCharsets.UTF_8);
+        context.truncatedValues = parser.getTruncatedValueCount();
+        for (Map.Entry<String, String> field : keyValueMap.entrySet()) {
+            if (userIdFields.contains(field.getKey())) {
+                spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, field.getValue());
+            }
+            if (spanAttributesToExtract.contains(field.getKey())) {
+                spanAttributes.put(field.getKey(), field.getValue());
+            }
         }
+        keyValueMap.keySet().removeAll(ignoredFields);
 
-        // Build the HttpFormDataBody
-        HttpFormUrlencodedBody.Builder builder = HttpFormUrlencodedBody.newBuilder();
+        // Set the HttpFormUrlencodedBody to the HttpPayload
+        context.httpPayload.setHttpFormUrlencodedBody(HttpFormUrlencodedBody.newBuilder().putAllKeyValueMap(keyValueMap));
+    }
 
-        // Check if the request has form data
-        String requestBody = request.getBodyString();
-        String[] params = requestBody.split("&");
-        for (String param : params) {
-            String[] keyValue = param.split("=");
-            if (keyValue.length == 2) {
-                String key;
-                String value;
-                try {
-                    key = URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8.name());
-                    value = URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8.name());
-                } catch (UnsupportedEncodingException e) {
-                    // Handle encoding exception as needed
-                    key = keyValue[0];
-                    value = keyValue[1];
-                }
-                if (!ignoredFields.contains(key)) {
-                    // Add key-value pair to the HttpFormDataBody builder
-                    builder.putKeyValueMap(key, value);
-                }
-                if (userIdFields.contains(key)) {
-                    spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, value);
-                }
-                if (spanAttributesToExtract.contains(key)) {
-                    spanAttributes.put(key, value);
-                }
-            }
+    // Applies the XPath rules of the route, if any, in one streaming pass. Package-private for the JMH benchmarks.
+    void extractXmlBody(ExtractionContext context) {
+        XmlBodyProcessor xmlProcessor = context.plan.xmlProcessor;
+        if (xmlProcessor == null) {
+            setStringBody(context, HttpPayload.Builder::setXmlBody);
+            return;
+        }
+        if (context.ignorePayload && !xmlProcessor.isExtracting()) {
+            return;
+        }
+        String body = context.body.getBodyString();
+        if (body.isEmpty()) {
+            setStringBody(context, HttpPayload.Builder::setXmlBody);
+            return;
+        }
+        long[] redactedChars = new long[1];
+        String capturedBody;
+        try {
+            capturedBody = xmlProcessor.process(body, !context.ignorePayload, context.spanAttributes, redactedChars);
+        } catch (XMLStreamException e) {
+            // The rules cannot be applied to a malformed body, which is therefore not captured.
+            logger.log(Level.FINE, "Error processing the xml body of " + context.requestUri, e);
+            capturedBody = "";
+        }
+        if (!context.ignorePayload) {
+            context.httpPayload.setXmlBody(capturedBody);
+            context.redactedBytes = redactedChars[0];
         }
-
-        // Set the HttpFormDataBody to the HttpPayload
-        return new ExtractResult(Payload.newBuilder()
-                .setHttpPayload(existingHttpPayload.setHttpFormUrlencodedBody(builder).build())
-                .build(), spanAttributes);
     }
 
+    // Package-private for the JMH benchmarks.
     @SneakyThrows
-    private ExtractResult getJsonBodyExtractResult(Boolean ignorePayload, String originalBody, Map<String, String> spanAttributes, List<String> spanAttribsToExtract, List<String> ignoredFields, List<String> userIdBodyFields, HttpPayload.Builder existingPayload) {
-
-        if (!spanAttribsToExtract.isEmpty() || !ignoredFields.isEmpty() || !userIdBodyFields.isEmpty()) {
+    void extractJsonBody(ExtractionContext context, String originalBody) {
+        String phase = context.phase;
+        CapturePlan plan = context.plan;
+        // In shape mode, the values are only read for span attributes, and the body is captured as its shape below.
+        boolean ignorePayload = plan.ignorePayload || plan.captureShape;
+        AttributesBuilder spanAttributes = context.spanAttributes;
+        List<String> spanAttribsToExtract = plan.spanAttribsToExtract;
+        List<String> ignoredFields = plan.captureShape ? Collections.emptyList() : plan.ignoredFields;
+        List<String> userIdBodyFields = plan.userIdBodyFields;
+
+        // captured_fields and json limits reduce the captured body.
+        boolean reduceBody = !ignorePayload && (plan.capturedFieldsProjector != null || plan.jsonLimiter != null);
+        // Unless span attributes are extracted from the whole body, only the reduced body is parsed and scrubbed.
+        boolean reduceFirst = reduceBody && spanAttribsToExtract.isEmpty() && userIdBodyFields.isEmpty();
+        String body = reduceFirst ? reduceJsonBody(context, originalBody) : originalBody;
+
+        // An empty body (e.g. a content-encoded body that could not be decoded) has nothing to scrub or extract.
+        if (!body.isEmpty() && (!spanAttribsToExtract.isEmpty() || !ignoredFields.isEmpty() || !userIdBodyFields.isEmpty())) {
             // Parse the JSON string
-            DocumentContext jsonContext = JsonPath.parse(originalBody, Configuration.defaultConfiguration()
+            DocumentContext jsonContext = JsonPath.parse(body, Configuration.defaultConfiguration()
                     .addOptions(Option.SUPPRESS_EXCEPTIONS));
 
-            // Scrub the ignored fields
+            // Scrub the ignored fields, keeping count of the scrubbed characters.
+            long[] redactedChars = new long[1];
+            MapFunction redact = (currentValue, configuration) -> {
+                redactedChars[0] += getJsonLength(currentValue, configuration);
+                return "";
+            };
+            Object redactionEvent = ignoredFields.isEmpty() ? null : CaptureFlightRecorder.beginJsonRedaction();
             for (String ignoredField : ignoredFields) {
                 try {
-                    jsonContext.set(ignoredField, "");
+                    jsonContext.map(ignoredField, redact);
                 } catch (Exception e) {
                     // This happens when the field is not present. No need to do anything since nothing to be scrubbed.
                 }
             }
+            CaptureFlightRecorder.endJsonRedaction(redactionEvent, phase, plan.route, ignoredFields.size(), redactedChars[0]);
 
             // Extract span attributes
             for (String attribute : spanAttribsToExtract) {
@@ -521,7 +633,10 @@ public class DefaultRequestExtractor implements IExtractor {
                 } else {
                     valueList.add(value);
                 }
-                if (!valueList.isEmpty()) {
+                if (valueList.size() == 1) {
+                    logger.fine("Extracting " + attribute + " as " + fieldName + " with value: " + valueList.get(0));
+                    putTypedAttribute(spanAttributes, fieldName, valueList.get(0));
+                } else if (!valueList.isEmpty()) {
                     String strValue = String.join(",", valueList.stream().map(v -> String.valueOf(v))
                             .collect(Collectors.toList()));
                     logger.fine("Extracting " + attribute + " as " + fieldName + " with value: " + strValue);
@@ -547,12 +662,71 @@ public class DefaultRequestExtractor implements IExtractor {
                 }
             }
 
-            // Return extraction result
-            return new ExtractResult(ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpJsonPayload(jsonContext.jsonString(), existingPayload), spanAttributes);
+            if (!ignorePayload) {
+                String capturedBody = jsonContext.jsonString();
+                context.httpPayload.setJsonBody(reduceBody && !reduceFirst ? reduceJsonBody(context, capturedBody) : capturedBody);
+                context.redactedBytes = redactedChars[0];
+            }
+        } else if (!ignorePayload) {
+            context.httpPayload.setJsonBody(body);
+        }
+        if (plan.captureShape && !plan.ignorePayload && !originalBody.isEmpty()) {
+            try {
+                context.httpPayload.setShapeBody(shapeSummarizer.summarize(originalBody));
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Error reading the shape of the json body of " + context.requestUri, e);
+            }
         }
-        return new ExtractResult(ignorePayload ? Payload.getDefaultInstance() : PayloadUtils.getHttpJsonPayload(originalBody, existingPayload), spanAttributes);
     }
 
+    // Projects a json body onto the captured_fields of the route, and applies its json limits. A body that is not valid
+    // json is not captured.
+    private static String reduceJsonBody(ExtractionContext context, String body) {
+        if (body.isEmpty()) {
+            return body;
+        }
+        CapturePlan plan = context.plan;
+        try {
+            if (plan.capturedFieldsProjector != null) {
+                body = plan.capturedFieldsProjector.project(body);
+            }
+            if (plan.jsonLimiter != null) {
+                int[] truncatedValues = new int[1];
+                body = plan.jsonLimiter.limit(body, truncatedValues);
+                context.truncatedValues += truncatedValues[0];
+            }
+            return body;
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Error reducing the json body of " + context.requestUri + " to its captured_fields and limits", e);
+            return "";
+        }
+    }
+
+
+    // Approximate serialized length of a scrubbed JSON value.
+    private static long getJsonLength(Object value, Configuration configuration) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof Map || value instanceof List) {
+            return configuration.jsonProvider().toJson(value).length();
+        }
+        return String.valueOf(value).length();
+    }
+
+    // Numbers and booleans keep their type so that they can be queried as such on the span.
+    private static void putTypedAttribute(AttributesBuilder spanAttributes, String key, Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            spanAttributes.put(key, ((Number) value).longValue());
+        } else if (value instanceof Number) {
+            spanAttributes.put(key, ((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            spanAttributes.put(key, (Boolean) value);
+        } else {
+            spanAttributes.put(key, String.valueOf(value));
+        }
+    }
 
     private String extractFieldName(String attribute) {
         // Extract the field name from the attribute (JSON selector)
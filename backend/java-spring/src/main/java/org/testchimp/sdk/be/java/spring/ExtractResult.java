@@ -1,27 +1,35 @@
 package org.testchimp.sdk.be.java.spring;
 
 
+import io.opentelemetry.api.common.Attributes;
 import lombok.*;
 import org.testchimp.model.Payload;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Data
 @Getter
 @Setter
 public class ExtractResult {
 
     Payload sanitizedPayload;
-    Map<String, String> spanAttributes;
+    // Immutable, typed attributes applied to the span with a single setAllAttributes call.
+    Attributes spanAttributes;
+
+    // Capture statistics, reported to ICaptureMetrics.
+    String route = CapturePlan.UNMATCHED_ROUTE;
+    String contentType;
+    long redactedBytes;
+    int truncatedValues;
+    // Size of the body as captured, and whether the captured body is incomplete (exported in the v2 payload format).
+    Long bodyBytes;
+    boolean bodyTruncated;
 
-    public ExtractResult(Payload payload, Map<String, String> spanAttributes) {
+    public ExtractResult(Payload payload, Attributes spanAttributes) {
         this.spanAttributes = spanAttributes;
         this.sanitizedPayload = payload;
     }
 
     public ExtractResult() {
-        this.spanAttributes = new HashMap<>();
+        this.spanAttributes = Attributes.empty();
         this.sanitizedPayload = Payload.getDefaultInstance();
     }
 }
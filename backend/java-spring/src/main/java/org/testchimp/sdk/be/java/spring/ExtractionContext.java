@@ -0,0 +1,96 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import org.testchimp.model.HttpPayload;
+import org.testchimp.model.Payload;
+
+/**
+ * State of one extraction (request or response phase), carried through the extraction steps and handed to the
+ * IBodyCodec of the body. Each step adds to the same payload and span attributes builders, and the payload is built
+ * once, by toResult().
+ */
+public class ExtractionContext {
+    final String phase;
+    final CapturePlan plan;
+    final String requestUri;
+    final HttpHeaderView headers;
+    final String contentType;
+    final String mediaType;
+    // Replaced by a MaskedCapturedBody when the body is scanned for pii as captured.
+    ICapturedBody body;
+    final boolean ignorePayload;
+    private final Payload.Builder payload = Payload.newBuilder();
+    // Builder of the payload's http_payload. A detached builder, whose content is dropped, when the payload is ignored.
+    final HttpPayload.Builder httpPayload;
+    final AttributesBuilder spanAttributes = Attributes.builder();
+    long redactedBytes;
+    int truncatedValues;
+
+    // spanId is set on the payload unless null.
+    ExtractionContext(String phase, CapturePlan plan, String requestUri, HttpHeaderView headers, String contentType, ICapturedBody body, String spanId) {
+        this.phase = phase;
+        this.plan = plan;
+        this.requestUri = requestUri;
+        this.headers = headers;
+        this.contentType = contentType;
+        this.mediaType = BodyCodecRegistry.getMediaType(contentType);
+        this.body = body;
+        this.ignorePayload = plan == null || plan.ignorePayload;
+        if (spanId != null) {
+            payload.setSpanId(spanId);
+        }
+        httpPayload = ignorePayload ? HttpPayload.newBuilder() : payload.getHttpPayloadBuilder();
+    }
+
+    // CaptureInstrumentation.REQUEST_PHASE or RESPONSE_PHASE.
+    public String getPhase() {
+        return phase;
+    }
+
+    public CapturePlan getPlan() {
+        return plan;
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    // Headers of the request / response being captured.
+    public HttpHeaderView getHeaders() {
+        return headers;
+    }
+
+    // The Content-Type header value of the body.
+    public String getContentType() {
+        return contentType;
+    }
+
+    // The media type of the body: lower case, without parameters.
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public ICapturedBody getBody() {
+        return body;
+    }
+
+    public boolean isIgnorePayload() {
+        return ignorePayload;
+    }
+
+    public HttpPayload.Builder getHttpPayload() {
+        return httpPayload;
+    }
+
+    public AttributesBuilder getSpanAttributes() {
+        return spanAttributes;
+    }
+
+    ExtractResult toResult() {
+        ExtractResult result = new ExtractResult(payload.build(), spanAttributes.build());
+        result.redactedBytes = redactedBytes;
+        result.truncatedValues = truncatedValues;
+        return result;
+    }
+}
@@ -33,6 +33,16 @@ public class FilterServletOutputStream extends ServletOutputStream {
         originalStream.write(b, off, len);
     }
 
+    @Override
+    public void flush() throws IOException {
+        originalStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        originalStream.close();
+    }
+
     @Override
     public boolean isReady() {
         return true;
@@ -0,0 +1,200 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single pass parser for application/x-www-form-urlencoded bodies and query strings. Pairs are located by scanning for
+ * '&' and '=' directly in the input, percent-escapes are decoded into a reusable scratch buffer, and values are only
+ * materialized for keys that are kept. Valueless keys ("a&b=") map to "" and repeated keys are joined with ",". Decoded
+ * values can be capped at maxValueBytes.
+ */
+public class FormUrlEncodedParser {
+
+    private final Set<String> ignoredKeys;
+    private final int maxValueBytes;
+    private byte[] scratch = new byte[64];
+    private int truncatedValueCount;
+
+    public FormUrlEncodedParser(Set<String> ignoredKeys) {
+        this(ignoredKeys, Integer.MAX_VALUE);
+    }
+
+    // Decoded values longer than maxValueBytes (in the charset of the input) are truncated.
+    public FormUrlEncodedParser(Set<String> ignoredKeys, int maxValueBytes) {
+        this.ignoredKeys = ignoredKeys;
+        this.maxValueBytes = maxValueBytes;
+    }
+
+    // Number of values cut at maxValueBytes by the last parse call.
+    public int getTruncatedValueCount() {
+        return truncatedValueCount;
+    }
+
+    public Map<String, String> parse(CharSequence input) {
+        Map<String, String> result = new LinkedHashMap<>();
+        truncatedValueCount = 0;
+        if (input == null) {
+            return result;
+        }
+        int length = input.length();
+        int pairStart = 0;
+        while (pairStart < length) {
+            int pairEnd = pairStart;
+            int separator = -1;
+            char c;
+            while (pairEnd < length && (c = input.charAt(pairEnd)) != '&') {
+                if (c == '=' && separator == -1) {
+                    separator = pairEnd;
+                }
+                pairEnd++;
+            }
+            if (pairEnd > pairStart) {
+                int keyEnd = separator == -1 ? pairEnd : separator;
+                if (keyEnd > pairStart) {
+                    String key = decode(input, pairStart, keyEnd, Integer.MAX_VALUE);
+                    if (!ignoredKeys.contains(key)) {
+                        String value = separator == -1 ? "" : decode(input, separator + 1, pairEnd, maxValueBytes);
+                        put(result, key, value);
+                    }
+                }
+            }
+            pairStart = pairEnd + 1;
+        }
+        return result;
+    }
+
+    public Map<String, String> parse(byte[] input, int offset, int length, Charset charset) {
+        Map<String, String> result = new LinkedHashMap<>();
+        truncatedValueCount = 0;
+        int end = offset + length;
+        int pairStart = offset;
+        while (pairStart < end) {
+            int pairEnd = pairStart;
+            int separator = -1;
+            byte b;
+            while (pairEnd < end && (b = input[pairEnd]) != '&') {
+                if (b == '=' && separator == -1) {
+                    separator = pairEnd;
+                }
+                pairEnd++;
+            }
+            if (pairEnd > pairStart) {
+                int keyEnd = separator == -1 ? pairEnd : separator;
+                if (keyEnd > pairStart) {
+                    String key = decode(input, pairStart, keyEnd, charset, Integer.MAX_VALUE);
+                    if (!ignoredKeys.contains(key)) {
+                        String value = separator == -1 ? "" : decode(input, separator + 1, pairEnd, charset, maxValueBytes);
+                        put(result, key, value);
+                    }
+                }
+            }
+            pairStart = pairEnd + 1;
+        }
+        return result;
+    }
+
+    private static void put(Map<String, String> result, String key, String value) {
+        String existing = result.get(key);
+        result.put(key, existing == null ? value : existing + "," + value);
+    }
+
+    private String decode(byte[] input, int from, int to, Charset charset, int maxBytes) {
+        boolean needsDecoding = false;
+        for (int i = from; i < to && !needsDecoding; i++) {
+            needsDecoding = input[i] == '%' || input[i] == '+';
+        }
+        if (!needsDecoding) {
+            return new String(input, from, cap(input, from, to - from, charset, maxBytes), charset);
+        }
+        int length = 0;
+        ensureScratch(to - from);
+        for (int i = from; i < to; i++) {
+            byte b = input[i];
+            if (b == '+') {
+                scratch[length++] = ' ';
+            } else if (b == '%' && i + 2 < to && isEscape(input[i + 1], input[i + 2])) {
+                scratch[length++] = (byte) ((hexValue(input[i + 1]) << 4) | hexValue(input[i + 2]));
+                i += 2;
+            } else {
+                scratch[length++] = b;
+            }
+        }
+        return new String(scratch, 0, cap(scratch, 0, length, charset, maxBytes), charset);
+    }
+
+    private String decode(CharSequence input, int from, int to, int maxBytes) {
+        // Values that may encode to more than maxBytes are encoded to be capped.
+        boolean needsDecoding = to - from > maxBytes / 3;
+        for (int i = from; i < to && !needsDecoding; i++) {
+            char c = input.charAt(i);
+            needsDecoding = c == '%' || c == '+';
+        }
+        if (!needsDecoding) {
+            return input.subSequence(from, to).toString();
+        }
+        // Non ASCII characters take at most 3 UTF-8 bytes per char (surrogate pairs take 4 bytes for 2 chars).
+        ensureScratch((to - from) * 3);
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = input.charAt(i);
+            if (c == '+') {
+                scratch[length++] = ' ';
+            } else if (c == '%' && i + 2 < to && isEscape(input.charAt(i + 1), input.charAt(i + 2))) {
+                scratch[length++] = (byte) ((hexValue(input.charAt(i + 1)) << 4) | hexValue(input.charAt(i + 2)));
+                i += 2;
+            } else if (c < 0x80) {
+                scratch[length++] = (byte) c;
+            } else {
+                int end = Character.isHighSurrogate(c) && i + 1 < to ? i + 2 : i + 1;
+                byte[] encoded = input.subSequence(i, end).toString().getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(encoded, 0, scratch, length, encoded.length);
+                length += encoded.length;
+                i = end - 1;
+            }
+        }
+        return new String(scratch, 0, cap(scratch, 0, length, StandardCharsets.UTF_8, maxBytes), StandardCharsets.UTF_8);
+    }
+
+    // Returns length, or if it is over maxBytes, maxBytes backed off to the start of a UTF-8 character.
+    private int cap(byte[] bytes, int start, int length, Charset charset, int maxBytes) {
+        if (length <= maxBytes) {
+            return length;
+        }
+        truncatedValueCount++;
+        int capped = maxBytes;
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            while (capped > 0 && (bytes[start + capped] & 0xC0) == 0x80) {
+                capped--;
+            }
+        }
+        return capped;
+    }
+
+    private void ensureScratch(int size) {
+        if (scratch.length < size) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+        }
+    }
+
+    // Malformed escapes are kept verbatim instead of failing the whole parse like URLDecoder does.
+    private static boolean isEscape(int high, int low) {
+        return hexValue(high) != -1 && hexValue(low) != -1;
+    }
+
+    private static int hexValue(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,87 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.*;
+
+/**
+ * Immutable, case-insensitive set of ignored header rules, compiled once per capture plan from the global, config level
+ * (IRequestCaptureConfig.getIgnoredHeaders) and per route ignored_headers. A rule is a header name, or a glob where
+ * {@code *} matches any characters, e.g. {@code x-auth-*}. Names are looked up in a hash set, then trailing {@code *}
+ * rules are checked as prefixes, and other globs are matched last.
+ */
+class HeaderFilter {
+
+    static final HeaderFilter NONE = new HeaderFilter(Collections.emptyList());
+
+    private final Set<String> names = new HashSet<>();
+    private final String[] prefixes;
+    private final String[] globs;
+
+    private HeaderFilter(Collection<String> rules) {
+        List<String> prefixes = new ArrayList<>();
+        List<String> globs = new ArrayList<>();
+        for (String rule : rules) {
+            if (rule == null || rule.isEmpty()) {
+                continue;
+            }
+            String lowerCaseRule = rule.toLowerCase(Locale.ROOT);
+            int wildcard = lowerCaseRule.indexOf('*');
+            if (wildcard == -1) {
+                names.add(lowerCaseRule);
+            } else if (wildcard == lowerCaseRule.length() - 1) {
+                prefixes.add(lowerCaseRule.substring(0, wildcard));
+            } else {
+                globs.add(lowerCaseRule);
+            }
+        }
+        this.prefixes = prefixes.toArray(new String[0]);
+        this.globs = globs.toArray(new String[0]);
+    }
+
+    static HeaderFilter compile(Collection<String> rules) {
+        return rules.isEmpty() ? NONE : new HeaderFilter(rules);
+    }
+
+    // Whether the header with the given lower case name is ignored.
+    boolean isIgnored(String lowerCaseName) {
+        if (names.contains(lowerCaseName)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (lowerCaseName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (String glob : globs) {
+            if (matchesGlob(glob, lowerCaseName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Matches name against glob, backtracking to the last * on a mismatch.
+    private static boolean matchesGlob(String glob, String name) {
+        int g = 0;
+        int n = 0;
+        int starGlob = -1;
+        int starName = 0;
+        while (n < name.length()) {
+            if (g < glob.length() && glob.charAt(g) == '*') {
+                starGlob = g++;
+                starName = n;
+            } else if (g < glob.length() && glob.charAt(g) == name.charAt(n)) {
+                g++;
+                n++;
+            } else if (starGlob != -1) {
+                g = starGlob + 1;
+                n = ++starName;
+            } else {
+                return false;
+            }
+        }
+        while (g < glob.length() && glob.charAt(g) == '*') {
+            g++;
+        }
+        return g == glob.length();
+    }
+}
@@ -0,0 +1,91 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Case-insensitive, multi-value view over the headers of a request or response. Single header lookups go straight to
+ * the underlying servlet object (whose getHeader is already case-insensitive), so extraction rules only touch the
+ * headers they need. The full header map is only built when it is actually enumerated, and then cached.
+ */
+public class HttpHeaderView {
+
+    private final Supplier<Collection<String>> namesSupplier;
+    private final Function<String, Collection<String>> valuesFunction;
+    private Map<String, List<String>> headers;
+
+    private HttpHeaderView(Supplier<Collection<String>> namesSupplier, Function<String, Collection<String>> valuesFunction) {
+        this.namesSupplier = namesSupplier;
+        this.valuesFunction = valuesFunction;
+    }
+
+    public static HttpHeaderView of(HttpServletRequest request) {
+        return new HttpHeaderView(() -> Collections.list(request.getHeaderNames()),
+                name -> Collections.list(request.getHeaders(name)));
+    }
+
+    public static HttpHeaderView of(HttpServletResponse response) {
+        return new HttpHeaderView(response::getHeaderNames, response::getHeaders);
+    }
+
+    // Returns the first value of the given header, or null if absent.
+    public String getFirst(String name) {
+        List<String> values = get(name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    // Returns all values of the given header joined with "," (as permitted by RFC 7230), or null if absent.
+    public String getJoined(String name) {
+        List<String> values = get(name);
+        if (values.isEmpty()) {
+            return null;
+        }
+        return values.size() == 1 ? values.get(0) : String.join(",", values);
+    }
+
+    public List<String> get(String name) {
+        if (headers != null) {
+            List<String> values = headers.get(name);
+            return values != null ? values : Collections.emptyList();
+        }
+        Collection<String> values = valuesFunction.apply(name);
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return values instanceof List ? (List<String>) values : new ArrayList<>(values);
+    }
+
+    public boolean contains(String name) {
+        return !get(name).isEmpty();
+    }
+
+    // Returns the names of all headers, without reading their values unless the full header map is already built.
+    public Collection<String> names() {
+        return headers != null ? headers.keySet() : namesSupplier.get();
+    }
+
+    // Returns all headers (case-insensitive keys, in original order). Built on first use and cached.
+    public Map<String, List<String>> asMap() {
+        if (headers == null) {
+            Collection<String> names = namesSupplier.get();
+            Map<String, List<String>> map = new LinkedCaseInsensitiveMap<>(names.size(), Locale.ROOT);
+            for (String name : names) {
+                if (!map.containsKey(name)) {
+                    map.put(name, get(name));
+                }
+            }
+            headers = Collections.unmodifiableMap(map);
+        }
+        return headers;
+    }
+
+    // Drops the cached map, e.g. after the underlying response headers were modified.
+    public void invalidate() {
+        headers = null;
+    }
+}
@@ -2,23 +2,25 @@ package org.testchimp.sdk.be.java.spring;
 
 import com.google.protobuf.util.JsonFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.context.Context;
-import io.opentelemetry.context.Scope;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.*;
 import javax.servlet.http.*;
 import java.io.*;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.testchimp.sdk.be.java.spring.Constants.PAYLOAD_BATCH_V2_SPAN_ATTRIBUTE;
 import static org.testchimp.sdk.be.java.spring.Constants.REQUEST_PAYLOAD_SPAN_ATTRIBUTE;
 import static org.testchimp.sdk.be.java.spring.Constants.RESPONSE_PAYLOAD_SPAN_ATTRIBUTE;
 
@@ -27,6 +29,7 @@ import static org.testchimp.sdk.be.java.spring.Constants.RESPONSE_PAYLOAD_SPAN_A
 public class HttpRequestCaptureFilter implements Filter {
     private static final Logger logger = Logger.getLogger(HttpRequestCaptureFilter.class.getName());
     public static final String SESSION_ID_SPAN_ATTRIBUTE = "testchimp.derived.session_id";
+    public static final String PAYLOAD_FORMAT_V2 = "v2";
 
     @Value("${testchimp.request_body_capture.enabled:true}")
     private Boolean enableRequestCapture;
@@ -37,11 +40,27 @@ public class HttpRequestCaptureFilter implements Filter {
     @Value("${testchimp.sdk.enabled:true}")
     private Boolean enableSdk;
 
+    // Upper bound on the size of a gzip / deflate / br encoded body once decoded for extraction.
+    @Value("${testchimp.sdk.capture.max_decoded_body_bytes:" + ContentEncodingDecoder.DEFAULT_MAX_DECODED_BODY_BYTES + "}")
+    private int maxDecodedBodyBytes;
+
+    // Application session cookies whose value is recorded as the session id span attribute (first match wins).
+    @Value("${testchimp.sdk.session_cookie_names:sessionid,JSESSIONID,PHPSESSID}")
+    private String[] sessionCookieNames;
+
+    // v1: request / response payloads as JsonFormat printed Payload messages. v2: both in one PayloadBatchV2, as
+    // base64 encoded binary protobuf.
+    @Value("${testchimp.sdk.capture.payload_format:v1}")
+    private String payloadFormat;
+
     @Autowired(required = false)
     private IRequestCaptureConfig config;
 
     @Autowired
-    private OpenTelemetry openTelemetry;
+    private CaptureInstrumentation captureInstrumentation;
+
+    @Autowired(required = false)
+    private ICaptureMetrics captureMetrics = ICaptureMetrics.NOOP;
 
     @Autowired
     DefaultRequestCaptureConfig defaultRequestCaptureConfig;
@@ -57,6 +76,14 @@ public class HttpRequestCaptureFilter implements Filter {
             logger.info("Setting the request capture config to default config.");
             config = defaultRequestCaptureConfig;
         }
+        // The config level ignored headers are compiled into the capture plans of the default extractors.
+        if (config.getExtractorMap() != null) {
+            for (IExtractor extractor : config.getExtractorMap().values()) {
+                if (extractor instanceof DefaultRequestExtractor) {
+                    ((DefaultRequestExtractor) extractor).setConfigIgnoredHeaders(config.getIgnoredHeaders());
+                }
+            }
+        }
     }
 
     @Override
@@ -68,196 +95,154 @@ public class HttpRequestCaptureFilter implements Filter {
         Span span = Span.current();
         String spanId = span.getSpanContext().getSpanId();
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
-        extractTrackingHeaders(httpServletRequest, span);
+        // Attributes are collected per phase and applied with one setAllAttributes call, instead of one (locking)
+        // setAttribute call per attribute.
+        AttributesBuilder requestSpanAttributes = Attributes.builder();
+        TrackingHeaders.extract(httpServletRequest, sessionCookieNames).putAll(requestSpanAttributes);
 
         if (!enableRequestCapture && !enableResponseCapture) {
+            span.setAllAttributes(requestSpanAttributes.build());
             chain.doFilter(servletRequest, servletResponse);
             return;
         }
 
-        Span requestFilerSpan = openTelemetry.getTracer("testchimp-sdk").spanBuilder("capture_request_body")
-                .setParent(Context.current()).startSpan();
-        Span responseFilterSpan = null;
-
         CachedRequestHttpServletRequest cachedRequestHttpServletRequest;
         HttpServletResponse responseToUse = (HttpServletResponse) servletResponse;
         CachedResponseHttpServletResponse cachedResponseHttpServletResponse = null;
+        // Extractor of the first extractor map pattern matching the URI, reused for the response.
+        IExtractor matchedExtractor = null;
+        // Request / response payloads to export as one v2 batch, null for the v1 format.
+        PayloadV2Converter.BatchBuilder payloadBatch = PAYLOAD_FORMAT_V2.equals(payloadFormat) ? new PayloadV2Converter.BatchBuilder() : null;
+        ExtractResult requestExtractResult = null;
+        boolean ignoredUri = false;
 
-        try (Scope scope = requestFilerSpan.makeCurrent()) {
-            cachedRequestHttpServletRequest = new CachedRequestHttpServletRequest((HttpServletRequest) servletRequest);
+        CaptureInstrumentation.Phase requestPhase = captureInstrumentation.start(CaptureInstrumentation.REQUEST_PHASE, span);
+        try {
+            cachedRequestHttpServletRequest = new CachedRequestHttpServletRequest((HttpServletRequest) servletRequest, maxDecodedBodyBytes);
 
             if (enableResponseCapture) {
-                cachedResponseHttpServletResponse = new CachedResponseHttpServletResponse((HttpServletResponse) servletResponse);
+                cachedResponseHttpServletResponse = new CachedResponseHttpServletResponse((HttpServletResponse) servletResponse, maxDecodedBodyBytes);
                 responseToUse = cachedResponseHttpServletResponse;
             }
 
             if (config != null && config.getIgnoredUriPatterns() != null) {
+                long decisionStartNanos = System.nanoTime();
                 List<String> ignoredUriPatterns = config.getIgnoredUriPatterns();
                 for (String ignoredPattern : ignoredUriPatterns) {
                     if (((HttpServletRequest) cachedRequestHttpServletRequest).getRequestURI()
                             .matches(ignoredPattern)) {
-                        requestFilerSpan.end();
-                        chain.doFilter(cachedRequestHttpServletRequest, servletResponse);
-                        return;
-                    }
-                }
-            }
-
-            String protocol = httpServletRequest.getHeader("X-Forwarded-Proto");
-            if (protocol == null) {
-                protocol = httpServletRequest.getScheme();
-            }
-            String completeUrl = protocol + "://" + httpServletRequest.getServerName() + httpServletRequest.getRequestURI();
-            span.setAttribute(Constants.SELF_HTTP_URL_SPAN_ATTRIBUTE, completeUrl);
-
-            if (config != null && config.getExtractorMap() != null) {
-                NavigableSet<String> uriPatterns = config.getExtractorMap().navigableKeySet();
-                for (String uriPattern : uriPatterns) {
-                    if (cachedRequestHttpServletRequest.getRequestURI().matches(uriPattern)) {
-                        IExtractor extractor = config.getExtractorMap().get(uriPattern);
-                        ExtractResult extractResult = extractor.extractFromRequest(cachedRequestHttpServletRequest);
-                        Map<String, String> spanAttribs = extractResult.spanAttributes;
-                        for (Map.Entry<String, String> entry : spanAttribs.entrySet()) {
-                            logger.fine("Setting span attribute from request : " + entry.getKey() + " : " + entry.getValue());
-                            span.setAttribute(entry.getKey(), entry.getValue());
-                        }
-                        if (span != null) {
-                            if (extractResult.sanitizedPayload.isInitialized()) {
-                                span.setAttribute(REQUEST_PAYLOAD_SPAN_ATTRIBUTE, JsonFormat.printer()
-                                        .print(extractResult.sanitizedPayload.toBuilder().setSpanId(spanId).build()));
-                            }
-                        }
+                        captureMetrics.recordCaptureDecision(CaptureInstrumentation.REQUEST_PHASE, CapturePlan.UNMATCHED_ROUTE,
+                                ICaptureMetrics.OUTCOME_IGNORED_URI, System.nanoTime() - decisionStartNanos);
+                        ignoredUri = true;
                         break;
                     }
                 }
             }
 
+            if (!ignoredUri) {
+                String protocol = httpServletRequest.getHeader("X-Forwarded-Proto");
+                if (protocol == null) {
+                    protocol = httpServletRequest.getScheme();
+                }
+                String completeUrl = protocol + "://" + httpServletRequest.getServerName() + httpServletRequest.getRequestURI();
+                requestSpanAttributes.put(Constants.SELF_HTTP_URL_SPAN_ATTRIBUTE, completeUrl);
 
-        } finally {
-            requestFilerSpan.end();
-        }
-
-
-        chain.doFilter(cachedRequestHttpServletRequest, responseToUse);
-
-        if (enableResponseCapture) {
-            responseFilterSpan = openTelemetry.getTracer("testchimp-sdk").spanBuilder("capture_response_body")
-                    .setParent(Context.current()).startSpan();
-            try (Scope responseScope = responseFilterSpan.makeCurrent()) {
                 if (config != null && config.getExtractorMap() != null) {
                     NavigableSet<String> uriPatterns = config.getExtractorMap().navigableKeySet();
                     for (String uriPattern : uriPatterns) {
                         if (cachedRequestHttpServletRequest.getRequestURI().matches(uriPattern)) {
                             IExtractor extractor = config.getExtractorMap().get(uriPattern);
-                            ExtractResult extractResult = extractor.extractFromResponse(httpServletRequest.getRequestURI(), cachedResponseHttpServletResponse);
-                            Map<String, String> spanAttribs = extractResult.spanAttributes;
-                            for (Map.Entry<String, String> entry : spanAttribs.entrySet()) {
-                                logger.fine("Setting span attribute from response : " + entry.getKey() + " : " + entry.getValue());
-                                span.setAttribute(entry.getKey(), entry.getValue());
+                            matchedExtractor = extractor;
+                            ExtractResult extractResult = extractor.extractFromRequest(cachedRequestHttpServletRequest, spanId);
+                            if (logger.isLoggable(Level.FINE)) {
+                                logger.fine("Setting span attributes from request : " + extractResult.spanAttributes);
                             }
-                            if (span != null) {
-                                if (span != null) {
-                                    if (extractResult.sanitizedPayload.isInitialized()) {
-                                        span.setAttribute(RESPONSE_PAYLOAD_SPAN_ATTRIBUTE, JsonFormat.printer()
-                                                .print(extractResult.sanitizedPayload.toBuilder().setSpanId(spanId)
-                                                        .build()));
-                                    }
-                                }
+                            requestSpanAttributes.putAll(extractResult.spanAttributes);
+                            requestExtractResult = extractResult;
+                            if (payloadBatch != null) {
+                                payloadBatch.add(extractResult.sanitizedPayload,
+                                        extractResult.bodyBytes, extractResult.bodyTruncated);
+                            } else if (extractResult.sanitizedPayload.isInitialized()) {
+                                Object serializationEvent = CaptureFlightRecorder.beginPayloadSerialization();
+                                String payloadJson = JsonFormat.printer().print(extractResult.sanitizedPayload);
+                                CaptureFlightRecorder.endPayloadSerialization(serializationEvent, CaptureInstrumentation.REQUEST_PHASE,
+                                        extractResult.route, payloadJson.length());
+                                captureMetrics.recordPayloadSerialization(CaptureInstrumentation.REQUEST_PHASE, extractResult.route,
+                                        extractResult.contentType, payloadJson.length());
+                                requestSpanAttributes.put(REQUEST_PAYLOAD_SPAN_ATTRIBUTE, payloadJson);
                             }
                             break;
                         }
                     }
                 }
-
-            } finally {
-                if (responseFilterSpan != null) {
-                    responseFilterSpan.end();
-                }
             }
+        } finally {
+            requestPhase.close();
+            // Applied even if extraction fails, so that the tracking headers are not lost with the payload.
+            span.setAllAttributes(requestSpanAttributes.build());
         }
-    }
-
-    private static void extractTrackingHeaders(HttpServletRequest httpServletRequest, Span span) {
-        String trackedTestSuite = httpServletRequest.getHeader(Constants.TRACKED_TEST_SUITE_HEADER_KEY);
-        String trackedTestCase = httpServletRequest.getHeader(Constants.TRACKED_TEST_NAME_HEADER_KEY);
-        String trackedTestType = httpServletRequest.getHeader(Constants.TRACKED_TEST_TYPE_HEADER_KEY);
-        String trackedTestInvocationId = httpServletRequest.getHeader(Constants.TRACKED_TEST_INVOCATION_ID_HEADER_KEY);
-        String trackedTestStep = httpServletRequest.getHeader(Constants.TRACKED_TEST_STEP_HEADER_KEY);
-        String headerExtractedSessionRecordingTrackingId = httpServletRequest.getHeader(Constants.TC_SESSION_RECORDING_TRACKING_ID_HEADER_KEY);
-        String headerExtractedParentSessionRecordingTrackingId = httpServletRequest.getHeader(Constants.TC_PARENT_SESSION_RECORDING_TRACKING_ID_HEADER_KEY);
-        String headerExtractedCurrentUserId = httpServletRequest.getHeader(Constants.TC_CURRENT_USER_ID_HEADER_KEY);
-        Cookie[] cookies = httpServletRequest.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME)) {
-                    span.setAttribute(Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, cookie.getValue());
-                    break;
-                }
-                if (cookie.getName().equals(Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME)) {
-                    span.setAttribute(Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, cookie.getValue());
-                    break;
-                }
-            }
-        }
-        if (headerExtractedSessionRecordingTrackingId != null && !headerExtractedSessionRecordingTrackingId.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, headerExtractedSessionRecordingTrackingId);
-        }
-        if (headerExtractedParentSessionRecordingTrackingId != null && !headerExtractedParentSessionRecordingTrackingId.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, headerExtractedParentSessionRecordingTrackingId);
-        }
-        if (headerExtractedCurrentUserId != null && !headerExtractedCurrentUserId.isEmpty()) {
-            span.setAttribute(Constants.USER_ID_SPAN_ATTRIBUTE, headerExtractedCurrentUserId);
-        }
-        if (trackedTestSuite != null && !trackedTestSuite.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_SUITE_HEADER_KEY, trackedTestSuite);
-        }
-        if (trackedTestStep != null && !trackedTestStep.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_STEP_HEADER_KEY, trackedTestStep);
-        }
-        if (trackedTestCase != null && !trackedTestCase.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_NAME_HEADER_KEY, trackedTestCase);
-        }
-        if (trackedTestType != null && !trackedTestType.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_TYPE_HEADER_KEY, trackedTestType);
-        }
-        if (trackedTestInvocationId != null && !trackedTestInvocationId.isEmpty()) {
-            span.setAttribute(Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_INVOCATION_ID_HEADER_KEY, trackedTestInvocationId);
-        }
-        String sessionId = extractSessionId(httpServletRequest.getHeader("cookie"));
-        if (sessionId != null && !sessionId.isEmpty()) {
-            span.setAttribute(SESSION_ID_SPAN_ATTRIBUTE, sessionId);
-        }
-    }
-
-    private static String extractSessionId(String cookies) {
-        if (cookies == null || cookies.isEmpty()) {
-            return null;
+        if (ignoredUri) {
+            chain.doFilter(cachedRequestHttpServletRequest, servletResponse);
+            return;
         }
 
-        // Split the cookies string into individual cookies
-        String[] cookieParts = cookies.split(";");
 
-        // Iterate over each cookie part to find the session ID
-        for (String cookiePart : cookieParts) {
-            // Trim the cookie part to remove leading and trailing whitespace
-            String trimmedCookiePart = cookiePart.trim();
+        try {
+            chain.doFilter(cachedRequestHttpServletRequest, responseToUse);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            setPayloadBatchAttribute(span, payloadBatch, CaptureInstrumentation.REQUEST_PHASE, requestExtractResult);
+            throw e;
+        }
 
-            // Check if the cookie part contains an '=' sign indicating a key-value pair
-            if (trimmedCookiePart.contains("=")) {
-                // Split the cookie part into key and value
-                String[] keyValue = trimmedCookiePart.split("=");
+        if (cachedResponseHttpServletResponse != null) {
+            // Push any text still buffered in the response writer to the client, even if the response is not captured.
+            cachedResponseHttpServletResponse.flushWriter();
+        }
 
-                // Check if the key is one of the commonly used session ID cookie names
-                String key = keyValue[0].trim();
-                if (key.equalsIgnoreCase("sessionid") || key.equalsIgnoreCase("JSESSIONID") || key.equalsIgnoreCase("PHPSESSID")) {
-                    // If found, return the session ID value
-                    return keyValue[1].trim();
+        if (enableResponseCapture) {
+            CaptureInstrumentation.Phase responsePhase = captureInstrumentation.start(CaptureInstrumentation.RESPONSE_PHASE, span);
+            try {
+                if (matchedExtractor != null) {
+                    Object handlerPattern = httpServletRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    ExtractResult extractResult = matchedExtractor.extractFromResponse(httpServletRequest.getRequestURI(),
+                            handlerPattern instanceof String ? (String) handlerPattern : null, cachedResponseHttpServletResponse, spanId);
+                    if (logger.isLoggable(Level.FINE)) {
+                        logger.fine("Setting span attributes from response : " + extractResult.spanAttributes);
+                    }
+                    AttributesBuilder responseSpanAttributes = extractResult.spanAttributes.toBuilder();
+                    if (payloadBatch != null) {
+                        payloadBatch.add(extractResult.sanitizedPayload,
+                                extractResult.bodyBytes, extractResult.bodyTruncated);
+                        setPayloadBatchAttribute(span, payloadBatch, CaptureInstrumentation.RESPONSE_PHASE, extractResult);
+                    } else if (extractResult.sanitizedPayload.isInitialized()) {
+                        Object serializationEvent = CaptureFlightRecorder.beginPayloadSerialization();
+                        String payloadJson = JsonFormat.printer().print(extractResult.sanitizedPayload);
+                        CaptureFlightRecorder.endPayloadSerialization(serializationEvent, CaptureInstrumentation.RESPONSE_PHASE,
+                                extractResult.route, payloadJson.length());
+                        captureMetrics.recordPayloadSerialization(CaptureInstrumentation.RESPONSE_PHASE, extractResult.route,
+                                extractResult.contentType, payloadJson.length());
+                        responseSpanAttributes.put(RESPONSE_PAYLOAD_SPAN_ATTRIBUTE, payloadJson);
+                    }
+                    span.setAllAttributes(responseSpanAttributes.build());
                 }
+            } finally {
+                responsePhase.close();
             }
         }
+        setPayloadBatchAttribute(span, payloadBatch, CaptureInstrumentation.REQUEST_PHASE, requestExtractResult);
+    }
 
-        // If no session ID cookie is found, return null
-        return null;
+    // Sets the v2 payload batch attribute, unless there is nothing (left) to export. The batch is cleared.
+    private void setPayloadBatchAttribute(Span span, PayloadV2Converter.BatchBuilder payloadBatch, String phase, ExtractResult extractResult) {
+        if (payloadBatch == null || payloadBatch.isEmpty()) {
+            return;
+        }
+        Object serializationEvent = CaptureFlightRecorder.beginPayloadSerialization();
+        String payloadBatchBase64 = Base64.getEncoder().encodeToString(payloadBatch.build().toByteArray());
+        payloadBatch.clear();
+        CaptureFlightRecorder.endPayloadSerialization(serializationEvent, phase, extractResult.route, payloadBatchBase64.length());
+        captureMetrics.recordPayloadSerialization(phase, extractResult.route, extractResult.contentType, payloadBatchBase64.length());
+        span.setAttribute(PAYLOAD_BATCH_V2_SPAN_ATTRIBUTE, payloadBatchBase64);
     }
 
 }
\ No newline at end of file
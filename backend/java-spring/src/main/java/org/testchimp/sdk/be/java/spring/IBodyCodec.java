@@ -0,0 +1,21 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.List;
+
+/**
+ * Captures bodies of given media types into the payload. DefaultRequestExtractor dispatches on the media type of the
+ * body (lower case, without parameters); bodies of media types without a codec are captured as text.
+ * <p>
+ * The SDK ships codecs for json, forms, text / html / xml, binary (octet-stream, MessagePack, CBOR) and protobuf
+ * bodies. Spring beans implementing this interface are registered on top of them, replacing the built-in codec of
+ * the media types they declare.
+ */
+public interface IBodyCodec {
+
+    // Media types handled, lower case and without parameters (e.g. "application/x-protobuf").
+    List<String> getMediaTypes();
+
+    // Sets the body on context.getHttpPayload() and puts any span attributes derived from it. Also called for
+    // ignore_payload routes (context.isIgnorePayload()), where the payload is dropped and only span attributes are kept.
+    void extract(ExtractionContext context);
+}
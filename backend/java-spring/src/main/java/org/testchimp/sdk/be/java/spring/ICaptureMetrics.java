@@ -0,0 +1,51 @@
+package org.testchimp.sdk.be.java.spring;
+
+/**
+ * Receives measurements of the work done by the SDK while capturing requests / responses. A Micrometer backed
+ * implementation is registered automatically when Micrometer is on the classpath; otherwise NOOP is used.
+ * <p>
+ * phase is one of CaptureInstrumentation.REQUEST_PHASE / RESPONSE_PHASE. route is the url_configs pattern that matched
+ * the request (CapturePlan.UNMATCHED_ROUTE if none) and contentType the raw content type header (may be null).
+ * Implementations are responsible for keeping tag cardinality bounded.
+ */
+public interface ICaptureMetrics {
+
+    String OUTCOME_CAPTURED = "captured";
+    String OUTCOME_PAYLOAD_IGNORED = "payload_ignored";
+    String OUTCOME_UNMATCHED = "unmatched";
+    String OUTCOME_OPTIONS_SKIPPED = "options_skipped";
+    String OUTCOME_IGNORED_URI = "ignored_uri";
+
+    String DROP_UNDECODABLE_BODY = "undecodable_body";
+
+    ICaptureMetrics NOOP = new ICaptureMetrics() {
+    };
+
+    // Time taken to decide whether / how a payload is captured, and the outcome of that decision.
+    default void recordCaptureDecision(String phase, String route, String outcome, long durationNanos) {
+    }
+
+    // Time taken to extract a request / response (headers, body, span attributes) and the size of the captured body.
+    default void recordExtraction(String phase, String route, String contentType, long durationNanos, long capturedBytes) {
+    }
+
+    // Bytes removed from a body by ignored_fields.
+    default void recordRedaction(String phase, String route, String contentType, long redactedBytes) {
+    }
+
+    // Size of the payload JSON attached to the span.
+    default void recordPayloadSerialization(String phase, String route, String contentType, long serializedBytes) {
+    }
+
+    // A captured value was cut to fit a size cap.
+    default void recordTruncation(String phase, String route, String contentType, int count) {
+    }
+
+    // A body that should have been captured was dropped.
+    default void recordDrop(String phase, String route, String reason) {
+    }
+
+    // A lookup in the per-URI capture rule cache.
+    default void recordRuleCacheLookup(String phase, boolean hit) {
+    }
+}
@@ -0,0 +1,27 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.charset.Charset;
+
+/**
+ * A captured request / response body, decoded from its Content-Encoding.
+ */
+public interface ICapturedBody {
+
+    byte[] getBodyBytes();
+
+    // The body bytes as a ByteString, without copying them.
+    ByteString getBodyByteString();
+
+    String getBodyString();
+
+    // Decodes the given bytes (e.g. a masked copy of getBodyBytes()) the way getBodyString() decodes the body.
+    String getBodyString(byte[] bodyBytes);
+
+    // The charset getBodyString() decodes the body with.
+    Charset getBodyCharset();
+
+    // True if the body could not be decoded (unsupported / corrupt encoding or over the decoded size cap).
+    boolean isBodyDropped();
+}
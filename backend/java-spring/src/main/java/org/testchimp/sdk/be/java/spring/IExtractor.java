@@ -5,5 +5,27 @@ public interface IExtractor {
     // Return the sanitized response body, header map and span attributes to attach.
     ExtractResult extractFromResponse(String requestUri, CachedResponseHttpServletResponse cachedResponseHttpServletResponse);
 
+    // Same as above, also given the handler pattern Spring MVC matched the request with (e.g. /orders/{id}, null if
+    // none), which extractors may use to key per-route state on instead of the URI.
+    default ExtractResult extractFromResponse(String requestUri, String handlerPattern, CachedResponseHttpServletResponse cachedResponseHttpServletResponse) {
+        return extractFromResponse(requestUri, cachedResponseHttpServletResponse);
+    }
+
+    // Same as above, with the span_id of the returned payload set to spanId. Extractors building the payload
+    // themselves can set it while doing so, instead of rebuilding the payload.
+    default ExtractResult extractFromResponse(String requestUri, String handlerPattern, CachedResponseHttpServletResponse cachedResponseHttpServletResponse, String spanId) {
+        return withSpanId(extractFromResponse(requestUri, handlerPattern, cachedResponseHttpServletResponse), spanId);
+    }
+
     ExtractResult extractFromRequest(CachedRequestHttpServletRequest cachedRequestHttpServletRequest);
+
+    // Same as above, with the span_id of the returned payload set to spanId.
+    default ExtractResult extractFromRequest(CachedRequestHttpServletRequest cachedRequestHttpServletRequest, String spanId) {
+        return withSpanId(extractFromRequest(cachedRequestHttpServletRequest), spanId);
+    }
+
+    static ExtractResult withSpanId(ExtractResult result, String spanId) {
+        result.sanitizedPayload = result.sanitizedPayload.toBuilder().setSpanId(spanId).build();
+        return result;
+    }
 }
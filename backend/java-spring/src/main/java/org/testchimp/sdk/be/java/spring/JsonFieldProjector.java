@@ -0,0 +1,259 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Projects a json body onto the captured_fields json paths of a route: the output is a sparse document with just the
+ * values at those paths, nested as in the body. The body is streamed: subtrees that no path leads into are skipped by
+ * the parser without being materialized, and captured values are copied token by token, numbers as written.
+ * <p>
+ * Supported paths are definite paths with wildcards: {@code $}, {@code .name}, {@code ['name']}, {@code [n]},
+ * {@code [*]} and {@code .*}, e.g. {@code $.items[*].sku}. Arrays keep only the elements containing a captured value,
+ * so indices are not preserved. Objects and arrays are only written if they contain a captured value; the root is
+ * always written, so a body without any captured value projects to {@code {}} (or {@code []}).
+ */
+class JsonFieldProjector {
+    private static final Logger logger = Logger.getLogger(JsonFieldProjector.class.getName());
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final PathNode root = new PathNode();
+
+    // Paths that are not supported (see isSupported) are skipped.
+    JsonFieldProjector(Collection<String> paths) {
+        for (String path : paths) {
+            List<Object> steps = parse(path);
+            if (steps != null) {
+                root.add(steps, 0);
+            }
+        }
+    }
+
+    static boolean isSupported(String path) {
+        return parse(path) != null;
+    }
+
+    String project(String json) throws IOException {
+        SegmentedStringWriter output = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            if (parser.nextToken() != null) {
+                new Projection(parser, generator).projectValue(null, Collections.singletonList(root));
+            }
+        }
+        return output.getAndClear();
+    }
+
+    // Parses a path into its steps: field names (String), indices (Integer) and wildcards (PathNode.WILDCARD).
+    // Returns null for unsupported paths.
+    private static List<Object> parse(String path) {
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        List<Object> steps = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                // Empty names include deep scans (..), which are not supported.
+                if (i == start) {
+                    return null;
+                }
+                String name = path.substring(start, i);
+                steps.add(name.equals("*") ? PathNode.WILDCARD : name);
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end == -1) {
+                    return null;
+                }
+                String selector = path.substring(i + 1, end).trim();
+                if (selector.equals("*")) {
+                    steps.add(PathNode.WILDCARD);
+                } else if (selector.length() >= 2 && (selector.charAt(0) == '\'' || selector.charAt(0) == '"')
+                        && selector.charAt(selector.length() - 1) == selector.charAt(0)) {
+                    steps.add(selector.substring(1, selector.length() - 1));
+                } else {
+                    try {
+                        steps.add(Integer.parseInt(selector));
+                    } catch (NumberFormatException e) {
+                        // Filters, slices and unions.
+                        return null;
+                    }
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return steps;
+    }
+
+    // Logs the captured_fields json paths of a url_configs pattern that are not supported. XPaths are left to
+    // XmlBodyProcessor.
+    static void logUnsupported(String uriPattern, Collection<String> paths) {
+        for (String path : paths) {
+            if (!XmlBodyProcessor.isXPath(path) && !isSupported(path)) {
+                logger.severe("Unsupported captured_fields path " + path + " for " + uriPattern
+                        + ": only $, .name, ['name'], [n], [*] and .* steps are supported. The path is not captured.");
+            }
+        }
+    }
+
+    // Node of the trie of path steps.
+    private static class PathNode {
+        static final Object WILDCARD = new Object();
+
+        private final Map<String, PathNode> names = new HashMap<>();
+        private final Map<Integer, PathNode> indices = new HashMap<>();
+        private PathNode wildcard;
+        // The value at this node is captured as a whole.
+        private boolean captured;
+
+        void add(List<Object> steps, int stepIndex) {
+            if (stepIndex == steps.size()) {
+                captured = true;
+                return;
+            }
+            Object step = steps.get(stepIndex);
+            PathNode child;
+            if (step == WILDCARD) {
+                if (wildcard == null) {
+                    wildcard = new PathNode();
+                }
+                child = wildcard;
+            } else if (step instanceof Integer) {
+                child = indices.computeIfAbsent((Integer) step, index -> new PathNode());
+            } else {
+                child = names.computeIfAbsent((String) step, name -> new PathNode());
+            }
+            child.add(steps, stepIndex + 1);
+        }
+    }
+
+    // State of one projection. Containers on the way to a captured value are written lazily, once the value is found.
+    private static class Projection {
+        private final JsonParser parser;
+        private final JsonGenerator generator;
+        // Containers the parser is in: their field name (null in arrays and for the root), and whether they are objects.
+        // Only the first writtenContainers of them are written yet.
+        private final List<String> containerNames = new ArrayList<>();
+        private final List<Boolean> containerObjects = new ArrayList<>();
+        private int writtenContainers;
+
+        Projection(JsonParser parser, JsonGenerator generator) {
+            this.parser = parser;
+            this.generator = generator;
+        }
+
+        // Projects the value at the current token. name is its field name, null in arrays and for the root.
+        void projectValue(String name, List<PathNode> nodes) throws IOException {
+            // Indexed loops: iterators would be allocated for every value of the body.
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).captured) {
+                    writeContainers();
+                    if (name != null) {
+                        generator.writeFieldName(name);
+                    }
+                    copyValue();
+                    return;
+                }
+            }
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                return;
+            }
+            boolean isObject = token == JsonToken.START_OBJECT;
+            containerNames.add(name);
+            containerObjects.add(isObject);
+            if (containerNames.size() == 1) {
+                // The root is always written.
+                writeContainers();
+            }
+            List<PathNode> childNodes = new ArrayList<>(nodes.size());
+            int index = 0;
+            while (parser.nextToken() != (isObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY)) {
+                String childName = null;
+                if (isObject) {
+                    childName = parser.getCurrentName();
+                    parser.nextToken();
+                }
+                childNodes.clear();
+                for (int i = 0; i < nodes.size(); i++) {
+                    PathNode node = nodes.get(i);
+                    PathNode child = isObject ? node.names.get(childName) : node.indices.isEmpty() ? null : node.indices.get(index);
+                    if (child != null) {
+                        childNodes.add(child);
+                    }
+                    if (node.wildcard != null) {
+                        childNodes.add(node.wildcard);
+                    }
+                }
+                if (childNodes.isEmpty()) {
+                    parser.skipChildren();
+                } else {
+                    projectValue(childName, childNodes);
+                }
+                index++;
+            }
+            int depth = containerNames.size();
+            if (writtenContainers == depth) {
+                if (isObject) {
+                    generator.writeEndObject();
+                } else {
+                    generator.writeEndArray();
+                }
+                writtenContainers--;
+            }
+            containerNames.remove(depth - 1);
+            containerObjects.remove(depth - 1);
+        }
+
+        // Copies the value at the current token. Numbers are copied as they are written in the body.
+        private void copyValue() throws IOException {
+            int depth = 0;
+            while (true) {
+                JsonToken token = parser.currentToken();
+                if (token.isNumeric()) {
+                    generator.writeNumber(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (depth == 0) {
+                    return;
+                }
+                parser.nextToken();
+            }
+        }
+
+        private void writeContainers() throws IOException {
+            for (; writtenContainers < containerNames.size(); writtenContainers++) {
+                String name = containerNames.get(writtenContainers);
+                if (name != null) {
+                    generator.writeFieldName(name);
+                }
+                if (containerObjects.get(writtenContainers)) {
+                    generator.writeStartObject();
+                } else {
+                    generator.writeStartArray();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Bounds the size of a json body while streaming it (max_array_elements, max_string_length and max_depth of a route),
+ * keeping its structure. What is cut is replaced by a marker saying how much was elided:
+ * <ul>
+ * <li>arrays keep their first max_array_elements elements, followed by a {@code "...[+N elements]"} element;</li>
+ * <li>strings keep their first max_string_length characters, followed by {@code "...[+N chars]"};</li>
+ * <li>objects and arrays nested deeper than max_depth (the root being at depth 1) are replaced by
+ * {@code "...[object of N fields]"} / {@code "...[array of N elements]"}.</li>
+ * </ul>
+ * Elided values are skipped by the parser without being materialized.
+ */
+class JsonLimiter {
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    final int maxArrayElements;
+    final int maxStringLength;
+    final int maxDepth;
+
+    JsonLimiter(int maxArrayElements, int maxStringLength, int maxDepth) {
+        this.maxArrayElements = maxArrayElements;
+        this.maxStringLength = maxStringLength;
+        this.maxDepth = maxDepth;
+    }
+
+    // The stricter of two limiters, each of which may be null.
+    static JsonLimiter merge(JsonLimiter limiter, JsonLimiter otherLimiter) {
+        if (limiter == null || otherLimiter == null) {
+            return limiter == null ? otherLimiter : limiter;
+        }
+        return new JsonLimiter(Math.min(limiter.maxArrayElements, otherLimiter.maxArrayElements),
+                Math.min(limiter.maxStringLength, otherLimiter.maxStringLength), Math.min(limiter.maxDepth, otherLimiter.maxDepth));
+    }
+
+    // Adds the number of arrays, strings and nested values cut to truncatedValues[0].
+    String limit(String json, int[] truncatedValues) throws IOException {
+        SegmentedStringWriter output = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonParser parser = JSON_FACTORY.createParser(json);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            // Per open container: whether it is an array, its element count and its elided element count.
+            boolean[] arrays = new boolean[8];
+            int[] elementCounts = new int[8];
+            int[] elidedCounts = new int[8];
+            int depth = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    generator.writeFieldName(parser.getCurrentName());
+                    continue;
+                }
+                if (token.isStructEnd()) {
+                    depth--;
+                    if (elidedCounts[depth] > 0) {
+                        generator.writeString("...[+" + elidedCounts[depth] + " elements]");
+                        truncatedValues[0]++;
+                    }
+                    if (arrays[depth]) {
+                        generator.writeEndArray();
+                    } else {
+                        generator.writeEndObject();
+                    }
+                    continue;
+                }
+                if (depth > 0 && arrays[depth - 1] && elementCounts[depth - 1]++ >= maxArrayElements) {
+                    parser.skipChildren();
+                    elidedCounts[depth - 1]++;
+                    continue;
+                }
+                if (token.isStructStart()) {
+                    if (depth >= maxDepth) {
+                        generator.writeString(token == JsonToken.START_ARRAY ? "...[array of " + skipContainer(parser) + " elements]"
+                                : "...[object of " + skipContainer(parser) + " fields]");
+                        truncatedValues[0]++;
+                        continue;
+                    }
+                    if (depth == arrays.length) {
+                        arrays = Arrays.copyOf(arrays, depth * 2);
+                        elementCounts = Arrays.copyOf(elementCounts, depth * 2);
+                        elidedCounts = Arrays.copyOf(elidedCounts, depth * 2);
+                    }
+                    arrays[depth] = token == JsonToken.START_ARRAY;
+                    elementCounts[depth] = 0;
+                    elidedCounts[depth] = 0;
+                    depth++;
+                    if (token == JsonToken.START_ARRAY) {
+                        generator.writeStartArray();
+                    } else {
+                        generator.writeStartObject();
+                    }
+                } else if (token == JsonToken.VALUE_STRING) {
+                    writeString(parser, generator, truncatedValues);
+                } else if (token.isNumeric()) {
+                    // Numbers are copied as written in the body.
+                    generator.writeNumber(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+        return output.getAndClear();
+    }
+
+    private void writeString(JsonParser parser, JsonGenerator generator, int[] truncatedValues) throws IOException {
+        int length = parser.getTextLength();
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (length <= maxStringLength) {
+            generator.writeString(text, offset, length);
+            return;
+        }
+        int keptLength = maxStringLength;
+        // Do not split a surrogate pair.
+        if (keptLength > 0 && Character.isHighSurrogate(text[offset + keptLength - 1])) {
+            keptLength--;
+        }
+        generator.writeString(new StringBuilder(keptLength + 24).append(text, offset, keptLength)
+                .append("...[+").append(length - keptLength).append(" chars]").toString());
+        truncatedValues[0]++;
+    }
+
+    // Skips the object / array at the current token, returning its number of fields / elements.
+    private static int skipContainer(JsonParser parser) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && !token.isStructEnd()) {
+            if (token == JsonToken.FIELD_NAME) {
+                token = parser.nextToken();
+            }
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
+}
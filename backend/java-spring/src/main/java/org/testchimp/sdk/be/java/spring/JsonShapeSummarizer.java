@@ -0,0 +1,226 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import org.testchimp.model.ShapeBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summarizes json bodies into their shape (see ShapeBody): the body is streamed through a Jackson parser, reading only
+ * token types and field names, never values. The elements of an array are merged into one element shape, so a shape
+ * does not grow with the length of the body, and array lengths are kept apart from it, so that it does not change with
+ * them either.
+ * <p>
+ * A shape is sent in full once per resend interval; in between, payloads with the same shape only carry its hash.
+ */
+class JsonShapeSummarizer {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    // Objects with more distinct fields than this (e.g. maps keyed by id) merge further fields into a "*" field.
+    private static final int MAX_OBJECT_FIELDS = 256;
+    private static final String OTHER_FIELDS = "*";
+    // Objects and arrays nested deeper than this (the root being at depth 1) are skipped and summarized as "nested",
+    // which bounds the recursion of reading and writing shapes whatever the body.
+    private static final int MAX_DEPTH = 100;
+    private static final String NESTED_NAME = "nested";
+    // Number of shape hashes remembered as sent.
+    private static final int SENT_SHAPES_CACHE_SIZE = 4096;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final int STRING = 1;
+    private static final int NUMBER = 1 << 1;
+    private static final int BOOLEAN = 1 << 2;
+    private static final int NULL = 1 << 3;
+    private static final int OBJECT = 1 << 4;
+    private static final int ARRAY = 1 << 5;
+    private static final int NESTED = 1 << 6;
+    private static final String[] SCALAR_NAMES = {"string", "number", "boolean", "null"};
+
+    private final long resendIntervalNanos;
+    // When each shape hash was last sent in full.
+    private final Map<String, Long> shapeSentNanos = new ConcurrentHashMap<>();
+
+    JsonShapeSummarizer(long resendIntervalSeconds) {
+        this.resendIntervalNanos = TimeUnit.SECONDS.toNanos(resendIntervalSeconds);
+    }
+
+    ShapeBody summarize(String json) throws IOException {
+        List<Integer> arrayLengths = new ArrayList<>();
+        String shape = getShape(json, arrayLengths);
+        String shapeHash = hash(shape);
+        ShapeBody.Builder shapeBody = ShapeBody.newBuilder().setShapeHash(shapeHash).addAllArrayLengths(arrayLengths);
+        long now = System.nanoTime();
+        Long sentNanos = shapeSentNanos.get(shapeHash);
+        if (sentNanos == null || now - sentNanos >= resendIntervalNanos) {
+            if (shapeSentNanos.size() >= SENT_SHAPES_CACHE_SIZE) {
+                shapeSentNanos.clear();
+            }
+            shapeSentNanos.put(shapeHash, now);
+            shapeBody.setShape(shape);
+        }
+        return shapeBody.build();
+    }
+
+    // Returns the shape of a json document, as json, adding the min and max length of its arrays to arrayLengths. An
+    // empty document has an empty shape.
+    static String getShape(String json, List<Integer> arrayLengths) throws IOException {
+        Shape shape = new Shape();
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() == null) {
+                return "";
+            }
+            read(parser, shape, 1);
+        }
+        SegmentedStringWriter output = new SegmentedStringWriter(new BufferRecycler());
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            write(shape, generator, arrayLengths);
+        }
+        return output.getAndClear();
+    }
+
+    // Merges the value at the current token, at the given depth, into shape.
+    private static void read(JsonParser parser, Shape shape, int depth) throws IOException {
+        shape.count++;
+        if (depth > MAX_DEPTH && parser.currentToken().isStructStart()) {
+            shape.kinds |= NESTED;
+            parser.skipChildren();
+            return;
+        }
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                shape.kinds |= OBJECT;
+                shape.objectCount++;
+                if (shape.fields == null) {
+                    shape.fields = new LinkedHashMap<>();
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    Shape field = shape.fields.get(name);
+                    if (field == null) {
+                        if (shape.fields.size() >= MAX_OBJECT_FIELDS) {
+                            name = OTHER_FIELDS;
+                            field = shape.fields.get(name);
+                        }
+                        if (field == null) {
+                            field = new Shape();
+                            shape.fields.put(name, field);
+                        }
+                    }
+                    parser.nextToken();
+                    read(parser, field, depth + 1);
+                }
+                break;
+            case START_ARRAY:
+                shape.kinds |= ARRAY;
+                int length = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (shape.element == null) {
+                        shape.element = new Shape();
+                    }
+                    read(parser, shape.element, depth + 1);
+                    length++;
+                }
+                shape.minLength = Math.min(shape.minLength, length);
+                shape.maxLength = Math.max(shape.maxLength, length);
+                break;
+            case VALUE_STRING:
+                shape.kinds |= STRING;
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                shape.kinds |= NUMBER;
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                shape.kinds |= BOOLEAN;
+                break;
+            default:
+                shape.kinds |= NULL;
+        }
+    }
+
+    private static void write(Shape shape, JsonGenerator generator, List<Integer> arrayLengths) throws IOException {
+        int scalarKinds = shape.kinds & (STRING | NUMBER | BOOLEAN | NULL);
+        int parts = (scalarKinds == 0 ? 0 : 1) + Integer.bitCount(shape.kinds & (OBJECT | ARRAY | NESTED));
+        if (parts > 1) {
+            generator.writeStartArray();
+            generator.writeString("union");
+        }
+        if ((shape.kinds & OBJECT) != 0) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Shape> field : shape.fields.entrySet()) {
+                generator.writeFieldName(field.getValue().count < shape.objectCount ? field.getKey() + "?" : field.getKey());
+                write(field.getValue(), generator, arrayLengths);
+            }
+            generator.writeEndObject();
+        }
+        if ((shape.kinds & ARRAY) != 0) {
+            generator.writeStartArray();
+            generator.writeString("array");
+            arrayLengths.add(shape.minLength);
+            arrayLengths.add(shape.maxLength);
+            if (shape.element != null) {
+                write(shape.element, generator, arrayLengths);
+            }
+            generator.writeEndArray();
+        }
+        if ((shape.kinds & NESTED) != 0) {
+            generator.writeString(NESTED_NAME);
+        }
+        if (scalarKinds != 0) {
+            StringBuilder scalars = new StringBuilder();
+            for (int i = 0; i < SCALAR_NAMES.length; i++) {
+                if ((scalarKinds & (1 << i)) != 0) {
+                    scalars.append(scalars.length() == 0 ? "" : "|").append(SCALAR_NAMES[i]);
+                }
+            }
+            generator.writeString(scalars.toString());
+        }
+        if (parts > 1) {
+            generator.writeEndArray();
+        }
+    }
+
+    // First 128 bits of the SHA-256 of the shape, hex encoded.
+    private static String hash(String shape) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(shape.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        char[] hex = new char[32];
+        for (int i = 0; i < 16; i++) {
+            hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    // The merged shape of one or more json values.
+    private static class Shape {
+        private int kinds;
+        // Values merged into this shape.
+        private int count;
+        // Objects merged into this shape, and their fields in order of appearance.
+        private int objectCount;
+        private Map<String, Shape> fields;
+        // Arrays merged into this shape: the shape of their elements (null while all are empty) and their lengths.
+        private Shape element;
+        private int minLength = Integer.MAX_VALUE;
+        private int maxLength;
+    }
+}
@@ -0,0 +1,49 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.nio.charset.Charset;
+
+/**
+ * A captured body whose bytes had sensitive values masked (see PiiScanner), decoded like the original body.
+ */
+class MaskedCapturedBody implements ICapturedBody {
+    private final ICapturedBody body;
+    private final byte[] maskedBytes;
+
+    MaskedCapturedBody(ICapturedBody body, byte[] maskedBytes) {
+        this.body = body;
+        this.maskedBytes = maskedBytes;
+    }
+
+    @Override
+    public byte[] getBodyBytes() {
+        return maskedBytes;
+    }
+
+    @Override
+    public ByteString getBodyByteString() {
+        return UnsafeByteOperations.unsafeWrap(maskedBytes);
+    }
+
+    @Override
+    public String getBodyString() {
+        return body.getBodyString(maskedBytes);
+    }
+
+    @Override
+    public String getBodyString(byte[] bodyBytes) {
+        return body.getBodyString(bodyBytes);
+    }
+
+    @Override
+    public Charset getBodyCharset() {
+        return body.getBodyCharset();
+    }
+
+    @Override
+    public boolean isBodyDropped() {
+        return body.isBodyDropped();
+    }
+}
@@ -0,0 +1,210 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes capture measurements as Micrometer meters (testchimp.sdk.capture.*), tagged by phase, route and a
+ * normalized content type. At most maxRoutes distinct routes are tagged, later ones are reported as "other". Meters are
+ * cached per route so recording does not allocate tags on the request path.
+ */
+public class MicrometerCaptureMetrics implements ICaptureMetrics {
+
+    static final String OTHER_ROUTE = "other";
+
+    private static final String PHASE_TAG = "phase";
+    private static final String ROUTE_TAG = "route";
+    private static final String CONTENT_TYPE_TAG = "content_type";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String REASON_TAG = "reason";
+
+    private enum ContentCategory {
+        NONE, JSON, XML, HTML, TEXT, FORM_URLENCODED, MULTIPART, BINARY, OTHER;
+
+        final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private final MeterRegistry registry;
+    private final int maxRoutes;
+    private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+    private final Counter[] ruleCacheCounters;
+
+    public MicrometerCaptureMetrics(MeterRegistry registry, int maxRoutes) {
+        this.registry = registry;
+        this.maxRoutes = maxRoutes;
+        this.ruleCacheCounters = new Counter[4];
+        for (int phase = 0; phase < 2; phase++) {
+            for (int hit = 0; hit < 2; hit++) {
+                ruleCacheCounters[phase * 2 + hit] = Counter.builder("testchimp.sdk.capture.rule_cache")
+                        .description("Lookups in the per URI capture rule cache")
+                        .tags(PHASE_TAG, phaseName(phase), "result", hit == 1 ? "hit" : "miss")
+                        .register(registry);
+            }
+        }
+    }
+
+    @Override
+    public void recordCaptureDecision(String phase, String route, String outcome, long durationNanos) {
+        routeMeters(route).decisionTimer(phaseIndex(phase), outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordExtraction(String phase, String route, String contentType, long durationNanos, long capturedBytes) {
+        ContentMeters meters = routeMeters(route).contentMeters(phaseIndex(phase), categorize(contentType));
+        meters.extractionTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        meters.capturedBytes.record(capturedBytes);
+    }
+
+    @Override
+    public void recordRedaction(String phase, String route, String contentType, long redactedBytes) {
+        routeMeters(route).contentMeters(phaseIndex(phase), categorize(contentType)).redactedBytes.record(redactedBytes);
+    }
+
+    @Override
+    public void recordPayloadSerialization(String phase, String route, String contentType, long serializedBytes) {
+        routeMeters(route).contentMeters(phaseIndex(phase), categorize(contentType)).payloadSize.record(serializedBytes);
+    }
+
+    @Override
+    public void recordTruncation(String phase, String route, String contentType, int count) {
+        routeMeters(route).contentMeters(phaseIndex(phase), categorize(contentType)).truncations.increment(count);
+    }
+
+    @Override
+    public void recordDrop(String phase, String route, String reason) {
+        routeMeters(route).dropCounter(phaseIndex(phase), reason).increment();
+    }
+
+    @Override
+    public void recordRuleCacheLookup(String phase, boolean hit) {
+        ruleCacheCounters[phaseIndex(phase) * 2 + (hit ? 1 : 0)].increment();
+    }
+
+    private RouteMeters routeMeters(String route) {
+        if (route == null) {
+            route = CapturePlan.UNMATCHED_ROUTE;
+        }
+        RouteMeters meters = routeMeters.get(route);
+        if (meters != null) {
+            return meters;
+        }
+        if (routeMeters.size() >= maxRoutes) {
+            return routeMeters.computeIfAbsent(OTHER_ROUTE, RouteMeters::new);
+        }
+        return routeMeters.computeIfAbsent(route, RouteMeters::new);
+    }
+
+    private static int phaseIndex(String phase) {
+        return CaptureInstrumentation.RESPONSE_PHASE.equals(phase) ? 1 : 0;
+    }
+
+    private static String phaseName(int phaseIndex) {
+        return phaseIndex == 1 ? CaptureInstrumentation.RESPONSE_PHASE : CaptureInstrumentation.REQUEST_PHASE;
+    }
+
+    private static ContentCategory categorize(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return ContentCategory.NONE;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.contains("json")) {
+            return ContentCategory.JSON;
+        } else if (type.contains("xml")) {
+            return ContentCategory.XML;
+        } else if (type.contains("text/html")) {
+            return ContentCategory.HTML;
+        } else if (type.startsWith("text/")) {
+            return ContentCategory.TEXT;
+        } else if (type.contains("application/x-www-form-urlencoded")) {
+            return ContentCategory.FORM_URLENCODED;
+        } else if (type.startsWith("multipart/")) {
+            return ContentCategory.MULTIPART;
+        } else if (type.startsWith("application/octet-stream") || type.startsWith("image/") || type.startsWith("audio/")
+                || type.startsWith("video/")) {
+            return ContentCategory.BINARY;
+        }
+        return ContentCategory.OTHER;
+    }
+
+    private class RouteMeters {
+        private final String route;
+        private final ContentMeters[] contentMeters = new ContentMeters[2 * ContentCategory.values().length];
+        private final Map<String, Timer> requestDecisionTimers = new ConcurrentHashMap<>();
+        private final Map<String, Timer> responseDecisionTimers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> requestDropCounters = new ConcurrentHashMap<>();
+        private final Map<String, Counter> responseDropCounters = new ConcurrentHashMap<>();
+
+        private RouteMeters(String route) {
+            this.route = route;
+        }
+
+        private Timer decisionTimer(int phase, String outcome) {
+            Map<String, Timer> timers = phase == 1 ? responseDecisionTimers : requestDecisionTimers;
+            Timer timer = timers.get(outcome);
+            if (timer == null) {
+                timer = timers.computeIfAbsent(outcome, o -> Timer.builder("testchimp.sdk.capture.decision")
+                        .description("Time taken to decide whether and how a payload is captured")
+                        .tags(PHASE_TAG, phaseName(phase), ROUTE_TAG, route, OUTCOME_TAG, o)
+                        .register(registry));
+            }
+            return timer;
+        }
+
+        private Counter dropCounter(int phase, String reason) {
+            Map<String, Counter> counters = phase == 1 ? responseDropCounters : requestDropCounters;
+            Counter counter = counters.get(reason);
+            if (counter == null) {
+                counter = counters.computeIfAbsent(reason, r -> Counter.builder("testchimp.sdk.capture.drops")
+                        .description("Bodies that should have been captured but were dropped")
+                        .tags(PHASE_TAG, phaseName(phase), ROUTE_TAG, route, REASON_TAG, r)
+                        .register(registry));
+            }
+            return counter;
+        }
+
+        private ContentMeters contentMeters(int phase, ContentCategory category) {
+            int index = phase * ContentCategory.values().length + category.ordinal();
+            ContentMeters meters = contentMeters[index];
+            if (meters == null) {
+                // Racing threads get the same meters back from the registry.
+                meters = new ContentMeters(Tags.of(PHASE_TAG, phaseName(phase), ROUTE_TAG, route, CONTENT_TYPE_TAG, category.tag));
+                contentMeters[index] = meters;
+            }
+            return meters;
+        }
+    }
+
+    private class ContentMeters {
+        private final Timer extractionTimer;
+        private final DistributionSummary capturedBytes;
+        private final DistributionSummary redactedBytes;
+        private final DistributionSummary payloadSize;
+        private final Counter truncations;
+
+        private ContentMeters(Tags tags) {
+            extractionTimer = Timer.builder("testchimp.sdk.capture.extraction")
+                    .description("Time taken to extract the headers, body and span attributes of a request / response")
+                    .tags(tags).register(registry);
+            capturedBytes = DistributionSummary.builder("testchimp.sdk.capture.captured")
+                    .description("Size of the captured bodies").baseUnit("bytes")
+                    .tags(tags).register(registry);
+            redactedBytes = DistributionSummary.builder("testchimp.sdk.capture.redacted")
+                    .description("Bytes removed from captured bodies by ignored_fields").baseUnit("bytes")
+                    .tags(tags).register(registry);
+            payloadSize = DistributionSummary.builder("testchimp.sdk.capture.payload.size")
+                    .description("Size of the serialized payload attached to the span").baseUnit("bytes")
+                    .tags(tags).register(registry);
+            truncations = Counter.builder("testchimp.sdk.capture.truncations")
+                    .description("Captured values cut to fit a size cap")
+                    .tags(tags).register(registry);
+        }
+    }
+}
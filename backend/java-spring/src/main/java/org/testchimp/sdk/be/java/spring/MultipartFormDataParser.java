@@ -0,0 +1,223 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single pass multipart/form-data parser over an already cached request body. Unlike HttpServletRequest.getParts() it
+ * never spools the body: file parts are skipped without being read, only the requested fields are materialized (capped
+ * at maxFieldBytes) and parsing stops as soon as every requested field has been seen.
+ */
+public class MultipartFormDataParser {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final byte[] body;
+    private final byte[] delimiter;
+    private final int[] skipTable;
+    private int truncatedFieldCount;
+
+    public MultipartFormDataParser(byte[] body, String boundary) {
+        this.body = body;
+        // Every part (except the first) is preceded by CRLF "--" boundary.
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.skipTable = new int[256];
+        for (int i = 0; i < skipTable.length; i++) {
+            skipTable[i] = delimiter.length;
+        }
+        for (int i = 0; i < delimiter.length - 1; i++) {
+            skipTable[delimiter[i] & 0xFF] = delimiter.length - 1 - i;
+        }
+    }
+
+    // Number of field values cut at maxFieldBytes by the last parse call.
+    public int getTruncatedFieldCount() {
+        return truncatedFieldCount;
+    }
+
+    // Returns the boundary parameter of a multipart content type, or null if absent.
+    public static String getBoundary(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int index = contentType.toLowerCase().indexOf("boundary=");
+        if (index == -1) {
+            return null;
+        }
+        String boundary = contentType.substring(index + "boundary=".length());
+        int end = boundary.indexOf(';');
+        if (end != -1) {
+            boundary = boundary.substring(0, end);
+        }
+        boundary = boundary.trim();
+        if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        return boundary.isEmpty() ? null : boundary;
+    }
+
+    /**
+     * Collects non-file fields in body order.
+     *
+     * @param ignoredFields fields that are never materialized.
+     * @param wantedFields  if non null, only these fields are materialized and parsing stops once all of them are found.
+     * @param maxFieldBytes per field capture cap. Longer values are truncated.
+     */
+    public Map<String, String> parse(Set<String> ignoredFields, Set<String> wantedFields, int maxFieldBytes) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        truncatedFieldCount = 0;
+        if (wantedFields != null && wantedFields.isEmpty()) {
+            return fields;
+        }
+        // The first delimiter may not have a leading CRLF, so search for it starting two bytes "before" the body.
+        int position = indexOfDelimiter(0, 2);
+        while (position != -1) {
+            int partStart = position + delimiter.length;
+            // "--" after the delimiter marks the end of the multipart body.
+            if (partStart + 1 >= body.length || (body[partStart] == DASH && body[partStart + 1] == DASH)) {
+                break;
+            }
+            int headersStart = skipLine(partStart);
+            if (headersStart == -1) {
+                break;
+            }
+            String name = null;
+            boolean isFile = false;
+            Charset charset = StandardCharsets.UTF_8;
+            int lineStart = headersStart;
+            int contentStart = -1;
+            while (lineStart < body.length) {
+                int lineEnd = indexOfLineEnd(lineStart);
+                if (lineEnd == -1) {
+                    break;
+                }
+                if (lineEnd == lineStart) {
+                    contentStart = skipLine(lineStart);
+                    break;
+                }
+                String header = new String(body, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                int colon = header.indexOf(':');
+                if (colon != -1) {
+                    String headerName = header.substring(0, colon).trim();
+                    if (headerName.equalsIgnoreCase("content-disposition")) {
+                        name = getParameter(header, "name");
+                        isFile = getParameter(header, "filename") != null;
+                    } else if (headerName.equalsIgnoreCase("content-type")) {
+                        String partCharset = getParameter(header, "charset");
+                        if (partCharset != null && Charset.isSupported(partCharset)) {
+                            charset = Charset.forName(partCharset);
+                        }
+                    }
+                }
+                lineStart = skipLine(lineStart);
+            }
+            if (contentStart == -1) {
+                break;
+            }
+            int nextDelimiter = indexOfDelimiter(contentStart, 0);
+            if (nextDelimiter == -1) {
+                break;
+            }
+            if (name != null && !isFile && !ignoredFields.contains(name)
+                    && (wantedFields == null || wantedFields.contains(name))) {
+                int length = nextDelimiter - contentStart;
+                if (length > maxFieldBytes) {
+                    length = maxFieldBytes;
+                    if (charset.equals(StandardCharsets.UTF_8)) {
+                        // Back off to the start of a character rather than cut a UTF-8 sequence.
+                        while (length > 0 && (body[contentStart + length] & 0xC0) == 0x80) {
+                            length--;
+                        }
+                    }
+                    truncatedFieldCount++;
+                }
+                fields.put(name, new String(body, contentStart, length, charset));
+                if (wantedFields != null && fields.size() == wantedFields.size()) {
+                    break;
+                }
+            }
+            position = nextDelimiter;
+        }
+        return fields;
+    }
+
+    // Boyer-Moore-Horspool search, so large file parts are skipped without comparing every byte. A positive
+    // leadingOffset first checks for a match with that many leading delimiter bytes missing at from (the first
+    // delimiter has no CRLF ahead of it); the returned index is then negative-shifted accordingly.
+    private int indexOfDelimiter(int from, int leadingOffset) {
+        if (leadingOffset > 0 && startsWithDelimiter(from, leadingOffset)) {
+            return from - leadingOffset;
+        }
+        int last = delimiter.length - 1;
+        int i = from;
+        while (i + last < body.length) {
+            int j = last;
+            while (body[i + j] == delimiter[j]) {
+                if (j == 0) {
+                    return i;
+                }
+                j--;
+            }
+            i += skipTable[body[i + last] & 0xFF];
+        }
+        return -1;
+    }
+
+    private boolean startsWithDelimiter(int from, int leadingOffset) {
+        if (from + delimiter.length - leadingOffset > body.length) {
+            return false;
+        }
+        for (int j = leadingOffset; j < delimiter.length; j++) {
+            if (body[from + j - leadingOffset] != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOfLineEnd(int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == CR || body[i] == LF) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Returns the index after the end of the line starting at from (tolerating bare LF), or -1 if there is none.
+    private int skipLine(int from) {
+        int lineEnd = indexOfLineEnd(from);
+        if (lineEnd == -1) {
+            return -1;
+        }
+        if (body[lineEnd] == CR && lineEnd + 1 < body.length && body[lineEnd + 1] == LF) {
+            return lineEnd + 2;
+        }
+        return lineEnd + 1;
+    }
+
+    private static String getParameter(String header, String parameter) {
+        String lowerCaseHeader = header.toLowerCase();
+        int index = 0;
+        while ((index = lowerCaseHeader.indexOf(parameter + "=", index)) != -1) {
+            // Make sure we matched the whole parameter name (e.g. not "filename" when looking for "name").
+            char previous = index == 0 ? ';' : lowerCaseHeader.charAt(index - 1);
+            if (previous == ';' || previous == ' ' || previous == '\t') {
+                int valueStart = index + parameter.length() + 1;
+                if (valueStart < header.length() && header.charAt(valueStart) == '"') {
+                    int valueEnd = header.indexOf('"', valueStart + 1);
+                    return header.substring(valueStart + 1, valueEnd == -1 ? header.length() : valueEnd);
+                }
+                int valueEnd = header.indexOf(';', valueStart);
+                return header.substring(valueStart, valueEnd == -1 ? header.length() : valueEnd).trim();
+            }
+            index += parameter.length();
+        }
+        return null;
+    }
+}
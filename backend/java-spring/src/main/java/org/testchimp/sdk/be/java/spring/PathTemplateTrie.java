@@ -0,0 +1,147 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment trie of url_configs path templates, such as /orders/{id}/items or /admin/**. Within a template:
+ * <ul>
+ *     <li>{@code *} or {@code {name}} matches exactly one path segment,</li>
+ *     <li>{@code **} matches any number of path segments, including none,</li>
+ *     <li>any other segment matches itself (case-sensitive).</li>
+ * </ul>
+ * Empty segments (repeated or trailing slashes) are ignored. A lookup walks the trie segment by segment, keeping the
+ * set of nodes the path prefix reaches (several with wildcards), so its cost is at most the number of segments times
+ * the number of nodes, and depends on the path length rather than on the number of templates.
+ */
+class PathTemplateTrie {
+
+    private static final String SINGLE_SEGMENT_WILDCARD = "*";
+    private static final String MULTI_SEGMENT_WILDCARD = "**";
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Node root = newNode();
+    private boolean empty = true;
+
+    // Adds a template; lookups report it by the given id.
+    void add(String template, int id) {
+        Node node = root;
+        String previousSegment = null;
+        for (String segment : split(template)) {
+            if (segment.equals(MULTI_SEGMENT_WILDCARD)) {
+                if (MULTI_SEGMENT_WILDCARD.equals(previousSegment)) {
+                    // **/** is the same as **.
+                    continue;
+                }
+                if (node.multiSegmentChild == null) {
+                    node.multiSegmentChild = newNode();
+                    node.multiSegmentChild.multiSegment = true;
+                }
+                node = node.multiSegmentChild;
+            } else if (segment.equals(SINGLE_SEGMENT_WILDCARD) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.singleSegmentChild == null) {
+                    node.singleSegmentChild = newNode();
+                }
+                node = node.singleSegmentChild;
+            } else {
+                node = node.literalChildren.computeIfAbsent(segment, key -> newNode());
+            }
+            previousSegment = segment;
+        }
+        node.templateIds.set(id);
+        empty = false;
+    }
+
+    boolean isEmpty() {
+        return empty;
+    }
+
+    // Returns the ids of all templates matching the path.
+    BitSet match(String path) {
+        BitSet matches = new BitSet();
+        if (empty) {
+            return matches;
+        }
+        // Nodes reached by the segments so far, each once.
+        List<Node> active = new ArrayList<>();
+        BitSet activeIndices = new BitSet(nodes.size());
+        activate(root, active, activeIndices);
+        List<Node> next = new ArrayList<>();
+        for (String segment : split(path)) {
+            next.clear();
+            activeIndices.clear();
+            for (Node node : active) {
+                if (node.multiSegment) {
+                    // ** consumes any number of segments.
+                    activate(node, next, activeIndices);
+                }
+                Node literalChild = node.literalChildren.get(segment);
+                if (literalChild != null) {
+                    activate(literalChild, next, activeIndices);
+                }
+                if (node.singleSegmentChild != null) {
+                    activate(node.singleSegmentChild, next, activeIndices);
+                }
+            }
+            List<Node> reached = active;
+            active = next;
+            next = reached;
+            if (active.isEmpty()) {
+                return matches;
+            }
+        }
+        for (Node node : active) {
+            matches.or(node.templateIds);
+        }
+        return matches;
+    }
+
+    // Adds the node, and the ** child it reaches without consuming a segment, to the active nodes.
+    private static void activate(Node node, List<Node> active, BitSet activeIndices) {
+        for (; node != null && !activeIndices.get(node.index); node = node.multiSegmentChild) {
+            activeIndices.set(node.index);
+            active.add(node);
+        }
+    }
+
+    private Node newNode() {
+        Node node = new Node(nodes.size());
+        nodes.add(node);
+        return node;
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    private static class Node {
+        // Position in nodes.
+        private final int index;
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private Node singleSegmentChild;
+        private Node multiSegmentChild;
+        // Whether this node is reached by a ** segment, which consumes any number of segments.
+        private boolean multiSegment;
+        // Ids of the templates ending at this node.
+        private final BitSet templateIds = new BitSet();
+
+        Node(int index) {
+            this.index = index;
+        }
+    }
+}
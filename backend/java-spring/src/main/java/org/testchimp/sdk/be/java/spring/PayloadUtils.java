@@ -1,5 +1,7 @@
 package org.testchimp.sdk.be.java.spring;
 
+import com.google.protobuf.ByteString;
+import org.testchimp.model.EncodedBody;
 import org.testchimp.model.HttpFormDataBody;
 import org.testchimp.model.HttpPayload;
 import org.testchimp.model.Payload;
@@ -30,4 +32,21 @@ public class PayloadUtils {
         return Payload.newBuilder().setHttpPayload(existingPayload.setHttpFormDataBody(HttpFormDataBody.newBuilder()
                 .putAllKeyValueMap(keyValueMap))).build();
     }
+
+    public static Payload getHttpEncodedPayload(String contentType, String charset, ByteString body, HttpPayload.Builder existingPayload) {
+        return Payload.newBuilder().setHttpPayload(setEncodedBody(existingPayload, contentType, charset, body)).build();
+    }
+
+    // contentType is a Content-Type header value, recorded without its parameters. A UTF-8 charset is left implicit.
+    public static HttpPayload.Builder setEncodedBody(HttpPayload.Builder httpPayload, String contentType, String charset, ByteString body) {
+        EncodedBody.Builder encodedBody = EncodedBody.newBuilder().setData(body);
+        String mediaType = BodyCodecRegistry.getMediaType(contentType);
+        if (mediaType != null) {
+            encodedBody.setContentType(mediaType);
+        }
+        if (charset != null && !charset.equalsIgnoreCase("UTF-8")) {
+            encodedBody.setCharset(charset);
+        }
+        return httpPayload.setEncodedBody(encodedBody);
+    }
 }
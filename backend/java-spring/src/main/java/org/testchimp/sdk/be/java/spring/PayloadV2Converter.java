@@ -0,0 +1,302 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.testchimp.model.*;
+
+import java.util.*;
+
+/**
+ * Converts payloads between the v1 (Payload / PayloadList) and the compact v2 (PayloadBatchV2) schema.
+ * <p>
+ * Converting v1 payloads to v2 and back gives the original payloads. The v2 body_size / body_truncated fields have no
+ * v1 counterpart and are dropped when converting to v1.
+ * <p>
+ * A batch usually holds the request and response payloads of a single span, so its own dictionary saves little. The
+ * header names and values common to most requests are taken from a static dictionary instead, which all batches share:
+ * its entries have the first indices, followed by those of the batch dictionary.
+ */
+public final class PayloadV2Converter {
+
+    // Version of STATIC_DICTIONARY set on the batches. The entries of a version never change: a new version is added
+    // for new entries.
+    public static final int STATIC_DICTIONARY_VERSION = 1;
+
+    // Static dictionary of version 1: common header names (lower case, as captured) and values.
+    static final List<String> STATIC_DICTIONARY = Collections.unmodifiableList(Arrays.asList(
+            "accept", "accept-charset", "accept-encoding", "accept-language", "accept-ranges",
+            "access-control-allow-credentials", "access-control-allow-headers", "access-control-allow-methods",
+            "access-control-allow-origin", "access-control-expose-headers", "access-control-max-age",
+            "access-control-request-headers", "access-control-request-method", "age", "allow", "authorization",
+            "cache-control", "connection", "content-disposition", "content-encoding", "content-language",
+            "content-length", "content-location", "content-range", "content-security-policy", "content-type", "cookie",
+            "date", "dnt", "etag", "expect", "expires", "forwarded", "from", "host", "if-match", "if-modified-since",
+            "if-none-match", "if-range", "if-unmodified-since", "keep-alive", "last-modified", "link", "location",
+            "max-forwards", "origin", "pragma", "priority", "proxy-authorization", "range", "referer",
+            "referrer-policy", "retry-after", "sec-ch-ua", "sec-ch-ua-mobile", "sec-ch-ua-platform", "sec-fetch-dest",
+            "sec-fetch-mode", "sec-fetch-site", "sec-fetch-user", "server", "set-cookie", "strict-transport-security",
+            "te", "traceparent", "tracestate", "transfer-encoding", "upgrade-insecure-requests", "user-agent", "vary",
+            "via", "www-authenticate", "x-content-type-options", "x-correlation-id", "x-forwarded-for",
+            "x-forwarded-host", "x-forwarded-port", "x-forwarded-proto", "x-frame-options", "x-real-ip",
+            "x-request-id", "x-requested-with", "x-xss-protection",
+            "*/*", "application/json", "application/json;charset=UTF-8", "application/json; charset=utf-8",
+            "application/x-www-form-urlencoded", "application/xml", "text/html", "text/html;charset=UTF-8",
+            "text/plain", "text/plain;charset=UTF-8", "multipart/form-data", "application/octet-stream",
+            "application/json, text/plain, */*", "gzip", "deflate", "br", "gzip, deflate", "gzip, deflate, br",
+            "gzip, deflate, br, zstd", "identity", "chunked", "close", "no-cache", "no-store",
+            "no-cache, no-store, max-age=0, must-revalidate", "max-age=0", "private", "public", "bytes", "none",
+            "nosniff", "DENY", "SAMEORIGIN", "0", "1", "1; mode=block", "?0", "?1", "*", "true", "cors", "navigate",
+            "no-cors", "same-origin", "same-site", "cross-site", "empty", "document", "Origin", "Accept-Encoding",
+            "Origin, Accept-Encoding", "XMLHttpRequest", "en-US,en;q=0.9", "en-US", "en"));
+    private static final Map<String, Integer> STATIC_DICTIONARY_INDICES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < STATIC_DICTIONARY.size(); i++) {
+            STATIC_DICTIONARY_INDICES.putIfAbsent(STATIC_DICTIONARY.get(i), i);
+        }
+    }
+
+    private PayloadV2Converter() {
+    }
+
+    public static PayloadBatchV2 toV2(PayloadList payloadList) {
+        BatchBuilder batch = new BatchBuilder();
+        for (Payload payload : payloadList.getPayloadsList()) {
+            batch.add(payload);
+        }
+        return batch.build();
+    }
+
+    public static PayloadList toV1(PayloadBatchV2 batch) {
+        PayloadList.Builder payloadList = PayloadList.newBuilder();
+        List<String> dictionary = getDictionary(batch);
+        for (PayloadV2 payload : batch.getPayloadsList()) {
+            payloadList.addPayloads(toV1(payload, dictionary));
+        }
+        return payloadList.build();
+    }
+
+    // The entries the indices of the batch refer to: those of its static dictionary, if any, then its own. Throws
+    // IllegalArgumentException for an unknown static dictionary version.
+    public static List<String> getDictionary(PayloadBatchV2 batch) {
+        if (batch.getStaticDictionaryVersion() == 0) {
+            return batch.getDictionaryList();
+        }
+        if (batch.getStaticDictionaryVersion() != STATIC_DICTIONARY_VERSION) {
+            throw new IllegalArgumentException("Unknown static dictionary version " + batch.getStaticDictionaryVersion());
+        }
+        List<String> dictionary = new ArrayList<>(STATIC_DICTIONARY.size() + batch.getDictionaryCount());
+        dictionary.addAll(STATIC_DICTIONARY);
+        dictionary.addAll(batch.getDictionaryList());
+        return dictionary;
+    }
+
+    // Converts a payload of a batch, resolving its entries against the dictionary of the batch (see getDictionary).
+    public static Payload toV1(PayloadV2 payload, List<String> dictionary) {
+        Payload.Builder v1Payload = Payload.newBuilder();
+        if (payload.hasSpanId()) {
+            v1Payload.setSpanId(payload.getSpanId());
+        }
+        if (payload.hasHttpPayload()) {
+            v1Payload.setHttpPayload(toV1(payload.getHttpPayload(), dictionary));
+        }
+        return v1Payload.build();
+    }
+
+    // The deprecated http_get_body is only carried over so that v1 <-> v2 conversion is lossless.
+    @SuppressWarnings("deprecation")
+    private static HttpPayload toV1(HttpPayloadV2 payload, List<String> dictionary) {
+        HttpPayload.Builder v1Payload = HttpPayload.newBuilder();
+        for (DictionaryEntry header : payload.getHeadersList()) {
+            v1Payload.putHeaderMap(dictionary.get(header.getName()), getValue(header, dictionary));
+        }
+        for (DictionaryEntry queryParam : payload.getQueryParamsList()) {
+            v1Payload.putQueryParamMap(dictionary.get(queryParam.getName()), getValue(queryParam, dictionary));
+        }
+        if (payload.hasHttpMethod()) {
+            v1Payload.setHttpMethod(payload.getHttpMethod());
+        }
+        if (payload.hasResponseCode()) {
+            v1Payload.setResponseCode(payload.getResponseCode());
+        }
+        switch (payload.getBodyCase()) {
+            case JSON_BODY:
+                v1Payload.setJsonBody(payload.getJsonBody());
+                break;
+            case HTTP_GET_BODY:
+                v1Payload.setHttpGetBody(payload.getHttpGetBody());
+                break;
+            case TEXT_BODY:
+                v1Payload.setTextBody(payload.getTextBody());
+                break;
+            case HTML_BODY:
+                v1Payload.setHtmlBody(payload.getHtmlBody());
+                break;
+            case XML_BODY:
+                v1Payload.setXmlBody(payload.getXmlBody());
+                break;
+            case HTTP_FORM_DATA_BODY:
+                v1Payload.setHttpFormDataBody(payload.getHttpFormDataBody());
+                break;
+            case HTTP_FORM_URLENCODED_BODY:
+                v1Payload.setHttpFormUrlencodedBody(payload.getHttpFormUrlencodedBody());
+                break;
+            case BINARY_DATA_BODY:
+                v1Payload.setBinaryDataBody(payload.getBinaryDataBody());
+                break;
+            case ENCODED_BODY:
+                v1Payload.setEncodedBody(payload.getEncodedBody());
+                break;
+            case SHAPE_BODY:
+                v1Payload.setShapeBody(payload.getShapeBody());
+                break;
+            default:
+                break;
+        }
+        return v1Payload.build();
+    }
+
+    private static String getValue(DictionaryEntry entry, List<String> dictionary) {
+        return entry.getValueCase() == DictionaryEntry.ValueCase.VALUE_INDEX ? dictionary.get(entry.getValueIndex())
+                : entry.getValueLiteral();
+    }
+
+    /**
+     * Collects v1 payloads and encodes them into one PayloadBatchV2. Header / query param names are always referenced
+     * by index; values only if they are in the static dictionary or occur more than once in the batch.
+     */
+    public static class BatchBuilder {
+        private final List<Payload> payloads = new ArrayList<>();
+        private final List<Long> bodySizes = new ArrayList<>();
+        private final List<Boolean> bodiesTruncated = new ArrayList<>();
+
+        public BatchBuilder add(Payload payload) {
+            return add(payload, null, false);
+        }
+
+        // bodySize is the size of the body as captured, null if unknown.
+        public BatchBuilder add(Payload payload, Long bodySize, boolean bodyTruncated) {
+            payloads.add(payload);
+            bodySizes.add(bodySize);
+            bodiesTruncated.add(bodyTruncated);
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return payloads.isEmpty();
+        }
+
+        public void clear() {
+            payloads.clear();
+            bodySizes.clear();
+            bodiesTruncated.clear();
+        }
+
+        public PayloadBatchV2 build() {
+            Map<String, Integer> valueCounts = new HashMap<>();
+            for (Payload payload : payloads) {
+                countValues(payload.getHttpPayload().getHeaderMapMap(), valueCounts);
+                countValues(payload.getHttpPayload().getQueryParamMapMap(), valueCounts);
+            }
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            PayloadBatchV2.Builder batch = PayloadBatchV2.newBuilder();
+            for (int i = 0; i < payloads.size(); i++) {
+                batch.addPayloads(toV2(payloads.get(i), bodySizes.get(i), bodiesTruncated.get(i), dictionary, valueCounts));
+            }
+            return batch.addAllDictionary(dictionary.keySet()).setStaticDictionaryVersion(STATIC_DICTIONARY_VERSION).build();
+        }
+
+        private static void countValues(Map<String, String> entries, Map<String, Integer> valueCounts) {
+            for (String value : entries.values()) {
+                valueCounts.merge(value, 1, Integer::sum);
+            }
+        }
+
+        private static PayloadV2 toV2(Payload payload, Long bodySize, boolean bodyTruncated, Map<String, Integer> dictionary,
+                                      Map<String, Integer> valueCounts) {
+            PayloadV2.Builder v2Payload = PayloadV2.newBuilder();
+            if (payload.hasSpanId()) {
+                v2Payload.setSpanId(payload.getSpanId());
+            }
+            if (payload.hasHttpPayload()) {
+                HttpPayloadV2.Builder httpPayload = toV2(payload.getHttpPayload(), dictionary, valueCounts);
+                if (bodySize != null) {
+                    httpPayload.setBodySize(bodySize);
+                }
+                if (bodyTruncated) {
+                    httpPayload.setBodyTruncated(true);
+                }
+                v2Payload.setHttpPayload(httpPayload);
+            }
+            return v2Payload.build();
+        }
+
+        // The deprecated http_get_body is only carried over so that v1 <-> v2 conversion is lossless.
+        @SuppressWarnings("deprecation")
+        private static HttpPayloadV2.Builder toV2(HttpPayload payload, Map<String, Integer> dictionary, Map<String, Integer> valueCounts) {
+            HttpPayloadV2.Builder v2Payload = HttpPayloadV2.newBuilder();
+            for (Map.Entry<String, String> header : payload.getHeaderMapMap().entrySet()) {
+                v2Payload.addHeaders(toEntry(header, dictionary, valueCounts));
+            }
+            for (Map.Entry<String, String> queryParam : payload.getQueryParamMapMap().entrySet()) {
+                v2Payload.addQueryParams(toEntry(queryParam, dictionary, valueCounts));
+            }
+            if (payload.hasHttpMethod()) {
+                v2Payload.setHttpMethod(payload.getHttpMethod());
+            }
+            if (payload.hasResponseCode()) {
+                v2Payload.setResponseCode(payload.getResponseCode());
+            }
+            switch (payload.getBodyCase()) {
+                case JSON_BODY:
+                    v2Payload.setJsonBody(payload.getJsonBody());
+                    break;
+                case HTTP_GET_BODY:
+                    v2Payload.setHttpGetBody(payload.getHttpGetBody());
+                    break;
+                case TEXT_BODY:
+                    v2Payload.setTextBody(payload.getTextBody());
+                    break;
+                case HTML_BODY:
+                    v2Payload.setHtmlBody(payload.getHtmlBody());
+                    break;
+                case XML_BODY:
+                    v2Payload.setXmlBody(payload.getXmlBody());
+                    break;
+                case HTTP_FORM_DATA_BODY:
+                    v2Payload.setHttpFormDataBody(payload.getHttpFormDataBody());
+                    break;
+                case HTTP_FORM_URLENCODED_BODY:
+                    v2Payload.setHttpFormUrlencodedBody(payload.getHttpFormUrlencodedBody());
+                    break;
+                case BINARY_DATA_BODY:
+                    v2Payload.setBinaryDataBody(payload.getBinaryDataBody());
+                    break;
+                case ENCODED_BODY:
+                    v2Payload.setEncodedBody(payload.getEncodedBody());
+                    break;
+                case SHAPE_BODY:
+                    v2Payload.setShapeBody(payload.getShapeBody());
+                    break;
+                default:
+                    break;
+            }
+            return v2Payload;
+        }
+
+        private static DictionaryEntry toEntry(Map.Entry<String, String> entry, Map<String, Integer> dictionary,
+                                               Map<String, Integer> valueCounts) {
+            DictionaryEntry.Builder dictionaryEntry = DictionaryEntry.newBuilder().setName(indexOf(entry.getKey(), dictionary));
+            if (STATIC_DICTIONARY_INDICES.containsKey(entry.getValue()) || valueCounts.get(entry.getValue()) > 1) {
+                dictionaryEntry.setValueIndex(indexOf(entry.getValue(), dictionary));
+            } else {
+                dictionaryEntry.setValueLiteral(entry.getValue());
+            }
+            return dictionaryEntry.build();
+        }
+
+        // Index of the value in the static dictionary, or else in the batch dictionary (added if missing).
+        private static int indexOf(String value, Map<String, Integer> dictionary) {
+            Integer staticIndex = STATIC_DICTIONARY_INDICES.get(value);
+            return staticIndex != null ? staticIndex : dictionary.computeIfAbsent(value, key -> STATIC_DICTIONARY.size() + dictionary.size());
+        }
+    }
+}
@@ -0,0 +1,695 @@
+package org.testchimp.sdk.be.java.spring;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Masks sensitive values found anywhere in captured text (global_config.pii_scan), whatever their path: card numbers,
+ * email addresses, JWTs, API keys of well-known providers and custom literals. Matches are masked in place with
+ * {@code *}, keeping the length and the punctuation of the value (and the last 4 digits of card numbers), so the body
+ * keeps its format.
+ * <p>
+ * Bodies are scanned as the bytes they were captured as: the patterns are ASCII, which UTF-8 and ISO-8859-1 encode as
+ * themselves and never use within other characters. Literals and token prefixes are compiled into one Aho-Corasick
+ * automaton (a DFA over the ASCII bytes used by the patterns), {@code @} being the trigger of email addresses. The
+ * automaton only runs around the pairs of bytes (at even offsets) that may begin or continue a pattern or an email
+ * address, looked up in a bitset of such pairs; the other pairs are skipped. Card numbers, runs of at least 13 digits,
+ * are found by sampling every 12th byte. Candidates are only validated (Luhn checksum and card brand prefix, email
+ * grammar, JWT structure, API key length) once found.
+ */
+class PiiScanner {
+    private static final Logger logger = Logger.getLogger(PiiScanner.class.getName());
+
+    static final String CARD_NUMBER_DETECTOR = "card_number";
+    static final String EMAIL_DETECTOR = "email";
+    static final String JWT_DETECTOR = "jwt";
+    static final String API_KEY_DETECTOR = "api_key";
+
+    private static final byte MASK = '*';
+    // Mask letters and digits / all characters / letters and digits but the last 4 digits.
+    private static final int MASK_ALPHANUMERIC = 0;
+    private static final int MASK_ALL = 1;
+    private static final int MASK_KEEP_LAST_DIGITS = 2;
+
+    // Kinds of automaton patterns.
+    private static final int LITERAL = -1;
+    private static final int JWT = -2;
+    // API key prefixes and the minimum length of the rest of the key. Other patterns are indices in this table.
+    private static final String[] API_KEY_PREFIXES = {"AKIA", "ASIA", "AIza", "ghp_", "gho_", "ghu_", "ghs_", "ghr_",
+            "github_pat_", "glpat-", "sk_live_", "rk_live_", "xoxb-", "xoxp-", "xoxa-", "xoxr-"};
+    private static final int[] API_KEY_MIN_LENGTHS = {16, 16, 35, 36, 36, 36, 36, 36, 22, 20, 16, 16, 10, 10, 10, 10};
+    private static final String JWT_PREFIX = "eyJ";
+    private static final int MIN_JWT_SEGMENT_LENGTH = 10;
+
+    private static final int MIN_CARD_DIGITS = 13;
+    private static final int MAX_CARD_DIGITS = 19;
+    private static final int MAX_EMAIL_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_EMAIL_DOMAIN_LENGTH = 255;
+    // Runs of card number digits span at least MIN_CARD_DIGITS bytes, so they all have a byte at a multiple of this.
+    private static final int CARD_SAMPLE_STRIDE = MIN_CARD_DIGITS - 1;
+    private static final int SCAN_BLOCK_BYTES = 4096;
+
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 1 << 1;
+    // Characters of base64url tokens (JWT segments, API keys): letters, digits, _ and -.
+    private static final byte TOKEN = 1 << 2;
+    // Characters of the local part of email addresses.
+    private static final byte EMAIL_LOCAL = 1 << 3;
+    // Characters that may appear out of the strings of a json document.
+    private static final byte JSON_SYNTAX = 1 << 4;
+    private static final byte[] FLAGS = new byte[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            boolean digit = c >= '0' && c <= '9';
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            FLAGS[c] = (byte) ((digit ? DIGIT : 0) | (letter ? LETTER : 0)
+                    | (digit || letter || c == '_' || c == '-' ? TOKEN : 0)
+                    | (digit || letter || ".!#$%&'*+/=?^_`{|}~-".indexOf(c) != -1 ? EMAIL_LOCAL : 0)
+                    | (digit || "+-.eEtruefalsn{}[],: \t\r\n".indexOf(c) != -1 ? JSON_SYNTAX : 0));
+        }
+    }
+
+    private final boolean detectCardNumbers;
+    private final boolean detectEmails;
+    // The automaton, a DFA over byte classes: bytes used by no pattern are class 0, which leads back to the root. @ (when
+    // emails are detected) is an "event" class, from eventClasses on, which the scan loop checks for. States are
+    // numbered by their offset in transitions (state index * classCount), and the next state of state s on byte b is
+    // transitions[s + classes[b]], or its complement ~s' if s' ends patterns.
+    private final byte[] classes = new byte[128];
+    private final int classCount;
+    private final int eventClasses;
+    private final int[] transitions;
+    // Patterns ending at each state (by state index, including through suffix links), null for none.
+    private final int[][] outputs;
+    // Pairs of bytes the automaton runs around, one bit per pair (first byte << 8 | second byte).
+    private final long[] triggers = new long[1 << 10];
+    private final List<String> patterns = new ArrayList<>();
+    private final List<Integer> patternKinds = new ArrayList<>();
+
+    private PiiScanner(Collection<String> detectors, Collection<String> literals) {
+        detectCardNumbers = detectors.contains(CARD_NUMBER_DETECTOR);
+        detectEmails = detectors.contains(EMAIL_DETECTOR);
+        if (detectors.contains(JWT_DETECTOR)) {
+            addPattern(JWT_PREFIX, JWT);
+        }
+        if (detectors.contains(API_KEY_DETECTOR)) {
+            for (int i = 0; i < API_KEY_PREFIXES.length; i++) {
+                addPattern(API_KEY_PREFIXES[i], i);
+            }
+        }
+        for (String literal : literals) {
+            addPattern(literal, LITERAL);
+        }
+        int classCount = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (classes[c] == 0 && !isEventChar(c)) {
+                    classes[c] = (byte) classCount++;
+                }
+            }
+        }
+        eventClasses = classCount;
+        for (char c = 0; c < 128; c++) {
+            if (isEventChar(c)) {
+                classes[c] = (byte) classCount++;
+            }
+        }
+        this.classCount = classCount;
+
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        trie.add(new int[classCount]);
+        stateOutputs.add(new ArrayList<>());
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            String pattern = patterns.get(patternIndex);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = classes[pattern.charAt(i)];
+                if (trie.get(state)[c] == 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(new int[classCount]);
+                    stateOutputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            stateOutputs.get(state).add(patternIndex);
+        }
+        // Breadth first, complete the trie into a DFA: missing transitions follow those of the suffix link.
+        int[] suffixLinks = new int[trie.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 1; c < classCount; c++) {
+            if (trie.get(0)[c] != 0) {
+                queue.add(trie.get(0)[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            stateOutputs.get(state).addAll(stateOutputs.get(suffixLinks[state]));
+            for (int c = 1; c < classCount; c++) {
+                int next = trie.get(state)[c];
+                if (next == 0) {
+                    trie.get(state)[c] = trie.get(suffixLinks[state])[c];
+                } else {
+                    suffixLinks[next] = trie.get(suffixLinks[state])[c];
+                    queue.add(next);
+                }
+            }
+        }
+        transitions = new int[trie.size() * classCount];
+        outputs = new int[trie.size()][];
+        for (int state = 0; state < trie.size(); state++) {
+            if (!stateOutputs.get(state).isEmpty()) {
+                outputs[state] = stateOutputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        for (int state = 0; state < trie.size(); state++) {
+            for (int c = 0; c < classCount; c++) {
+                int next = trie.get(state)[c];
+                transitions[state * classCount + c] = outputs[next] == null ? next * classCount : ~(next * classCount);
+            }
+        }
+        // A pattern at an even offset begins with the pair of its first two characters, and one at an odd offset
+        // continues with the pair of the next two. Any byte completes the pairs of shorter literals.
+        for (String pattern : patterns) {
+            addTrigger(pattern.charAt(0), pattern.length() > 1 ? pattern.charAt(1) : -1);
+            if (pattern.length() > 1) {
+                addTrigger(pattern.charAt(1), pattern.length() > 2 ? pattern.charAt(2) : -1);
+            } else {
+                addTrigger(-1, pattern.charAt(0));
+            }
+        }
+        if (detectEmails) {
+            for (char c = 0; c < 128; c++) {
+                if (hasFlag((byte) c, EMAIL_LOCAL)) {
+                    addTrigger(c, '@');
+                }
+                if (isLetterOrDigit((byte) c)) {
+                    addTrigger('@', c);
+                }
+            }
+        }
+    }
+
+    // Returns the scanner of the given detectors and literals, or null if there are none. Unknown detectors and
+    // literals that are empty or not ASCII are logged and skipped.
+    static PiiScanner create(Collection<String> detectors, Collection<String> literals) {
+        List<String> knownDetectors = new ArrayList<>();
+        for (String detector : detectors) {
+            if (Arrays.asList(CARD_NUMBER_DETECTOR, EMAIL_DETECTOR, JWT_DETECTOR, API_KEY_DETECTOR).contains(detector)) {
+                knownDetectors.add(detector);
+            } else {
+                logger.warning("Unknown pii_scan detector " + detector + ", ignoring it");
+            }
+        }
+        List<String> asciiLiterals = new ArrayList<>();
+        for (String literal : literals) {
+            if (!literal.isEmpty() && literal.chars().allMatch(c -> c < 128)) {
+                asciiLiterals.add(literal);
+            } else {
+                logger.warning("Ignoring pii_scan literal " + literal + ": only non-empty ASCII literals are supported");
+            }
+        }
+        if (knownDetectors.isEmpty() && asciiLiterals.isEmpty()) {
+            return null;
+        }
+        return new PiiScanner(knownDetectors, asciiLiterals);
+    }
+
+    private void addPattern(String pattern, int kind) {
+        patterns.add(pattern);
+        patternKinds.add(kind);
+    }
+
+    private boolean isEventChar(char c) {
+        return detectEmails && c == '@';
+    }
+
+    // Adds the pair of bytes to the triggers, -1 standing for any byte.
+    private void addTrigger(int first, int second) {
+        for (int b0 = Math.max(first, 0); b0 <= (first == -1 ? 255 : first); b0++) {
+            for (int b1 = Math.max(second, 0); b1 <= (second == -1 ? 255 : second); b1++) {
+                int pair = b0 << 8 | b1;
+                triggers[pair >>> 6] |= 1L << pair;
+            }
+        }
+    }
+
+    // Whether text of the charset can be scanned as bytes.
+    static boolean isAsciiCompatible(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.ISO_8859_1)
+                || charset.equals(StandardCharsets.US_ASCII);
+    }
+
+    // Returns the text with the sensitive values masked (the same instance if there are none), adding the number of
+    // masked characters to maskedChars[0].
+    String mask(String text, long[] maskedChars) {
+        return mask(text, false, maskedChars);
+    }
+
+    // Same as above for a json document, only masking values within its strings so that it remains valid json (e.g. a
+    // number that looks like a card number is kept).
+    String maskJson(String json, long[] maskedChars) {
+        return mask(json, true, maskedChars);
+    }
+
+    private String mask(String text, boolean json, long[] maskedChars) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        byte[] masked = mask(bytes, json, maskedChars);
+        return masked == bytes ? text : new String(masked, StandardCharsets.UTF_8);
+    }
+
+    // Returns a copy of the text (in an ASCII compatible charset) with the sensitive values masked, or the text itself
+    // if there are none, adding the number of masked bytes to maskedBytes[0]. Only values within the strings of a json
+    // document are masked.
+    byte[] mask(byte[] text, boolean json, long[] maskedBytes) {
+        Matches matches = new Matches(text, json);
+        scan(text, matches);
+        if (matches.count == 0) {
+            return text;
+        }
+        byte[] masked = text.clone();
+        for (int m = 0; m < matches.count; m++) {
+            maskedBytes[0] += mask(masked, matches.values[m * 3], matches.values[m * 3 + 1], matches.values[m * 3 + 2]);
+        }
+        return masked;
+    }
+
+    // Scans the text in a single pass: the automaton runs around the trigger pairs of bytes, the others being skipped,
+    // and the runs of digits found by sampling every CARD_SAMPLE_STRIDE bytes are checked for card numbers. Both are
+    // done block by block, so that the text is read from memory once.
+    private void scan(byte[] text, Matches matches) {
+        long[] triggers = this.triggers;
+        int length = text.length;
+        int nextSample = detectCardNumbers ? 0 : Integer.MAX_VALUE;
+        // The automaton is in its root state at scannedEnd.
+        int scannedEnd = 0;
+        int i = 0;
+        for (int blockStart = 0; blockStart < length; blockStart += SCAN_BLOCK_BYTES) {
+            int blockEnd = Math.min(length, blockStart + SCAN_BLOCK_BYTES);
+            while (nextSample < blockEnd) {
+                nextSample = isCardNumberSample(text, nextSample) ? findCardNumbers(text, nextSample, matches)
+                        : nextSample + CARD_SAMPLE_STRIDE;
+            }
+            int pairsEnd = Math.min(blockEnd, length - 1);
+            while (i < pairsEnd) {
+                for (; i < pairsEnd; i += 2) {
+                    int pair = (text[i] & 0xff) << 8 | (text[i + 1] & 0xff);
+                    if ((triggers[pair >>> 6] & 1L << pair) != 0) {
+                        break;
+                    }
+                }
+                if (i < pairsEnd) {
+                    scannedEnd = runAutomaton(text, Math.max(i - 1, scannedEnd), i + 2, matches);
+                    i = scannedEnd & ~1;
+                }
+            }
+        }
+        // The last byte of an odd length text has no pair.
+        runAutomaton(text, Math.max(i - 1, scannedEnd), length, matches);
+    }
+
+    // Whether text[sample] may be within a card number. Its run of digits would start after the previous sample (or have
+    // been checked already) and span at least 13 bytes, so half way to the next or the previous sample.
+    private static boolean isCardNumberSample(byte[] text, int sample) {
+        int halfStride = CARD_SAMPLE_STRIDE / 2;
+        return isInDigitRun(text, sample)
+                && (isInDigitRun(text, sample + halfStride) || (sample >= halfStride && isInDigitRun(text, sample - halfStride)));
+    }
+
+    // Checks the run of digits sampled at text[sample] for card numbers. Returns the next sample.
+    private static int findCardNumbers(byte[] text, int sample, Matches matches) {
+        int runStart = sample;
+        while (runStart > 0 && isInDigitRun(text, runStart - 1)) {
+            runStart--;
+        }
+        int runEnd = runStart;
+        int digits = 0;
+        while (isInDigitRun(text, runEnd)) {
+            if (isDigit(text[runEnd++])) {
+                digits++;
+            }
+        }
+        int groupStart = digits < MIN_CARD_DIGITS ? runEnd : runStart;
+        while (groupStart < runEnd) {
+            int end = getDigitRunEnd(text, groupStart);
+            if (isCardNumber(text, groupStart, end) && matches.add(groupStart, end, MASK_KEEP_LAST_DIGITS, groupStart)) {
+                break;
+            }
+            // The card number may start at a later group of the run, e.g. after a date.
+            groupStart++;
+            while (groupStart < runEnd && isDigit(text[groupStart])) {
+                groupStart++;
+            }
+            groupStart++;
+        }
+        // Runs starting after the end of this one span the next sample.
+        return runEnd + CARD_SAMPLE_STRIDE;
+    }
+
+    // Runs the automaton from its root state at start, up to minEnd and on until it is back to its root state. Returns
+    // where it stopped.
+    private int runAutomaton(byte[] text, int start, int minEnd, Matches matches) {
+        int[] transitions = this.transitions;
+        byte[] classes = this.classes;
+        int eventClasses = this.eventClasses;
+        int state = 0;
+        int i = start;
+        while (i < text.length && (i < minEnd || state != 0)) {
+            byte b = text[i];
+            int byteClass = b >= 0 ? classes[b] : 0;
+            state = transitions[state + byteClass];
+            if (state >= 0 && byteClass < eventClasses) {
+                i++;
+                continue;
+            }
+            int matchEnd = -1;
+            if (state < 0) {
+                state = ~state;
+                matchEnd = matchPatterns(text, i, outputs[state / classCount], matches);
+            }
+            if (matchEnd == -1 && byteClass >= eventClasses) {
+                matchEnd = matchEmail(text, i, matches);
+            }
+            // Resume the scan after a match spanning further bytes.
+            if (matchEnd > i + 1) {
+                state = 0;
+                i = matchEnd;
+            } else {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    // Matches the patterns ending at text[last]. Returns the end of the first match, or -1.
+    private int matchPatterns(byte[] text, int last, int[] patternIndices, Matches matches) {
+        for (int patternIndex : patternIndices) {
+            int start = last + 1 - patterns.get(patternIndex).length();
+            int kind = patternKinds.get(patternIndex);
+            int end = kind == LITERAL ? last + 1 : kind == JWT ? matchJwt(text, start) : matchApiKey(text, start, last + 1, kind);
+            if (end != -1 && matches.add(start, end, kind == LITERAL ? MASK_ALL : MASK_ALPHANUMERIC, last)) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    // Start, end and mask mode of each match. In json documents, only matches within a string are kept.
+    private static class Matches {
+        private final byte[] text;
+        private final boolean json;
+        private int[] values;
+        private int count;
+        // Card numbers are looked for behind / ahead of the automaton, so they walk the quotes of the document apart.
+        private final QuoteWalk quoteWalk = new QuoteWalk();
+        private final QuoteWalk cardNumberQuoteWalk = new QuoteWalk();
+
+        Matches(byte[] text, boolean json) {
+            this.text = text;
+            this.json = json;
+        }
+
+        // Adds text[start..end), found from text[position]. Returns false if the match is not kept: in json documents,
+        // matches must lie within a string. Positions must not decrease between calls (for each mode).
+        boolean add(int start, int end, int mode, int position) {
+            if (json && !isInJsonString(start, end, position, mode == MASK_KEEP_LAST_DIGITS)) {
+                return false;
+            }
+            if (values == null) {
+                values = new int[12];
+            } else if (count * 3 == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[count * 3] = start;
+            values[count * 3 + 1] = end;
+            values[count * 3 + 2] = mode;
+            count++;
+            return true;
+        }
+
+        // Values with a byte that cannot appear out of strings (e.g. an email's @, most letters, the separators of a card
+        // number), or next to a quote, are in a string. The quotes of the document are only walked for the others (e.g.
+        // card numbers without separators, which could be json numbers).
+        private boolean isInJsonString(int start, int end, int position, boolean cardNumber) {
+            byte syntaxFlag = cardNumber ? DIGIT : JSON_SYNTAX;
+            boolean jsonSyntax = true;
+            for (int i = start; i < end; i++) {
+                if (text[i] == '"') {
+                    return false;
+                }
+                jsonSyntax &= hasFlag(text[i], syntaxFlag);
+            }
+            return !jsonSyntax || (start > 0 && text[start - 1] == '"') || (end < text.length && text[end] == '"')
+                    || (cardNumber ? cardNumberQuoteWalk : quoteWalk).isInString(text, position);
+        }
+    }
+
+    // Quote state of a json document before position, which only moves forward.
+    private static class QuoteWalk {
+        private int position;
+        private boolean inString;
+
+        // Whether text[position] is within a json string.
+        boolean isInString(byte[] text, int position) {
+            while (this.position < position) {
+                byte b = text[this.position++];
+                if (inString) {
+                    if (b == '\\') {
+                        this.position++;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                }
+            }
+            return inString;
+        }
+    }
+
+    // Masks text[start..end), returning the number of masked bytes.
+    private static int mask(byte[] text, int start, int end, int mode) {
+        int keptDigits = mode == MASK_KEEP_LAST_DIGITS ? 4 : 0;
+        int maskedBytes = 0;
+        for (int i = end - 1; i >= start; i--) {
+            byte b = text[i];
+            if (b == MASK) {
+                continue;
+            }
+            if (mode == MASK_ALL || isLetterOrDigit(b)) {
+                if (keptDigits > 0 && isDigit(b)) {
+                    keptDigits--;
+                    continue;
+                }
+                text[i] = MASK;
+                maskedBytes++;
+            }
+        }
+        return maskedBytes;
+    }
+
+    // Whether text[i] is a digit, or a single space / dash between digits.
+    private static boolean isInDigitRun(byte[] text, int i) {
+        if (i >= text.length) {
+            return false;
+        }
+        byte b = text[i];
+        return isDigit(b) || ((b == ' ' || b == '-') && i > 0 && isDigit(text[i - 1]) && i + 1 < text.length && isDigit(text[i + 1]));
+    }
+
+    // End of the run of digits (with single space / dash separators) starting at text[start], stopping after one
+    // digit more than card numbers have.
+    private static int getDigitRunEnd(byte[] text, int start) {
+        int end = start + 1;
+        int digits = 1;
+        while (end < text.length && digits <= MAX_CARD_DIGITS && isInDigitRun(text, end)) {
+            if (isDigit(text[end])) {
+                digits++;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    // A run of digits text[start..end) not within a word, of 13 to 19 digits with the prefix of a major card brand and
+    // a valid Luhn checksum.
+    private static boolean isCardNumber(byte[] text, int start, int end) {
+        if (end - start < MIN_CARD_DIGITS || (start > 0 && isLetterOrDigit(text[start - 1]))
+                || (end < text.length && isLetterOrDigit(text[end]))) {
+            return false;
+        }
+        int digits = 0;
+        int prefix = 0;
+        int sum = 0;
+        for (int i = end - 1; i >= start; i--) {
+            byte b = text[i];
+            if (!isDigit(b)) {
+                continue;
+            }
+            int digit = b - '0';
+            if (digits++ % 2 == 1) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        if (digits < MIN_CARD_DIGITS || digits > MAX_CARD_DIGITS || sum % 10 != 0) {
+            return false;
+        }
+        int prefixDigits = 0;
+        for (int i = start; prefixDigits < 6; i++) {
+            byte b = text[i];
+            if (isDigit(b)) {
+                prefix = prefix * 10 + (b - '0');
+                prefixDigits++;
+            }
+        }
+        return hasCardPrefix(prefix, digits);
+    }
+    // Issuer prefixes (of the first 6 digits) of Visa, Mastercard, American Express, Discover, Diners, JCB and UnionPay.
+    private static boolean hasCardPrefix(int prefix, int digits) {
+        int prefix1 = prefix / 100000;
+        int prefix2 = prefix / 10000;
+        int prefix3 = prefix / 1000;
+        int prefix4 = prefix / 100;
+        if (prefix1 == 4) {
+            return digits == 13 || digits == 16 || digits == 19;
+        }
+        if ((prefix2 >= 51 && prefix2 <= 55) || (prefix4 >= 2221 && prefix4 <= 2720)) {
+            return digits == 16;
+        }
+        if (prefix2 == 34 || prefix2 == 37) {
+            return digits == 15;
+        }
+        if ((prefix3 >= 300 && prefix3 <= 305) || prefix2 == 36 || prefix2 == 38 || prefix2 == 39) {
+            return digits >= 14;
+        }
+        return (prefix4 == 6011 || prefix2 == 65 || (prefix3 >= 644 && prefix3 <= 649) || prefix2 == 62
+                || (prefix4 >= 3528 && prefix4 <= 3589)) && digits >= 16;
+    }
+
+    // Matches the email address whose @ is at text[at]. Returns its end, or -1.
+    private static int matchEmail(byte[] text, int at, Matches matches) {
+        int start = getEmailStart(text, at);
+        if (start != -1 && matches.json) {
+            start = skipJsonEscape(text, start);
+        }
+        int end = start == -1 || start >= at ? -1 : getEmailEnd(text, at);
+        return end != -1 && matches.add(start, end, MASK_ALPHANUMERIC, at) ? end : -1;
+    }
+
+    // Start of the local part of an email address whose @ is at text[at], or -1.
+    private static int getEmailStart(byte[] text, int at) {
+        int start = at;
+        while (start > 0 && at - start < MAX_EMAIL_LOCAL_PART_LENGTH && hasFlag(text[start - 1], EMAIL_LOCAL)) {
+            start--;
+        }
+        while (start < at && text[start] == '.') {
+            start++;
+        }
+        return start == at ? -1 : start;
+    }
+
+    // Skips the rest of a json escape sequence that text[start - 1] begins: e.g. the n of \n, or the u and 4 hex digits
+    // of a unicode escape.
+    private static int skipJsonEscape(byte[] text, int start) {
+        int backslashes = 0;
+        while (start - backslashes > 0 && text[start - backslashes - 1] == '\\') {
+            backslashes++;
+        }
+        return backslashes % 2 == 0 ? start : start + (text[start] == 'u' ? 5 : 1);
+    }
+
+    // End of the domain of an email address whose @ is at text[at], or -1: dot separated labels, the last of which
+    // (the top level domain) is at least 2 letters.
+    private static int getEmailEnd(byte[] text, int at) {
+        int end = at + 1;
+        int limit = Math.min(text.length, end + MAX_EMAIL_DOMAIN_LENGTH);
+        int labels = 0;
+        int labelStart;
+        boolean lettersOnlyLabel;
+        while (true) {
+            labelStart = end;
+            lettersOnlyLabel = true;
+            while (end < limit && (isLetterOrDigit(text[end]) || (end > labelStart && text[end] == '-'))) {
+                lettersOnlyLabel &= hasFlag(text[end], LETTER);
+                end++;
+            }
+            if (end == labelStart) {
+                return -1;
+            }
+            labels++;
+            if (end + 1 < limit && text[end] == '.' && isLetterOrDigit(text[end + 1])) {
+                end++;
+            } else {
+                break;
+            }
+        }
+        return labels >= 2 && lettersOnlyLabel && end - labelStart >= 2 ? end : -1;
+    }
+
+    // End of a JWT (three base64url segments, the first two of which are json objects) starting at text[start], or -1.
+    private static int matchJwt(byte[] text, int start) {
+        if (start > 0 && hasFlag(text[start - 1], TOKEN)) {
+            return -1;
+        }
+        int headerEnd = skipToken(text, start);
+        if (headerEnd - start < MIN_JWT_SEGMENT_LENGTH || headerEnd == text.length || text[headerEnd] != '.'
+                || !startsWith(text, headerEnd + 1, JWT_PREFIX)) {
+            return -1;
+        }
+        int payloadEnd = skipToken(text, headerEnd + 1);
+        if (payloadEnd - headerEnd - 1 < MIN_JWT_SEGMENT_LENGTH || payloadEnd == text.length || text[payloadEnd] != '.') {
+            return -1;
+        }
+        // The signature is empty for unsecured JWTs.
+        return skipToken(text, payloadEnd + 1);
+    }
+
+    // End of an API key with the prefix text[start..prefixEnd), or -1.
+    private static int matchApiKey(byte[] text, int start, int prefixEnd, int prefixIndex) {
+        if (start > 0 && hasFlag(text[start - 1], TOKEN)) {
+            return -1;
+        }
+        int end = skipToken(text, prefixEnd);
+        return end - prefixEnd >= API_KEY_MIN_LENGTHS[prefixIndex] ? end : -1;
+    }
+
+    private static int skipToken(byte[] text, int start) {
+        int end = start;
+        while (end < text.length && hasFlag(text[end], TOKEN)) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean startsWith(byte[] text, int offset, String prefix) {
+        if (offset + prefix.length() > text.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text[offset + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasFlag(byte b, byte flag) {
+        return b >= 0 && (FLAGS[b] & flag) != 0;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isLetterOrDigit(byte b) {
+        return b >= 0 && (FLAGS[b] & (DIGIT | LETTER)) != 0;
+    }
+}
@@ -0,0 +1,202 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Descriptors.MethodDescriptor;
+import com.google.protobuf.Descriptors.ServiceDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.util.JsonFormat;
+import org.testchimp.model.BinaryDataBody;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decodes protobuf and gRPC / gRPC-web bodies into a json_body (to which the json rules of the route then apply) using
+ * the message types of a FileDescriptorSet, as generated by protoc --include_imports --descriptor_set_out.
+ * <p>
+ * The message type is, in order of precedence: the X-Protobuf-Message header (set by Spring's
+ * ProtobufHttpMessageConverter), the messageType / proto parameter of the content type, or the input / output type of
+ * the gRPC method named by the request path (/package.Service/Method). Bodies of unknown type, compressed gRPC
+ * messages and bodies that fail to parse are captured as binary_data_body bytes. A gRPC stream of several messages is
+ * captured as a json array; gRPC-web trailer frames are skipped.
+ */
+class ProtobufBodyCodec implements IBodyCodec {
+    private static final Logger logger = Logger.getLogger(ProtobufBodyCodec.class.getName());
+
+    static final List<String> MEDIA_TYPES = Collections.unmodifiableList(Arrays.asList(
+            "application/x-protobuf", "application/protobuf", "application/vnd.google.protobuf"));
+    // Bodies framed as gRPC length-prefixed messages.
+    static final List<String> GRPC_MEDIA_TYPES = Collections.unmodifiableList(Arrays.asList(
+            "application/grpc", "application/grpc+proto", "application/grpc-web", "application/grpc-web+proto"));
+
+    private static final String PROTOBUF_MESSAGE_HEADER = "X-Protobuf-Message";
+    private static final int GRPC_FRAME_HEADER_BYTES = 5;
+    private static final int GRPC_COMPRESSED_FLAG = 0x01;
+    private static final int GRPC_TRAILER_FLAG = 0x80;
+
+    private final Map<String, Descriptor> messageTypes = new HashMap<>();
+    // Keyed by gRPC path: /package.Service/Method.
+    private final Map<String, MethodDescriptor> methods = new HashMap<>();
+    private final ProtobufJsonTranscoder transcoder;
+    private final BiConsumer<ExtractionContext, String> jsonBodyExtractor;
+
+    // jsonBodyExtractor captures a decoded body as json, applying the json rules of the route.
+    ProtobufBodyCodec(FileDescriptorSet descriptorSet, BiConsumer<ExtractionContext, String> jsonBodyExtractor)
+            throws DescriptorValidationException {
+        Map<String, FileDescriptorProto> fileProtos = new HashMap<>();
+        for (FileDescriptorProto fileProto : descriptorSet.getFileList()) {
+            fileProtos.put(fileProto.getName(), fileProto);
+        }
+        Map<String, FileDescriptor> files = new HashMap<>();
+        TypeRegistry.Builder typeRegistry = TypeRegistry.newBuilder();
+        for (String fileName : fileProtos.keySet()) {
+            FileDescriptor file = buildFile(fileName, fileProtos, files);
+            typeRegistry.add(file.getMessageTypes());
+            for (Descriptor messageType : file.getMessageTypes()) {
+                indexMessageType(messageType);
+            }
+            for (ServiceDescriptor service : file.getServices()) {
+                for (MethodDescriptor method : service.getMethods()) {
+                    methods.put("/" + service.getFullName() + "/" + method.getName(), method);
+                }
+            }
+        }
+        // The registry resolves the type of Any fields.
+        this.transcoder = new ProtobufJsonTranscoder(JsonFormat.printer().usingTypeRegistry(typeRegistry.build()).omittingInsignificantWhitespace());
+        this.jsonBodyExtractor = jsonBodyExtractor;
+    }
+
+    private static FileDescriptor buildFile(String fileName, Map<String, FileDescriptorProto> fileProtos, Map<String, FileDescriptor> files)
+            throws DescriptorValidationException {
+        FileDescriptor file = files.get(fileName);
+        if (file != null) {
+            return file;
+        }
+        FileDescriptorProto fileProto = fileProtos.get(fileName);
+        if (fileProto == null) {
+            throw new IllegalArgumentException("The descriptor set does not contain " + fileName + ": generate it with --include_imports");
+        }
+        FileDescriptor[] dependencies = new FileDescriptor[fileProto.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = buildFile(fileProto.getDependency(i), fileProtos, files);
+        }
+        file = FileDescriptor.buildFrom(fileProto, dependencies);
+        files.put(fileName, file);
+        return file;
+    }
+
+    private void indexMessageType(Descriptor messageType) {
+        messageTypes.put(messageType.getFullName(), messageType);
+        for (Descriptor nestedType : messageType.getNestedTypes()) {
+            indexMessageType(nestedType);
+        }
+    }
+
+    @Override
+    public List<String> getMediaTypes() {
+        List<String> mediaTypes = new ArrayList<>(MEDIA_TYPES);
+        mediaTypes.addAll(GRPC_MEDIA_TYPES);
+        return mediaTypes;
+    }
+
+    @Override
+    public void extract(ExtractionContext context) {
+        CapturePlan plan = context.getPlan();
+        // On ignore_payload routes, the body is only decoded to extract span attributes from it.
+        if (context.isIgnorePayload() && plan.spanAttribsToExtract.isEmpty() && plan.userIdBodyFields.isEmpty()) {
+            return;
+        }
+        Descriptor messageType = getMessageType(context);
+        String json = null;
+        if (messageType != null) {
+            try {
+                json = toJson(messageType, context.getBody().getBodyBytes(), GRPC_MEDIA_TYPES.contains(context.getMediaType()));
+            } catch (IOException | RuntimeException e) {
+                // A malformed body, or one of another type than declared, is captured as bytes.
+                logger.log(Level.FINE, "Error decoding a " + messageType.getFullName() + " body of " + context.getRequestUri(), e);
+            }
+        }
+        if (json != null) {
+            jsonBodyExtractor.accept(context, json);
+        } else if (!context.isIgnorePayload()) {
+            context.getHttpPayload().setBinaryDataBody(BinaryDataBody.newBuilder().setData(context.getBody().getBodyByteString()));
+        }
+    }
+
+    private Descriptor getMessageType(ExtractionContext context) {
+        String typeName = context.getHeaders().getFirst(PROTOBUF_MESSAGE_HEADER);
+        if (typeName == null) {
+            typeName = getContentTypeParameter(context.getContentType(), "messagetype", "proto");
+        }
+        if (typeName != null) {
+            return messageTypes.get(typeName);
+        }
+        MethodDescriptor method = methods.get(getGrpcPath(context.getRequestUri()));
+        if (method == null) {
+            return null;
+        }
+        return CaptureInstrumentation.REQUEST_PHASE.equals(context.getPhase()) ? method.getInputType() : method.getOutputType();
+    }
+
+    // Returns the value of the first of the given (lower case) parameters present in the content type, or null.
+    private static String getContentTypeParameter(String contentType, String... names) {
+        String[] parameters = contentType.split(";");
+        for (String name : names) {
+            for (int i = 1; i < parameters.length; i++) {
+                int separatorIndex = parameters[i].indexOf('=');
+                if (separatorIndex != -1 && parameters[i].substring(0, separatorIndex).trim().equalsIgnoreCase(name)) {
+                    String value = parameters[i].substring(separatorIndex + 1).trim();
+                    return value.length() > 1 && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
+                }
+            }
+        }
+        return null;
+    }
+
+    // The last two segments of the URI (/package.Service/Method), so that a servlet context path is ignored.
+    private static String getGrpcPath(String requestUri) {
+        if (requestUri == null) {
+            return null;
+        }
+        int methodIndex = requestUri.lastIndexOf('/');
+        int serviceIndex = methodIndex > 0 ? requestUri.lastIndexOf('/', methodIndex - 1) : -1;
+        return serviceIndex == -1 ? null : requestUri.substring(serviceIndex);
+    }
+
+    // Returns null if a gRPC message is compressed.
+    private String toJson(Descriptor messageType, byte[] body, boolean grpcFramed) throws IOException {
+        if (!grpcFramed) {
+            return transcoder.toJson(messageType, body, 0, body.length);
+        }
+        List<String> messages = new ArrayList<>();
+        int offset = 0;
+        while (offset < body.length) {
+            if (body.length - offset < GRPC_FRAME_HEADER_BYTES) {
+                throw new InvalidProtocolBufferException("Truncated gRPC frame header");
+            }
+            int flags = body[offset] & 0xff;
+            int length = ((body[offset + 1] & 0xff) << 24) | ((body[offset + 2] & 0xff) << 16) | ((body[offset + 3] & 0xff) << 8)
+                    | (body[offset + 4] & 0xff);
+            offset += GRPC_FRAME_HEADER_BYTES;
+            if (length < 0 || length > body.length - offset) {
+                throw new InvalidProtocolBufferException("Truncated gRPC message");
+            }
+            if ((flags & GRPC_TRAILER_FLAG) == 0) {
+                if ((flags & GRPC_COMPRESSED_FLAG) != 0) {
+                    return null;
+                }
+                messages.add(transcoder.toJson(messageType, body, offset, length));
+            }
+            offset += length;
+        }
+        return messages.size() == 1 ? messages.get(0) : "[" + String.join(",", messages) + "]";
+    }
+}
@@ -0,0 +1,532 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.OneofDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.google.protobuf.util.JsonFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes protobuf wire format bytes as proto3 JSON (the mapping of JsonFormat: json field names, 64 bit integers as
+ * strings, bytes as base64, enums by name), without materializing the message: field values are read from the body and
+ * streamed to a Jackson generator. This costs a fraction of DynamicMessage parsing plus JsonFormat printing.
+ * <p>
+ * Well-known types (Timestamp, Duration, Struct, Any, wrappers, ...) have a JSON mapping of their own and are printed
+ * with JsonFormat. Messages the transcoder cannot map field by field (groups, or a singular message field occurring
+ * several times, which protobuf merges, several fields of a oneof, strings that are not valid UTF-8 and unknown
+ * values of closed enums) are printed with DynamicMessage and JsonFormat as a whole.
+ * <p>
+ * As when parsing, occurrences whose wire type does not match the type of their field are skipped as unknown fields,
+ * and malformed bodies (truncated values, lengths past the end of their message, nesting deeper than protobuf's
+ * recursion limit) are rejected with an InvalidProtocolBufferException.
+ */
+class ProtobufJsonTranscoder {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String WELL_KNOWN_TYPES_PACKAGE = "google.protobuf.";
+    private static final String NULL_VALUE_ENUM = "google.protobuf.NullValue";
+    // The default recursion limit of CodedInputStream.
+    private static final int MAX_NESTING_DEPTH = 100;
+
+    private final JsonFormat.Printer printer;
+    // Fields of each message type ordered by number, the order JsonFormat prints them in.
+    private final Map<Descriptor, FieldDescriptor[]> sortedFields = new ConcurrentHashMap<>();
+
+    // printer prints well-known types and messages that are not transcoded field by field.
+    ProtobufJsonTranscoder(JsonFormat.Printer printer) {
+        this.printer = printer;
+    }
+
+    String toJson(Descriptor messageType, byte[] buffer, int offset, int length) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream(length * 2);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(json, JsonEncoding.UTF8)) {
+            writeMessage(messageType, buffer, offset, offset + length, 0, generator);
+        } catch (UnsupportedWireTypeException e) {
+            return printer.print(parse(messageType, buffer, offset, offset + length));
+        }
+        return new String(json.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void writeMessage(Descriptor messageType, byte[] buffer, int start, int end, int depth, JsonGenerator generator) throws IOException {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new InvalidProtocolBufferException("Message nesting exceeds the recursion limit");
+        }
+        if (messageType.getFullName().startsWith(WELL_KNOWN_TYPES_PACKAGE)) {
+            generator.writeRawValue(printer.print(parse(messageType, buffer, start, end)));
+            return;
+        }
+        FieldDescriptor[] fields = sortedFields.computeIfAbsent(messageType, ProtobufJsonTranscoder::sortFields);
+        // Occurrences of each field, as (value offset << 3 | wire type).
+        long[][] occurrences = new long[fields.length][];
+        int[] occurrenceCounts = new int[fields.length];
+        WireReader reader = new WireReader(buffer, start, end);
+        while (reader.hasRemaining()) {
+            int tag = readTag(reader);
+            int wireType = WireFormat.getTagWireType(tag);
+            if (wireType == WireFormat.WIRETYPE_START_GROUP || wireType == WireFormat.WIRETYPE_END_GROUP) {
+                throw new UnsupportedWireTypeException();
+            }
+            int fieldIndex = indexOf(fields, WireFormat.getTagFieldNumber(tag));
+            // Occurrences of a field with another wire type are unknown fields, which JsonFormat does not print.
+            if (fieldIndex != -1 && hasWireType(fields[fieldIndex], wireType)) {
+                checkUtf8(fields[fieldIndex], reader);
+                long[] fieldOccurrences = occurrences[fieldIndex];
+                if (fieldOccurrences == null) {
+                    fieldOccurrences = occurrences[fieldIndex] = new long[1];
+                } else if (fieldOccurrences.length == occurrenceCounts[fieldIndex]) {
+                    fieldOccurrences = occurrences[fieldIndex] = Arrays.copyOf(fieldOccurrences, fieldOccurrences.length * 2);
+                }
+                fieldOccurrences[occurrenceCounts[fieldIndex]++] = ((long) reader.position << 3) | wireType;
+            }
+            reader.skip(wireType);
+        }
+
+        // Parsing keeps the last field set of a oneof, but still parses the others: leave it to DynamicMessage.
+        for (OneofDescriptor oneof : messageType.getOneofs()) {
+            int setFields = 0;
+            for (FieldDescriptor field : oneof.getFields()) {
+                if (occurrenceCounts[indexOf(fields, field.getNumber())] > 0 && ++setFields > 1) {
+                    throw new UnsupportedWireTypeException();
+                }
+            }
+        }
+
+        generator.writeStartObject();
+        for (int i = 0; i < fields.length; i++) {
+            int count = occurrenceCounts[i];
+            if (count == 0) {
+                continue;
+            }
+            FieldDescriptor field = fields[i];
+            generator.writeFieldName(field.getJsonName());
+            if (field.isMapField()) {
+                generator.writeStartObject();
+                for (int occurrence = 0; occurrence < count; occurrence++) {
+                    reader.position = (int) (occurrences[i][occurrence] >>> 3);
+                    int entryLength = reader.readLength();
+                    writeMapEntry(field.getMessageType(), buffer, reader.position, reader.position + entryLength, depth + 1, generator);
+                }
+                generator.writeEndObject();
+            } else if (field.isRepeated()) {
+                generator.writeStartArray();
+                for (int occurrence = 0; occurrence < count; occurrence++) {
+                    long fieldOccurrence = occurrences[i][occurrence];
+                    reader.position = (int) (fieldOccurrence >>> 3);
+                    if ((int) (fieldOccurrence & 7) == WireFormat.WIRETYPE_LENGTH_DELIMITED && field.isPackable()) {
+                        int packedLength = reader.readLength();
+                        // Values of a packed field may not run past its length.
+                        WireReader packedReader = new WireReader(buffer, reader.position, reader.position + packedLength);
+                        while (packedReader.hasRemaining()) {
+                            writeValue(field, packedReader, depth, generator);
+                        }
+                    } else {
+                        writeValue(field, reader, depth, generator);
+                    }
+                }
+                generator.writeEndArray();
+            } else {
+                if (count > 1 && field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                    throw new UnsupportedWireTypeException();
+                }
+                // The last occurrence of a singular scalar wins.
+                reader.position = (int) (occurrences[i][count - 1] >>> 3);
+                writeValue(field, reader, depth, generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeMapEntry(Descriptor entryType, byte[] buffer, int start, int end, int depth, JsonGenerator generator) throws IOException {
+        FieldDescriptor keyField = entryType.findFieldByNumber(1);
+        FieldDescriptor valueField = entryType.findFieldByNumber(2);
+        int keyPosition = -1;
+        int valuePosition = -1;
+        WireReader reader = new WireReader(buffer, start, end);
+        while (reader.hasRemaining()) {
+            int tag = readTag(reader);
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            int wireType = WireFormat.getTagWireType(tag);
+            if (wireType == WireFormat.WIRETYPE_START_GROUP || wireType == WireFormat.WIRETYPE_END_GROUP) {
+                throw new UnsupportedWireTypeException();
+            }
+            if (fieldNumber == 1 && hasWireType(keyField, wireType)) {
+                checkUtf8(keyField, reader);
+                keyPosition = reader.position;
+            } else if (fieldNumber == 2 && hasWireType(valueField, wireType)) {
+                checkUtf8(valueField, reader);
+                valuePosition = reader.position;
+            }
+            reader.skip(wireType);
+        }
+        if (keyPosition == -1) {
+            generator.writeFieldName(keyField.getJavaType() == FieldDescriptor.JavaType.STRING ? "" : String.valueOf(keyField.getDefaultValue()));
+        } else {
+            reader.position = keyPosition;
+            writeMapKey(keyField, reader, generator);
+        }
+        if (valuePosition == -1) {
+            if (valueField.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                generator.writeStartObject();
+                generator.writeEndObject();
+            } else {
+                writeDefaultValue(valueField, generator);
+            }
+        } else {
+            reader.position = valuePosition;
+            writeValue(valueField, reader, depth, generator);
+        }
+    }
+
+    private static void writeMapKey(FieldDescriptor keyField, WireReader reader, JsonGenerator generator) throws IOException {
+        switch (keyField.getType()) {
+            case STRING:
+                int length = reader.readLength();
+                generator.writeFieldName(new String(reader.buffer, reader.position, length, StandardCharsets.UTF_8));
+                return;
+            case BOOL:
+                generator.writeFieldName(String.valueOf(reader.readVarint() != 0));
+                return;
+            case INT32:
+            case INT64:
+            case SFIXED32:
+            case SFIXED64:
+            case SINT32:
+            case SINT64:
+                generator.writeFieldName(String.valueOf(readSignedInteger(keyField.getType(), reader)));
+                return;
+            default:
+                generator.writeFieldName(Long.toUnsignedString(readUnsignedInteger(keyField.getType(), reader)));
+        }
+    }
+
+    private void writeValue(FieldDescriptor field, WireReader reader, int depth, JsonGenerator generator) throws IOException {
+        switch (field.getType()) {
+            case INT32:
+            case SINT32:
+            case SFIXED32:
+                generator.writeNumber((int) readSignedInteger(field.getType(), reader));
+                break;
+            case UINT32:
+            case FIXED32:
+                generator.writeNumber(readUnsignedInteger(field.getType(), reader));
+                break;
+            case INT64:
+            case SINT64:
+            case SFIXED64:
+                generator.writeString(Long.toString(readSignedInteger(field.getType(), reader)));
+                break;
+            case UINT64:
+            case FIXED64:
+                generator.writeString(Long.toUnsignedString(readUnsignedInteger(field.getType(), reader)));
+                break;
+            case BOOL:
+                generator.writeBoolean(reader.readVarint() != 0);
+                break;
+            case FLOAT:
+                float floatValue = Float.intBitsToFloat(reader.readFixed32());
+                if (Float.isNaN(floatValue) || Float.isInfinite(floatValue)) {
+                    generator.writeString(Float.toString(floatValue));
+                } else {
+                    generator.writeNumber(floatValue);
+                }
+                break;
+            case DOUBLE:
+                double doubleValue = Double.longBitsToDouble(reader.readFixed64());
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    generator.writeString(Double.toString(doubleValue));
+                } else {
+                    generator.writeNumber(doubleValue);
+                }
+                break;
+            case ENUM:
+                writeEnum(field, (int) reader.readVarint(), generator);
+                break;
+            case STRING:
+                int stringLength = reader.readLength();
+                generator.writeUTF8String(reader.buffer, reader.position, stringLength);
+                reader.position += stringLength;
+                break;
+            case BYTES:
+                int bytesLength = reader.readLength();
+                generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, reader.buffer, reader.position, bytesLength);
+                reader.position += bytesLength;
+                break;
+            case MESSAGE:
+                int messageLength = reader.readLength();
+                writeMessage(field.getMessageType(), reader.buffer, reader.position, reader.position + messageLength, depth + 1, generator);
+                reader.position += messageLength;
+                break;
+            default:
+                throw new UnsupportedWireTypeException();
+        }
+    }
+
+    private static void writeEnum(FieldDescriptor field, int number, JsonGenerator generator) throws IOException {
+        if (field.getEnumType().getFullName().equals(NULL_VALUE_ENUM)) {
+            generator.writeNull();
+            return;
+        }
+        EnumValueDescriptor value = field.getEnumType().findValueByNumber(number);
+        if (value == null) {
+            // Parsing keeps unknown values of closed (proto2) enums as unknown fields.
+            if (field.getEnumType().isClosed()) {
+                throw new UnsupportedWireTypeException();
+            }
+            generator.writeNumber(number);
+        } else {
+            generator.writeString(value.getName());
+        }
+    }
+
+    // Value of a map entry without value, which JsonFormat prints as the default of the type.
+    private static void writeDefaultValue(FieldDescriptor field, JsonGenerator generator) throws IOException {
+        switch (field.getJavaType()) {
+            case INT:
+                generator.writeNumber(0);
+                break;
+            case LONG:
+                generator.writeString("0");
+                break;
+            case FLOAT:
+                generator.writeNumber(0.0f);
+                break;
+            case DOUBLE:
+                generator.writeNumber(0.0d);
+                break;
+            case BOOLEAN:
+                generator.writeBoolean(false);
+                break;
+            case ENUM:
+                writeEnum(field, field.getEnumType().getValues().get(0).getNumber(), generator);
+                break;
+            default:
+                generator.writeString("");
+        }
+    }
+
+    private static long readSignedInteger(FieldDescriptor.Type type, WireReader reader) throws IOException {
+        switch (type) {
+            case SINT32:
+                int sint32 = (int) reader.readVarint();
+                return (sint32 >>> 1) ^ -(sint32 & 1);
+            case SINT64:
+                long sint64 = reader.readVarint();
+                return (sint64 >>> 1) ^ -(sint64 & 1);
+            case SFIXED32:
+                return reader.readFixed32();
+            case SFIXED64:
+                return reader.readFixed64();
+            case INT32:
+                return (int) reader.readVarint();
+            default:
+                return reader.readVarint();
+        }
+    }
+
+    private static long readUnsignedInteger(FieldDescriptor.Type type, WireReader reader) throws IOException {
+        switch (type) {
+            case FIXED32:
+                return reader.readFixed32() & 0xffffffffL;
+            case FIXED64:
+                return reader.readFixed64();
+            case UINT32:
+                return reader.readVarint() & 0xffffffffL;
+            default:
+                return reader.readVarint();
+        }
+    }
+
+    // Unlike parsing from a CodedInputStream, merging a byte range rejects a stray end group tag.
+    private static DynamicMessage parse(Descriptor messageType, byte[] buffer, int start, int end) throws IOException {
+        return DynamicMessage.newBuilder(messageType).mergeFrom(buffer, start, end - start).build();
+    }
+
+    private static int readTag(WireReader reader) throws InvalidProtocolBufferException {
+        int tag = (int) reader.readVarint();
+        if (WireFormat.getTagFieldNumber(tag) == 0) {
+            throw new InvalidProtocolBufferException("Invalid tag (zero)");
+        }
+        return tag;
+    }
+
+    // Whether occurrences with the given wire type are values of the field (packed repeated scalars are length
+    // delimited too).
+    private static boolean hasWireType(FieldDescriptor field, int wireType) {
+        return wireType == field.getLiteType().getWireType()
+                || (wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED && field.isPackable());
+    }
+
+    // Every occurrence of a string field is checked (as parsing does), not only the last one, which is printed.
+    private static void checkUtf8(FieldDescriptor field, WireReader reader) throws IOException {
+        if (field.getType() != FieldDescriptor.Type.STRING) {
+            return;
+        }
+        int position = reader.position;
+        int length = reader.readLength();
+        if (!isValidUtf8(reader.buffer, reader.position, reader.position + length)) {
+            throw new UnsupportedWireTypeException();
+        }
+        reader.position = position;
+    }
+
+    // Checks well-formed UTF-8 (no overlong encodings, surrogates or code points past U+10FFFF), as parsing proto3
+    // strings does.
+    private static boolean isValidUtf8(byte[] buffer, int start, int end) {
+        int i = start;
+        while (i < end) {
+            int b = buffer[i++];
+            if (b >= 0) {
+                continue;
+            }
+            int b1 = i < end ? buffer[i] & 0xff : -1;
+            if (b >= (byte) 0xc2 && b <= (byte) 0xdf) {
+                if ((b1 & 0xc0) != 0x80) {
+                    return false;
+                }
+                i += 1;
+            } else if (b >= (byte) 0xe0 && b <= (byte) 0xef) {
+                if (end - i < 2 || (b1 & 0xc0) != 0x80 || (buffer[i + 1] & 0xc0) != 0x80
+                        || (b == (byte) 0xe0 && b1 < 0xa0) || (b == (byte) 0xed && b1 >= 0xa0)) {
+                    return false;
+                }
+                i += 2;
+            } else if (b >= (byte) 0xf0 && b <= (byte) 0xf4) {
+                if (end - i < 3 || (b1 & 0xc0) != 0x80 || (buffer[i + 1] & 0xc0) != 0x80 || (buffer[i + 2] & 0xc0) != 0x80
+                        || (b == (byte) 0xf0 && b1 < 0x90) || (b == (byte) 0xf4 && b1 >= 0x90)) {
+                    return false;
+                }
+                i += 3;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FieldDescriptor[] sortFields(Descriptor messageType) {
+        FieldDescriptor[] fields = messageType.getFields().toArray(new FieldDescriptor[0]);
+        Arrays.sort(fields, Comparator.comparingInt(FieldDescriptor::getNumber));
+        return fields;
+    }
+
+    // Fields are sorted by number: binary search.
+    private static int indexOf(FieldDescriptor[] fields, int number) {
+        int low = 0;
+        int high = fields.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleNumber = fields[middle].getNumber();
+            if (middleNumber < number) {
+                low = middle + 1;
+            } else if (middleNumber > number) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    // Thrown for messages that are not transcoded field by field.
+    private static class UnsupportedWireTypeException extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    // Reads wire format values from a byte range, checking bounds.
+    private static class WireReader {
+        private final byte[] buffer;
+        private final int end;
+        private int position;
+
+        WireReader(byte[] buffer, int start, int end) {
+            this.buffer = buffer;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean hasRemaining() {
+            return position < end;
+        }
+
+        long readVarint() throws InvalidProtocolBufferException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new InvalidProtocolBufferException("Malformed varint");
+        }
+
+        // Reads the length of a length delimited value, which must fit in the range.
+        int readLength() throws InvalidProtocolBufferException {
+            long length = readVarint();
+            if (length < 0 || length > end - position) {
+                throw new InvalidProtocolBufferException("Truncated length delimited field");
+            }
+            return (int) length;
+        }
+
+        int readFixed32() throws InvalidProtocolBufferException {
+            require(4);
+            int value = (buffer[position] & 0xff) | (buffer[position + 1] & 0xff) << 8 | (buffer[position + 2] & 0xff) << 16
+                    | (buffer[position + 3] & 0xff) << 24;
+            position += 4;
+            return value;
+        }
+
+        long readFixed64() throws InvalidProtocolBufferException {
+            long low = readFixed32() & 0xffffffffL;
+            long high = readFixed32() & 0xffffffffL;
+            return low | high << 32;
+        }
+
+        void skip(int wireType) throws InvalidProtocolBufferException {
+            switch (wireType) {
+                case WireFormat.WIRETYPE_VARINT:
+                    readVarint();
+                    break;
+                case WireFormat.WIRETYPE_FIXED64:
+                    require(8);
+                    position += 8;
+                    break;
+                case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                    int length = readLength();
+                    position += length;
+                    break;
+                case WireFormat.WIRETYPE_FIXED32:
+                    require(4);
+                    position += 4;
+                    break;
+                default:
+                    throw new InvalidProtocolBufferException("Invalid wire type " + wireType);
+            }
+        }
+
+        private byte readByte() throws InvalidProtocolBufferException {
+            require(1);
+            return buffer[position++];
+        }
+
+        private void require(int bytes) throws InvalidProtocolBufferException {
+            if (end - position < bytes) {
+                throw new InvalidProtocolBufferException("Truncated message");
+            }
+        }
+    }
+}
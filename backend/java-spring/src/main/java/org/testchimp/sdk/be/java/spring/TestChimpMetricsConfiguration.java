@@ -0,0 +1,24 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the Micrometer backed ICaptureMetrics when Micrometer is on the classpath and a MeterRegistry bean exists
+ * (e.g. via spring-boot-starter-actuator).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class TestChimpMetricsConfiguration {
+
+    @Bean
+    public ICaptureMetrics testChimpCaptureMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                                   @Value("${testchimp.sdk.metrics.max_routes:100}") int maxRoutes) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry == null ? ICaptureMetrics.NOOP : new MicrometerCaptureMetrics(registry, maxRoutes);
+    }
+}
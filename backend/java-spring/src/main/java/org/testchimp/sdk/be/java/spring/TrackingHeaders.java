@@ -0,0 +1,174 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Enumeration;
+import java.util.Locale;
+
+/**
+ * TestChimp tracking values (tracked test headers, session recording ids, current user id and the application session
+ * id) collected from a request in a single pass over its header names and a single scan of its cookie header(s).
+ */
+public class TrackingHeaders {
+
+    private static final String COOKIE_HEADER = "cookie";
+
+    String trackedTestSuite;
+    String trackedTestName;
+    String trackedTestType;
+    String trackedTestInvocationId;
+    String trackedTestStep;
+    String sessionRecordingTrackingId;
+    String parentSessionRecordingTrackingId;
+    String currentUserId;
+    String sessionId;
+
+    // Cookie values are only used when the corresponding header is absent.
+    private String cookieSessionRecordingTrackingId;
+    private String cookieParentSessionRecordingTrackingId;
+
+    /**
+     * @param sessionCookieNames names of the application session cookies (e.g. JSESSIONID), matched case-insensitively.
+     *                           The first matching cookie provides the session id.
+     */
+    public static TrackingHeaders extract(HttpServletRequest request, String[] sessionCookieNames) {
+        TrackingHeaders trackingHeaders = new TrackingHeaders();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        if (headerNames == null) {
+            return trackingHeaders;
+        }
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            // toLowerCase returns the same instance when the container already lower-cases header names.
+            switch (headerName.toLowerCase(Locale.ROOT)) {
+                case Constants.TRACKED_TEST_SUITE_HEADER_KEY:
+                    trackingHeaders.trackedTestSuite = request.getHeader(headerName);
+                    break;
+                case Constants.TRACKED_TEST_NAME_HEADER_KEY:
+                    trackingHeaders.trackedTestName = request.getHeader(headerName);
+                    break;
+                case Constants.TRACKED_TEST_TYPE_HEADER_KEY:
+                    trackingHeaders.trackedTestType = request.getHeader(headerName);
+                    break;
+                case Constants.TRACKED_TEST_INVOCATION_ID_HEADER_KEY:
+                    trackingHeaders.trackedTestInvocationId = request.getHeader(headerName);
+                    break;
+                case Constants.TRACKED_TEST_STEP_HEADER_KEY:
+                    trackingHeaders.trackedTestStep = request.getHeader(headerName);
+                    break;
+                case Constants.TC_SESSION_RECORDING_TRACKING_ID_HEADER_KEY:
+                    trackingHeaders.sessionRecordingTrackingId = request.getHeader(headerName);
+                    break;
+                case Constants.TC_PARENT_SESSION_RECORDING_TRACKING_ID_HEADER_KEY:
+                    trackingHeaders.parentSessionRecordingTrackingId = request.getHeader(headerName);
+                    break;
+                case Constants.TC_CURRENT_USER_ID_HEADER_KEY:
+                    trackingHeaders.currentUserId = request.getHeader(headerName);
+                    break;
+                case COOKIE_HEADER:
+                    // HTTP/2 clients may split cookies across several cookie headers.
+                    Enumeration<String> cookieHeaders = request.getHeaders(headerName);
+                    while (cookieHeaders.hasMoreElements()) {
+                        trackingHeaders.scanCookies(cookieHeaders.nextElement(), sessionCookieNames);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (isEmpty(trackingHeaders.sessionRecordingTrackingId)) {
+            trackingHeaders.sessionRecordingTrackingId = trackingHeaders.cookieSessionRecordingTrackingId;
+        }
+        if (isEmpty(trackingHeaders.parentSessionRecordingTrackingId)) {
+            trackingHeaders.parentSessionRecordingTrackingId = trackingHeaders.cookieParentSessionRecordingTrackingId;
+        }
+        return trackingHeaders;
+    }
+
+    public void putAll(AttributesBuilder attributes) {
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, sessionRecordingTrackingId);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE, parentSessionRecordingTrackingId);
+        putIfPresent(attributes, Constants.USER_ID_SPAN_ATTRIBUTE, currentUserId);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_SUITE_HEADER_KEY, trackedTestSuite);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_STEP_HEADER_KEY, trackedTestStep);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_NAME_HEADER_KEY, trackedTestName);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_TYPE_HEADER_KEY, trackedTestType);
+        putIfPresent(attributes, Constants.HEADER_EXTRACTED_PREFIX + Constants.TRACKED_TEST_INVOCATION_ID_HEADER_KEY, trackedTestInvocationId);
+        putIfPresent(attributes, HttpRequestCaptureFilter.SESSION_ID_SPAN_ATTRIBUTE, sessionId);
+    }
+
+    // Walks "name=value; name2=value2" once, only allocating Strings for the values of cookies we are interested in.
+    private void scanCookies(String cookieHeader, String[] sessionCookieNames) {
+        if (cookieHeader == null) {
+            return;
+        }
+        int length = cookieHeader.length();
+        int position = 0;
+        while (position < length) {
+            int cookieEnd = cookieHeader.indexOf(';', position);
+            if (cookieEnd == -1) {
+                cookieEnd = length;
+            }
+            int separator = cookieHeader.indexOf('=', position);
+            if (separator != -1 && separator < cookieEnd) {
+                int nameStart = skipWhitespace(cookieHeader, position, separator);
+                int nameEnd = trimTrailingWhitespace(cookieHeader, nameStart, separator);
+                int nameLength = nameEnd - nameStart;
+                if (cookieSessionRecordingTrackingId == null
+                        && matches(cookieHeader, nameStart, nameLength, Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME, false)) {
+                    cookieSessionRecordingTrackingId = value(cookieHeader, separator + 1, cookieEnd);
+                } else if (cookieParentSessionRecordingTrackingId == null
+                        && matches(cookieHeader, nameStart, nameLength, Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME, false)) {
+                    cookieParentSessionRecordingTrackingId = value(cookieHeader, separator + 1, cookieEnd);
+                } else if (sessionId == null) {
+                    for (String sessionCookieName : sessionCookieNames) {
+                        if (matches(cookieHeader, nameStart, nameLength, sessionCookieName, true)) {
+                            sessionId = value(cookieHeader, separator + 1, cookieEnd);
+                            break;
+                        }
+                    }
+                }
+            }
+            position = cookieEnd + 1;
+        }
+    }
+
+    private static boolean matches(String header, int nameStart, int nameLength, String name, boolean ignoreCase) {
+        return nameLength == name.length() && header.regionMatches(ignoreCase, nameStart, name, 0, nameLength);
+    }
+
+    private static String value(String header, int start, int end) {
+        int valueStart = skipWhitespace(header, start, end);
+        int valueEnd = trimTrailingWhitespace(header, valueStart, end);
+        if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+            valueStart++;
+            valueEnd--;
+        }
+        return header.substring(valueStart, valueEnd);
+    }
+
+    private static int skipWhitespace(String value, int from, int to) {
+        while (from < to && value.charAt(from) == ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimTrailingWhitespace(String value, int from, int to) {
+        while (to > from && value.charAt(to - 1) == ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    private static void putIfPresent(AttributesBuilder attributes, String attribute, String value) {
+        if (!isEmpty(value)) {
+            attributes.put(attribute, value);
+        }
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,632 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Applies the XPath rules of a route to xml bodies (e.g. SOAP envelopes) in a single StAX pass: ignored_fields are
+ * redacted, extract_to_span_attributes / user_id_field values are read, and captured_fields project the body onto the
+ * matching elements (with their ancestors), as JsonFieldProjector does for json. Memory is bounded by the depth of the
+ * body and the captured output; the body is never parsed into a tree.
+ * <p>
+ * Rules are paths starting with {@code /}, made of element steps ({@code /name}, {@code /prefix:name}, {@code /*}),
+ * descendant steps ({@code //name}) and an optional last attribute step ({@code /@name}, {@code /@*}) or
+ * {@code /text()}. Names are matched against local names: namespace prefixes are ignored. Redacted elements keep their
+ * tags and attributes, with their content removed; redacted attributes are kept with an empty value.
+ */
+class XmlBodyProcessor {
+    private static final Logger logger = Logger.getLogger(XmlBodyProcessor.class.getName());
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private static final int IGNORED = 0;
+    private static final int CAPTURED = 1;
+    private static final int SPAN_ATTRIBUTE = 2;
+    private static final int USER_ID = 3;
+
+    private final List<XPath> rules = new ArrayList<>();
+    private final boolean projecting;
+    private final boolean extracting;
+
+    // Each list may be null. Paths that are not XPaths or not supported (see isSupported) are skipped.
+    private XmlBodyProcessor(List<String> ignoredPaths, List<String> capturedPaths, List<String> spanAttributePaths,
+                             List<String> userIdPaths) {
+        addRules(ignoredPaths, IGNORED);
+        addRules(capturedPaths, CAPTURED);
+        addRules(spanAttributePaths, SPAN_ATTRIBUTE);
+        addRules(userIdPaths, USER_ID);
+        boolean projecting = false;
+        boolean extracting = false;
+        for (XPath rule : rules) {
+            projecting |= rule.kind == CAPTURED;
+            extracting |= rule.kind == SPAN_ATTRIBUTE || rule.kind == USER_ID;
+        }
+        this.projecting = projecting;
+        this.extracting = extracting;
+    }
+
+    // Returns the processor of the XPaths among the given paths, or null if there are none.
+    static XmlBodyProcessor create(List<String> ignoredPaths, List<String> capturedPaths, List<String> spanAttributePaths,
+                                   List<String> userIdPaths) {
+        XmlBodyProcessor processor = new XmlBodyProcessor(ignoredPaths, capturedPaths, spanAttributePaths, userIdPaths);
+        return processor.rules.isEmpty() ? null : processor;
+    }
+
+    // Paths starting with / are XPaths, applied to xml bodies. Other paths are json paths.
+    static boolean isXPath(String path) {
+        return path.startsWith("/");
+    }
+
+    // Removes the XPaths from paths (which may be null) and returns them.
+    static List<String> removeXPaths(List<String> paths) {
+        List<String> xPaths = new ArrayList<>();
+        if (paths != null) {
+            for (int i = paths.size() - 1; i >= 0; i--) {
+                if (isXPath(paths.get(i))) {
+                    xPaths.add(0, paths.remove(i));
+                }
+            }
+        }
+        return xPaths;
+    }
+
+    static boolean isSupported(String path) {
+        return XPath.parse(path, IGNORED) != null;
+    }
+
+    // Logs the XPaths of a url_configs pattern field that are not supported.
+    static void logUnsupported(String uriPattern, String field, Collection<String> paths) {
+        for (String path : paths) {
+            if (isXPath(path) && !isSupported(path)) {
+                logger.severe("Unsupported " + field + " XPath " + path + " for " + uriPattern
+                        + ": only /name, //name, /*, /@name and /text() steps are supported. The path is not applied.");
+            }
+        }
+    }
+
+    // True if span attributes are read from the body, which then has to be processed even when it is not captured.
+    boolean isExtracting() {
+        return extracting;
+    }
+
+    /**
+     * Processes an xml body, putting the extracted span attributes and adding the number of redacted characters to
+     * redactedChars[0]. Returns the captured body, or null if captureBody is false.
+     */
+    String process(String xml, boolean captureBody, AttributesBuilder spanAttributes, long[] redactedChars) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            Processing processing = new Processing(reader, captureBody ? new StringBuilder(projecting ? 256 : xml.length()) : null);
+            processing.run();
+            redactedChars[0] += processing.redactedChars;
+            for (int i = 0; i < rules.size(); i++) {
+                List<String> values = processing.values.get(i);
+                if (values == null) {
+                    continue;
+                }
+                XPath rule = rules.get(i);
+                if (rule.kind == USER_ID) {
+                    spanAttributes.put(Constants.USER_ID_SPAN_ATTRIBUTE, values.get(0));
+                } else {
+                    spanAttributes.put(rule.key, String.join(",", values));
+                }
+            }
+            return captureBody ? processing.output.toString() : null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void addRules(List<String> paths, int kind) {
+        if (paths == null) {
+            return;
+        }
+        for (String path : paths) {
+            XPath rule = isXPath(path) ? XPath.parse(path, kind) : null;
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // Captured bodies are untrusted: no DTDs, hence no entity expansion or external entities.
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    // A compiled rule: element steps (local names, null for *), each of which may be a descendant (//) step, followed
+    // by an optional attribute step.
+    private static class XPath {
+        private final int kind;
+        private final String[] names;
+        private final boolean[] descendant;
+        // Local name of the attribute step, "*" for any attribute, or null for element paths.
+        private final String attribute;
+        // Span attribute key: the name of the last step.
+        private final String key;
+
+        private XPath(int kind, List<String> names, List<Boolean> descendant, String attribute, String key) {
+            this.kind = kind;
+            this.names = names.toArray(new String[0]);
+            this.descendant = new boolean[names.size()];
+            for (int i = 0; i < this.descendant.length; i++) {
+                this.descendant[i] = descendant.get(i);
+            }
+            this.attribute = attribute;
+            this.key = key;
+        }
+
+        // Returns null for unsupported paths.
+        static XPath parse(String path, int kind) {
+            List<String> names = new ArrayList<>();
+            List<Boolean> descendant = new ArrayList<>();
+            String attribute = null;
+            String key = null;
+            int i = 0;
+            while (i < path.length()) {
+                if (path.charAt(i) != '/' || attribute != null) {
+                    return null;
+                }
+                boolean descendantStep = path.startsWith("//", i);
+                i += descendantStep ? 2 : 1;
+                int end = path.indexOf('/', i);
+                if (end == -1) {
+                    end = path.length();
+                }
+                String step = path.substring(i, end);
+                i = end;
+                if (step.equals("text()") && i == path.length() && !names.isEmpty() && !descendantStep) {
+                    break;
+                }
+                boolean attributeStep = step.startsWith("@");
+                String name = attributeStep ? step.substring(1) : step;
+                // Strip the namespace prefix.
+                name = name.substring(name.indexOf(':') + 1);
+                if (!isName(name)) {
+                    return null;
+                }
+                if (attributeStep) {
+                    attribute = name;
+                    if (descendantStep) {
+                        // //@name is the attribute of any element.
+                        names.add(null);
+                        descendant.add(true);
+                    }
+                } else {
+                    names.add(name.equals("*") ? null : name);
+                    descendant.add(descendantStep);
+                }
+                key = name;
+            }
+            if (names.isEmpty()) {
+                return null;
+            }
+            return new XPath(kind, names, descendant, attribute, key);
+        }
+
+        // A local name or *. Predicates, functions, axes and . / .. steps are not supported.
+        private static boolean isName(String name) {
+            if (name.equals("*")) {
+                return true;
+            }
+            if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '[' || c == ']' || c == '(' || c == ')' || c == '=' || c == '*' || c == '@' || c == ':'
+                        || Character.isWhitespace(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // State of one pass over a body.
+    private class Processing {
+        private final XMLStreamReader reader;
+        // Null when the body is not captured.
+        private final StringBuilder output;
+        private long redactedChars;
+        // Values read for each rule, null while there are none.
+        private final List<List<String>> values = new ArrayList<>(Collections.nCopies(rules.size(), (List<String>) null));
+
+        // Rule states (rule index << 16 | step index) active within each open element: those of depth d are
+        // states[stateStarts[d]..stateStarts[d + 1]). Depth 0 is the document, where every rule is at its first step.
+        private int[] states = new int[Math.max(16, rules.size() * 2)];
+        private int[] stateStarts = new int[16];
+        private int depth;
+        // Whether the content of each open element is captured / redacted.
+        private boolean[] captured = new boolean[16];
+        private boolean[] redacted = new boolean[16];
+        // Open elements, of which only the first writtenDepth are written yet (when projecting): their prefix and local
+        // name, and their namespace declarations (null if none) to write them once they contain a captured value.
+        private String[] prefixes = new String[16];
+        private String[] localNames = new String[16];
+        private String[] namespaceDeclarations = new String[16];
+        private int writtenDepth;
+        // Text of the open elements matched by extraction rules: rule index, depth and text so far.
+        private final List<Integer> collectorRules = new ArrayList<>();
+        private final List<Integer> collectorDepths = new ArrayList<>();
+        private final List<StringBuilder> collectorTexts = new ArrayList<>();
+        // Attribute rules matched on the current element: redacted / captured attributes of its first matchedAttributes.
+        private boolean[] redactedAttributes = new boolean[8];
+        private boolean[] capturedAttributes = new boolean[8];
+        private int matchedAttributes;
+
+        Processing(XMLStreamReader reader, StringBuilder output) {
+            this.reader = reader;
+            this.output = output;
+            for (int i = 0; i < rules.size(); i++) {
+                states[i] = i << 16;
+            }
+            stateStarts[1] = rules.size();
+            // Without captured_fields, the whole document is captured.
+            captured[0] = !projecting;
+        }
+
+        void run() throws XMLStreamException {
+            if (output != null && reader.getVersion() != null) {
+                output.append("<?xml version=\"").append(reader.getVersion()).append('"');
+                if (reader.getCharacterEncodingScheme() != null) {
+                    output.append(" encoding=\"").append(reader.getCharacterEncodingScheme()).append('"');
+                }
+                if (reader.standaloneSet()) {
+                    output.append(" standalone=\"").append(reader.isStandalone() ? "yes" : "no").append('"');
+                }
+                output.append("?>");
+            }
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement();
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        endElement();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                    case XMLStreamConstants.CDATA:
+                        text(reader.getEventType() == XMLStreamConstants.CDATA);
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        if (isContentWritten()) {
+                            output.append("<!--").append(reader.getText()).append("-->");
+                        }
+                        break;
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        if (isContentWritten()) {
+                            output.append("<?").append(reader.getPITarget());
+                            String data = reader.getPIData();
+                            if (data != null && !data.isEmpty()) {
+                                output.append(' ').append(data);
+                            }
+                            output.append("?>");
+                        }
+                        break;
+                    default:
+                        // DTDs are not supported, and dropped.
+                }
+            }
+        }
+
+        private boolean isContentWritten() {
+            return output != null && captured[depth] && !redacted[depth];
+        }
+
+        private void startElement() throws XMLStreamException {
+            if (depth + 2 >= stateStarts.length) {
+                int capacity = stateStarts.length * 2;
+                stateStarts = Arrays.copyOf(stateStarts, capacity);
+                captured = Arrays.copyOf(captured, capacity);
+                redacted = Arrays.copyOf(redacted, capacity);
+                prefixes = Arrays.copyOf(prefixes, capacity);
+                localNames = Arrays.copyOf(localNames, capacity);
+                namespaceDeclarations = Arrays.copyOf(namespaceDeclarations, capacity);
+            }
+            // Advance the rule states of the parent into this element. Its states are added after those of the parent.
+            int parentStart = stateStarts[depth];
+            int parentEnd = stateStarts[depth + 1];
+            int childEnd = parentEnd;
+            boolean matchedIgnored = false;
+            boolean matchedCaptured = false;
+            boolean hasAttributeRules = false;
+            String localName = reader.getLocalName();
+            for (int i = parentStart; i < parentEnd; i++) {
+                int state = states[i];
+                int ruleIndex = state >>> 16;
+                XPath rule = rules.get(ruleIndex);
+                int step = state & 0xffff;
+                if (rule.descendant[step]) {
+                    childEnd = addState(parentEnd, childEnd, state);
+                }
+                if (rule.names[step] != null && !rule.names[step].equals(localName)) {
+                    continue;
+                }
+                if (step + 1 < rule.names.length) {
+                    childEnd = addState(parentEnd, childEnd, state + 1);
+                } else if (rule.attribute != null) {
+                    hasAttributeRules = true;
+                } else if (rule.kind == IGNORED) {
+                    matchedIgnored = true;
+                } else if (rule.kind == CAPTURED) {
+                    matchedCaptured = true;
+                } else if (!isCollecting(ruleIndex, depth + 1)) {
+                    collectorRules.add(ruleIndex);
+                    collectorDepths.add(depth + 1);
+                    collectorTexts.add(new StringBuilder());
+                }
+            }
+            boolean hasCapturedAttributes = hasAttributeRules && matchAttributes(parentStart, parentEnd, localName);
+            if (!hasAttributeRules) {
+                matchedAttributes = 0;
+            }
+            boolean parentContentWritten = isContentWritten();
+            boolean parentRedacted = redacted[depth];
+            depth++;
+            stateStarts[depth + 1] = childEnd;
+            redacted[depth] = parentRedacted || matchedIgnored;
+            captured[depth] = captured[depth - 1] || matchedCaptured;
+            if (output != null && !parentRedacted) {
+                if (parentContentWritten || matchedCaptured) {
+                    writeContainers(depth - 1);
+                    appendStartTag(output, false);
+                    output.append('>');
+                    writtenDepth = depth;
+                } else if (hasCapturedAttributes) {
+                    writeContainers(depth - 1);
+                    appendStartTag(output, true);
+                    output.append('>');
+                    writtenDepth = depth;
+                } else if (projecting) {
+                    prefixes[depth] = reader.getPrefix();
+                    localNames[depth] = localName;
+                    if (reader.getNamespaceCount() == 0) {
+                        namespaceDeclarations[depth] = null;
+                    } else {
+                        StringBuilder declarations = new StringBuilder();
+                        appendNamespaceDeclarations(declarations);
+                        namespaceDeclarations[depth] = declarations.toString();
+                    }
+                    if (depth == 1) {
+                        // The root element is always written.
+                        writeContainers(1);
+                    }
+                }
+            }
+            // Nothing within the element can match a rule, be extracted or be written: skip it.
+            if (childEnd == parentEnd && collectorRules.isEmpty() && (output == null || !captured[depth])) {
+                skipElement();
+            }
+        }
+
+        // Applies the attribute rules matching the current element. Returns true if it has captured attributes.
+        private boolean matchAttributes(int parentStart, int parentEnd, String localName) {
+            int attributeCount = reader.getAttributeCount();
+            if (redactedAttributes.length < attributeCount) {
+                redactedAttributes = new boolean[attributeCount];
+                capturedAttributes = new boolean[attributeCount];
+            }
+            Arrays.fill(redactedAttributes, 0, attributeCount, false);
+            Arrays.fill(capturedAttributes, 0, attributeCount, false);
+            matchedAttributes = attributeCount;
+            boolean hasCapturedAttributes = false;
+            for (int i = parentStart; i < parentEnd; i++) {
+                int state = states[i];
+                int ruleIndex = state >>> 16;
+                XPath rule = rules.get(ruleIndex);
+                int step = state & 0xffff;
+                if (rule.attribute == null || step + 1 != rule.names.length
+                        || (rule.names[step] != null && !rule.names[step].equals(localName))) {
+                    continue;
+                }
+                for (int attributeIndex = 0; attributeIndex < attributeCount; attributeIndex++) {
+                    if (!rule.attribute.equals("*") && !rule.attribute.equals(reader.getAttributeLocalName(attributeIndex))) {
+                        continue;
+                    }
+                    if (rule.kind == IGNORED) {
+                        redactedAttributes[attributeIndex] = true;
+                    } else if (rule.kind == CAPTURED) {
+                        capturedAttributes[attributeIndex] = true;
+                        hasCapturedAttributes = true;
+                    } else {
+                        addValue(ruleIndex, reader.getAttributeValue(attributeIndex));
+                    }
+                }
+            }
+            return hasCapturedAttributes;
+        }
+
+        private void endElement() {
+            for (int i = collectorRules.size() - 1; i >= 0 && collectorDepths.get(i) == depth; i--) {
+                addValue(collectorRules.remove(i), collectorTexts.remove(i).toString());
+                collectorDepths.remove(i);
+            }
+            if (output != null && writtenDepth == depth) {
+                output.append("</");
+                appendName(output, reader.getPrefix(), reader.getLocalName());
+                output.append('>');
+                writtenDepth--;
+            }
+            depth--;
+        }
+
+        private void text(boolean cdata) {
+            char[] text = reader.getTextCharacters();
+            int start = reader.getTextStart();
+            int length = reader.getTextLength();
+            for (int i = 0; i < collectorTexts.size(); i++) {
+                collectorTexts.get(i).append(text, start, length);
+            }
+            if (output == null || depth == 0 || !captured[depth]) {
+                return;
+            }
+            if (redacted[depth]) {
+                redactedChars += length;
+            } else if (cdata) {
+                output.append("<![CDATA[").append(text, start, length).append("]]>");
+            } else {
+                appendEscaped(output, text, start, length, false);
+            }
+        }
+
+        // Skips the content of the current element, up to its end tag (handled as usual).
+        private void skipElement() throws XMLStreamException {
+            int skippedDepth = 0;
+            while (true) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    skippedDepth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT && skippedDepth-- == 0) {
+                    endElement();
+                    return;
+                }
+            }
+        }
+
+        // Adds a state to those of the element being started, states[start..end), returning their new end.
+        private int addState(int start, int end, int state) {
+            // Several descendant steps can lead to the same state.
+            for (int i = start; i < end; i++) {
+                if (states[i] == state) {
+                    return end;
+                }
+            }
+            if (end == states.length) {
+                states = Arrays.copyOf(states, states.length * 2);
+            }
+            states[end] = state;
+            return end + 1;
+        }
+
+        private boolean isCollecting(int ruleIndex, int elementDepth) {
+            for (int i = collectorRules.size() - 1; i >= 0 && collectorDepths.get(i) == elementDepth; i--) {
+                if (collectorRules.get(i) == ruleIndex) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addValue(int ruleIndex, String value) {
+            List<String> ruleValues = values.get(ruleIndex);
+            if (ruleValues == null) {
+                ruleValues = new ArrayList<>(1);
+                values.set(ruleIndex, ruleValues);
+            }
+            ruleValues.add(value);
+        }
+
+        // Writes the start tags of the open elements not written yet up to lastDepth, on the way to a captured element
+        // or attribute.
+        private void writeContainers(int lastDepth) {
+            for (int i = writtenDepth + 1; i <= lastDepth; i++) {
+                output.append('<');
+                appendName(output, prefixes[i], localNames[i]);
+                if (namespaceDeclarations[i] != null) {
+                    output.append(namespaceDeclarations[i]);
+                }
+                output.append('>');
+            }
+            writtenDepth = lastDepth;
+        }
+
+        private void appendNamespaceDeclarations(StringBuilder tag) {
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                tag.append(" xmlns");
+                if (prefix != null && !prefix.isEmpty()) {
+                    tag.append(':').append(prefix);
+                }
+                tag.append("=\"");
+                String uri = reader.getNamespaceURI(i);
+                appendEscaped(tag, uri == null ? "" : uri);
+                tag.append('"');
+            }
+        }
+
+        // Appends the start tag of the current element, without its closing >: its name, namespace declarations and
+        // its attributes (or only its captured ones). Redacted attributes get an empty value.
+        private void appendStartTag(StringBuilder tag, boolean capturedAttributesOnly) {
+            tag.append('<');
+            appendName(tag, reader.getPrefix(), reader.getLocalName());
+            appendNamespaceDeclarations(tag);
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (capturedAttributesOnly && !capturedAttributes[i]) {
+                    continue;
+                }
+                tag.append(' ');
+                appendName(tag, reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+                tag.append("=\"");
+                if (i < matchedAttributes && redactedAttributes[i]) {
+                    redactedChars += reader.getAttributeValue(i).length();
+                } else {
+                    appendEscaped(tag, reader.getAttributeValue(i));
+                }
+                tag.append('"');
+            }
+        }
+    }
+
+    private static void appendName(StringBuilder output, String prefix, String localName) {
+        if (prefix != null && !prefix.isEmpty()) {
+            output.append(prefix).append(':');
+        }
+        output.append(localName);
+    }
+
+    private static void appendEscaped(StringBuilder output, String value) {
+        int copied = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escaped = getEscape(value.charAt(i), true);
+            if (escaped != null) {
+                output.append(value, copied, i).append(escaped);
+                copied = i + 1;
+            }
+        }
+        output.append(value, copied, value.length());
+    }
+
+    private static void appendEscaped(StringBuilder output, char[] text, int start, int length, boolean attribute) {
+        int end = start + length;
+        int copied = start;
+        for (int i = start; i < end; i++) {
+            String escaped = getEscape(text[i], attribute);
+            if (escaped != null) {
+                output.append(text, copied, i - copied).append(escaped);
+                copied = i + 1;
+            }
+        }
+        output.append(text, copied, end - copied);
+    }
+
+    private static String getEscape(char c, boolean attribute) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return attribute ? "&quot;" : null;
+            default:
+                return null;
+        }
+    }
+}
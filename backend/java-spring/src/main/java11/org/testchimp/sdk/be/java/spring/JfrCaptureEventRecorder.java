@@ -0,0 +1,198 @@
+package org.testchimp.sdk.be.java.spring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java 11+ recorder of CaptureFlightRecorder, backed by JFR events. When an event is not enabled in any recording,
+ * beginX returns null without allocating and endX returns immediately. Enable them with e.g.
+ * -XX:StartFlightRecording:settings=profile or a .jfc enabling testchimp.*.
+ */
+final class JfrCaptureEventRecorder implements CaptureFlightRecorder.EventRecorder {
+
+    // isEnabled() reflects the state of the event type, so one instance per type serves as a cheap enabled check.
+    private static final CaptureDecisionEvent CAPTURE_DECISION_PROBE = new CaptureDecisionEvent();
+    private static final BodyExtractionEvent BODY_EXTRACTION_PROBE = new BodyExtractionEvent();
+    private static final JsonRedactionEvent JSON_REDACTION_PROBE = new JsonRedactionEvent();
+    private static final PayloadSerializationEvent PAYLOAD_SERIALIZATION_PROBE = new PayloadSerializationEvent();
+
+    @Override
+    public Object beginCaptureDecision() {
+        if (!CAPTURE_DECISION_PROBE.isEnabled()) {
+            return null;
+        }
+        CaptureDecisionEvent event = new CaptureDecisionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endCaptureDecision(Object event, String phase, String route, String outcome) {
+        if (event == null) {
+            return;
+        }
+        CaptureDecisionEvent decisionEvent = (CaptureDecisionEvent) event;
+        decisionEvent.end();
+        if (decisionEvent.shouldCommit()) {
+            decisionEvent.phase = phase;
+            decisionEvent.route = route;
+            decisionEvent.outcome = outcome;
+            decisionEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginBodyExtraction() {
+        if (!BODY_EXTRACTION_PROBE.isEnabled()) {
+            return null;
+        }
+        BodyExtractionEvent event = new BodyExtractionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endBodyExtraction(Object event, String phase, String route, String contentType, long capturedBytes) {
+        if (event == null) {
+            return;
+        }
+        BodyExtractionEvent extractionEvent = (BodyExtractionEvent) event;
+        extractionEvent.end();
+        if (extractionEvent.shouldCommit()) {
+            extractionEvent.phase = phase;
+            extractionEvent.route = route;
+            extractionEvent.contentType = contentType;
+            extractionEvent.capturedBytes = capturedBytes;
+            extractionEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginJsonRedaction() {
+        if (!JSON_REDACTION_PROBE.isEnabled()) {
+            return null;
+        }
+        JsonRedactionEvent event = new JsonRedactionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endJsonRedaction(Object event, String phase, String route, int ignoredFieldCount, long redactedBytes) {
+        if (event == null) {
+            return;
+        }
+        JsonRedactionEvent redactionEvent = (JsonRedactionEvent) event;
+        redactionEvent.end();
+        if (redactionEvent.shouldCommit()) {
+            redactionEvent.phase = phase;
+            redactionEvent.route = route;
+            redactionEvent.ignoredFieldCount = ignoredFieldCount;
+            redactionEvent.redactedBytes = redactedBytes;
+            redactionEvent.commit();
+        }
+    }
+
+    @Override
+    public Object beginPayloadSerialization() {
+        if (!PAYLOAD_SERIALIZATION_PROBE.isEnabled()) {
+            return null;
+        }
+        PayloadSerializationEvent event = new PayloadSerializationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endPayloadSerialization(Object event, String phase, String route, long serializedBytes) {
+        if (event == null) {
+            return;
+        }
+        PayloadSerializationEvent serializationEvent = (PayloadSerializationEvent) event;
+        serializationEvent.end();
+        if (serializationEvent.shouldCommit()) {
+            serializationEvent.phase = phase;
+            serializationEvent.route = route;
+            serializationEvent.serializedBytes = serializedBytes;
+            serializationEvent.commit();
+        }
+    }
+
+    @Name("testchimp.CaptureDecision")
+    @Label("Capture Decision")
+    @Description("Resolution of the capture rules applying to a request / response")
+    @Category({"TestChimp SDK"})
+    @StackTrace(false)
+    static class CaptureDecisionEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Route")
+        String route;
+
+        @Label("Outcome")
+        String outcome;
+    }
+
+    @Name("testchimp.BodyExtraction")
+    @Label("Body Extraction")
+    @Description("Extraction of the headers, body and span attributes of a request / response")
+    @Category({"TestChimp SDK"})
+    @StackTrace(false)
+    static class BodyExtractionEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Route")
+        String route;
+
+        @Label("Content Type")
+        String contentType;
+
+        @Label("Captured Bytes")
+        @DataAmount
+        long capturedBytes;
+    }
+
+    @Name("testchimp.JsonRedaction")
+    @Label("JSON Redaction")
+    @Description("Scrubbing of the ignored_fields of a JSON body")
+    @Category({"TestChimp SDK"})
+    @StackTrace(false)
+    static class JsonRedactionEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Route")
+        String route;
+
+        @Label("Ignored Field Count")
+        int ignoredFieldCount;
+
+        @Label("Redacted Bytes")
+        @DataAmount
+        long redactedBytes;
+    }
+
+    @Name("testchimp.PayloadSerialization")
+    @Label("Payload Serialization")
+    @Description("Serialization of a captured payload to the JSON span attribute")
+    @Category({"TestChimp SDK"})
+    @StackTrace(false)
+    static class PayloadSerializationEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Route")
+        String route;
+
+        @Label("Serialized Bytes")
+        @DataAmount
+        long serializedBytes;
+    }
+}
@@ -0,0 +1,39 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedResponseHttpServletResponseTest {
+
+    @Test
+    void capturesUnflushedWriterOutput() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CachedResponseHttpServletResponse cachedResponse = new CachedResponseHttpServletResponse(response);
+        cachedResponse.setContentType("text/plain;charset=UTF-8");
+        cachedResponse.getWriter().print("caf\u00e9");
+        // Nothing reached the client nor the capture buffer yet: the text is still in the writer.
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        assertEquals("caf\u00e9", cachedResponse.getBodyString());
+        assertEquals(StandardCharsets.UTF_8, cachedResponse.getBodyCharset());
+        // Flushed once, to the client as well.
+        assertArrayEquals("caf\u00e9".getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+    }
+
+    @Test
+    void encodesWriterOutputWithTheResponseCharset() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CachedResponseHttpServletResponse cachedResponse = new CachedResponseHttpServletResponse(response);
+        cachedResponse.setCharacterEncoding("ISO-8859-1");
+        cachedResponse.getWriter().print("caf\u00e9");
+        cachedResponse.flushWriter();
+        assertArrayEquals("caf\u00e9".getBytes(StandardCharsets.ISO_8859_1), response.getContentAsByteArray());
+        assertEquals("caf\u00e9", cachedResponse.getBodyString());
+        assertThrows(IllegalStateException.class, cachedResponse::getOutputStream);
+    }
+}
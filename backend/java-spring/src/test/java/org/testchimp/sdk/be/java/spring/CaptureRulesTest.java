@@ -0,0 +1,86 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaptureRulesTest {
+
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private static final String CONFIG = "global_config:\n"
+            + "  ignored_urls: [\".*/health\"]\n"
+            + "url_configs:\n"
+            + "  .*/api/.*:\n"
+            + "    request:\n"
+            + "      ignored_fields: [\"$.password\"]\n"
+            + "      extract_to_span_attributes: [\"$.orderId\"]\n"
+            + "      user_id_field: \"$.user\"\n"
+            + "    response:\n"
+            + "      ignored_fields: [\"$.token\"]\n"
+            + "  .*/api/orders.*:\n"
+            + "    request:\n"
+            + "      ignored_fields: [\"$.card\"]\n"
+            + "    response:\n"
+            + "      ignore_payload: true\n"
+            + "  .*/requests-only/.*:\n"
+            + "    request:\n"
+            + "      ignored_fields: [\"$.password\"]\n"
+            + "  .*/health:\n"
+            + "    request: {}\n"
+            + "    response: {}\n";
+
+    private final CaptureRules rules = newRules(CONFIG);
+
+    @Test
+    void mergesTheRulesOfEveryMatchingUrlConfig() {
+        CapturePlan plan = rules.resolveCapturePlan("/api/orders/42", CaptureInstrumentation.REQUEST_PHASE);
+        assertTrue(plan.matched);
+        assertFalse(plan.ignorePayload);
+        assertEquals(".*/api/.*", plan.route);
+        assertEquals(Arrays.asList("$.password", "$.card"), plan.ignoredFields);
+        assertEquals(Collections.singletonList("$.orderId"), plan.spanAttribsToExtract);
+        assertEquals(Collections.singletonList("$.user"), plan.userIdBodyFields);
+    }
+
+    @Test
+    void ignoresUnmatchedUris() {
+        CapturePlan plan = rules.resolveCapturePlan("/other", CaptureInstrumentation.REQUEST_PHASE);
+        assertFalse(plan.matched);
+        assertTrue(plan.ignorePayload);
+        assertEquals(CapturePlan.UNMATCHED_ROUTE, plan.route);
+    }
+
+    @Test
+    void appliesIgnorePayloadToItsOwnPhase() {
+        assertFalse(rules.resolveCapturePlan("/api/orders/42", CaptureInstrumentation.REQUEST_PHASE).ignorePayload);
+        assertTrue(rules.resolveCapturePlan("/api/orders/42", CaptureInstrumentation.RESPONSE_PHASE).ignorePayload);
+        assertFalse(rules.resolveCapturePlan("/api/users/7", CaptureInstrumentation.RESPONSE_PHASE).ignorePayload);
+    }
+
+    @Test
+    void doesNotCaptureResponsesWithoutAResponseSection() {
+        assertFalse(rules.resolveCapturePlan("/requests-only/1", CaptureInstrumentation.REQUEST_PHASE).ignorePayload);
+        assertTrue(rules.resolveCapturePlan("/requests-only/1", CaptureInstrumentation.RESPONSE_PHASE).ignorePayload);
+    }
+
+    @Test
+    void ignoresGlobalIgnoredUrlsInBothPhases() {
+        assertTrue(rules.resolveCapturePlan("/health", CaptureInstrumentation.REQUEST_PHASE).ignorePayload);
+        assertTrue(rules.resolveCapturePlan("/health", CaptureInstrumentation.RESPONSE_PHASE).ignorePayload);
+    }
+
+    static CaptureRules newRules(String configYaml) {
+        try {
+            return new CaptureRules(YAML_MAPPER.readTree(configYaml), Collections.emptyList());
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
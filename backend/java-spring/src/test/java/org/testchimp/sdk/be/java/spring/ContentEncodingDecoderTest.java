@@ -0,0 +1,79 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEncodingDecoderTest {
+
+    private static final byte[] BODY = "{\"items\":[1,2,3],\"name\":\"testchimp\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void decodesGzip() throws IOException {
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(gzip(BODY), "gzip", 1024));
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(gzip(BODY), " X-GZIP ", 1024));
+    }
+
+    @Test
+    void decodesZlibWrappedAndRawDeflate() throws IOException {
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(deflate(BODY, false), "deflate", 1024));
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(deflate(BODY, true), "deflate", 1024));
+    }
+
+    @Test
+    void undoesStackedEncodingsInReverseOrder() throws IOException {
+        // "deflate, gzip": deflate was applied first.
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(gzip(deflate(BODY, false)), "deflate, gzip", 1024));
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(gzip(BODY), "identity, gzip", 1024));
+        assertNull(ContentEncodingDecoder.decode(gzip(deflate(BODY, false)), "gzip, deflate", 1024));
+    }
+
+    @Test
+    void capsTheDecodedSize() throws IOException {
+        assertArrayEquals(BODY, ContentEncodingDecoder.decode(gzip(BODY), "gzip", BODY.length));
+        assertNull(ContentEncodingDecoder.decode(gzip(BODY), "gzip", BODY.length - 1));
+        assertNull(ContentEncodingDecoder.decode(deflate(BODY, true), "deflate", BODY.length - 1));
+        // The cap applies to each step of stacked encodings.
+        assertNull(ContentEncodingDecoder.decode(gzip(deflate(BODY, false)), "deflate, gzip", BODY.length - 1));
+    }
+
+    @Test
+    void returnsIdentityBodiesAsTheyAre() {
+        assertSame(BODY, ContentEncodingDecoder.decode(BODY, null, 1));
+        assertSame(BODY, ContentEncodingDecoder.decode(BODY, "Identity", 1));
+    }
+
+    @Test
+    void dropsUnsupportedOrCorruptBodies() {
+        assertNull(ContentEncodingDecoder.decode(BODY, "compress", 1024));
+        assertNull(ContentEncodingDecoder.decode(BODY, "gzip", 1024));
+        assertNull(ContentEncodingDecoder.decode(BODY, "deflate", 1024));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] body, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (OutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(body);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultRequestExtractorTest {
+
+    private static final String CONFIG = "url_configs:\n"
+            + "  .*/api/.*:\n"
+            + "    request:\n"
+            + "      ignored_fields: [\"$.password\"]\n";
+
+    private final List<Boolean> ruleCacheLookups = new ArrayList<>();
+    private final DefaultRequestExtractor extractor = TestSupport.newExtractor(CONFIG);
+
+    DefaultRequestExtractorTest() {
+        ReflectionTestUtils.setField(extractor, "captureMetrics", new ICaptureMetrics() {
+            @Override
+            public void recordRuleCacheLookup(String phase, boolean hit) {
+                ruleCacheLookups.add(hit);
+            }
+        });
+    }
+
+    @Test
+    void cachesCapturePlansPerUri() throws IOException {
+        extract("/api/orders/1");
+        extract("/api/orders/1");
+        extract("/api/orders/2");
+        extract("/api/orders/1");
+        assertEquals(Arrays.asList(false, true, false, true), ruleCacheLookups);
+    }
+
+    @Test
+    void clearsTheRuleCacheWhenFull() throws IOException {
+        ReflectionTestUtils.setField(extractor, "ruleCacheSize", 2);
+        extract("/api/orders/1");
+        extract("/api/orders/2");
+        // The cache is full: resolving a third URI starts over, dropping the first two.
+        extract("/api/orders/3");
+        extract("/api/orders/3");
+        extract("/api/orders/1");
+        assertEquals(Arrays.asList(false, false, false, true, false), ruleCacheLookups);
+    }
+
+    @Test
+    void masksPiiInTheCapturedBytes() throws IOException {
+        DefaultRequestExtractor extractor = TestSupport.newExtractor("global_config:\n"
+                + "  pii_scan:\n"
+                + "    detectors: [email]\n"
+                + "url_configs:\n"
+                + "  .*:\n"
+                + "    request: {}\n");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/notes");
+        request.setContentType("text/plain");
+        request.setContent("note for jane@example.com".getBytes(StandardCharsets.UTF_8));
+        ExtractResult result = extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+        assertEquals("note for ****@*******.***", result.sanitizedPayload.getHttpPayload().getTextBody());
+        assertEquals(14, result.redactedBytes);
+
+        // Bodies captured as raw bytes are masked too.
+        ReflectionTestUtils.setField(extractor, "captureEncodedBodies", true);
+        request.setContentType("application/json");
+        request.setContent("{\"to\":\"jane@example.com\"}".getBytes(StandardCharsets.UTF_8));
+        result = extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+        assertEquals("{\"to\":\"****@*******.***\"}",
+                result.sanitizedPayload.getHttpPayload().getEncodedBody().getData().toStringUtf8());
+    }
+
+    private void extract(String uri) throws IOException {
+        extractor.extractFromRequest(new CachedRequestHttpServletRequest(new MockHttpServletRequest("GET", uri)));
+    }
+}
@@ -0,0 +1,86 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormUrlEncodedParserTest {
+
+    @Test
+    void decodesPercentEscapesAndPlus() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("full name", "Ann O'Neil");
+        expected.put("city", "Z\u00fcrich & co");
+        expected.put("a+b", "1 2");
+        assertBothParse(expected, "full+name=Ann+O%27Neil&city=Z%C3%BCrich%20%26%20co&a%2Bb=1+2");
+    }
+
+    @Test
+    void keepsMalformedEscapesVerbatim() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("a", "100%");
+        expected.put("b", "%zz%4");
+        expected.put("c", "%A");
+        assertBothParse(expected, "a=100%&b=%zz%4&c=%%41");
+    }
+
+    @Test
+    void skipsEmptyKeysAndKeepsValuelessKeys() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("a", "");
+        expected.put("b", "");
+        expected.put("c", "x=y");
+        assertBothParse(expected, "=skipped&a&&b=&c=x=y&=");
+    }
+
+    @Test
+    void joinsRepeatedKeysAndSkipsIgnoredKeys() {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("tag", "red,green,");
+        expected.put("id", "7");
+        FormUrlEncodedParser parser = new FormUrlEncodedParser(Collections.singleton("password"));
+        String form = "tag=red&password=secret&tag=green&id=7&tag";
+        assertEquals(expected, parser.parse(form));
+        assertEquals(expected, parser.parse(form.getBytes(StandardCharsets.UTF_8), 0, form.length(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void truncatesValuesAtMaxValueBytes() {
+        // "a", an "e" with an acute accent (2 bytes in UTF-8) then a snowman (3 bytes).
+        String form = "key=a%C3%A9%E2%98%83&short=ab&long=abcdef";
+        assertTruncated(form, 6, "a\u00e9\u2603", "ab", "abcdef", 0);
+        assertTruncated(form, 5, "a\u00e9", "ab", "abcde", 2);
+        assertTruncated(form, 2, "a", "ab", "ab", 2);
+        // Undecoded UTF-8 is cut at character boundaries too.
+        assertTruncated("key=a\u00e9\u2603&short=ab&long=abcdef", 4, "a\u00e9", "ab", "abcd", 2);
+    }
+
+    private static void assertTruncated(String form, int maxValueBytes, String key, String shortValue, String longValue,
+                                        int truncatedValueCount) {
+        FormUrlEncodedParser parser = new FormUrlEncodedParser(Collections.emptySet(), maxValueBytes);
+        assertFields(parser.parse(form), key, shortValue, longValue);
+        assertEquals(truncatedValueCount, parser.getTruncatedValueCount());
+        byte[] bytes = form.getBytes(StandardCharsets.UTF_8);
+        assertFields(parser.parse(bytes, 0, bytes.length, StandardCharsets.UTF_8), key, shortValue, longValue);
+        assertEquals(truncatedValueCount, parser.getTruncatedValueCount());
+    }
+
+    private static void assertFields(Map<String, String> fields, String key, String shortValue, String longValue) {
+        assertEquals(key, fields.get("key"));
+        assertEquals(shortValue, fields.get("short"));
+        assertEquals(longValue, fields.get("long"));
+    }
+
+    private static void assertBothParse(Map<String, String> expected, String form) {
+        FormUrlEncodedParser parser = new FormUrlEncodedParser(Collections.emptySet());
+        assertEquals(expected, parser.parse(form));
+        // Also from the middle of a larger buffer.
+        byte[] bytes = ("&&" + form + "&&").getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, parser.parse(bytes, 1, bytes.length - 2, StandardCharsets.UTF_8));
+    }
+}
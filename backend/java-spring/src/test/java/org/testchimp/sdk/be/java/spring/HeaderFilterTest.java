@@ -0,0 +1,118 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeaderFilterTest {
+
+    private static final String CONFIG = "global_config:\n"
+            + "  ignored_headers: [\"x-yml-*\"]\n"
+            + "url_configs:\n"
+            + "  .*:\n"
+            + "    request: {}\n";
+
+    @Test
+    void matchesNamesCaseInsensitively() {
+        HeaderFilter filter = HeaderFilter.compile(Arrays.asList("Authorization", "x-api-key", "", null));
+        assertTrue(filter.isIgnored("authorization"));
+        assertTrue(filter.isIgnored("x-api-key"));
+        assertFalse(filter.isIgnored("authorization-hint"));
+        assertFalse(filter.isIgnored("x-api"));
+        assertFalse(filter.isIgnored(""));
+    }
+
+    @Test
+    void matchesTrailingWildcardsAsPrefixes() {
+        HeaderFilter filter = HeaderFilter.compile(Collections.singletonList("X-Auth-*"));
+        assertTrue(filter.isIgnored("x-auth-token"));
+        assertTrue(filter.isIgnored("x-auth-"));
+        assertFalse(filter.isIgnored("x-auth"));
+        assertFalse(filter.isIgnored("y-x-auth-token"));
+    }
+
+    @Test
+    void matchesGlobs() {
+        HeaderFilter filter = HeaderFilter.compile(Arrays.asList("x-*-token", "*secret*", "a*b*c"));
+        assertTrue(filter.isIgnored("x-csrf-token"));
+        assertTrue(filter.isIgnored("x--token"));
+        assertFalse(filter.isIgnored("x-token"));
+        assertFalse(filter.isIgnored("x-csrf-token-id"));
+        assertTrue(filter.isIgnored("secret"));
+        assertTrue(filter.isIgnored("my-secret-header"));
+        // Backtracks past earlier partial matches.
+        assertTrue(filter.isIgnored("abxbxcbc"));
+        assertFalse(filter.isIgnored("abxbxcb"));
+        assertTrue(HeaderFilter.compile(Collections.singletonList("*")).isIgnored("anything"));
+        assertSame(HeaderFilter.NONE, HeaderFilter.compile(Collections.emptyList()));
+        assertFalse(HeaderFilter.NONE.isIgnored("authorization"));
+    }
+
+    @Test
+    void appliesHeadersToSkipToTheDefaultExtractor() throws IOException {
+        DefaultRequestCaptureConfig config = new DefaultRequestCaptureConfig();
+        config.defaultRequestExtractor = TestSupport.newExtractor(CONFIG);
+        List<String> defaultHeadersToSkip = config.getIgnoredHeaders();
+        try {
+            config.setHeadersToSkip(Arrays.asList("X-Secret", "x-internal-*"));
+            Map<String, String> headers = extractHeaders(config.defaultRequestExtractor);
+            // The headers to skip replace the defaults, and add up to the ignored_headers of the yml.
+            assertEquals(Arrays.asList("authorization", "x-visible"), Arrays.asList(new TreeMap<>(headers).keySet().toArray()));
+        } finally {
+            config.setHeadersToSkip(defaultHeadersToSkip);
+        }
+        // The defaults only ignore exact names, among which authorization.
+        assertEquals(Arrays.asList("x-internal-id", "x-secret", "x-visible"),
+                Arrays.asList(new TreeMap<>(extractHeaders(config.defaultRequestExtractor)).keySet().toArray()));
+    }
+
+    @Test
+    void appliesTheConfigIgnoredHeadersWhenTheFilterStarts() throws IOException {
+        DefaultRequestExtractor extractor = TestSupport.newExtractor(CONFIG);
+        HttpRequestCaptureFilter filter = new HttpRequestCaptureFilter();
+        ReflectionTestUtils.setField(filter, "config", new IRequestCaptureConfig() {
+            @Override
+            public List<String> getIgnoredHeaders() {
+                return Arrays.asList("x-secret", "x-internal-*", "authorization");
+            }
+
+            @Override
+            public List<String> getIgnoredUriPatterns() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public TreeMap<String, IExtractor> getExtractorMap() {
+                TreeMap<String, IExtractor> extractors = new TreeMap<>();
+                extractors.put(".*", extractor);
+                return extractors;
+            }
+        });
+        // Only the ignored_headers of the yml apply until then.
+        assertEquals(4, extractHeaders(extractor).size());
+        filter.init();
+        assertEquals(Collections.singleton("x-visible"), extractHeaders(extractor).keySet());
+    }
+
+    // Returns the captured request headers of a request with authorization, x-secret, x-internal-id, x-yml-id and
+    // x-visible headers.
+    private static Map<String, String> extractHeaders(DefaultRequestExtractor extractor) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer t");
+        request.addHeader("X-Secret", "s");
+        request.addHeader("X-Internal-Id", "i");
+        request.addHeader("X-Yml-Id", "y");
+        request.addHeader("X-Visible", "v");
+        ExtractResult result = extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+        return result.sanitizedPayload.getHttpPayload().getHeaderMapMap();
+    }
+}
@@ -0,0 +1,60 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpHeaderViewTest {
+
+    @Test
+    void looksUpHeadersWhateverTheirCase() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Request-Id", "r1");
+        request.addHeader("Accept", "text/html");
+        request.addHeader("accept", "application/json");
+        HttpHeaderView headers = HttpHeaderView.of(request);
+        for (HttpHeaderView view : Arrays.asList(headers, withMap(HttpHeaderView.of(request)))) {
+            assertEquals("r1", view.getFirst("x-request-id"));
+            assertEquals("r1", view.getFirst("X-REQUEST-ID"));
+            assertEquals(Arrays.asList("text/html", "application/json"), view.get("ACCEPT"));
+            assertEquals("text/html,application/json", view.getJoined("Accept"));
+            assertTrue(view.contains("aCcEpT"));
+            assertFalse(view.contains("Authorization"));
+            assertNull(view.getFirst("Authorization"));
+            assertNull(view.getJoined("Authorization"));
+            assertEquals(Collections.emptyList(), view.get("Authorization"));
+        }
+    }
+
+    @Test
+    void mapsHeadersOnceInTheirOriginalOrder() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.addHeader("Content-Type", "text/plain");
+        response.addHeader("Set-Cookie", "a=1");
+        response.addHeader("set-cookie", "b=2");
+        HttpHeaderView headers = HttpHeaderView.of(response);
+        Map<String, List<String>> map = headers.asMap();
+        assertEquals(Arrays.asList("Content-Type", "Set-Cookie"), Arrays.asList(map.keySet().toArray()));
+        assertEquals(Arrays.asList("a=1", "b=2"), map.get("SET-COOKIE"));
+        assertSame(map, headers.asMap());
+
+        // The cached map only reflects later changes once invalidated.
+        response.addHeader("X-Later", "1");
+        assertFalse(headers.contains("x-later"));
+        headers.invalidate();
+        assertEquals("1", headers.getFirst("x-later"));
+        assertEquals(3, headers.names().size());
+    }
+
+    private static HttpHeaderView withMap(HttpHeaderView view) {
+        view.asMap();
+        return view;
+    }
+}
@@ -0,0 +1,97 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpRequestCaptureFilterTest {
+
+    private final List<ExtractResult> responseResults = new ArrayList<>();
+    private final HttpRequestCaptureFilter filter = newFilter();
+
+    @Test
+    void capturesAndSendsUnflushedWriterOutput() throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // The servlet neither flushes nor closes its writer.
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().print("caf\u00e9 au lait");
+            }
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/menu"), response, new MockFilterChain(servlet));
+
+        assertArrayEquals("caf\u00e9 au lait".getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+        assertEquals(1, responseResults.size());
+        assertEquals("caf\u00e9 au lait", responseResults.get(0).sanitizedPayload.getHttpPayload().getTextBody());
+    }
+
+    private HttpRequestCaptureFilter newFilter() {
+        DefaultRequestExtractor extractor = TestSupport.newExtractor("url_configs:\n"
+                + "  .*:\n"
+                + "    request: {}\n"
+                + "    response: {}\n");
+        IExtractor recordingExtractor = new IExtractor() {
+            @Override
+            public ExtractResult extractFromResponse(String requestUri, CachedResponseHttpServletResponse response) {
+                ExtractResult result = extractor.extractFromResponse(requestUri, response);
+                responseResults.add(result);
+                return result;
+            }
+
+            @Override
+            public ExtractResult extractFromRequest(CachedRequestHttpServletRequest request) {
+                return extractor.extractFromRequest(request);
+            }
+        };
+        CaptureInstrumentation captureInstrumentation = new CaptureInstrumentation();
+        ReflectionTestUtils.setField(captureInstrumentation, "openTelemetry", OpenTelemetry.noop());
+        ReflectionTestUtils.setField(captureInstrumentation, "modeProperty", "metrics");
+        captureInstrumentation.init();
+
+        HttpRequestCaptureFilter filter = new HttpRequestCaptureFilter();
+        ReflectionTestUtils.setField(filter, "enableSdk", true);
+        ReflectionTestUtils.setField(filter, "enableRequestCapture", true);
+        ReflectionTestUtils.setField(filter, "enableResponseCapture", true);
+        ReflectionTestUtils.setField(filter, "maxDecodedBodyBytes", ContentEncodingDecoder.DEFAULT_MAX_DECODED_BODY_BYTES);
+        ReflectionTestUtils.setField(filter, "sessionCookieNames", new String[0]);
+        ReflectionTestUtils.setField(filter, "payloadFormat", "v1");
+        ReflectionTestUtils.setField(filter, "captureInstrumentation", captureInstrumentation);
+        ReflectionTestUtils.setField(filter, "config", new IRequestCaptureConfig() {
+            @Override
+            public List<String> getIgnoredHeaders() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<String> getIgnoredUriPatterns() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public TreeMap<String, IExtractor> getExtractorMap() {
+                TreeMap<String, IExtractor> extractors = new TreeMap<>();
+                extractors.put(".*", recordingExtractor);
+                return extractors;
+            }
+        });
+        return filter;
+    }
+}
@@ -0,0 +1,71 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonFieldProjectorTest {
+
+    private static final String ORDER = "{\"id\":7,\"total\":1.50,\"items\":[{\"sku\":\"a\",\"qty\":1},{\"qty\":2},{\"sku\":\"b\",\"qty\":3}],"
+            + "\"customer\":{\"name\":\"ann\",\"address\":{\"city\":\"Oslo\"}},\"notes\":null}";
+
+    @Test
+    void keepsOnlyTheCapturedValues() throws IOException {
+        // Numbers are kept as written, and arrays only keep the elements containing a captured value.
+        assertEquals("{\"total\":1.50,\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]}",
+                project(ORDER, "$.total", "$.items[*].sku"));
+        assertEquals("{\"items\":[{\"qty\":2}],\"customer\":{\"name\":\"ann\",\"address\":{\"city\":\"Oslo\"}}}",
+                project(ORDER, "$.items[1].qty", "$['customer'].*"));
+        assertEquals("{\"customer\":{\"name\":\"ann\",\"address\":{\"city\":\"Oslo\"}},\"notes\":null}",
+                project(ORDER, "$.customer.address.city", "$.customer", "$.notes"));
+    }
+
+    @Test
+    void writesTheRootEvenWithoutCapturedValues() throws IOException {
+        assertEquals("{}", project(ORDER, "$.missing"));
+        assertEquals("[]", project("[{\"a\":1}]", "$[0].b"));
+        assertEquals("[{\"a\":1}]", project("[{\"a\":1},{\"a\":2}]", "$[0]"));
+        assertEquals(ORDER, project(ORDER, "$"));
+        assertEquals("", project("", "$.id"));
+    }
+
+    @Test
+    void skipsUnsupportedPaths() throws IOException {
+        assertTrue(JsonFieldProjector.isSupported("$.items[*]['sku']"));
+        assertTrue(JsonFieldProjector.isSupported("$.*"));
+        assertFalse(JsonFieldProjector.isSupported("$..sku"));
+        assertFalse(JsonFieldProjector.isSupported("$.items[?(@.qty > 1)]"));
+        assertFalse(JsonFieldProjector.isSupported("$.items[0:2]"));
+        assertFalse(JsonFieldProjector.isSupported("items.sku"));
+        assertEquals("{\"id\":7}", project(ORDER, "$..sku", "$.id"));
+    }
+
+    @Test
+    void countsRedactedCharsOfTheProjectedBodyOnly() throws IOException {
+        DefaultRequestExtractor extractor = TestSupport.newExtractor("url_configs:\n"
+                + "  .*/api/.*:\n"
+                + "    request:\n"
+                + "      captured_fields: [\"$.user\"]\n"
+                + "      ignored_fields: [\"$.user.password\", \"$.card\"]\n");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setContentType("application/json");
+        request.setContent("{\"user\":{\"name\":\"ann\",\"password\":\"hunter2\"},\"card\":\"4111111111111111\"}"
+                .getBytes(StandardCharsets.UTF_8));
+        ExtractResult result = extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+        assertEquals("{\"user\":{\"name\":\"ann\",\"password\":\"\"}}", result.sanitizedPayload.getHttpPayload().getJsonBody());
+        // The card is not captured, hence not counted as redacted.
+        assertEquals("hunter2".length(), result.redactedBytes);
+        assertEquals(0, result.truncatedValues);
+        assertFalse(result.bodyTruncated);
+    }
+
+    private static String project(String json, String... paths) throws IOException {
+        return new JsonFieldProjector(paths.length == 1 ? Collections.singletonList(paths[0]) : Arrays.asList(paths)).project(json);
+    }
+}
@@ -0,0 +1,77 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLimiterTest {
+
+    private static final int UNLIMITED = JsonLimiter.UNLIMITED;
+
+    @Test
+    void cutsLongArrays() throws IOException {
+        JsonLimiter limiter = new JsonLimiter(2, UNLIMITED, UNLIMITED);
+        int[] truncatedValues = new int[1];
+        assertEquals("{\"a\":[1,2,\"...[+2 elements]\"],\"b\":[[1],{\"c\":[3]}]}",
+                limiter.limit("{\"a\":[1,2,3,4],\"b\":[[1],{\"c\":[3]}]}", truncatedValues));
+        assertEquals(1, truncatedValues[0]);
+        // Elided elements are skipped whatever they contain.
+        assertEquals("[[1],[2],\"...[+2 elements]\"]", limiter.limit("[[1],[2],[[3]],{\"d\":[4]}]", truncatedValues));
+        assertEquals(2, truncatedValues[0]);
+    }
+
+    @Test
+    void cutsLongStrings() throws IOException {
+        JsonLimiter limiter = new JsonLimiter(UNLIMITED, 3, UNLIMITED);
+        int[] truncatedValues = new int[1];
+        assertEquals("{\"s\":\"abc...[+3 chars]\",\"t\":\"abc\",\"long-field-name\":true}",
+                limiter.limit("{\"s\":\"abcdef\",\"t\":\"abc\",\"long-field-name\":true}", truncatedValues));
+        assertEquals(1, truncatedValues[0]);
+        // A surrogate pair (an emoji) is not split.
+        assertEquals("[\"ab...[+3 chars]\"]", limiter.limit("[\"ab\\ud83d\\ude00c\"]", truncatedValues));
+        assertEquals(2, truncatedValues[0]);
+    }
+
+    @Test
+    void replacesContainersDeeperThanMaxDepth() throws IOException {
+        JsonLimiter limiter = new JsonLimiter(UNLIMITED, UNLIMITED, 2);
+        int[] truncatedValues = new int[1];
+        assertEquals("{\"o\":{\"n\":\"...[object of 2 fields]\",\"a\":\"...[array of 3 elements]\",\"v\":1.50}}",
+                limiter.limit("{\"o\":{\"n\":{\"x\":{\"y\":1},\"z\":[]},\"a\":[1,[2],{}],\"v\":1.50}}", truncatedValues));
+        assertEquals(2, truncatedValues[0]);
+    }
+
+    @Test
+    void mergesToTheStricterLimits() {
+        JsonLimiter limiter = new JsonLimiter(10, UNLIMITED, 3);
+        assertSame(limiter, JsonLimiter.merge(limiter, null));
+        assertSame(limiter, JsonLimiter.merge(null, limiter));
+        JsonLimiter merged = JsonLimiter.merge(limiter, new JsonLimiter(UNLIMITED, 5, 4));
+        assertEquals(10, merged.maxArrayElements);
+        assertEquals(5, merged.maxStringLength);
+        assertEquals(3, merged.maxDepth);
+    }
+
+    @Test
+    void countsTruncatedValuesOfCapturedBodies() throws IOException {
+        DefaultRequestExtractor extractor = TestSupport.newExtractor("url_configs:\n"
+                + "  .*/api/.*:\n"
+                + "    request:\n"
+                + "      ignored_fields: [\"$.password\"]\n"
+                + "      max_array_elements: 1\n"
+                + "      max_string_length: 2\n");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tags");
+        request.setContentType("application/json");
+        request.setContent("{\"password\":\"pw\",\"tags\":[\"aaa\",\"b\",\"c\"]}".getBytes(StandardCharsets.UTF_8));
+        ExtractResult result = extractor.extractFromRequest(new CachedRequestHttpServletRequest(request));
+        assertEquals("{\"password\":\"\",\"tags\":[\"aa...[+1 chars]\",\"...[+2 elements]\"]}",
+                result.sanitizedPayload.getHttpPayload().getJsonBody());
+        assertEquals(2, result.truncatedValues);
+        assertTrue(result.bodyTruncated);
+        assertEquals("pw".length(), result.redactedBytes);
+    }
+}
@@ -0,0 +1,30 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonShapeSummarizerTest {
+
+    @Test
+    void summarizesShapes() throws IOException {
+        List<Integer> arrayLengths = new ArrayList<>();
+        String shape = JsonShapeSummarizer.getShape("{\"id\":1,\"tags\":[\"a\",null],\"owner\":{\"name\":\"n\"}}", arrayLengths);
+        assertEquals("{\"id\":\"number\",\"tags\":[\"array\",\"string|null\"],\"owner\":{\"name\":\"string\"}}", shape);
+        assertEquals(Arrays.asList(2, 2), arrayLengths);
+    }
+
+    @Test
+    void summarizesDeepNestingAsNested() throws IOException {
+        String json = String.join("", Collections.nCopies(500, "[")) + String.join("", Collections.nCopies(500, "]"));
+        String shape = JsonShapeSummarizer.getShape(json, new ArrayList<>());
+        String nested = String.join("", Collections.nCopies(100, "[\"array\",")) + "\"nested\"" + String.join("", Collections.nCopies(100, "]"));
+        assertEquals(nested, shape);
+    }
+}
@@ -0,0 +1,37 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerCaptureMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerCaptureMetrics metrics = new MicrometerCaptureMetrics(registry, 2);
+
+    @Test
+    void countsDropsPerPhaseRouteAndReason() {
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/api/.*", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/api/.*", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        metrics.recordDrop(CaptureInstrumentation.RESPONSE_PHASE, "/api/.*", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        assertEquals(2, drops(CaptureInstrumentation.REQUEST_PHASE, "/api/.*").count());
+        assertEquals(1, drops(CaptureInstrumentation.RESPONSE_PHASE, "/api/.*").count());
+    }
+
+    @Test
+    void reportsRoutesBeyondMaxRoutesAsOther() {
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/a", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/b", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/c", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        metrics.recordDrop(CaptureInstrumentation.REQUEST_PHASE, "/d", ICaptureMetrics.DROP_UNDECODABLE_BODY);
+        assertNull(registry.find("testchimp.sdk.capture.drops").tag("route", "/c").counter());
+        assertEquals(2, drops(CaptureInstrumentation.REQUEST_PHASE, MicrometerCaptureMetrics.OTHER_ROUTE).count());
+    }
+
+    private Counter drops(String phase, String route) {
+        return registry.get("testchimp.sdk.capture.drops").tags("phase", phase, "route", route, "reason",
+                ICaptureMetrics.DROP_UNDECODABLE_BODY).counter();
+    }
+}
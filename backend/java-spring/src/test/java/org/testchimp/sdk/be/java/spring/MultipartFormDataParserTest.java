@@ -0,0 +1,38 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartFormDataParserTest {
+
+    private static final String BOUNDARY = "b0undary";
+
+    @Test
+    void truncatesUtf8ValuesAtCharacterBoundaries() {
+        // An "e" with an acute accent (2 bytes in UTF-8) then a snowman (3 bytes).
+        byte[] body = form("a\u00e9\u2603b");
+        assertEquals("a\u00e9", parse(body, 5));
+        assertEquals("a\u00e9", parse(body, 4));
+        assertEquals("a", parse(body, 2));
+        assertEquals("a\u00e9\u2603b", parse(body, 7));
+    }
+
+    private static String parse(byte[] body, int maxFieldBytes) {
+        MultipartFormDataParser parser = new MultipartFormDataParser(body, BOUNDARY);
+        Map<String, String> fields = parser.parse(Collections.emptySet(), null, maxFieldBytes);
+        return fields.get("field");
+    }
+
+    private static byte[] form(String value) {
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"field\"\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n\r\n"
+                + value + "\r\n"
+                + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,53 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathTemplateTrieTest {
+
+    @Test
+    void matchesTemplates() {
+        PathTemplateTrie trie = new PathTemplateTrie();
+        trie.add("/orders/{id}/items", 0);
+        trie.add("/orders/*", 1);
+        trie.add("/**/admin/**", 2);
+        trie.add("/static/**", 3);
+        trie.add("/**/a/**/b", 4);
+
+        assertEquals(ids(0), trie.match("/orders/42/items"));
+        assertEquals(ids(1), trie.match("/orders/42/"));
+        assertEquals(ids(), trie.match("/orders"));
+        assertEquals(ids(2), trie.match("/admin"));
+        assertEquals(ids(2), trie.match("/x/y/admin/users/1"));
+        assertEquals(ids(3), trie.match("//static"));
+        assertEquals(ids(3), trie.match("/static/js/app.js"));
+        assertEquals(ids(4), trie.match("/a/b"));
+        assertEquals(ids(2, 4), trie.match("/x/a/admin/a/y/b"));
+        assertEquals(ids(), trie.match("/a/b/c"));
+    }
+
+    @Test
+    void matchesRepeatedMultiSegmentWildcardsInLinearTime() {
+        PathTemplateTrie trie = new PathTemplateTrie();
+        trie.add("/**/a/**/a/**/a/**/b", 0);
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            path.append("/a");
+        }
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(5), () -> {
+            assertEquals(ids(), trie.match(path.toString()));
+            assertEquals(ids(0), trie.match(path + "/b"));
+        });
+    }
+
+    private static BitSet ids(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
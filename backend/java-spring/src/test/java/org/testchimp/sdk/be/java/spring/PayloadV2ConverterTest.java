@@ -0,0 +1,59 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.junit.jupiter.api.Test;
+import org.testchimp.model.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadV2ConverterTest {
+
+    private static final Payload REQUEST = Payload.newBuilder().setSpanId("span-1").setHttpPayload(HttpPayload.newBuilder()
+            .putHeaderMap("content-type", "application/json")
+            .putHeaderMap("x-tenant", "acme")
+            .putHeaderMap("x-account", "acme")
+            .putQueryParamMap("page", "2")
+            .setHttpMethod("POST")
+            .setJsonBody("{\"a\":1}")).build();
+    private static final Payload RESPONSE = Payload.newBuilder().setSpanId("span-1").setHttpPayload(HttpPayload.newBuilder()
+            .putHeaderMap("content-type", "application/json")
+            .putHeaderMap("x-tenant", "acme")
+            .setResponseCode(200)
+            .setTextBody("ok")).build();
+
+    @Test
+    void convertsLosslessly() {
+        PayloadList payloads = PayloadList.newBuilder().addPayloads(REQUEST).addPayloads(RESPONSE).build();
+        assertEquals(payloads, PayloadV2Converter.toV1(PayloadV2Converter.toV2(payloads)));
+    }
+
+    @Test
+    void referencesTheStaticDictionary() {
+        PayloadBatchV2 batch = new PayloadV2Converter.BatchBuilder().add(REQUEST, 7L, false).add(RESPONSE, 2L, true).build();
+        assertEquals(PayloadV2Converter.STATIC_DICTIONARY_VERSION, batch.getStaticDictionaryVersion());
+        // Common names and values are left out of the batch dictionary, which has the others, and values repeated in
+        // the batch. Values occurring once are literals.
+        assertEquals(Arrays.asList("x-tenant", "acme", "x-account", "page"), batch.getDictionaryList());
+        HttpPayloadV2 request = batch.getPayloads(0).getHttpPayload();
+        int staticSize = PayloadV2Converter.STATIC_DICTIONARY.size();
+        DictionaryEntry contentType = request.getHeadersList().stream()
+                .filter(header -> header.getName() == PayloadV2Converter.STATIC_DICTIONARY.indexOf("content-type"))
+                .findFirst().get();
+        assertEquals(PayloadV2Converter.STATIC_DICTIONARY.indexOf("application/json"), contentType.getValueIndex());
+        assertEquals(DictionaryEntry.newBuilder().setName(staticSize + 3).setValueLiteral("2").build(), request.getQueryParams(0));
+        assertEquals(7L, request.getBodySize());
+        assertTrue(batch.getPayloads(1).getHttpPayload().getBodyTruncated());
+    }
+
+    @Test
+    void decodesBatchesWithoutStaticDictionary() {
+        PayloadBatchV2 batch = PayloadBatchV2.newBuilder().addDictionary("content-type").addPayloads(PayloadV2.newBuilder()
+                .setHttpPayload(HttpPayloadV2.newBuilder().addHeaders(DictionaryEntry.newBuilder().setName(0)
+                        .setValueLiteral("text/csv")))).build();
+        assertEquals(Collections.singletonMap("content-type", "text/csv"),
+                PayloadV2Converter.toV1(batch).getPayloads(0).getHttpPayload().getHeaderMapMap());
+        assertThrows(IllegalArgumentException.class, () -> PayloadV2Converter.toV1(batch.toBuilder().setStaticDictionaryVersion(99).build()));
+    }
+}
@@ -0,0 +1,73 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiiScannerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final PiiScanner scanner = PiiScanner.create(Arrays.asList(PiiScanner.CARD_NUMBER_DETECTOR,
+            PiiScanner.EMAIL_DETECTOR, PiiScanner.JWT_DETECTOR, PiiScanner.API_KEY_DETECTOR), Collections.singletonList("acme"));
+
+    @Test
+    void masksText() {
+        long[] maskedChars = new long[1];
+        assertEquals("card **** **** **** 1111, mail ****.***@*******.***, ****",
+                scanner.mask("card 4111 1111 1111 1111, mail jane.doe@example.com, acme", maskedChars));
+        assertEquals(33, maskedChars[0]);
+        String clean = "order 1234 shipped on 2024-01-15, no 4111111111111112";
+        assertSame(clean, scanner.mask(clean, maskedChars));
+    }
+
+    @Test
+    void masksOnlyJsonStrings() throws IOException {
+        long[] maskedChars = new long[1];
+        String masked = scanner.maskJson("{\"id\":4111111111111111,\"card\":\"4111-1111-1111-1111\",\"q\":\"\\\"acme\\\"\","
+                + "\"jane@example.com\":[5555555555554444]}", maskedChars);
+        assertEquals("{\"id\":4111111111111111,\"card\":\"****-****-****-1111\",\"q\":\"\\\"****\\\"\","
+                + "\"****@*******.***\":[5555555555554444]}", masked);
+        assertEquals(30, maskedChars[0]);
+        OBJECT_MAPPER.readTree(masked);
+    }
+
+    @Test
+    void masksBytesAtAnyOffset() {
+        PiiScanner literals = PiiScanner.create(Collections.singletonList(PiiScanner.CARD_NUMBER_DETECTOR), Arrays.asList("x", "ab", "acme"));
+        // Patterns are found by pairs of bytes at even offsets, and card numbers by sampling every 12th byte.
+        for (int offset = 0; offset < 24; offset++) {
+            String padding = new String(new char[offset]).replace('\0', '.');
+            String text = padding + "4111-1111-1111-1111 x ab acme";
+            long[] maskedBytes = new long[1];
+            assertEquals(padding + "****-****-****-1111 * ** ****",
+                    new String(literals.mask(text.getBytes(StandardCharsets.US_ASCII), false, maskedBytes), StandardCharsets.US_ASCII));
+            assertEquals(19, maskedBytes[0]);
+        }
+    }
+
+    @Test
+    void masksUtf8Bytes() {
+        long[] maskedBytes = new long[1];
+        byte[] text = "caf\u00e9 \u2014 jane@example.com, acme\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertEquals("caf\u00e9 \u2014 ****@*******.***, ****\u00e9",
+                new String(scanner.mask(text, false, maskedBytes), StandardCharsets.UTF_8));
+        assertEquals(18, maskedBytes[0]);
+        byte[] clean = "caf\u00e9 4111".getBytes(StandardCharsets.UTF_8);
+        assertSame(clean, scanner.mask(clean, false, maskedBytes));
+    }
+
+    @Test
+    void keepsJsonEscapes() throws IOException {
+        long[] maskedChars = new long[1];
+        String masked = scanner.maskJson("{\"to\":\"\\njane@example.com\\u0041bc@example.com\"}", maskedChars);
+        assertEquals("{\"to\":\"\\n****@*******.***\\u0041**@*******.***\"}", masked);
+        OBJECT_MAPPER.readTree(masked);
+    }
+}
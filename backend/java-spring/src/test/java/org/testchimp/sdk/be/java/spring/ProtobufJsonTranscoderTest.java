@@ -0,0 +1,151 @@
+package org.testchimp.sdk.be.java.spring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.util.JsonFormat;
+import org.junit.jupiter.api.Test;
+import org.testchimp.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares ProtobufJsonTranscoder with DynamicMessage parsing plus JsonFormat printing, on valid messages and on
+ * truncated, corrupted and mistyped bodies: both must produce the same json, or both reject the body.
+ */
+class ProtobufJsonTranscoderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFormat.Printer PRINTER = JsonFormat.printer().omittingInsignificantWhitespace();
+
+    private final ProtobufJsonTranscoder transcoder = new ProtobufJsonTranscoder(PRINTER);
+
+    @Test
+    void transcodesValidMessages() throws IOException {
+        assertSameJson(PayloadList.getDescriptor(), samplePayloadList().toByteArray());
+        assertSameJson(PayloadBatchV2.getDescriptor(), PayloadBatchV2.newBuilder()
+                .addDictionary("content-type").addDictionary("application/json")
+                .addPayloads(PayloadV2.newBuilder().setSpanId("span-1"))
+                .build().toByteArray());
+        assertSameJson(HttpPayload.getDescriptor(), new byte[0]);
+    }
+
+    @Test
+    void skipsOccurrencesOfAnotherWireType() throws IOException {
+        // A varint on the map field header_map, and on the string field json_body.
+        assertSameJson(HttpPayload.getDescriptor(), new byte[]{0x08, 0x7f});
+        assertSameJson(HttpPayload.getDescriptor(), new byte[]{0x10, 0x7f});
+        // A varint on the map field header_map, then a fixed32 on the string field http_method.
+        assertSameJson(HttpPayload.getDescriptor(), new byte[]{0x08, 0x01, 0x1d, 1, 2, 3, 4});
+        // Map entries whose key and value have another wire type.
+        assertSameJson(HttpPayload.getDescriptor(), new byte[]{0x0a, 0x04, 0x08, 0x01, 0x10, 0x02});
+    }
+
+    @Test
+    void printsTheLastFieldOfOneofs() throws IOException {
+        byte[] jsonBody = HttpPayload.newBuilder().setJsonBody("{}").build().toByteArray();
+        byte[] textBody = HttpPayload.newBuilder().setTextBody("text").build().toByteArray();
+        byte[] body = Arrays.copyOf(textBody, textBody.length + jsonBody.length);
+        System.arraycopy(jsonBody, 0, body, textBody.length, jsonBody.length);
+        assertSameJson(HttpPayload.getDescriptor(), body);
+    }
+
+    @Test
+    void rejectsMalformedBodies() {
+        // A string length past the end of the body.
+        assertRejected(HttpPayload.getDescriptor(), new byte[]{0x1a, 0x7f, 'a'});
+        // A truncated varint.
+        assertRejected(HttpPayload.getDescriptor(), new byte[]{0x60, (byte) 0x80});
+        // Field number zero.
+        assertRejected(HttpPayload.getDescriptor(), new byte[]{0x00, 0x01});
+        // Nesting past the recursion limit.
+        byte[] nested = new byte[0];
+        for (int i = 0; i < 200; i++) {
+            nested = lengthDelimited(1, nested);
+        }
+        assertRejected(PayloadList.getDescriptor(), nested);
+    }
+
+    @Test
+    void matchesJsonFormatOnCorruptedBodies() throws IOException {
+        byte[] valid = samplePayloadList().toByteArray();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            byte[] body;
+            if (i % 3 == 0) {
+                body = Arrays.copyOf(valid, random.nextInt(valid.length));
+            } else {
+                body = valid.clone();
+                for (int flips = 1 + random.nextInt(3); flips > 0; flips--) {
+                    body[random.nextInt(body.length)] = (byte) random.nextInt(256);
+                }
+            }
+            assertSameJson(PayloadList.getDescriptor(), body);
+        }
+    }
+
+    private void assertSameJson(Descriptor messageType, byte[] body) throws IOException {
+        String expected;
+        try {
+            expected = PRINTER.print(DynamicMessage.parseFrom(messageType, body));
+        } catch (IOException e) {
+            assertRejected(messageType, body);
+            return;
+        }
+        String actual;
+        try {
+            actual = transcoder.toJson(messageType, body, 0, body.length);
+        } catch (IOException | RuntimeException e) {
+            throw new AssertionError("Rejected a body JsonFormat prints as " + expected + ": " + Arrays.toString(body), e);
+        }
+        JsonNode expectedJson = OBJECT_MAPPER.readTree(expected);
+        assertEquals(expectedJson, OBJECT_MAPPER.readTree(actual), () -> Arrays.toString(body));
+    }
+
+    private void assertRejected(Descriptor messageType, byte[] body) {
+        assertThrows(IOException.class, () -> DynamicMessage.parseFrom(messageType, body));
+        assertThrows(IOException.class, () -> transcoder.toJson(messageType, body, 0, body.length), () -> Arrays.toString(body));
+    }
+
+    private static PayloadList samplePayloadList() {
+        HttpPayload request = HttpPayload.newBuilder()
+                .putHeaderMap("content-type", "application/json")
+                .putHeaderMap("x-request-id", "r-42")
+                .putQueryParamMap("page", "2")
+                .setHttpMethod("POST")
+                .setJsonBody("{\"name\":\"caf\u00e9 \u2603\",\"n\":1}")
+                .build();
+        HttpPayload response = HttpPayload.newBuilder()
+                .setResponseCode(200)
+                .setBinaryDataBody(BinaryDataBody.newBuilder().setData(ByteString.copyFrom(new byte[]{0, 1, (byte) 0xff})))
+                .build();
+        HttpPayload shape = HttpPayload.newBuilder()
+                .setShapeBody(ShapeBody.newBuilder().setShapeHash("h1").addArrayLengths(3).addArrayLengths(300))
+                .build();
+        return PayloadList.newBuilder()
+                .addPayloads(Payload.newBuilder().setSpanId("span-1").setHttpPayload(request))
+                .addPayloads(Payload.newBuilder().setSpanId("span-2").setHttpPayload(response))
+                .addPayloads(Payload.newBuilder().setHttpPayload(shape))
+                .build();
+    }
+
+    private static byte[] lengthDelimited(int fieldNumber, byte[] value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(fieldNumber << 3 | 2);
+        int length = value.length;
+        while (length >= 0x80) {
+            bytes.write(length & 0x7f | 0x80);
+            length >>>= 7;
+        }
+        bytes.write(length);
+        bytes.write(value, 0, value.length);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,36 @@
+package org.testchimp.sdk.be.java.spring;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Builds SDK components outside of a Spring context, injecting fields the way Spring would.
+ */
+final class TestSupport {
+
+    private TestSupport() {
+    }
+
+    static DefaultRequestExtractor newExtractor(String configYaml) {
+        DefaultRequestExtractor extractor = new DefaultRequestExtractor();
+        ReflectionTestUtils.setField(extractor, "configFilePath", "file:" + writeTempFile(configYaml));
+        extractor.init();
+        return extractor;
+    }
+
+    private static Path writeTempFile(String content) {
+        try {
+            Path file = Files.createTempFile("testchimp-test", ".yml");
+            file.toFile().deleteOnExit();
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackingHeadersTest {
+
+    private static final String[] SESSION_COOKIE_NAMES = {"sessionid", "JSESSIONID"};
+
+    @Test
+    void readsHeadersWhateverTheirCase() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("TrackedTest.Suite", "checkout");
+        request.addHeader("TRACKEDTEST.NAME", "pays by card");
+        request.addHeader("trackedtest.invocation-id", "42");
+        request.addHeader("Testchimp-Current-User-Id", "ann");
+        TrackingHeaders trackingHeaders = TrackingHeaders.extract(request, SESSION_COOKIE_NAMES);
+        assertEquals("checkout", trackingHeaders.trackedTestSuite);
+        assertEquals("pays by card", trackingHeaders.trackedTestName);
+        assertEquals("42", trackingHeaders.trackedTestInvocationId);
+        assertEquals("ann", trackingHeaders.currentUserId);
+        assertNull(trackingHeaders.trackedTestStep);
+    }
+
+    @Test
+    void readsQuotedAndEmptyCookieValues() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", "theme=dark; " + Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + " = \"rec-1\" ;"
+                + Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=; JSessionId=\"\"");
+        TrackingHeaders trackingHeaders = TrackingHeaders.extract(request, SESSION_COOKIE_NAMES);
+        assertEquals("rec-1", trackingHeaders.sessionRecordingTrackingId);
+        assertEquals("", trackingHeaders.parentSessionRecordingTrackingId);
+        assertEquals("", trackingHeaders.sessionId);
+
+        // Empty values are not recorded.
+        Attributes attributes = putAll(trackingHeaders);
+        assertEquals("rec-1", attributes.get(AttributeKey.stringKey(Constants.HEADER_EXTRACTED_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE)));
+        assertNull(attributes.get(AttributeKey.stringKey(Constants.HEADER_EXTRACTED_PARENT_SESSION_RECORDING_TRACKING_ID_SPAN_ATTRIBUTE)));
+        assertNull(attributes.get(AttributeKey.stringKey(HttpRequestCaptureFilter.SESSION_ID_SPAN_ATTRIBUTE)));
+    }
+
+    @Test
+    void keepsTheFirstOfDuplicateCookies() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        // Cookies may be split across several cookie headers.
+        request.addHeader("cookie", "sessionid=first; " + Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=rec-1");
+        request.addHeader("cookie", "JSESSIONID=second; " + Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=rec-2");
+        TrackingHeaders trackingHeaders = TrackingHeaders.extract(request, SESSION_COOKIE_NAMES);
+        assertEquals("first", trackingHeaders.sessionId);
+        assertEquals("rec-1", trackingHeaders.sessionRecordingTrackingId);
+    }
+
+    @Test
+    void prefersHeadersOverCookies() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=cookie-rec; "
+                + Constants.TC_PARENT_SESSION_RECORD_TRACKING_ID_COOKIE_NAME + "=cookie-parent");
+        request.addHeader(Constants.TC_SESSION_RECORDING_TRACKING_ID_HEADER_KEY, "header-rec");
+        // An empty header does not hide the cookie.
+        request.addHeader(Constants.TC_PARENT_SESSION_RECORDING_TRACKING_ID_HEADER_KEY, "");
+        TrackingHeaders trackingHeaders = TrackingHeaders.extract(request, SESSION_COOKIE_NAMES);
+        assertEquals("header-rec", trackingHeaders.sessionRecordingTrackingId);
+        assertEquals("cookie-parent", trackingHeaders.parentSessionRecordingTrackingId);
+    }
+
+    @Test
+    void matchesTrackingCookieNamesCaseSensitively() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cookie", Constants.TC_SESSION_RECORD_TRACKING_ID_COOKIE_NAME.toUpperCase() + "=rec-1");
+        assertNull(TrackingHeaders.extract(request, SESSION_COOKIE_NAMES).sessionRecordingTrackingId);
+    }
+
+    private static Attributes putAll(TrackingHeaders trackingHeaders) {
+        AttributesBuilder attributes = Attributes.builder();
+        trackingHeaders.putAll(attributes);
+        return attributes.build();
+    }
+}
@@ -0,0 +1,91 @@
+package org.testchimp.sdk.be.java.spring;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlBodyProcessorTest {
+
+    private static final String LOGIN = "<soap:Envelope xmlns:soap=\"urn:soap\"><soap:Body>"
+            + "<m:Login xmlns:m=\"urn:login\" session=\"s1\"><m:user>ann</m:user><m:password>hunter2</m:password></m:Login>"
+            + "<m:Audit xmlns:m=\"urn:audit\">seen</m:Audit>"
+            + "</soap:Body></soap:Envelope>";
+
+    @Test
+    void redactsIgnoredElementsAndAttributes() throws XMLStreamException {
+        XmlBodyProcessor processor = processor(Arrays.asList("//password", "/Envelope/Body/Login/@session"), null, null, null);
+        long[] redactedChars = new long[1];
+        String body = processor.process(LOGIN, true, Attributes.builder(), redactedChars);
+        assertEquals("<soap:Envelope xmlns:soap=\"urn:soap\"><soap:Body>"
+                + "<m:Login xmlns:m=\"urn:login\" session=\"\"><m:user>ann</m:user><m:password></m:password></m:Login>"
+                + "<m:Audit xmlns:m=\"urn:audit\">seen</m:Audit>"
+                + "</soap:Body></soap:Envelope>", body);
+        assertEquals("hunter2".length() + "s1".length(), redactedChars[0]);
+    }
+
+    @Test
+    void projectsTheBodyOntoCapturedFields() throws XMLStreamException {
+        XmlBodyProcessor processor = processor(Collections.singletonList("//password"),
+                Arrays.asList("/Envelope/Body/Login/password", "//Login/@session"), null, null);
+        long[] redactedChars = new long[1];
+        String body = processor.process(LOGIN, true, Attributes.builder(), redactedChars);
+        // Only the captured values and their ancestors are kept: user and Audit are cut.
+        assertEquals("<soap:Envelope xmlns:soap=\"urn:soap\"><soap:Body>"
+                + "<m:Login xmlns:m=\"urn:login\" session=\"s1\"><m:password></m:password></m:Login>"
+                + "</soap:Body></soap:Envelope>", body);
+        assertEquals("hunter2".length(), redactedChars[0]);
+    }
+
+    @Test
+    void matchesLocalNamesWhateverTheNamespacePrefix() throws XMLStreamException {
+        XmlBodyProcessor processor = processor(null, null, Arrays.asList("/s:Envelope/s:Body/*/user", "//Audit/text()"),
+                Collections.singletonList("/Envelope/Body/x:Login/x:user"));
+        AttributesBuilder spanAttributes = Attributes.builder();
+        assertNull(processor.process(LOGIN, false, spanAttributes, new long[1]));
+        Attributes attributes = spanAttributes.build();
+        assertEquals("ann", attributes.get(AttributeKey.stringKey("user")));
+        assertEquals("seen", attributes.get(AttributeKey.stringKey("Audit")));
+        assertEquals("ann", attributes.get(AttributeKey.stringKey(Constants.USER_ID_SPAN_ATTRIBUTE)));
+    }
+
+    @Test
+    void joinsRepeatedValues() throws XMLStreamException {
+        XmlBodyProcessor processor = processor(null, null, Collections.singletonList("//id"), null);
+        AttributesBuilder spanAttributes = Attributes.builder();
+        processor.process("<ids><id>1</id><group><id>2</id></group></ids>", false, spanAttributes, new long[1]);
+        assertEquals("1,2", spanAttributes.build().get(AttributeKey.stringKey("id")));
+    }
+
+    @Test
+    void failsOnMalformedXml() {
+        XmlBodyProcessor processor = processor(Collections.singletonList("//password"), null, null, null);
+        assertThrows(XMLStreamException.class, () -> processor.process("<a><password>x</a>", true, Attributes.builder(), new long[1]));
+        // DTDs are not supported: no entity is expanded.
+        assertThrows(XMLStreamException.class, () -> processor.process(
+                "<!DOCTYPE a [<!ENTITY e \"x\">]><a>&e;</a>", true, Attributes.builder(), new long[1]));
+    }
+
+    @Test
+    void skipsUnsupportedAndJsonPaths() {
+        assertFalse(XmlBodyProcessor.isSupported("/a/b[1]"));
+        assertFalse(XmlBodyProcessor.isSupported("/a/../b"));
+        assertFalse(XmlBodyProcessor.isSupported("/a/@id/b"));
+        assertTrue(XmlBodyProcessor.isSupported("//ns:a/*/@*"));
+        assertNull(XmlBodyProcessor.create(Arrays.asList("$.password", "/a[1]"), null, null, null));
+    }
+
+    private static XmlBodyProcessor processor(List<String> ignoredPaths, List<String> capturedPaths,
+                                              List<String> spanAttributePaths, List<String> userIdPaths) {
+        XmlBodyProcessor processor = XmlBodyProcessor.create(ignoredPaths, capturedPaths, spanAttributePaths, userIdPaths);
+        assertNotNull(processor);
+        return processor;
+    }
+}